@@ -25,6 +25,7 @@ import com.example.BegaDiary.Entity.GameResponseDto;
 import com.example.BegaDiary.Service.BegaDiaryService;
 import com.example.BegaDiary.Service.BegaGameService;
 import com.example.cheerboard.storage.service.ImageService;
+import com.example.common.exception.ImageProcessingBusyException;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -101,6 +102,9 @@ public class DiaryController {
                     "diaryId", diaryId,
                     "photos", storagePaths));
 
+        } catch (ImageProcessingBusyException ex) {
+            // 503 + Retry-After는 GlobalExceptionHandler에서 응답
+            throw ex;
         } catch (Exception ex) {
             log.error("이미지 업로드/URL 생성 실패: diaryId={}", diaryId, ex);
             return ResponseEntity.internalServerError().body(Map.of(
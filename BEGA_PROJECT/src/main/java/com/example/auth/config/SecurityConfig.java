@@ -239,7 +239,8 @@ public class SecurityConfig {
 
                                                 // 5. 인증 필수 엔드포인트 (순서 중요: 구체적 경로 먼저)
                                                 .requestMatchers("/api/auth/link-token").authenticated()
-                                                .requestMatchers(HttpMethod.GET, "/api/cheer/posts/following").authenticated()
+                                                .requestMatchers(HttpMethod.GET, "/api/cheer/posts/following",
+                                                                "/api/cheer/posts/following/cursor").authenticated()
                                                 .requestMatchers(HttpMethod.GET, "/api/diary/games").permitAll()
                                                 .requestMatchers("/api/diary/**").authenticated()
                                                 .requestMatchers(HttpMethod.POST, "/api/predictions/vote").authenticated()
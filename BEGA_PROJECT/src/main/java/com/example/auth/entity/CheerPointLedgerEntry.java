@@ -0,0 +1,56 @@
+package com.example.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 응원 포인트 변경 이력 (append-only)
+ * - 잔액(users.cheer_points) 변경마다 한 행씩 기록, 수정/삭제하지 않음
+ * - 기록은 CheerPointLedger가 JDBC 배치 INSERT로 처리
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "cheer_point_ledger", indexes = {
+        @Index(name = "idx_cheer_point_ledger_user_created", columnList = "user_id, created_at")
+})
+public class CheerPointLedgerEntry {
+
+    /**
+     * 포인트 변경 사유
+     */
+    public enum Reason {
+        POST_LIKE_RECEIVED, // 게시글 좋아요 받음
+        POST_LIKE_CANCELED, // 게시글 좋아요 취소됨
+        COMMENT_LIKE_RECEIVED, // 댓글 좋아요 받음
+        COMMENT_LIKE_CANCELED, // 댓글 좋아요 취소됨
+        CHEER_BATTLE_VOTE, // 응원 배틀 투표
+        PREDICTION_VOTE, // 승부 예측 투표
+        DAILY_LOGIN_BONUS // 일일 출석 보너스
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "delta", nullable = false)
+    private int delta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "reason", nullable = false, length = 30)
+    private Reason reason;
+
+    // 관련 게시글/댓글/경기 ID
+    @Column(name = "reference_id", length = 100)
+    private String referenceId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
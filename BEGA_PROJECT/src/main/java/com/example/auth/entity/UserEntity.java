@@ -18,6 +18,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @Table(name = "users")
+@org.hibernate.annotations.DynamicUpdate // 응원 포인트는 CheerPointLedger가 조건부 UPDATE로 갱신하므로 저장 시 덮어쓰지 않음
 @EntityListeners(AuditingEntityListener.class) // 생성/수정일자 자동 관리를 위한 Auditing 리스너
 public class UserEntity {
 
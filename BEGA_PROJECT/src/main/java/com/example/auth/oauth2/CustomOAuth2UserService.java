@@ -22,6 +22,7 @@ import java.util.Optional;
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final UserRepository userRepository;
+    private final com.example.auth.service.CheerPointLedger cheerPointLedger;
     private final com.example.auth.repository.UserProviderRepository userProviderRepository;
     private final jakarta.servlet.http.HttpServletRequest request;
     private final com.example.bega.auth.service.OAuth2LinkStateService oAuth2LinkStateService;
@@ -29,11 +30,13 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
                                                                                              // cookie
 
     public CustomOAuth2UserService(UserRepository userRepository,
+            com.example.auth.service.CheerPointLedger cheerPointLedger,
             com.example.auth.repository.UserProviderRepository userProviderRepository,
             jakarta.servlet.http.HttpServletRequest request,
             com.example.bega.auth.service.OAuth2LinkStateService oAuth2LinkStateService,
             CookieAuthorizationRequestRepository cookieAuthorizationRequestRepository) {
         this.userRepository = userRepository;
+        this.cheerPointLedger = cheerPointLedger;
         this.userProviderRepository = userProviderRepository;
         this.request = request;
         this.oAuth2LinkStateService = oAuth2LinkStateService;
@@ -135,14 +138,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             userEntity = processNormalLogin(userProviderOpt, email, userName, provider, providerId);
         }
 
-        // [일일 출석 보너스 지급]
-        java.time.LocalDate today = java.time.LocalDate.now();
-        if (userEntity.getLastBonusDate() == null || !userEntity.getLastBonusDate().equals(today)) {
-            userEntity.addCheerPoints(5);
-            userEntity.setLastBonusDate(today);
-            userRepository.save(userEntity);
-            log.info("Daily Login Bonus (5 points) awarded to Social User: {}", userEntity.getEmail());
-        }
+        // [일일 출석 보너스 지급] (하루 한 번, 조건부 UPDATE)
+        cheerPointLedger.grantDailyLoginBonus(userEntity.getId());
 
         // 6. CustomOAuth2User 객체 반환
         return new CustomOAuth2User(userEntity.toDto(), oAuth2User.getAttributes());
@@ -0,0 +1,40 @@
+package com.example.auth.repository;
+
+import com.example.auth.entity.CheerPointLedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 응원 포인트 원장 INSERT 전용 JDBC 저장소
+ * - IDENTITY 키 엔티티는 Hibernate 배치 INSERT가 비활성화되므로 JdbcTemplate 배치 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class CheerPointLedgerJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO cheer_point_ledger "
+            + "(user_id, delta, reason, reference_id, created_at) VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 원장 행을 하나의 JDBC 배치로 INSERT (호출 측 트랜잭션에 참여)
+     */
+    public void insertAll(Collection<CheerPointLedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(entries.size());
+        for (CheerPointLedgerEntry entry : entries) {
+            args.add(new Object[] { entry.getUserId(), entry.getDelta(), entry.getReason().name(),
+                    entry.getReferenceId(), Timestamp.valueOf(entry.getCreatedAt()) });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+}
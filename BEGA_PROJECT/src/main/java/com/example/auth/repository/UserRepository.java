@@ -30,4 +30,36 @@ public interface UserRepository extends JpaRepository<UserEntity, Long> {
     @org.springframework.data.jpa.repository.Query("UPDATE UserEntity u SET u.cheerPoints = COALESCE(u.cheerPoints, 0) + :points WHERE u.id = :userId")
     void modifyCheerPoints(@org.springframework.data.repository.query.Param("userId") Long userId,
             @org.springframework.data.repository.query.Param("points") int points);
+
+    /**
+     * 응원 포인트 증감 (엔티티 로딩 없이 원자적으로, 결과가 음수가 되면 반영하지 않음)
+     *
+     * @return 반영된 행 수 (0이면 포인트 부족 또는 사용자 없음)
+     */
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE UserEntity u SET u.cheerPoints = u.cheerPoints + :delta WHERE u.id = :userId AND u.cheerPoints + :delta >= 0")
+    int applyCheerPointDelta(@org.springframework.data.repository.query.Param("userId") Long userId,
+            @org.springframework.data.repository.query.Param("delta") int delta);
+
+    /**
+     * 오늘 아직 받지 않은 경우에만 출석 보너스 지급
+     *
+     * @return 반영된 행 수 (0이면 이미 지급됨)
+     */
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE UserEntity u SET u.cheerPoints = u.cheerPoints + :bonus, u.lastBonusDate = :today WHERE u.id = :userId AND (u.lastBonusDate IS NULL OR u.lastBonusDate < :today)")
+    int grantDailyBonus(@org.springframework.data.repository.query.Param("userId") Long userId,
+            @org.springframework.data.repository.query.Param("bonus") int bonus,
+            @org.springframework.data.repository.query.Param("today") java.time.LocalDate today);
+
+    @org.springframework.data.jpa.repository.Modifying
+    @org.springframework.data.jpa.repository.Query("UPDATE UserEntity u SET u.lastLoginDate = :loginAt WHERE u.id = :userId")
+    void updateLastLoginDate(@org.springframework.data.repository.query.Param("userId") Long userId,
+            @org.springframework.data.repository.query.Param("loginAt") java.time.LocalDateTime loginAt);
+
+    @org.springframework.data.jpa.repository.Query("SELECT u.cheerPoints FROM UserEntity u WHERE u.id = :userId")
+    Integer findCheerPointsById(@org.springframework.data.repository.query.Param("userId") Long userId);
+
+    @org.springframework.data.jpa.repository.Query("SELECT u.id FROM UserEntity u WHERE u.email = :email")
+    Optional<Long> findIdByEmail(@org.springframework.data.repository.query.Param("email") String email);
 }
\ No newline at end of file
@@ -0,0 +1,99 @@
+package com.example.auth.service;
+
+import com.example.auth.entity.CheerPointLedgerEntry;
+import com.example.auth.entity.CheerPointLedgerEntry.Reason;
+import com.example.auth.repository.CheerPointLedgerJdbcRepository;
+import com.example.auth.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+
+import static com.example.common.transaction.TransactionHooks.bufferUntilCommit;
+
+/**
+ * 응원 포인트 원장
+ * - 잔액은 UserEntity를 읽고 저장하지 않고 조건부 UPDATE 한 번으로 변경 (잔액이 음수가 되면 0건 반영 → 실패)
+ * - 변경 내역은 cheer_point_ledger에 append-only로 기록
+ * (트랜잭션 안에서는 모아두었다가 커밋 직전에 한 번의 JDBC 배치 INSERT)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CheerPointLedger {
+
+    public static final int DAILY_LOGIN_BONUS_POINTS = 5;
+    private static final ZoneId BONUS_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final UserRepository userRepository;
+    private final CheerPointLedgerJdbcRepository ledgerRepository;
+
+    /**
+     * 포인트 증감
+     *
+     * @return 반영 여부 (차감 후 잔액이 음수가 되거나 사용자가 없으면 false)
+     */
+    @Transactional
+    public boolean apply(Long userId, int delta, Reason reason, Object referenceId) {
+        Objects.requireNonNull(userId, "사용자 ID는 null일 수 없습니다");
+        if (userRepository.applyCheerPointDelta(userId, delta) == 0) {
+            return false;
+        }
+        record(userId, delta, reason, referenceId);
+        return true;
+    }
+
+    /**
+     * 포인트 차감 (부족하면 예외)
+     */
+    @Transactional
+    public void spend(Long userId, int points, Reason reason, Object referenceId) {
+        if (!apply(userId, -points, reason, referenceId)) {
+            throw new IllegalStateException("응원 포인트가 부족합니다.");
+        }
+    }
+
+    /**
+     * 일일 출석 보너스 지급 (한국 시간 기준 하루 1회, 마지막 지급일 조건부 UPDATE로 중복 지급 방지)
+     *
+     * @return 이번 호출로 지급되었는지 여부
+     */
+    @Transactional
+    public boolean grantDailyLoginBonus(Long userId) {
+        Objects.requireNonNull(userId, "사용자 ID는 null일 수 없습니다");
+        LocalDate today = LocalDate.now(BONUS_ZONE);
+        if (userRepository.grantDailyBonus(userId, DAILY_LOGIN_BONUS_POINTS, today) == 0) {
+            return false;
+        }
+        record(userId, DAILY_LOGIN_BONUS_POINTS, Reason.DAILY_LOGIN_BONUS, today);
+        log.info("Daily Login Bonus ({} points) awarded to user: {}", DAILY_LOGIN_BONUS_POINTS, userId);
+        return true;
+    }
+
+    /**
+     * 현재 잔액 (DB 기준)
+     */
+    @Transactional(readOnly = true)
+    public int balanceOf(Long userId) {
+        Integer points = userRepository.findCheerPointsById(userId);
+        return points != null ? points : 0;
+    }
+
+    private void record(Long userId, int delta, Reason reason, Object referenceId) {
+        CheerPointLedgerEntry entry = CheerPointLedgerEntry.builder()
+                .userId(userId)
+                .delta(delta)
+                .reason(reason)
+                .referenceId(referenceId != null ? referenceId.toString() : null)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        bufferUntilCommit(this, entry, ledgerRepository::insertAll);
+    }
+}
@@ -9,6 +9,7 @@ import com.example.auth.repository.UserBlockRepository;
 import com.example.auth.repository.UserFollowRepository;
 import com.example.auth.repository.UserRepository;
 import com.example.cheerboard.config.CurrentUser;
+import com.example.cheerboard.service.FollowingTimelineService;
 import com.example.notification.entity.Notification;
 import com.example.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +33,7 @@ public class FollowService {
     private final UserRepository userRepo;
     private final CurrentUser currentUser;
     private final NotificationService notificationService;
+    private final FollowingTimelineService followingTimelineService;
 
     /**
      * 팔로우 토글 (팔로우/언팔로우)
@@ -82,6 +84,9 @@ public class FollowService {
                     me.getId());
         }
 
+        // 팔로우 대상이 바뀌었으므로 내 팔로우 타임라인 재구성
+        followingTimelineService.invalidateAfterCommit(me.getId());
+
         long followerCount = followRepo.countByFollowingId(targetUserId);
         long followingCount = followRepo.countByFollowerId(targetUserId);
 
@@ -235,6 +240,7 @@ public class FollowService {
         }
 
         followRepo.deleteById(followId);
+        followingTimelineService.invalidateAfterCommit(followerId);
     }
 
     /**
@@ -249,5 +255,7 @@ public class FollowService {
         // userId2 -> userId1 관계 삭제
         followRepo.findByFollowerIdAndFollowingId(userId2, userId1)
                 .ifPresent(followRepo::delete);
+
+        followingTimelineService.invalidateAfterCommit(userId1, userId2);
     }
 }
@@ -2,7 +2,6 @@ package com.example.auth.service;
 
 import java.util.Map;
 import java.util.Optional;
-import java.time.ZoneId;
 import java.time.LocalDateTime;
 
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -42,6 +41,7 @@ public class UserService {
     private static final long ACCESS_EXPIRATION_TIME = 1000L * 60 * 60;
 
     private final UserRepository userRepository;
+    private final CheerPointLedger cheerPointLedger;
     private final TeamRepository teamRepository;
     private final RefreshRepository refreshRepository;
     private final com.example.auth.repository.UserProviderRepository userProviderRepository; // Inject repository
@@ -218,28 +218,21 @@ public class UserService {
                 "name", user.getName(),
                 "role", user.getRole(),
                 "handle", user.getHandle(),
-                "cheerPoints", user.getCheerPoints());
+                "cheerPoints", cheerPointLedger.balanceOf(user.getId()));
     }
 
     /**
      * 일일 출석 보너스 지급 (5포인트)
-     * 마지막 로그인 날짜(lastLoginDate)를 확인하여 오늘 첫 로그인인 경우 지급
+     * 마지막 지급일(lastBonusDate)이 오늘(한국 시간)보다 이전인 경우에만 조건부 UPDATE로 지급
+     * - 일반/소셜 로그인이 같은 지급일을 보므로 하루 한 번만 지급
+     * - 사용자 행 전체를 저장하지 않고 포인트/로그인 시각 컬럼만 갱신
      */
     @Transactional
     public void checkAndApplyDailyLoginBonus(UserEntity user) {
-        java.time.LocalDate today = java.time.LocalDate.now();
-
-        // lastLoginDate가 없거나(첫 로그인), 마지막 로그인 날짜가 오늘보다 이전인 경우
-        if (user.getLastLoginDate() == null
-                || user.getLastLoginDate().atZone(ZoneId.of("Asia/Seoul")).toLocalDate().isBefore(today)) {
-            user.addCheerPoints(5);
-            log.info("Daily Login Bonus (5 points) awarded to user: {}. Current Points: {}", user.getEmail(),
-                    user.getCheerPoints());
-        }
+        cheerPointLedger.grantDailyLoginBonus(user.getId());
 
         // 로그인 시간 갱신
-        user.setLastLoginDate(LocalDateTime.now());
-        userRepository.save(user);
+        userRepository.updateLastLoginDate(user.getId(), LocalDateTime.now());
     }
 
     /**
@@ -13,6 +13,7 @@ import com.example.cheerboard.dto.LikeToggleResponse;
 import com.example.cheerboard.dto.RepostToggleResponse;
 import com.example.cheerboard.dto.QuoteRepostReq;
 import com.example.cheerboard.dto.BookmarkResponse;
+import com.example.cheerboard.dto.CursorPageRes;
 import jakarta.validation.Valid;
 import com.example.cheerboard.dto.ReportRequest;
 import com.example.cheerboard.service.CheerService;
@@ -48,10 +49,24 @@ public class CheerController {
         }
     }
 
+    /**
+     * 커서 기반 게시글 목록 (COUNT 쿼리 없음, 깊은 스크롤에서도 일정한 응답 시간)
+     * - 첫 요청은 cursor 없이 호출하고 응답의 nextCursor로 다음 페이지 요청
+     */
+    @GetMapping("/posts/cursor")
+    public CursorPageRes<PostSummaryRes> listByCursor(
+            @RequestParam(required = false) String teamId,
+            @RequestParam(required = false) String postType,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return svc.listByCursor(teamId, postType, cursor, size);
+    }
+
     @GetMapping("/posts/hot")
     public Page<PostSummaryRes> listHot(
+            @RequestParam(required = false) String teamId,
             @PageableDefault(size = 20) Pageable pageable) {
-        return svc.getHotPosts(pageable);
+        return svc.getHotPosts(teamId, pageable);
     }
 
     /**
@@ -80,6 +95,14 @@ public class CheerController {
         return svc.listFollowingPosts(pageable);
     }
 
+    @GetMapping("/posts/following/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public CursorPageRes<PostSummaryRes> listFollowingByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return svc.listFollowingPostsByCursor(cursor, size);
+    }
+
     @PostMapping(value = "/posts/{id}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public java.util.List<String> uploadImages(
             @PathVariable Long id,
@@ -174,6 +197,14 @@ public class CheerController {
         return svc.getBookmarkedPosts(pageable);
     }
 
+    @GetMapping("/bookmarks/cursor")
+    @PreAuthorize("isAuthenticated()")
+    public CursorPageRes<PostSummaryRes> getBookmarksByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return svc.getBookmarkedPostsByCursor(cursor, size);
+    }
+
     @RateLimit(limit = 3, window = 60) // 1분에 최대 3번 신고
     @PostMapping("/posts/{id}/report")
     @PreAuthorize("isAuthenticated()")
@@ -190,6 +221,13 @@ public class CheerController {
         return svc.listComments(id, pageable);
     }
 
+    @GetMapping("/posts/{id}/comments/cursor")
+    public CursorPageRes<CommentRes> commentsByCursor(@PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return svc.listCommentsByCursor(id, cursor, size);
+    }
+
     @RateLimit(limit = 10, window = 60) // 1분에 최대 10개 댓글
     @PostMapping("/posts/{id}/comments")
     public CommentRes addComment(@PathVariable Long id, @RequestBody CreateCommentReq req) {
@@ -223,6 +261,13 @@ public class CheerController {
         return svc.listByUserHandle(handle, pageable);
     }
 
+    @GetMapping("/user/{handle}/posts/cursor")
+    public CursorPageRes<PostSummaryRes> listByUserByCursor(@PathVariable String handle,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return svc.listByUserHandleByCursor(handle, cursor, size);
+    }
+
     @GetMapping("/battle/{gameId}/status")
     public com.example.cheerboard.dto.CheerBattleStatusRes getBattleStatus(
             @PathVariable String gameId,
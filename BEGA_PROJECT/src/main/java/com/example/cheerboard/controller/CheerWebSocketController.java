@@ -3,9 +3,7 @@ package com.example.cheerboard.controller;
 import com.example.cheerboard.service.CheerBattleService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.stereotype.Controller;
-import java.util.Map;
 
 @Controller
 @RequiredArgsConstructor
@@ -13,9 +11,11 @@ public class CheerWebSocketController {
 
     private final CheerBattleService battleService;
 
+    /**
+     * 투표만 반영하고 집계 전송은 CheerBattleBroadcaster가 주기적으로 묶어서 처리
+     */
     @MessageMapping("/battle/vote/{gameId}")
-    @SendTo("/topic/battle/{gameId}")
-    public Map<String, Integer> vote(
+    public void vote(
             @org.springframework.messaging.handler.annotation.DestinationVariable String gameId,
             String teamId,
             java.security.Principal principal) {
@@ -26,8 +26,5 @@ public class CheerWebSocketController {
 
         // Increment vote with point deduction
         battleService.vote(gameId, teamId, principal.getName());
-
-        // Return updated stats for this game
-        return battleService.getGameStats(gameId);
     }
 }
@@ -9,7 +9,10 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "cheer_comment")
+@Table(name = "cheer_comment", indexes = {
+        @Index(name = "idx_cheer_comment_post_parent", columnList = "post_id, parent_comment_id, created_at DESC, id DESC"),
+        @Index(name = "idx_cheer_comment_parent", columnList = "parent_comment_id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -43,6 +46,11 @@ public class CheerComment {
     @Builder.Default
     private List<CheerComment> replies = new ArrayList<>();
 
+    // 직계 대댓글 수 (목록 조회 시 트리를 로딩하지 않고 표시)
+    @Column(name = "reply_count", nullable = false)
+    @Builder.Default
+    private int replyCount = 0;
+
     // 좋아요 수
     @Column(name = "like_count", nullable = false)
     @Builder.Default
@@ -13,7 +13,10 @@ import java.util.ArrayList;
 @Entity
 @Table(name = "cheer_post", indexes = {
         @Index(name = "idx_cheer_post_type_created_at", columnList = "posttype, createdat DESC"),
-        @Index(name = "idx_cheer_team_post_type_created_at", columnList = "team_id, posttype, createdat DESC")
+        @Index(name = "idx_cheer_team_post_type_created_at", columnList = "team_id, posttype, createdat DESC"),
+        @Index(name = "idx_cheer_post_created_id", columnList = "createdat DESC, id DESC"),
+        @Index(name = "idx_cheer_post_team_created_id", columnList = "team_id, createdat DESC, id DESC"),
+        @Index(name = "idx_cheer_post_author_created_id", columnList = "author_id, createdat DESC, id DESC")
 })
 @Getter
 @Setter
@@ -21,6 +24,7 @@ import java.util.ArrayList;
 @AllArgsConstructor
 @Builder
 @org.hibernate.annotations.SQLRestriction("deleted = false")
+@org.hibernate.annotations.DynamicUpdate // 카운터 컬럼은 PostCounterService가 상대값으로 갱신하므로 수정 시 덮어쓰지 않음
 public class CheerPost {
 
     /**
@@ -8,7 +8,9 @@ import java.io.Serializable;
 import java.time.Instant;
 
 @Entity
-@Table(name = "cheer_post_bookmark")
+@Table(name = "cheer_post_bookmark", indexes = {
+        @Index(name = "idx_cheer_bookmark_user_created", columnList = "user_id, created_at DESC, post_id DESC")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -14,6 +14,7 @@ public record CommentRes(
         Instant createdAt,
         int likeCount,
         boolean likedByMe,
+        int replyCount, // 직계 대댓글 수
         List<CommentRes> replies // 대댓글 목록
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.cheerboard.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * - COUNT 쿼리 없이 다음 페이지 존재 여부만 제공
+ * - pinned: 첫 페이지에서만 채워지는 상단 고정 공지 (그 외 빈 목록)
+ */
+public record CursorPageRes<T>(
+        List<T> content,
+        List<T> pinned,
+        String nextCursor, // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+        boolean hasNext) {
+
+    public static <T> CursorPageRes<T> of(List<T> content, String nextCursor) {
+        return new CursorPageRes<>(content, List.of(), nextCursor, nextCursor != null);
+    }
+
+    public static <T> CursorPageRes<T> of(List<T> content, List<T> pinned, String nextCursor) {
+        return new CursorPageRes<>(content, pinned, nextCursor, nextCursor != null);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.cheerboard.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지네이션 위치 (마지막 항목의 createdAt, id)
+ * - 클라이언트에는 Base64(URL-safe) 문자열로 전달
+ */
+public record FeedCursor(Instant createdAt, Long id) {
+
+    private static final String SEPARATOR = "_";
+
+    /**
+     * 첫 페이지용 커서 (모든 게시글보다 뒤에 위치)
+     */
+    public static FeedCursor first() {
+        return new FeedCursor(Instant.now().plusSeconds(86_400), Long.MAX_VALUE);
+    }
+
+    /**
+     * 커서 문자열 해석 (null/빈 값이면 첫 페이지)
+     */
+    public static FeedCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return first();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(SEPARATOR);
+            return new FeedCursor(Instant.parse(raw.substring(0, idx)), Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
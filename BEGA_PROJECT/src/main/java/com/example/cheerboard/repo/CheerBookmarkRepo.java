@@ -3,15 +3,29 @@ package com.example.cheerboard.repo;
 import com.example.cheerboard.domain.CheerPostBookmark;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.time.Instant;
 
 public interface CheerBookmarkRepo extends JpaRepository<CheerPostBookmark, CheerPostBookmark.Id> {
     @EntityGraph(attributePaths = { "post", "post.author", "post.team", "post.repostOf", "post.repostOf.author",
             "post.repostOf.team" })
     Page<CheerPostBookmark> findByUserIdOrderByCreatedAtDesc(Long userId, Pageable pageable);
 
-    List<CheerPostBookmark> findByUserIdAndPostIdIn(Long userId, List<Long> postIds);
+    /**
+     * 커서 기반 북마크 목록 (북마크 시각, 게시글 ID 내림차순 keyset)
+     */
+    @EntityGraph(attributePaths = { "post", "post.author", "post.team", "post.repostOf", "post.repostOf.author",
+            "post.repostOf.team" })
+    @Query("SELECT b FROM CheerPostBookmark b WHERE b.id.userId = :userId " +
+            "AND (b.createdAt < :cursorCreatedAt OR (b.createdAt = :cursorCreatedAt AND b.id.postId < :cursorId)) " +
+            "ORDER BY b.createdAt DESC, b.id.postId DESC")
+    Slice<CheerPostBookmark> findByUserIdAfterCursor(@Param("userId") Long userId,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 }
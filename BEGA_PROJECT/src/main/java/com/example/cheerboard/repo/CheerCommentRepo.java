@@ -8,6 +8,7 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
@@ -40,18 +41,41 @@ public interface CheerCommentRepo extends JpaRepository<CheerComment, Long> {
      */
     @Query("SELECT COUNT(c) FROM CheerComment c WHERE c.post.id = :postId")
     Long countByPostId(@Param("postId") Long postId);
-    
+
+    /**
+     * 댓글 좋아요 수 증감 (엔티티를 읽지 않고 원자적으로, 0 미만 방지)
+     */
+    @Modifying
+    @Query("UPDATE CheerComment c SET c.likeCount = CASE WHEN c.likeCount + :delta < 0 THEN 0 "
+            + "ELSE c.likeCount + :delta END WHERE c.id = :commentId")
+    void incrementLikeCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    /**
+     * 대댓글 수 증감 (엔티티를 읽지 않고 원자적으로, 0 미만 방지)
+     */
+    @Modifying
+    @Query("UPDATE CheerComment c SET c.replyCount = CASE WHEN c.replyCount + :delta < 0 THEN 0 "
+            + "ELSE c.replyCount + :delta END WHERE c.id = :commentId")
+    void incrementReplyCount(@Param("commentId") Long commentId, @Param("delta") int delta);
+
+    /**
+     * 최상위 댓글 ID 페이지 (1단계: ID만 페이징, 트리는 findWithRepliesByIdIn으로 로딩)
+     */
+    @Query(value = "SELECT c.id FROM CheerComment c WHERE c.post.id = :postId AND c.parentComment IS NULL " +
+           "ORDER BY c.createdAt DESC, c.id DESC",
+           countQuery = "SELECT COUNT(c) FROM CheerComment c WHERE c.post.id = :postId AND c.parentComment IS NULL")
+    Page<Long> findTopLevelIdsByPostId(@Param("postId") Long postId, Pageable pageable);
+
     /**
-     * 특정 게시글의 모든 댓글을 페치 조인으로 조회 (N+1 문제 해결)
-     * 댓글 트리 전체를 한 번의 쿼리로 로딩
+     * 최상위 댓글 ID 커서 조회 (createdAt, id) 기준 다음 구간, COUNT 없음
      */
-    @Query("SELECT DISTINCT c FROM CheerComment c " +
-           "LEFT JOIN FETCH c.author " +
-           "LEFT JOIN FETCH c.replies r " +
-           "LEFT JOIN FETCH r.author " +
-           "WHERE c.post.id = :postId AND c.parentComment IS NULL " +
-           "ORDER BY c.createdAt DESC")
-    List<CheerComment> findCommentsWithRepliesByPostId(@Param("postId") Long postId);
+    @Query("SELECT c.id FROM CheerComment c WHERE c.post.id = :postId AND c.parentComment IS NULL " +
+           "AND (c.createdAt < :cursorCreatedAt OR (c.createdAt = :cursorCreatedAt AND c.id < :cursorId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    Slice<Long> findTopLevelIdsByPostIdAfterCursor(@Param("postId") Long postId,
+            @Param("cursorCreatedAt") Instant cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable);
 
     /**
      * 댓글 ID 리스트로 댓글 트리를 일괄 로딩 (페이지네이션 후 상세 로딩용)
@@ -21,6 +21,4 @@ public interface CheerPostLikeRepo extends JpaRepository<CheerPostLike, Id> {
     void deleteByIdPostId(Long postId);
 
     List<CheerPostLike> findByUser(UserEntity user);
-
-    List<CheerPostLike> findByUserIdAndPostIdIn(Long userId, java.util.Collection<Long> postIds);
 }
\ No newline at end of file
@@ -4,12 +4,14 @@ import com.example.cheerboard.domain.CheerPost;
 import com.example.cheerboard.domain.CheerPost.RepostType;
 import com.example.auth.entity.UserEntity;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
@@ -29,12 +31,18 @@ public interface CheerPostRepo extends JpaRepository<CheerPost, Long> {
                         @Param("excludedIds") Collection<Long> excludedIds,
                         Pageable pageable);
 
-        @EntityGraph(attributePaths = { "author", "team", "repostOf", "repostOf.author", "repostOf.team" })
-        @Query("SELECT p FROM CheerPost p WHERE LOWER(CAST(p.content AS String)) LIKE LOWER(CONCAT('%', :q, '%')) " +
+        /**
+         * LIKE 기반 게시글 검색 (ID만 조회, 엔티티는 findAllByIdWithGraph로 로딩)
+         */
+        @Query(value = "SELECT p.id FROM CheerPost p WHERE LOWER(CAST(p.content AS String)) LIKE LOWER(CONCAT('%', :q, '%')) " +
                         "AND (:teamId IS NULL OR p.team.teamId = :teamId) " +
                         "AND (p.repostType IS NULL OR p.repostType != 'SIMPLE') " +
-                        "AND (COALESCE(:excludedIds, NULL) IS NULL OR p.author.id NOT IN :excludedIds)")
-        Page<CheerPost> search(@Param("q") String q, @Param("teamId") String teamId,
+                        "AND (COALESCE(:excludedIds, NULL) IS NULL OR p.author.id NOT IN :excludedIds)",
+                        countQuery = "SELECT COUNT(p) FROM CheerPost p WHERE LOWER(CAST(p.content AS String)) LIKE LOWER(CONCAT('%', :q, '%')) " +
+                                        "AND (:teamId IS NULL OR p.team.teamId = :teamId) " +
+                                        "AND (p.repostType IS NULL OR p.repostType != 'SIMPLE') " +
+                                        "AND (COALESCE(:excludedIds, NULL) IS NULL OR p.author.id NOT IN :excludedIds)")
+        Page<Long> searchIds(@Param("q") String q, @Param("teamId") String teamId,
                         @Param("excludedIds") Collection<Long> excludedIds, Pageable pageable);
 
         @EntityGraph(attributePaths = { "author", "team", "repostOf", "repostOf.author", "repostOf.team" })
@@ -46,6 +54,65 @@ public interface CheerPostRepo extends JpaRepository<CheerPost, Long> {
                         @Param("postType") com.example.cheerboard.domain.PostType postType,
                         @Param("excludedIds") Collection<Long> excludedIds, Pageable pageable);
 
+        /**
+         * 커서 기반 게시판 피드 (createdAt, id 내림차순 keyset, COUNT 쿼리 없음)
+         * - 상단 고정 대상 공지(cutoffDate 이후 NOTICE)는 제외하고 findPinnedNotices로 따로 조회
+         */
+        @EntityGraph(attributePaths = { "author", "team", "repostOf", "repostOf.author", "repostOf.team" })
+        @Query("SELECT p FROM CheerPost p WHERE (:teamId IS NULL OR p.team.teamId = :teamId) " +
+                        "AND (:postType IS NULL OR p.postType = :postType) " +
+                        "AND (p.repostType IS NULL OR p.repostType != 'SIMPLE') " +
+                        "AND (COALESCE(:excludedIds, NULL) IS NULL OR p.author.id NOT IN :excludedIds) " +
+                        "AND NOT (p.postType = 'NOTICE' AND p.createdAt > :cutoffDate) " +
+                        "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+                        "ORDER BY p.createdAt DESC, p.id DESC")
+        Slice<CheerPost> findFeedAfterCursor(@Param("teamId") String teamId,
+                        @Param("postType") com.example.cheerboard.domain.PostType postType,
+                        @Param("cutoffDate") java.time.Instant cutoffDate,
+                        @Param("excludedIds") Collection<Long> excludedIds,
+                        @Param("cursorCreatedAt") java.time.Instant cursorCreatedAt,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        /**
+         * 상단 고정 공지 조회 (cutoffDate 이후 작성된 NOTICE)
+         */
+        @EntityGraph(attributePaths = { "author", "team", "repostOf", "repostOf.author", "repostOf.team" })
+        @Query("SELECT p FROM CheerPost p WHERE (:teamId IS NULL OR p.team.teamId = :teamId) " +
+                        "AND p.postType = 'NOTICE' AND p.createdAt > :cutoffDate " +
+                        "AND (COALESCE(:excludedIds, NULL) IS NULL OR p.author.id NOT IN :excludedIds) " +
+                        "ORDER BY p.createdAt DESC, p.id DESC")
+        List<CheerPost> findPinnedNotices(@Param("teamId") String teamId,
+                        @Param("cutoffDate") java.time.Instant cutoffDate,
+                        @Param("excludedIds") Collection<Long> excludedIds,
+                        Pageable pageable);
+
+        /**
+         * 커서 기반 사용자 게시글 목록
+         */
+        @EntityGraph(attributePaths = { "author", "team", "repostOf", "repostOf.author", "repostOf.team" })
+        @Query("SELECT p FROM CheerPost p WHERE p.author.handle = :handle " +
+                        "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+                        "ORDER BY p.createdAt DESC, p.id DESC")
+        Slice<CheerPost> findByAuthorHandleAfterCursor(@Param("handle") String handle,
+                        @Param("cursorCreatedAt") java.time.Instant cursorCreatedAt,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
+        /**
+         * 커서 기반 팔로우 피드 (차단 유저 제외)
+         */
+        @EntityGraph(attributePaths = { "author", "team", "repostOf", "repostOf.author", "repostOf.team" })
+        @Query("SELECT p FROM CheerPost p WHERE p.author.id IN :authorIds " +
+                        "AND (COALESCE(:blockedIds, NULL) IS NULL OR p.author.id NOT IN :blockedIds) " +
+                        "AND (p.createdAt < :cursorCreatedAt OR (p.createdAt = :cursorCreatedAt AND p.id < :cursorId)) " +
+                        "ORDER BY p.createdAt DESC, p.id DESC")
+        Slice<CheerPost> findByAuthorIdInAfterCursor(@Param("authorIds") List<Long> authorIds,
+                        @Param("blockedIds") List<Long> blockedIds,
+                        @Param("cursorCreatedAt") java.time.Instant cursorCreatedAt,
+                        @Param("cursorId") Long cursorId,
+                        Pageable pageable);
+
         /**
          * 조회수 증가 (UPDATE 쿼리만 실행)
          * 전체 엔티티를 저장하지 않고 views 필드만 업데이트하여 성능 최적화
@@ -58,6 +125,21 @@ public interface CheerPostRepo extends JpaRepository<CheerPost, Long> {
         @Query("UPDATE CheerPost p SET p.views = p.views + :delta WHERE p.id = :postId")
         void incrementViewCountByDelta(@Param("postId") Long postId, @Param("delta") int delta);
 
+        /**
+         * HOT 점수 재계산용 프로젝션 (id, likeCount, commentCount, views, createdAt, teamId)
+         * 엔티티를 로딩하지 않고 점수 계산에 필요한 컬럼만 조회
+         */
+        @Query("SELECT p.id, p.likeCount, p.commentCount, p.views, p.createdAt, p.team.teamId "
+                        + "FROM CheerPost p WHERE p.id IN :postIds")
+        List<Object[]> findHotScoreInputsByIdIn(@Param("postIds") Collection<Long> postIds);
+
+        /**
+         * HOT 목록 재구축용: since 이후 작성된 게시글의 점수 계산 컬럼 (최신순)
+         */
+        @Query("SELECT p.id, p.likeCount, p.commentCount, p.views, p.createdAt, p.team.teamId "
+                        + "FROM CheerPost p WHERE p.createdAt >= :since ORDER BY p.id DESC")
+        List<Object[]> findHotScoreInputsCreatedAfter(@Param("since") Instant since, Pageable pageable);
+
         @Query("SELECT COUNT(p) FROM CheerPost p WHERE p.author.id = :userId")
         int countByUserId(@Param("userId") Long userId);
 
@@ -92,6 +174,13 @@ public interface CheerPostRepo extends JpaRepository<CheerPost, Long> {
                         @Param("blockedIds") List<Long> blockedIds,
                         Pageable pageable);
 
+        /**
+         * 작성자 목록의 beforeId 미만 최근 게시글 ID (팔로우 타임라인 재구성 및 pull 병합용)
+         */
+        @Query("SELECT p.id FROM CheerPost p WHERE p.author.id IN :authorIds AND p.id < :beforeId ORDER BY p.id DESC")
+        List<Long> findRecentIdsByAuthorIdIn(@Param("authorIds") Collection<Long> authorIds,
+                        @Param("beforeId") Long beforeId, Pageable pageable);
+
         /**
          * ID 목록으로 게시글 조회 (author, team, repostOf 체인 포함 EntityGraph)
          */
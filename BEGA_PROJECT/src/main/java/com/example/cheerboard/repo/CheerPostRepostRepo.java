@@ -4,7 +4,6 @@ import com.example.cheerboard.domain.CheerPostRepost;
 import com.example.cheerboard.domain.CheerPostRepost.Id;
 import com.example.auth.entity.UserEntity;
 
-import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -22,6 +21,4 @@ public interface CheerPostRepostRepo extends JpaRepository<CheerPostRepost, Id>
     void deleteByIdPostId(Long postId);
 
     List<CheerPostRepost> findByUser(UserEntity user);
-
-    List<CheerPostRepost> findByUserIdAndPostIdIn(Long userId, Collection<Long> postIds);
 }
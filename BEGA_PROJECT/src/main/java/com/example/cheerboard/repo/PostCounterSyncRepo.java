@@ -0,0 +1,70 @@
+package com.example.cheerboard.repo;
+
+import com.example.cheerboard.service.PostCounterService.CounterDelta;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 카운터(좋아요/댓글/리포스트) 델타 일괄 반영 및 재집계용 JDBC 저장소
+ * - 엔티티를 로딩하지 않고 카운터 컬럼만 상대값으로 UPDATE
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCounterSyncRepo {
+
+    private static final String APPLY_DELTAS_SQL = "UPDATE cheer_post SET "
+            + "likecount = GREATEST(likecount + ?, 0), "
+            + "commentcount = GREATEST(commentcount + ?, 0), "
+            + "repostcount = GREATEST(repostcount + ?, 0) "
+            + "WHERE id = ?";
+
+    // 실제 행 수와 다른 게시글만 갱신
+    private static final String RECONCILE_LIKES_SQL = "UPDATE cheer_post p SET likecount = "
+            + "(SELECT COUNT(*) FROM cheer_post_like l WHERE l.post_id = p.id) "
+            + "WHERE p.deleted = false AND p.likecount <> "
+            + "(SELECT COUNT(*) FROM cheer_post_like l WHERE l.post_id = p.id)";
+    private static final String RECONCILE_COMMENTS_SQL = "UPDATE cheer_post p SET commentcount = "
+            + "(SELECT COUNT(*) FROM cheer_comment c WHERE c.post_id = p.id) "
+            + "WHERE p.deleted = false AND p.commentcount <> "
+            + "(SELECT COUNT(*) FROM cheer_comment c WHERE c.post_id = p.id)";
+    private static final String RECONCILE_REPOSTS_SQL = "UPDATE cheer_post p SET repostcount = "
+            + "(SELECT COUNT(*) FROM cheer_post r WHERE r.repost_of_id = p.id AND r.deleted = false) "
+            + "WHERE p.deleted = false AND p.repostcount <> "
+            + "(SELECT COUNT(*) FROM cheer_post r WHERE r.repost_of_id = p.id AND r.deleted = false)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글별 카운터 델타를 하나의 JDBC 배치로 반영
+     *
+     * @param deltas 게시글 ID별 증감량
+     */
+    @Transactional
+    public void applyDeltas(Map<Long, CounterDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(
+                new Object[] { delta.likes(), delta.comments(), delta.reposts(), postId }));
+        jdbcTemplate.batchUpdate(APPLY_DELTAS_SQL, args);
+    }
+
+    /**
+     * 좋아요/댓글/리포스트 테이블에서 카운터 재집계
+     *
+     * @return 보정된 게시글 행 수 (카운터별 합계)
+     */
+    @Transactional
+    public int reconcile() {
+        return jdbcTemplate.update(RECONCILE_LIKES_SQL)
+                + jdbcTemplate.update(RECONCILE_COMMENTS_SQL)
+                + jdbcTemplate.update(RECONCILE_REPOSTS_SQL);
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.cheerboard.repo;
+
+import com.example.cheerboard.domain.CheerPostLike;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 뷰어의 게시글 상호작용(좋아요/북마크/리포스트) 상태 조회 전용 리포지토리
+ * 엔티티 하이드레이션 없이 (postId, flag) 프로젝션만 반환
+ */
+public interface PostInteractionRepo extends Repository<CheerPostLike, CheerPostLike.Id> {
+
+    int LIKED = 1;
+    int BOOKMARKED = 2;
+    int REPOSTED = 4;
+
+    /**
+     * 세 테이블을 UNION ALL 한 번의 쿼리로 조회
+     * 각 행은 [postId(Long), flag(Integer)] 형태이며 flag는 LIKED/BOOKMARKED/REPOSTED 중 하나
+     */
+    @Query("SELECT l.id.postId, 1 FROM CheerPostLike l WHERE l.id.userId = :userId AND l.id.postId IN :postIds " +
+            "UNION ALL " +
+            "SELECT b.id.postId, 2 FROM CheerPostBookmark b WHERE b.id.userId = :userId AND b.id.postId IN :postIds " +
+            "UNION ALL " +
+            "SELECT r.id.postId, 4 FROM CheerPostRepost r WHERE r.id.userId = :userId AND r.id.postId IN :postIds")
+    List<Object[]> findInteractionFlags(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+}
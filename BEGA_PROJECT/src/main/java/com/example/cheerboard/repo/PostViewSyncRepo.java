@@ -0,0 +1,38 @@
+package com.example.cheerboard.repo;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis 조회수 델타를 DB에 일괄 반영하는 JDBC 배치 저장소
+ * - 엔티티를 로딩하지 않고 views 컬럼만 UPDATE
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewSyncRepo {
+
+    private static final String INCREMENT_VIEWS_SQL = "UPDATE cheer_post SET views = views + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 게시글별 조회수 델타를 하나의 트랜잭션, 하나의 JDBC 배치로 반영
+     *
+     * @param deltas 게시글 ID별 증가량
+     */
+    @Transactional
+    public void incrementViews(Map<Long, Integer> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(deltas.size());
+        deltas.forEach((postId, delta) -> args.add(new Object[] { delta, postId }));
+        jdbcTemplate.batchUpdate(INCREMENT_VIEWS_SQL, args);
+    }
+}
@@ -2,11 +2,20 @@ package com.example.cheerboard.repository;
 
 import com.example.cheerboard.entity.CheerBattleLog;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface CheerBattleLogRepository extends JpaRepository<CheerBattleLog, Long> {
     Optional<CheerBattleLog> findByGameIdAndUserEmail(String gameId, String userEmail);
 
     boolean existsByGameIdAndUserEmail(String gameId, String userEmail);
+
+    /**
+     * 경기 투표자 이메일 목록 (Redis 중복 투표 Set 복구용)
+     */
+    @Query("SELECT l.userEmail FROM CheerBattleLog l WHERE l.gameId = :gameId")
+    List<String> findUserEmailsByGameId(@Param("gameId") String gameId);
 }
@@ -3,6 +3,9 @@ package com.example.cheerboard.repository;
 import com.example.cheerboard.entity.CheerVoteEntity;
 import com.example.cheerboard.entity.CheerVoteId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,4 +13,12 @@ import java.util.List;
 @Repository
 public interface CheerVoteRepository extends JpaRepository<CheerVoteEntity, CheerVoteId> {
     List<CheerVoteEntity> findByGameId(String gameId);
+
+    /**
+     * Redis 집계값으로 득표 수 덮어쓰기 (엔티티를 읽지 않음)
+     */
+    @Modifying
+    @Query("UPDATE CheerVoteEntity v SET v.voteCount = :voteCount WHERE v.gameId = :gameId AND v.teamId = :teamId")
+    int updateVoteCount(@Param("gameId") String gameId, @Param("teamId") String teamId,
+            @Param("voteCount") int voteCount);
 }
@@ -0,0 +1,40 @@
+package com.example.cheerboard.scheduler;
+
+import com.example.cheerboard.service.CheerBattleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 응원 배틀 집계 브로드캐스트
+ * 투표마다 전송하지 않고 주기마다 바뀐 경기의 최신 집계를 한 번씩만 /topic/battle/{gameId}로 전송합니다.
+ * 집계와 변경 기록은 Redis에 있으므로 각 인스턴스가 자기 구독자에게 같은 값을 보냅니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CheerBattleBroadcaster {
+
+    private final CheerBattleService cheerBattleService;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 마지막으로 전송한 변경 시각 (Redis 시각, µs)
+    private double cursor = Double.NEGATIVE_INFINITY;
+
+    @Scheduled(fixedDelayString = "${cheerboard.battle.broadcast-interval-ms:250}")
+    public void broadcastUpdatedGames() {
+        CheerBattleService.UpdatedGames updated = cheerBattleService.findUpdatedGamesSince(cursor);
+        cursor = updated.cursor();
+
+        for (String gameId : updated.gameIds()) {
+            try {
+                messagingTemplate.convertAndSend("/topic/battle/" + gameId,
+                        (Object) cheerBattleService.getGameStats(gameId));
+            } catch (Exception e) {
+                log.error("응원 배틀 집계 전송 실패: gameId={}, {}", gameId, e.getMessage());
+            }
+        }
+    }
+}
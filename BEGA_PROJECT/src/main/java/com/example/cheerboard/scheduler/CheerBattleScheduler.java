@@ -20,12 +20,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CheerBattleScheduler implements ApplicationRunner {
 
+    private static final int VOTE_SYNC_BATCH_SIZE = 100;
+
     private final GameRepository gameRepository;
     private final CheerVoteRepository cheerVoteRepository;
     private final CheerBattleService cheerBattleService;
@@ -36,7 +39,10 @@ public class CheerBattleScheduler implements ApplicationRunner {
         // 매일 자정 실행 (Battle Init)
         jobScheduler.scheduleRecurrently("create-daily-battles", Cron.daily(0, 0), this::createDailyBattles);
 
-        // 매일 새벽 3시 실행 (Cache Reset)
+        // 매 분 실행 (Redis 득표 → DB)
+        jobScheduler.scheduleRecurrently("sync-battle-votes", Cron.minutely(), this::syncBattleVotes);
+
+        // 매일 새벽 3시 실행 (Final Flush)
         jobScheduler.scheduleRecurrently("reset-daily-votes-cache", Cron.daily(3, 0), this::resetDailyVotes);
     }
 
@@ -88,11 +94,43 @@ public class CheerBattleScheduler implements ApplicationRunner {
     }
 
     /**
-     * 매일 새벽 3시(03:00)에 인메모리 투표 캐시 초기화
+     * Redis 득표 집계를 cheer_battle_votes에 반영 (write-behind)
+     * - 바뀐 경기만 꺼내서 절대값으로 UPDATE, 실패하면 남은 경기를 다시 동기화 대상으로 등록
+     */
+    @Job(name = "Sync Cheer Battle Votes")
+    public int syncBattleVotes() {
+        int synced = 0;
+        List<String> gameIds;
+        while (!(gameIds = cheerBattleService.popDirtyGameIds(VOTE_SYNC_BATCH_SIZE)).isEmpty()) {
+            for (int i = 0; i < gameIds.size(); i++) {
+                String gameId = gameIds.get(i);
+                Map<String, Integer> totals = cheerBattleService.readVoteTotals(gameId);
+                if (totals == null) {
+                    continue;
+                }
+                try {
+                    cheerBattleService.saveVoteTotals(gameId, totals);
+                    synced++;
+                } catch (Exception e) {
+                    log.error("Failed to sync cheer battle votes for game {}", gameId, e);
+                    cheerBattleService.restoreDirtyGames(gameIds.subList(i, gameIds.size()));
+                    return synced;
+                }
+            }
+        }
+        if (synced > 0) {
+            log.info("Synced Cheer Battle votes for {} games.", synced);
+        }
+        return synced;
+    }
+
+    /**
+     * 매일 새벽 3시(03:00)에 남은 득표를 DB에 반영
+     * - 집계는 Redis에 있으므로 비울 인메모리 캐시는 없음 (기존 잡 ID 유지)
      */
     @Job(name = "Reset Daily Cheer Battle Cache")
     public void resetDailyVotes() {
-        cheerBattleService.clearMemoryCache();
-        log.info("Cheer Battle in-memory cache cleared.");
+        int synced = syncBattleVotes();
+        log.info("Cheer Battle daily flush completed ({} games).", synced);
     }
 }
@@ -27,6 +27,18 @@ public class CheerStorageScheduler implements ApplicationRunner {
     public void run(ApplicationArguments args) {
         // 10분마다 실행 (Storage & DB Cleanup)
         jobScheduler.scheduleRecurrently("cleanup-deleted-posts", "*/10 * * * *", this::cleanupDeletedPosts);
+
+        // 10분마다 실행 (재시도를 소진한 비동기 이미지 처리 실패 정리)
+        jobScheduler.scheduleRecurrently("fail-stale-image-processing", "*/10 * * * *",
+                this::failStaleImageProcessing);
+    }
+
+    /**
+     * 처리 작업이 재시도를 모두 소진해 PROCESSING으로 남은 이미지를 FAILED로 표시하고 staging 원본 삭제
+     */
+    @Job(name = "Fail Stale Image Processing")
+    public void failStaleImageProcessing() {
+        imageService.failStaleProcessingImages();
     }
 
     /**
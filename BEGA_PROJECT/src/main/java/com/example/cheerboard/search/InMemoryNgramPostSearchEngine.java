@@ -0,0 +1,242 @@
+package com.example.cheerboard.search;
+
+import com.example.cheerboard.domain.CheerPost;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 내 bigram 역색인 검색 (H2 로컬/테스트 환경용)
+ * - 한글은 음절 단위 bigram으로 색인해 형태소 분석 없이 부분 일치 검색
+ * - 후보는 가장 짧은 posting 목록에서 고르고 실제 부분 문자열 포함 여부로 검증 (수정 전 색인이 남아도 무해)
+ * - 첫 검색 시 DB에서 전체 색인을 만들고 이후 작성/수정/삭제 시 갱신 (인스턴스별 색인이므로 다중 인스턴스 운영용이 아님)
+ */
+@Slf4j
+public class InMemoryNgramPostSearchEngine implements PostSearchEngine {
+
+    private static final String LOAD_SQL = "SELECT id, team_id, author_id, createdat, content FROM cheer_post "
+            + "WHERE deleted = false AND content IS NOT NULL "
+            + "AND (repost_type IS NULL OR repost_type <> 'SIMPLE')";
+
+    private record Doc(long id, String text, String teamId, Long authorId, long createdAtEpochSecond) {
+    }
+
+    private record Hit(long id, double score) {
+    }
+
+    /**
+     * 게시글 ID posting 목록 (추가만 발생하므로 배열 확장 방식)
+     */
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size;
+
+        synchronized void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        synchronized long[] snapshot() {
+            return Arrays.copyOf(ids, size);
+        }
+
+        synchronized int size() {
+            return size;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double recencyHalfLifeHours;
+    private final double relevanceWeight;
+
+    private final Map<Long, Doc> docs = new ConcurrentHashMap<>();
+    private final Map<Integer, Postings> postings = new ConcurrentHashMap<>();
+    private volatile boolean loaded;
+
+    public InMemoryNgramPostSearchEngine(JdbcTemplate jdbcTemplate, double recencyHalfLifeHours,
+            double relevanceWeight) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recencyHalfLifeHours = recencyHalfLifeHours;
+        this.relevanceWeight = relevanceWeight;
+    }
+
+    @Override
+    public SearchHits search(String query, String teamId, Collection<Long> excludedAuthorIds, Pageable pageable) {
+        String q = normalize(query);
+        if (q.isBlank()) {
+            return SearchHits.empty();
+        }
+        ensureLoaded();
+
+        long now = Instant.now().getEpochSecond();
+        Set<Long> excluded = excludedAuthorIds == null ? Set.of() : new HashSet<>(excludedAuthorIds);
+        int topK = (int) Math.min(Integer.MAX_VALUE - 1, pageable.getOffset() + pageable.getPageSize());
+        Comparator<Hit> ranking = Comparator.comparingDouble(Hit::score)
+                .thenComparingLong(Hit::id);
+
+        // 요청 페이지까지의 상위 topK개만 min-heap으로 유지 (전체 정렬 없음)
+        PriorityQueue<Hit> top = new PriorityQueue<>(ranking);
+        long total = 0;
+        long[] candidates = candidates(q);
+        Arrays.sort(candidates); // 재색인으로 생긴 중복 ID를 인접하게 모아 건너뜀
+        for (int i = 0; i < candidates.length; i++) {
+            long id = candidates[i];
+            if (i > 0 && candidates[i - 1] == id) {
+                continue;
+            }
+            Doc doc = docs.get(id);
+            if (doc == null
+                    || (teamId != null && !teamId.equals(doc.teamId()))
+                    || excluded.contains(doc.authorId())
+                    || !doc.text().contains(q)) {
+                continue;
+            }
+            total++;
+            Hit hit = new Hit(id, score(doc, q, now));
+            if (top.size() < topK) {
+                top.add(hit);
+            } else if (ranking.compare(hit, top.peek()) > 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+
+        List<Hit> ranked = new ArrayList<>(top);
+        ranked.sort(ranking.reversed());
+        List<Long> page = ranked.stream()
+                .skip(pageable.getOffset())
+                .map(Hit::id)
+                .toList();
+        return new SearchHits(page, total);
+    }
+
+    @Override
+    public void index(CheerPost post) {
+        if (!loaded) {
+            return; // 첫 검색 시 DB에서 함께 색인됨
+        }
+        if (post.getContent() == null || post.getRepostType() == CheerPost.RepostType.SIMPLE) {
+            remove(post.getId());
+            return;
+        }
+        Instant createdAt = post.getCreatedAt() != null ? post.getCreatedAt() : Instant.now();
+        add(post.getId(), post.getContent(), post.getTeamId(),
+                post.getAuthor() != null ? post.getAuthor().getId() : null, createdAt.getEpochSecond());
+    }
+
+    @Override
+    public void remove(Long postId) {
+        if (postId != null) {
+            docs.remove(postId); // posting 목록의 ID는 조회 시 docs 확인으로 걸러짐
+        }
+    }
+
+    /**
+     * 색인 직접 추가 (부하 테스트 및 DB 적재용)
+     */
+    void add(long id, String content, String teamId, Long authorId, long createdAtEpochSecond) {
+        String text = normalize(content);
+        docs.put(id, new Doc(id, text, teamId, authorId, createdAtEpochSecond));
+        for (int gram : bigrams(text)) {
+            postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+        }
+    }
+
+    void markLoaded() {
+        loaded = true;
+    }
+
+    int size() {
+        return docs.size();
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (this) {
+            if (loaded) {
+                return;
+            }
+            long startedAt = System.currentTimeMillis();
+            jdbcTemplate.query(LOAD_SQL, rs -> {
+                Timestamp createdAt = rs.getTimestamp("createdat");
+                long authorId = rs.getLong("author_id");
+                add(rs.getLong("id"), rs.getString("content"), rs.getString("team_id"),
+                        rs.wasNull() ? null : authorId,
+                        createdAt != null ? createdAt.toInstant().getEpochSecond() : 0L);
+            });
+            loaded = true;
+            log.info("게시글 검색 색인 구성 완료: {}건, {}ms", docs.size(), System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private long[] candidates(String q) {
+        Set<Integer> grams = bigrams(q);
+        if (grams.isEmpty()) {
+            // 한 글자 검색은 bigram이 없으므로 전체 문서 검증
+            return docs.keySet().stream().mapToLong(Long::longValue).toArray();
+        }
+        Postings smallest = null;
+        for (int gram : grams) {
+            Postings list = postings.get(gram);
+            if (list == null) {
+                return new long[0];
+            }
+            if (smallest == null || list.size() < smallest.size()) {
+                smallest = list;
+            }
+        }
+        return smallest.snapshot();
+    }
+
+    /**
+     * 관련도(본문 중 검색어 비중)와 최신성(반감기 감쇠)의 가중 합
+     */
+    private double score(Doc doc, String q, long now) {
+        int occurrences = 0;
+        for (int from = doc.text().indexOf(q); from >= 0; from = doc.text().indexOf(q, from + q.length())) {
+            occurrences++;
+        }
+        double relevance = Math.min(1.0, (double) occurrences * q.length() / Math.max(1, doc.text().length()));
+        double ageHours = Math.max(0, now - doc.createdAtEpochSecond()) / 3600.0;
+        double recency = Math.pow(0.5, ageHours / recencyHalfLifeHours);
+        return relevanceWeight * relevance + (1 - relevanceWeight) * recency;
+    }
+
+    /**
+     * 공백을 포함하지 않는 인접 두 글자 조합 (char 두 개를 int 하나로 인코딩)
+     */
+    private static Set<Integer> bigrams(String text) {
+        Set<Integer> grams = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            char first = text.charAt(i);
+            char second = text.charAt(i + 1);
+            if (Character.isWhitespace(first) || Character.isWhitespace(second)) {
+                continue;
+            }
+            grams.add((first << 16) | second);
+        }
+        return grams;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.cheerboard.search;
+
+import com.example.cheerboard.repo.CheerPostRepo;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+
+/**
+ * LIKE '%q%' 기반 검색 (Oracle 등 전문 검색 인덱스가 없는 환경의 기본값, 최신순 정렬)
+ */
+public class LikePostSearchEngine implements PostSearchEngine {
+
+    private final CheerPostRepo postRepo;
+
+    public LikePostSearchEngine(CheerPostRepo postRepo) {
+        this.postRepo = postRepo;
+    }
+
+    @Override
+    public SearchHits search(String query, String teamId, Collection<Long> excludedAuthorIds, Pageable pageable) {
+        Page<Long> page = postRepo.searchIds(query, teamId, excludedAuthorIds, pageable);
+        return new SearchHits(page.getContent(), page.getTotalElements());
+    }
+}
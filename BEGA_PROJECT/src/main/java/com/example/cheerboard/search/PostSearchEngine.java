@@ -0,0 +1,41 @@
+package com.example.cheerboard.search;
+
+import com.example.cheerboard.domain.CheerPost;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 응원 게시글 검색 엔진
+ * - 검색 결과는 게시글 ID만 반환하고, 엔티티 로딩은 호출 측에서 한 번에 수행
+ */
+public interface PostSearchEngine {
+
+    /**
+     * 검색 결과
+     *
+     * @param postIds 요청 페이지의 게시글 ID (정렬 순서 유지)
+     * @param total   전체 검색 결과 수
+     */
+    record SearchHits(List<Long> postIds, long total) {
+
+        public static SearchHits empty() {
+            return new SearchHits(List.of(), 0L);
+        }
+    }
+
+    SearchHits search(String query, String teamId, Collection<Long> excludedAuthorIds, Pageable pageable);
+
+    /**
+     * 게시글 작성/수정 시 색인 반영 (DB 인덱스를 사용하는 엔진은 no-op)
+     */
+    default void index(CheerPost post) {
+    }
+
+    /**
+     * 게시글 삭제 시 색인 제거 (DB 인덱스를 사용하는 엔진은 no-op)
+     */
+    default void remove(Long postId) {
+    }
+}
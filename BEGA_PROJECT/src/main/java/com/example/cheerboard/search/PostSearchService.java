@@ -0,0 +1,91 @@
+package com.example.cheerboard.search;
+
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.repo.CheerPostRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Service;
+
+import java.sql.DatabaseMetaData;
+import java.util.Collection;
+import java.util.Locale;
+
+import static com.example.common.transaction.TransactionHooks.runAfterCommit;
+
+/**
+ * 응원 게시글 검색
+ * - cheerboard.search.engine으로 엔진 선택 (auto: DB 종류로 결정)
+ * - postgres: pg_trgm 인덱스 + 관련도/최신성 정렬 (pg_trgm 확장이 없으면 like로 대체)
+ * - memory: 프로세스 내 bigram 색인 (H2 로컬/테스트)
+ * - like: 기존 LIKE 검색, 최신순 (Oracle 등)
+ * - 색인 변경은 커밋 후 반영 (롤백된 글이 프로세스 내 색인에 남아 검색 결과/총 개수를 부풀리지 않도록)
+ */
+@Slf4j
+@Service
+public class PostSearchService {
+
+    private final PostSearchEngine engine;
+
+    public PostSearchService(JdbcTemplate jdbcTemplate, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+            CheerPostRepo postRepo,
+            @Value("${cheerboard.search.engine:auto}") String engine,
+            @Value("${cheerboard.search.recency-half-life-hours:72}") double recencyHalfLifeHours,
+            @Value("${cheerboard.search.relevance-weight:0.7}") double relevanceWeight) {
+        String resolved = "auto".equalsIgnoreCase(engine) ? detectEngine(jdbcTemplate) : engine.toLowerCase(Locale.ROOT);
+        if ("postgres".equals(resolved) && !hasTrigramExtension(jdbcTemplate)) {
+            // similarity()/% 연산자가 없어 검색 쿼리가 실패하므로 LIKE 검색 사용
+            log.warn("pg_trgm 확장이 설치되지 않아 LIKE 검색 사용");
+            resolved = "like";
+        }
+        this.engine = switch (resolved) {
+            case "postgres" -> new PostgresTrigramPostSearchEngine(namedParameterJdbcTemplate, recencyHalfLifeHours,
+                    relevanceWeight);
+            case "memory" -> new InMemoryNgramPostSearchEngine(jdbcTemplate, recencyHalfLifeHours, relevanceWeight);
+            default -> new LikePostSearchEngine(postRepo);
+        };
+        log.info("게시글 검색 엔진: {}", this.engine.getClass().getSimpleName());
+    }
+
+    private static String detectEngine(JdbcTemplate jdbcTemplate) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(
+                    jdbcTemplate.getDataSource(), DatabaseMetaData::getDatabaseProductName);
+            if ("PostgreSQL".equalsIgnoreCase(product)) {
+                return "postgres";
+            }
+            if ("H2".equalsIgnoreCase(product)) {
+                return "memory";
+            }
+        } catch (Exception e) {
+            log.warn("검색 엔진 자동 선택 실패, LIKE 검색 사용: {}", e.getMessage());
+        }
+        return "like";
+    }
+
+    private static boolean hasTrigramExtension(JdbcTemplate jdbcTemplate) {
+        try {
+            return !jdbcTemplate.queryForList("SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm'", Integer.class)
+                    .isEmpty();
+        } catch (Exception e) {
+            log.warn("pg_trgm 확장 확인 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    public PostSearchEngine.SearchHits search(String query, String teamId, Collection<Long> excludedAuthorIds,
+            Pageable pageable) {
+        return engine.search(query, teamId, excludedAuthorIds, pageable);
+    }
+
+    public void indexAfterCommit(CheerPost post) {
+        runAfterCommit(() -> engine.index(post));
+    }
+
+    public void removeAfterCommit(Long postId) {
+        runAfterCommit(() -> engine.remove(postId));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.cheerboard.search;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * PostgreSQL pg_trgm 기반 검색
+ * - lower(content)의 GIN trigram 인덱스로 부분 일치(LIKE)와 오타 허용(word similarity) 후보를 찾음
+ * - 관련도(word_similarity)와 최신성(반감기 감쇠)을 가중 합산해 정렬
+ * - 인덱스는 db/migration_postgresql/V42__add_trgm_search_indexes.sql
+ */
+public class PostgresTrigramPostSearchEngine implements PostSearchEngine {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final double recencyHalfLifeHours;
+    private final double relevanceWeight;
+
+    public PostgresTrigramPostSearchEngine(NamedParameterJdbcTemplate jdbcTemplate,
+            double recencyHalfLifeHours, double relevanceWeight) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.recencyHalfLifeHours = recencyHalfLifeHours;
+        this.relevanceWeight = relevanceWeight;
+    }
+
+    @Override
+    public SearchHits search(String query, String teamId, Collection<Long> excludedAuthorIds, Pageable pageable) {
+        String q = query == null ? "" : query.trim().toLowerCase(Locale.ROOT);
+        if (q.isEmpty()) {
+            return SearchHits.empty();
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("q", q)
+                .addValue("pattern", "%" + escapeLike(q) + "%")
+                .addValue("halfLifeHours", recencyHalfLifeHours)
+                .addValue("relevanceWeight", relevanceWeight)
+                .addValue("limit", pageable.getPageSize())
+                .addValue("offset", pageable.getOffset());
+
+        // NULL 파라미터 타입 추론 문제를 피하기 위해 선택 조건은 값이 있을 때만 추가
+        StringBuilder sql = new StringBuilder()
+                .append("SELECT p.id, COUNT(*) OVER () AS total_count FROM cheer_post p ")
+                .append("WHERE p.deleted = false ")
+                .append("AND (p.repost_type IS NULL OR p.repost_type <> 'SIMPLE') ")
+                .append("AND (lower(p.content) LIKE :pattern OR :q <% lower(p.content)) ");
+        if (teamId != null) {
+            sql.append("AND p.team_id = :teamId ");
+            params.addValue("teamId", teamId);
+        }
+        if (excludedAuthorIds != null && !excludedAuthorIds.isEmpty()) {
+            sql.append("AND p.author_id NOT IN (:excludedIds) ");
+            params.addValue("excludedIds", excludedAuthorIds);
+        }
+        sql.append("ORDER BY :relevanceWeight * word_similarity(:q, lower(p.content)) ")
+                .append("+ (1 - :relevanceWeight) * power(0.5, ")
+                .append("extract(epoch FROM (now() - p.createdat)) / 3600.0 / :halfLifeHours) DESC, p.id DESC ")
+                .append("LIMIT :limit OFFSET :offset");
+
+        List<Long> postIds = new ArrayList<>();
+        long[] total = { 0L };
+        jdbcTemplate.query(sql.toString(), params, rs -> {
+            postIds.add(rs.getLong("id"));
+            total[0] = rs.getLong("total_count");
+        });
+        return new SearchHits(postIds, total[0]);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
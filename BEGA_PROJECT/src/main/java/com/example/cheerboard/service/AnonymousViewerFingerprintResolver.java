@@ -0,0 +1,85 @@
+package com.example.cheerboard.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 비로그인 조회자의 중복 조회 판별용 식별값 생성
+ * - none: 식별값 없음 (모든 익명 조회자를 하나로 취급)
+ * - ip: 클라이언트 IP 기반
+ * - session: HTTP 세션 ID 기반 (세션이 없으면 IP로 대체)
+ * - 원본 IP/세션 ID를 Redis에 남기지 않도록 SHA-256 해시 앞부분만 사용
+ */
+@Component
+public class AnonymousViewerFingerprintResolver {
+
+    enum Strategy {
+        NONE, IP, SESSION
+    }
+
+    private final Strategy strategy;
+
+    public AnonymousViewerFingerprintResolver(
+            @Value("${cheerboard.view-dedup.anonymous-fingerprint:none}") String strategy) {
+        this.strategy = parse(strategy);
+    }
+
+    /**
+     * 현재 요청의 익명 조회자 식별값 (요청 컨텍스트가 없거나 none이면 null)
+     */
+    public String resolve() {
+        if (strategy == Strategy.NONE) {
+            return null;
+        }
+        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        HttpServletRequest request = attributes.getRequest();
+
+        if (strategy == Strategy.SESSION) {
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                return "s:" + hash(session.getId());
+            }
+        }
+        return "ip:" + hash(getClientIP(request));
+    }
+
+    private String getClientIP(HttpServletRequest request) {
+        String xfHeader = request.getHeader("X-Forwarded-For");
+        if (xfHeader == null) {
+            return request.getRemoteAddr();
+        }
+        return xfHeader.split(",")[0].trim();
+    }
+
+    private String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static Strategy parse(String value) {
+        if (value == null || value.isBlank()) {
+            return Strategy.NONE;
+        }
+        try {
+            return Strategy.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return Strategy.NONE;
+        }
+    }
+}
@@ -1,48 +1,129 @@
 package com.example.cheerboard.service;
 
+import com.example.auth.entity.CheerPointLedgerEntry;
+import com.example.auth.service.CheerPointLedger;
 import com.example.cheerboard.entity.CheerVoteEntity;
-import com.example.cheerboard.entity.CheerVoteId;
 import com.example.cheerboard.repository.CheerVoteRepository;
 import com.example.kbo.util.TeamCodeNormalizer;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Set;
 
+import static com.example.common.transaction.TransactionHooks.runOnRollback;
+
+/**
+ * 응원 배틀 투표 집계
+ * - 경기별 팀 득표는 Redis 해시(battle:votes:{gameId})에 HINCRBY로 누적해 모든 인스턴스가 같은 값을 봄
+ * - 중복 투표는 투표자 Set(battle:voters:{gameId})으로 걸러내고, 득표/중복 확인/동기화 대상 등록을 Lua 한 번으로 처리
+ * - 해시가 없으면 cheer_battle_votes와 cheer_battle_log로 다시 채운 뒤 투표 (DB는 CheerBattleScheduler가 1분마다 절대값으로 동기화)
+ * - 변경된 경기는 battle:updated(ZSET, Redis 시각)에 기록되어 CheerBattleBroadcaster가 주기적으로 묶어서 전송
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CheerBattleService {
 
+    /**
+     * 마지막 조회 이후 집계가 바뀐 경기와 다음 조회 기준 시각 (Redis 시각, µs)
+     */
+    public record UpdatedGames(List<String> gameIds, double cursor) {
+    }
+
+    private static final String VOTES_KEY = "battle:votes:%s";
+    private static final String VOTERS_KEY = "battle:voters:%s";
+    private static final String DIRTY_GAMES_KEY = "battle:dirty";
+    private static final String UPDATED_GAMES_KEY = "battle:updated";
+    // DB에서 채운 해시임을 표시하는 필드 (득표가 없는 경기도 해시가 존재하도록)
+    private static final String SEEDED_FIELD = "_seeded";
+    // 당일 경기 기준, 동기화 주기보다 충분히 길게
+    private static final Duration VOTES_TTL = Duration.ofDays(2);
+    // 브로드캐스트 대상 기록 보관 기간 (µs)
+    private static final long UPDATED_RETENTION_MICROS = 60_000_000L;
+
+    private static final long NOT_SEEDED = -2L;
+    private static final long ALREADY_VOTED = -1L;
+
+    // KEYS: 득표 해시, 투표자 Set, 동기화 대상 Set, 변경 ZSET / ARGV: 이메일, 팀, 경기 ID, TTL(초)
+    private static final RedisScript<Long> VOTE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 0 then return -2 end " +
+                    "if redis.call('sadd', KEYS[2], ARGV[1]) == 0 then return -1 end " +
+                    "local count = redis.call('hincrby', KEYS[1], ARGV[2], 1) " +
+                    "redis.call('expire', KEYS[1], tonumber(ARGV[4])) " +
+                    "redis.call('expire', KEYS[2], tonumber(ARGV[4])) " +
+                    "redis.call('sadd', KEYS[3], ARGV[3]) " +
+                    "local now = redis.call('time') " +
+                    "redis.call('zadd', KEYS[4], now[1] .. string.format('%06d', tonumber(now[2])), ARGV[3]) " +
+                    "return count",
+            Long.class);
+
+    // 롤백 보상: 투표자가 남아 있을 때만 득표 차감
+    private static final RedisScript<Long> REVERT_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('srem', KEYS[2], ARGV[1]) == 0 then return 0 end " +
+                    "redis.call('hincrby', KEYS[1], ARGV[2], -1) " +
+                    "redis.call('sadd', KEYS[3], ARGV[3]) " +
+                    "local now = redis.call('time') " +
+                    "redis.call('zadd', KEYS[4], now[1] .. string.format('%06d', tonumber(now[2])), ARGV[3]) " +
+                    "return 1",
+            Long.class);
+
+    // KEYS: 득표 해시, 투표자 Set / ARGV: TTL(초), 팀 수, 팀/득표 쌍..., 이메일...
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+                    "local teams = tonumber(ARGV[2]) " +
+                    "redis.call('hset', KEYS[1], '" + SEEDED_FIELD + "', 1) " +
+                    "for i = 0, teams - 1 do redis.call('hset', KEYS[1], ARGV[3 + i * 2], ARGV[4 + i * 2]) end " +
+                    "for i = 3 + teams * 2, #ARGV do redis.call('sadd', KEYS[2], ARGV[i]) end " +
+                    "redis.call('expire', KEYS[1], tonumber(ARGV[1])) " +
+                    "if redis.call('exists', KEYS[2]) == 1 then redis.call('expire', KEYS[2], tonumber(ARGV[1])) end " +
+                    "return 1",
+            Long.class);
+
     private final CheerVoteRepository cheerVoteRepository;
     private final com.example.cheerboard.repository.CheerBattleLogRepository cheerBattleLogRepository;
     private final com.example.auth.repository.UserRepository userRepository;
-
-    // Game ID -> Team ID -> Vote Count (In-memory cache)
-    private final Map<String, Map<String, AtomicInteger>> gameVotes = new ConcurrentHashMap<>();
+    private final CheerPointLedger cheerPointLedger;
+    private final StringRedisTemplate redisTemplate;
 
     @Transactional
     public int vote(String gameId, String teamId, String userEmail) {
         String normalizedTeamId = TeamCodeNormalizer.normalize(teamId);
 
-        // Check if already voted
-        if (cheerBattleLogRepository.existsByGameIdAndUserEmail(gameId, userEmail)) {
+        Long userId = userRepository.findIdByEmail(userEmail)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+
+        // 1. Redis 득표 (중복 투표 확인 포함)
+        long count = recordVote(gameId, normalizedTeamId, userEmail);
+        if (count == NOT_SEEDED) {
+            seedVotes(gameId);
+            count = recordVote(gameId, normalizedTeamId, userEmail);
+        }
+        if (count == ALREADY_VOTED) {
             throw new IllegalStateException("이미 투표에 참여하셨습니다.");
         }
+        if (count < 0) {
+            throw new IllegalStateException("일시적으로 투표할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        runOnRollback(() -> revertVote(gameId, normalizedTeamId, userEmail));
 
-        // 1. 사용자 포인트 차감
-        com.example.auth.entity.UserEntity user = userRepository.findByEmail(userEmail)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-
-        // 포인트 차감 (부족하면 예외 발생)
-        user.deductCheerPoints(1);
-        userRepository.save(user);
+        // 2. 사용자 포인트 차감 (부족하면 예외 발생 → 득표 되돌림)
+        cheerPointLedger.spend(userId, 1, CheerPointLedgerEntry.Reason.CHEER_BATTLE_VOTE, gameId);
 
-        // 2. Save Vote Log
+        // 3. Save Vote Log
         com.example.cheerboard.entity.CheerBattleLog battleLog = com.example.cheerboard.entity.CheerBattleLog.builder()
                 .gameId(gameId)
                 .teamId(normalizedTeamId)
@@ -50,69 +131,167 @@ public class CheerBattleService {
                 .build();
         cheerBattleLogRepository.save(Objects.requireNonNull(battleLog));
 
-        // 3. Update memory (DB backup fallback)
-        Map<String, AtomicInteger> teamVotes = gameVotes.computeIfAbsent(gameId, k -> new ConcurrentHashMap<>());
-
-        AtomicInteger counter = teamVotes.computeIfAbsent(normalizedTeamId, k -> {
-            // Memory miss -> Load from DB
-            CheerVoteId id = CheerVoteId.builder()
-                    .gameId(gameId)
-                    .teamId(normalizedTeamId)
-                    .build();
-            return cheerVoteRepository.findById(Objects.requireNonNull(id))
-                    .map(entity -> new AtomicInteger(entity.getVoteCount()))
-                    .orElse(new AtomicInteger(0));
-        });
-
-        int newValue = counter.incrementAndGet();
+        return (int) count;
+    }
 
-        // 4. Update DB (Vote Count)
-        CheerVoteId id = CheerVoteId.builder()
-                .gameId(gameId)
-                .teamId(normalizedTeamId)
-                .build();
+    private long recordVote(String gameId, String teamId, String userEmail) {
+        try {
+            Long result = redisTemplate.execute(VOTE_SCRIPT,
+                    List.of(String.format(VOTES_KEY, gameId), String.format(VOTERS_KEY, gameId),
+                            DIRTY_GAMES_KEY, UPDATED_GAMES_KEY),
+                    userEmail, teamId, gameId, String.valueOf(VOTES_TTL.toSeconds()));
+            return result != null ? result : NOT_SEEDED;
+        } catch (Exception e) {
+            // 인스턴스마다 다른 집계가 생기지 않도록 DB로 우회하지 않고 투표를 거절
+            log.warn("Redis error in CheerBattleService.recordVote: {}", e.getMessage());
+            return Long.MIN_VALUE;
+        }
+    }
 
-        CheerVoteEntity entity = cheerVoteRepository.findById(Objects.requireNonNull(id))
-                .orElse(CheerVoteEntity.builder()
-                        .gameId(gameId)
-                        .teamId(normalizedTeamId)
-                        .voteCount(0)
-                        .build());
+    private void revertVote(String gameId, String teamId, String userEmail) {
+        try {
+            redisTemplate.execute(REVERT_SCRIPT,
+                    List.of(String.format(VOTES_KEY, gameId), String.format(VOTERS_KEY, gameId),
+                            DIRTY_GAMES_KEY, UPDATED_GAMES_KEY),
+                    userEmail, teamId, gameId);
+        } catch (Exception e) {
+            log.warn("Redis error in CheerBattleService.revertVote: {}", e.getMessage());
+        }
+    }
 
-        entity.setVoteCount(newValue);
-        cheerVoteRepository.save(entity);
+    /**
+     * DB 득표/투표 기록으로 Redis 집계를 채움 (이미 있으면 무시)
+     */
+    private void seedVotes(String gameId) {
+        List<CheerVoteEntity> entities = cheerVoteRepository.findByGameId(gameId);
+        List<String> voters = cheerBattleLogRepository.findUserEmailsByGameId(gameId);
 
-        return newValue;
+        List<String> args = new ArrayList<>(2 + entities.size() * 2 + voters.size());
+        args.add(String.valueOf(VOTES_TTL.toSeconds()));
+        args.add(String.valueOf(entities.size()));
+        entities.forEach(e -> {
+            args.add(e.getTeamId());
+            args.add(String.valueOf(e.getVoteCount()));
+        });
+        args.addAll(voters);
+        try {
+            redisTemplate.execute(SEED_SCRIPT,
+                    List.of(String.format(VOTES_KEY, gameId), String.format(VOTERS_KEY, gameId)),
+                    args.toArray());
+        } catch (Exception e) {
+            log.warn("Redis error in CheerBattleService.seedVotes: {}", e.getMessage());
+        }
     }
 
     public Map<String, Integer> getGameStats(String gameId) {
-        Map<String, Integer> result = new java.util.HashMap<>();
-
-        // Try load from memory first
-        if (gameVotes.containsKey(gameId)) {
-            gameVotes.get(gameId).forEach((k, v) -> result.put(k, v.get()));
-        } else {
-            // If missing in memory, load from DB
-            List<CheerVoteEntity> entities = cheerVoteRepository.findByGameId(gameId);
-            entities.forEach(e -> {
-                result.put(e.getTeamId(), e.getVoteCount());
-                // Populate memory
-                gameVotes.computeIfAbsent(gameId, k -> new ConcurrentHashMap<>())
-                        .put(e.getTeamId(), new AtomicInteger(e.getVoteCount()));
-            });
+        Map<String, Integer> totals = readVoteTotals(gameId);
+        if (totals != null) {
+            return totals;
         }
 
+        // Redis에 집계가 없으면 DB 값 (마지막 동기화 시점)
+        Map<String, Integer> result = new HashMap<>();
+        cheerVoteRepository.findByGameId(gameId)
+                .forEach(e -> result.put(e.getTeamId(), e.getVoteCount()));
         return result;
     }
 
+    /**
+     * Redis 득표 해시 조회 (없거나 장애 시 null)
+     */
+    public Map<String, Integer> readVoteTotals(String gameId) {
+        try {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(String.format(VOTES_KEY, gameId));
+            if (fields.isEmpty()) {
+                return null;
+            }
+            Map<String, Integer> result = new HashMap<>();
+            fields.forEach((team, count) -> {
+                if (!SEEDED_FIELD.equals(team)) {
+                    result.put(team.toString(), Integer.parseInt(count.toString()));
+                }
+            });
+            return result;
+        } catch (Exception e) {
+            log.warn("Redis error in CheerBattleService.readVoteTotals: {}", e.getMessage());
+            return null;
+        }
+    }
+
     public String getUserVote(String gameId, String userEmail) {
         return cheerBattleLogRepository.findByGameIdAndUserEmail(gameId, userEmail)
                 .map(com.example.cheerboard.entity.CheerBattleLog::getTeamId)
                 .orElse(null);
     }
 
-    public void clearMemoryCache() {
-        // 메모리 상의 투표 집계 초기화
-        gameVotes.clear();
+    /**
+     * Redis 득표를 DB에 절대값으로 반영 (행이 없으면 생성)
+     */
+    @Transactional
+    public void saveVoteTotals(String gameId, Map<String, Integer> totals) {
+        totals.forEach((teamId, count) -> {
+            if (cheerVoteRepository.updateVoteCount(gameId, teamId, count) == 0) {
+                cheerVoteRepository.save(Objects.requireNonNull(CheerVoteEntity.builder()
+                        .gameId(gameId)
+                        .teamId(teamId)
+                        .voteCount(count)
+                        .build()));
+            }
+        });
+    }
+
+    /**
+     * 동기화 대상 경기 ID를 최대 count개 꺼냄 (SPOP)
+     */
+    public List<String> popDirtyGameIds(int count) {
+        try {
+            List<String> members = redisTemplate.opsForSet().pop(DIRTY_GAMES_KEY, count);
+            return members != null ? members : Collections.emptyList();
+        } catch (Exception e) {
+            log.warn("Redis error in CheerBattleService.popDirtyGameIds: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * DB 반영 실패 시 꺼낸 경기 ID를 동기화 대상으로 되돌림
+     */
+    public void restoreDirtyGames(Collection<String> gameIds) {
+        if (gameIds == null || gameIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForSet().add(DIRTY_GAMES_KEY, gameIds.toArray(String[]::new));
+        } catch (Exception e) {
+            log.warn("Redis error in CheerBattleService.restoreDirtyGames: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * cursor(Redis 시각, µs) 이후 집계가 바뀐 경기 조회
+     * - 모든 인스턴스가 같은 ZSET을 보므로 다른 노드에서 들어온 투표도 자기 구독자에게 전달됨
+     * - 브로드캐스트 주기가 짧아 장애 시 로그 폭주를 막기 위해 debug로 기록
+     */
+    public UpdatedGames findUpdatedGamesSince(double cursor) {
+        try {
+            Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                    .rangeByScoreWithScores(UPDATED_GAMES_KEY, cursor + 1, Double.POSITIVE_INFINITY);
+            if (tuples == null || tuples.isEmpty()) {
+                return new UpdatedGames(Collections.emptyList(), cursor);
+            }
+            List<String> gameIds = new ArrayList<>(tuples.size());
+            double next = cursor;
+            for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+                gameIds.add(tuple.getValue());
+                if (tuple.getScore() != null) {
+                    next = Math.max(next, tuple.getScore());
+                }
+            }
+            redisTemplate.opsForZSet().removeRangeByScore(UPDATED_GAMES_KEY, 0, next - UPDATED_RETENTION_MICROS);
+            return new UpdatedGames(gameIds, next);
+        } catch (Exception e) {
+            log.debug("Redis error in CheerBattleService.findUpdatedGamesSince: {}", e.getMessage());
+            return new UpdatedGames(Collections.emptyList(), cursor);
+        }
     }
 }
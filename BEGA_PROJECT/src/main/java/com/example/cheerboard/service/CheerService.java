@@ -29,6 +29,10 @@ import com.example.cheerboard.repo.CheerBookmarkRepo;
 import com.example.cheerboard.repo.CheerReportRepo;
 import com.example.cheerboard.domain.CheerPostBookmark;
 import com.example.cheerboard.dto.BookmarkResponse;
+import com.example.cheerboard.dto.CursorPageRes;
+import com.example.cheerboard.dto.FeedCursor;
+import com.example.cheerboard.search.PostSearchEngine;
+import com.example.cheerboard.search.PostSearchService;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
@@ -36,10 +40,11 @@ import java.util.HashSet;
 import com.example.auth.entity.UserEntity;
 import com.example.auth.service.FollowService;
 import com.example.auth.service.BlockService;
+import com.example.auth.service.CheerPointLedger;
+import com.example.auth.entity.CheerPointLedgerEntry.Reason;
 import com.example.kbo.repository.TeamRepository;
 import com.example.kbo.util.TeamCodeNormalizer;
 import com.example.notification.service.NotificationService;
-import com.example.common.exception.UserNotFoundException;
 import com.example.common.service.AIModerationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
@@ -68,7 +73,7 @@ public class CheerService {
     private final CheerBookmarkRepo bookmarkRepo;
     private final CheerReportRepo reportRepo; // [NEW]
     private final TeamRepository teamRepo;
-    private final com.example.auth.repository.UserRepository userRepo;
+    private final CheerPointLedger cheerPointLedger;
     private final CurrentUser current;
     private final NotificationService notificationService;
     private final com.example.cheerboard.storage.service.ImageService imageService;
@@ -78,7 +83,14 @@ public class CheerService {
     // 리팩토링된 컴포넌트들
     private final PermissionValidator permissionValidator;
     private final PostDtoMapper postDtoMapper;
+    private final PostFeedEnricher postFeedEnricher;
+    private final PostInteractionService postInteractionService;
+    private final AnonymousViewerFingerprintResolver anonymousViewerFingerprintResolver;
     private final RedisPostService redisPostService;
+    private final HotRankingService hotRankingService;
+    private final PostCounterService postCounterService;
+    private final FollowingTimelineService followingTimelineService;
+    private final PostSearchService postSearchService;
     private final AIModerationService moderationService;
 
     // ... (list method remains the same as recently updated, skipping to avoid
@@ -111,23 +123,10 @@ public class CheerService {
     @Transactional(readOnly = true)
     public Page<PostSummaryRes> list(String teamId, String postTypeStr, Pageable pageable) {
         String normalizedTeamId = normalizeTeamId(teamId);
-        if (normalizedTeamId != null && !normalizedTeamId.isBlank()) {
-            UserEntity me = current.getOrNull();
-            if (me == null) {
-                throw new AuthenticationCredentialsNotFoundException("로그인 후 마이팀 게시판을 이용할 수 있습니다.");
-            }
-            permissionValidator.validateTeamAccess(me, normalizedTeamId, "게시글 조회");
-        }
+        validateTeamBoardAccess(normalizedTeamId);
 
         // PostType 필터링 적용
-        PostType postType = null;
-        if (postTypeStr != null && !postTypeStr.isBlank()) {
-            try {
-                postType = PostType.valueOf(postTypeStr);
-            } catch (IllegalArgumentException e) {
-                // 무시하고 전체 조회하거나 에러 처리 (여기서는 무시)
-            }
-        }
+        PostType postType = parsePostType(postTypeStr);
 
         Page<CheerPost> page;
         boolean hasSort = pageable.getSort().isSorted();
@@ -143,54 +142,84 @@ public class CheerService {
         if (hasSort && pageable.getSort().stream().anyMatch(order -> !order.getProperty().equals("createdAt"))) {
             page = postRepo.findByTeamIdAndPostType(normalizedTeamId, postType, excludedIds, pageable);
         } else {
-            // 공지사항 상단 고정 정책: 최근 3일 이내의 공지사항만 상단에 고정
-            java.time.Instant cutoffDate = java.time.Instant.now().minus(3, java.time.temporal.ChronoUnit.DAYS);
-            page = postRepo.findAllOrderByPostTypeAndCreatedAt(normalizedTeamId, postType, cutoffDate, excludedIds,
-                    pageable);
+            page = postRepo.findAllOrderByPostTypeAndCreatedAt(normalizedTeamId, postType, noticePinCutoff(),
+                    excludedIds, pageable);
         }
 
-        List<Long> postIds = page.hasContent()
-                ? page.getContent().stream().map(CheerPost::getId).toList()
-                : Collections.emptyList();
+        return toSummaryPage(page, page.getContent(), current.getOrNull());
+    }
 
-        Map<Long, List<String>> imageUrlsByPostId = postIds.isEmpty()
-                ? Collections.emptyMap()
-                : imageService.getPostImageUrlsByPostIds(postIds);
+    /**
+     * 커서 기반 게시판 피드 (COUNT 쿼리 없음)
+     * - 첫 페이지에서만 상단 고정 공지를 별도 쿼리로 조회해 pinned에 담음
+     */
+    @Transactional(readOnly = true)
+    public CursorPageRes<PostSummaryRes> listByCursor(String teamId, String postTypeStr, String cursor, int size) {
+        String normalizedTeamId = normalizeTeamId(teamId);
+        validateTeamBoardAccess(normalizedTeamId);
+        PostType postType = parsePostType(postTypeStr);
+        FeedCursor position = FeedCursor.decode(cursor);
+        java.util.Set<Long> excludedIds = getExcludedUserIds();
+        java.time.Instant cutoffDate = noticePinCutoff();
+        UserEntity me = current.getOrNull();
 
-        // 리포스트 원본 이미지 벌크 프리페치
-        Map<Long, List<String>> repostImageUrls = prefetchRepostOriginalImages(page.getContent());
+        Slice<CheerPost> slice = postRepo.findFeedAfterCursor(normalizedTeamId, postType, cutoffDate, excludedIds,
+                position.createdAt(), position.id(), PageRequest.of(0, clampCursorPageSize(size)));
 
-        // Redis 배치 조회 (조회수, HOT 상태)
-        Map<Long, Integer> viewCountMap = redisPostService.getViewCounts(postIds);
-        Map<Long, Boolean> hotStatusMap = redisPostService.getCachedHotStatuses(postIds);
+        List<PostSummaryRes> pinned = List.of();
+        if (cursor == null || cursor.isBlank()) {
+            List<CheerPost> notices = postRepo.findPinnedNotices(normalizedTeamId, cutoffDate, excludedIds,
+                    PageRequest.of(0, PINNED_NOTICE_LIMIT));
+            pinned = postFeedEnricher.enrich(notices, me);
+        }
+        return CursorPageRes.of(postFeedEnricher.enrich(slice.getContent(), me), pinned,
+                nextCursor(slice, CheerPost::getCreatedAt, CheerPost::getId));
+    }
 
-        UserEntity me = current.getOrNull();
-        Set<Long> bookmarkedPostIds = new HashSet<>();
-        Set<Long> likedPostIds = new HashSet<>();
-        Set<Long> repostedPostIds = new HashSet<>();
-        if (me != null && !postIds.isEmpty()) {
-            List<CheerPostBookmark> bookmarks = bookmarkRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            bookmarkedPostIds = bookmarks.stream().map(b -> b.getId().getPostId()).collect(Collectors.toSet());
-
-            List<CheerPostLike> likes = likeRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            likedPostIds = likes.stream().map(l -> l.getId().getPostId()).collect(Collectors.toSet());
-
-            List<CheerPostRepost> reposts = repostRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            repostedPostIds = reposts.stream().map(r -> r.getId().getPostId()).collect(Collectors.toSet());
+    /**
+     * 마이팀 게시판 접근 권한 확인 (팀 필터가 있으면 로그인 + 팀 권한 필요)
+     */
+    private void validateTeamBoardAccess(String normalizedTeamId) {
+        if (normalizedTeamId != null && !normalizedTeamId.isBlank()) {
+            UserEntity me = current.getOrNull();
+            if (me == null) {
+                throw new AuthenticationCredentialsNotFoundException("로그인 후 마이팀 게시판을 이용할 수 있습니다.");
+            }
+            permissionValidator.validateTeamAccess(me, normalizedTeamId, "게시글 조회");
         }
+    }
 
-        final Set<Long> finalBookmarks = bookmarkedPostIds;
-        final Set<Long> finalLikes = likedPostIds;
-        final Set<Long> finalReposts = repostedPostIds;
-        final Map<Long, List<String>> finalImageUrls = imageUrlsByPostId;
+    private PostType parsePostType(String postTypeStr) {
+        if (postTypeStr != null && !postTypeStr.isBlank()) {
+            try {
+                return PostType.valueOf(postTypeStr);
+            } catch (IllegalArgumentException e) {
+                // 무시하고 전체 조회하거나 에러 처리 (여기서는 무시)
+            }
+        }
+        return null;
+    }
 
-        return page.map(post -> {
-            boolean isOwner = me != null && permissionValidator.isOwnerOrAdmin(me, post.getAuthor());
-            List<String> imageUrls = finalImageUrls.getOrDefault(post.getId(), Collections.emptyList());
-            return postDtoMapper.toPostSummaryRes(post, finalLikes.contains(post.getId()),
-                    finalBookmarks.contains(post.getId()), isOwner, finalReposts.contains(post.getId()), imageUrls,
-                    viewCountMap, hotStatusMap, repostImageUrls);
-        });
+    /**
+     * 공지사항 상단 고정 정책: 최근 3일 이내의 공지사항만 상단에 고정
+     */
+    private java.time.Instant noticePinCutoff() {
+        return java.time.Instant.now().minus(3, java.time.temporal.ChronoUnit.DAYS);
+    }
+
+    private int clampCursorPageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+    }
+
+    /**
+     * 마지막 항목 기준 다음 커서 (다음 페이지가 없으면 null)
+     */
+    private <T> String nextCursor(Slice<T> slice, Function<T, java.time.Instant> createdAt, Function<T, Long> id) {
+        if (!slice.hasNext() || slice.getContent().isEmpty()) {
+            return null;
+        }
+        T last = slice.getContent().get(slice.getContent().size() - 1);
+        return new FeedCursor(createdAt.apply(last), id.apply(last)).encode();
     }
 
     @Transactional(readOnly = true)
@@ -198,55 +227,30 @@ public class CheerService {
         // [NEW] 차단 유저 ID 목록
         String normalizedTeamId = normalizeTeamId(teamId);
         java.util.Set<Long> excludedIds = getExcludedUserIds();
-        Page<CheerPost> page = postRepo.search(q, normalizedTeamId, excludedIds, pageable);
-
-        List<Long> postIds = page.hasContent()
-                ? Objects.requireNonNull(page.getContent()).stream().map(CheerPost::getId).toList()
-                : Collections.emptyList();
-
-        Map<Long, List<String>> imageUrlsByPostId = postIds.isEmpty()
-                ? Collections.emptyMap()
-                : imageService.getPostImageUrlsByPostIds(postIds);
-
-        Map<Long, List<String>> repostImageUrls = prefetchRepostOriginalImages(page.getContent());
-        Map<Long, Integer> viewCountMap = redisPostService.getViewCounts(postIds);
-        Map<Long, Boolean> hotStatusMap = redisPostService.getCachedHotStatuses(postIds);
-
-        UserEntity me = current.getOrNull();
-        Set<Long> bookmarkedPostIds = new HashSet<>();
-        Set<Long> likedPostIds = new HashSet<>();
-        Set<Long> repostedPostIds = new HashSet<>();
-        if (me != null && !postIds.isEmpty()) {
-            List<CheerPostBookmark> bookmarks = bookmarkRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            bookmarkedPostIds = bookmarks.stream().map(b -> b.getId().getPostId()).collect(Collectors.toSet());
-
-            List<CheerPostLike> likes = likeRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            likedPostIds = likes.stream().map(l -> l.getId().getPostId()).collect(Collectors.toSet());
-
-            List<CheerPostRepost> reposts = repostRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            repostedPostIds = reposts.stream().map(r -> r.getId().getPostId()).collect(Collectors.toSet());
+        PostSearchEngine.SearchHits hits = postSearchService.search(q, normalizedTeamId, excludedIds, pageable);
+        if (hits.postIds().isEmpty()) {
+            return new PageImpl<>(List.of(), Objects.requireNonNull(pageable), hits.total());
         }
 
-        final Set<Long> finalBookmarks = bookmarkedPostIds;
-        final Set<Long> finalLikes = likedPostIds;
-        final Set<Long> finalReposts = repostedPostIds;
-        final Map<Long, List<String>> finalImageUrls = imageUrlsByPostId;
+        // 검색 엔진 정렬 순서 유지
+        Map<Long, CheerPost> postMap = postRepo.findAllByIdWithGraph(hits.postIds()).stream()
+                .collect(Collectors.toMap(CheerPost::getId, Function.identity()));
+        List<CheerPost> posts = hits.postIds().stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .toList();
 
-        return page.map(post -> {
-            boolean isOwner = me != null && permissionValidator.isOwnerOrAdmin(me, post.getAuthor());
-            List<String> imageUrls = finalImageUrls.getOrDefault(post.getId(), Collections.emptyList());
-            return postDtoMapper.toPostSummaryRes(post, finalLikes.contains(post.getId()),
-                    finalBookmarks.contains(post.getId()), isOwner, finalReposts.contains(post.getId()), imageUrls,
-                    viewCountMap, hotStatusMap, repostImageUrls);
-        });
+        return new PageImpl<>(Objects.requireNonNull(postFeedEnricher.enrich(posts, current.getOrNull())),
+                Objects.requireNonNull(pageable), hits.total());
     }
 
     @Transactional(readOnly = true)
-    public Page<PostSummaryRes> getHotPosts(Pageable pageable) {
+    public Page<PostSummaryRes> getHotPosts(String teamId, Pageable pageable) {
         int start = (int) pageable.getOffset();
         int end = start + pageable.getPageSize() - 1;
+        String normalizedTeamId = teamId != null && !teamId.isBlank() ? normalizeTeamId(teamId) : null;
 
-        Set<Long> hotPostIds = redisPostService.getHotPostIds(start, end);
+        Set<Long> hotPostIds = hotRankingService.getHotPostIds(normalizedTeamId, start, end);
         if (hotPostIds.isEmpty()) {
             List<PostSummaryRes> emptyList = Collections.emptyList();
             return new PageImpl<PostSummaryRes>(Objects.requireNonNull(emptyList), Objects.requireNonNull(pageable), 0);
@@ -267,126 +271,38 @@ public class CheerService {
                 .filter(post -> !excludedIds.contains(post.getAuthor().getId())) // 차단 필터
                 .toList();
 
-        // [Optimized] 이미지 Bulk 조회 (N+1 방지)
-        List<Long> postIds = sortedPosts.stream().map(CheerPost::getId).toList();
-        Map<Long, List<String>> imageUrlsByPostId = postIds.isEmpty()
-                ? Collections.emptyMap()
-                : imageService.getPostImageUrlsByPostIds(postIds);
-
-        // 리포스트 원본 이미지 벌크 프리페치
-        Map<Long, List<String>> repostImageUrls = prefetchRepostOriginalImages(sortedPosts);
-
-        // Redis 배치 조회 (조회수, HOT 상태)
-        Map<Long, Integer> viewCountMap = redisPostService.getViewCounts(postIds);
-        Map<Long, Boolean> hotStatusMap = redisPostService.getCachedHotStatuses(postIds);
-
-        // [Optimized] 벌크 좋아요/북마크/리포스트 조회 (N+1 방지)
-        Set<Long> likedPostIds = new HashSet<>();
-        Set<Long> bookmarkedPostIds = new HashSet<>();
-        Set<Long> repostedPostIds = new HashSet<>();
-        if (me != null && !postIds.isEmpty()) {
-            List<CheerPostLike> likes = likeRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            likedPostIds = likes.stream().map(l -> l.getId().getPostId()).collect(Collectors.toSet());
-
-            List<CheerPostBookmark> bookmarks = bookmarkRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            bookmarkedPostIds = bookmarks.stream().map(b -> b.getId().getPostId()).collect(Collectors.toSet());
-
-            List<CheerPostRepost> reposts = repostRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            repostedPostIds = reposts.stream().map(r -> r.getId().getPostId()).collect(Collectors.toSet());
-        }
-
-        final Set<Long> finalLikes = likedPostIds;
-        final Set<Long> finalBookmarks = bookmarkedPostIds;
-        final Set<Long> finalReposts = repostedPostIds;
-
-        List<PostSummaryRes> content = sortedPosts.stream()
-                .map(post -> {
-                    boolean isOwner = me != null && permissionValidator.isOwnerOrAdmin(me, post.getAuthor());
-                    List<String> imageUrls = imageUrlsByPostId.getOrDefault(post.getId(), Collections.emptyList());
-                    return postDtoMapper.toPostSummaryRes(post, finalLikes.contains(post.getId()),
-                            finalBookmarks.contains(post.getId()), isOwner, finalReposts.contains(post.getId()),
-                            imageUrls, viewCountMap, hotStatusMap, repostImageUrls);
-                })
-                .collect(Collectors.toList());
+        List<PostSummaryRes> content = postFeedEnricher.enrich(sortedPosts, me);
 
         return new PageImpl<PostSummaryRes>(Objects.requireNonNull(content), Objects.requireNonNull(pageable),
-                redisPostService.getHotPostIds(0, 99).size());
-    }
-
-    /**
-     * 게시글 HOT 점수 업데이트 (Formula: Likes*3 + Comments*2 + Views)
-     */
-    public void updateHotScore(CheerPost post) {
-        // Redis 실시간 조회수 합산
-        int combinedViews = getCombinedViewCount(post);
-        double score = (post.getLikeCount() * 3.0) + (post.getCommentCount() * 2.0) + combinedViews;
-        redisPostService.updateHotScore(post.getId(), score);
-    }
-
-    private int getCombinedViewCount(CheerPost post) {
-        Integer redisViews = redisPostService.getViewCount(post.getId());
-        return post.getViews() + (redisViews != null ? redisViews : 0);
+                hotRankingService.countHotPosts(normalizedTeamId));
     }
 
     /**
-     * 리포스트 원본 게시글의 이미지 URL을 벌크 프리페치
+     * 게시글 페이지를 PostSummaryRes 페이지로 변환 (부가 데이터는 PostFeedEnricher가 병렬 조회)
      */
-    private Map<Long, List<String>> prefetchRepostOriginalImages(List<CheerPost> posts) {
-        List<Long> repostOriginalIds = posts.stream()
-                .filter(CheerPost::isRepost)
-                .map(CheerPost::getRepostOf)
-                .filter(Objects::nonNull)
-                .map(CheerPost::getId)
-                .distinct()
-                .toList();
-        return repostOriginalIds.isEmpty()
-                ? Collections.emptyMap()
-                : imageService.getPostImageUrlsByPostIds(repostOriginalIds);
+    private Page<PostSummaryRes> toSummaryPage(Page<?> page, List<CheerPost> posts, UserEntity viewer) {
+        List<PostSummaryRes> content = postFeedEnricher.enrich(posts, viewer);
+        return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
     }
 
     @Transactional(readOnly = true)
     public Page<PostSummaryRes> listByUserHandle(String handle, Pageable pageable) {
         Page<CheerPost> page = postRepo.findByAuthor_HandleOrderByCreatedAtDesc(handle, pageable);
 
-        List<Long> postIds = page.hasContent()
-                ? page.getContent().stream().map(CheerPost::getId).toList()
-                : Collections.emptyList();
-
-        Map<Long, List<String>> imageUrlsByPostId = postIds.isEmpty()
-                ? Collections.emptyMap()
-                : imageService.getPostImageUrlsByPostIds(postIds);
-
-        Map<Long, List<String>> repostImageUrls = prefetchRepostOriginalImages(page.getContent());
-        Map<Long, Integer> viewCountMap = redisPostService.getViewCounts(postIds);
-        Map<Long, Boolean> hotStatusMap = redisPostService.getCachedHotStatuses(postIds);
-
-        UserEntity me = current.getOrNull();
-        Set<Long> bookmarkedPostIds = new HashSet<>();
-        Set<Long> likedPostIds = new HashSet<>();
-        Set<Long> repostedPostIds = new HashSet<>();
-        if (me != null && !postIds.isEmpty()) {
-            List<CheerPostBookmark> bookmarks = bookmarkRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            bookmarkedPostIds = bookmarks.stream().map(b -> b.getId().getPostId()).collect(Collectors.toSet());
-
-            List<CheerPostLike> likes = likeRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            likedPostIds = likes.stream().map(l -> l.getId().getPostId()).collect(Collectors.toSet());
-
-            List<CheerPostRepost> reposts = repostRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            repostedPostIds = reposts.stream().map(r -> r.getId().getPostId()).collect(Collectors.toSet());
-        }
+        return toSummaryPage(page, page.getContent(), current.getOrNull());
+    }
 
-        final Set<Long> finalBookmarks = bookmarkedPostIds;
-        final Set<Long> finalLikes = likedPostIds;
-        final Set<Long> finalReposts = repostedPostIds;
-        final Map<Long, List<String>> finalImageUrls = imageUrlsByPostId;
+    /**
+     * 커서 기반 사용자 게시글 목록
+     */
+    @Transactional(readOnly = true)
+    public CursorPageRes<PostSummaryRes> listByUserHandleByCursor(String handle, String cursor, int size) {
+        FeedCursor position = FeedCursor.decode(cursor);
+        Slice<CheerPost> slice = postRepo.findByAuthorHandleAfterCursor(handle, position.createdAt(), position.id(),
+                PageRequest.of(0, clampCursorPageSize(size)));
 
-        return page.map(post -> {
-            boolean isOwner = me != null && permissionValidator.isOwnerOrAdmin(me, post.getAuthor());
-            List<String> imageUrls = finalImageUrls.getOrDefault(post.getId(), Collections.emptyList());
-            return postDtoMapper.toPostSummaryRes(post, finalLikes.contains(post.getId()),
-                    finalBookmarks.contains(post.getId()), isOwner, finalReposts.contains(post.getId()), imageUrls,
-                    viewCountMap, hotStatusMap, repostImageUrls);
-        });
+        return CursorPageRes.of(postFeedEnricher.enrich(slice.getContent(), current.getOrNull()),
+                nextCursor(slice, CheerPost::getCreatedAt, CheerPost::getId));
     }
 
     /**
@@ -405,6 +321,14 @@ public class CheerService {
         // 내가 차단한 유저 ID 목록
         List<Long> blockedIds = blockService.getBlockedIds(me.getId());
 
+        // materialized 타임라인에서 ID를 읽고 한 번의 EntityGraph 조회로 채움
+        FollowingTimelineService.TimelinePage timeline = followingTimelineService.getPostIds(
+                me.getId(), followingIds, (int) pageable.getOffset(), pageable.getPageSize());
+        if (timeline != null) {
+            return toTimelinePage(timeline, blockedIds, pageable, me);
+        }
+
+        // Redis 장애 시 DB 조회로 대체
         Page<CheerPost> page;
         if (blockedIds.isEmpty()) {
             page = postRepo.findByAuthorIdIn(followingIds, pageable);
@@ -412,44 +336,85 @@ public class CheerService {
             page = postRepo.findByAuthorIdInAndAuthorIdNotIn(followingIds, blockedIds, pageable);
         }
 
-        List<Long> postIds = page.hasContent()
-                ? page.getContent().stream().map(CheerPost::getId).toList()
-                : Collections.emptyList();
+        return toSummaryPage(page, page.getContent(), me);
+    }
 
-        Map<Long, List<String>> imageUrlsByPostId = postIds.isEmpty()
-                ? Collections.emptyMap()
-                : imageService.getPostImageUrlsByPostIds(postIds);
+    private Page<PostSummaryRes> toTimelinePage(FollowingTimelineService.TimelinePage timeline,
+            List<Long> blockedIds, Pageable pageable, UserEntity me) {
+        if (timeline.postIds().isEmpty()) {
+            return new PageImpl<>(List.of(), Objects.requireNonNull(pageable), timeline.total());
+        }
 
-        Map<Long, List<String>> repostImageUrls = prefetchRepostOriginalImages(page.getContent());
-        Map<Long, Integer> viewCountMap = redisPostService.getViewCounts(postIds);
-        Map<Long, Boolean> hotStatusMap = redisPostService.getCachedHotStatuses(postIds);
+        Map<Long, CheerPost> postMap = postRepo.findAllByIdWithGraph(timeline.postIds()).stream()
+                .collect(Collectors.toMap(CheerPost::getId, Function.identity()));
+        Set<Long> blocked = new HashSet<>(blockedIds);
 
-        Set<Long> bookmarkedPostIds = new HashSet<>();
-        Set<Long> likedPostIds = new HashSet<>();
-        Set<Long> repostedPostIds = new HashSet<>();
-        if (!postIds.isEmpty()) {
-            List<CheerPostBookmark> bookmarks = bookmarkRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            bookmarkedPostIds = bookmarks.stream().map(b -> b.getId().getPostId()).collect(Collectors.toSet());
+        // 타임라인 순서(최신순) 유지, 삭제된 글과 차단 유저 글 제외
+        List<CheerPost> posts = timeline.postIds().stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .filter(post -> !blocked.contains(post.getAuthor().getId()))
+                .toList();
 
-            List<CheerPostLike> likes = likeRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            likedPostIds = likes.stream().map(l -> l.getId().getPostId()).collect(Collectors.toSet());
+        return new PageImpl<>(Objects.requireNonNull(postFeedEnricher.enrich(posts, me)),
+                Objects.requireNonNull(pageable), timeline.total());
+    }
 
-            List<CheerPostRepost> reposts = repostRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            repostedPostIds = reposts.stream().map(r -> r.getId().getPostId()).collect(Collectors.toSet());
+    /**
+     * 커서 기반 팔로우 피드
+     */
+    @Transactional(readOnly = true)
+    public CursorPageRes<PostSummaryRes> listFollowingPostsByCursor(String cursor, int size) {
+        UserEntity me = current.get();
+
+        List<Long> followingIds = followService.getFollowingIds(me.getId());
+        if (followingIds.isEmpty()) {
+            return CursorPageRes.of(List.of(), null);
         }
+        List<Long> blockedIds = blockService.getBlockedIds(me.getId());
 
-        final Set<Long> finalBookmarks = bookmarkedPostIds;
-        final Set<Long> finalLikes = likedPostIds;
-        final Set<Long> finalReposts = repostedPostIds;
-        final Map<Long, List<String>> finalImageUrls = imageUrlsByPostId;
+        FeedCursor position = FeedCursor.decode(cursor);
+        int pageSize = clampCursorPageSize(size);
 
-        return page.map(post -> {
-            boolean isOwner = permissionValidator.isOwnerOrAdmin(me, post.getAuthor());
-            List<String> imageUrls = finalImageUrls.getOrDefault(post.getId(), Collections.emptyList());
-            return postDtoMapper.toPostSummaryRes(post, finalLikes.contains(post.getId()),
-                    finalBookmarks.contains(post.getId()), isOwner, finalReposts.contains(post.getId()), imageUrls,
-                    viewCountMap, hotStatusMap, repostImageUrls);
-        });
+        // materialized 타임라인에서 커서(게시글 ID) 이후 ID를 읽음, 다음 페이지 확인용으로 1개 더 조회
+        List<Long> timelineIds = followingTimelineService.getPostIdsBefore(me.getId(), followingIds, position.id(),
+                pageSize + 1);
+        if (timelineIds != null) {
+            return toTimelineCursorPage(timelineIds, pageSize, blockedIds, position, me);
+        }
+
+        // Redis 장애 시 DB 조회로 대체
+        Slice<CheerPost> slice = postRepo.findByAuthorIdInAfterCursor(followingIds, blockedIds,
+                position.createdAt(), position.id(), PageRequest.of(0, pageSize));
+
+        return CursorPageRes.of(postFeedEnricher.enrich(slice.getContent(), me),
+                nextCursor(slice, CheerPost::getCreatedAt, CheerPost::getId));
+    }
+
+    private CursorPageRes<PostSummaryRes> toTimelineCursorPage(List<Long> timelineIds, int pageSize,
+            List<Long> blockedIds, FeedCursor position, UserEntity me) {
+        List<Long> pageIds = timelineIds.subList(0, Math.min(pageSize, timelineIds.size()));
+        if (pageIds.isEmpty()) {
+            return CursorPageRes.of(List.of(), null);
+        }
+
+        Map<Long, CheerPost> postMap = postRepo.findAllByIdWithGraph(pageIds).stream()
+                .collect(Collectors.toMap(CheerPost::getId, Function.identity()));
+        Set<Long> blocked = new HashSet<>(blockedIds);
+        List<CheerPost> posts = pageIds.stream()
+                .map(postMap::get)
+                .filter(Objects::nonNull)
+                .filter(post -> !blocked.contains(post.getAuthor().getId()))
+                .toList();
+
+        // 타임라인은 ID 순이므로 커서도 마지막 ID 기준 (createdAt은 DB 대체 조회용)
+        String nextCursor = null;
+        if (timelineIds.size() > pageSize) {
+            Long lastId = pageIds.get(pageIds.size() - 1);
+            CheerPost last = postMap.get(lastId);
+            nextCursor = new FeedCursor(last != null ? last.getCreatedAt() : position.createdAt(), lastId).encode();
+        }
+        return CursorPageRes.of(postFeedEnricher.enrich(posts, me), nextCursor);
     }
 
     @Transactional
@@ -469,7 +434,8 @@ public class CheerService {
         boolean isOwner = me != null && permissionValidator.isOwnerOrAdmin(me, post.getAuthor());
         boolean repostedByMe = me != null && isPostRepostedByUser(id, me.getId());
 
-        return postDtoMapper.toPostDetailRes(post, liked, isBookmarked, isOwner, repostedByMe);
+        return postDtoMapper.toPostDetailRes(post, liked, isBookmarked, isOwner, repostedByMe,
+                postFeedEnricher.prefetch(List.of(post)));
     }
 
     /**
@@ -478,7 +444,12 @@ public class CheerService {
     private void increaseViewCount(Long postId, CheerPost post, UserEntity user) {
         // 작성자가 아닌 경우에만 증가
         if (user == null || !post.getAuthor().getId().equals(user.getId())) {
-            redisPostService.incrementViewCount(postId, user != null ? user.getId() : null);
+            boolean counted = user != null
+                    ? redisPostService.incrementViewCount(postId, user.getId())
+                    : redisPostService.incrementViewCount(postId, null, anonymousViewerFingerprintResolver.resolve());
+            if (counted) {
+                hotRankingService.onEngagement(post);
+            }
         }
     }
 
@@ -526,7 +497,12 @@ public class CheerService {
         // 팔로워들에게 새 글 알림 (notify_new_posts=true 인 팔로워에게만)
         sendNewPostNotificationToFollowers(savedPost, me);
 
-        return postDtoMapper.toNewPostDetailRes(savedPost, me);
+        // 커밋 후 팔로워 타임라인에 게시글 ID 반영
+        followingTimelineService.fanOutAfterCommit(savedPost);
+        postSearchService.indexAfterCommit(savedPost);
+
+        // 새 게시글은 이미지/조회수가 아직 없으므로 빈 컨텍스트 사용
+        return postDtoMapper.toNewPostDetailRes(savedPost, me, PostMappingContext.empty());
     }
 
     /**
@@ -543,19 +519,13 @@ public class CheerService {
                     ? author.getName()
                     : author.getHandle();
 
-            for (Long userId : notifyUserIds) {
-                try {
-                    notificationService.createNotification(
-                            userId,
-                            com.example.notification.entity.Notification.NotificationType.FOLLOWING_NEW_POST,
-                            "새 게시글",
-                            authorName + "님이 새 게시글을 작성했습니다.",
-                            post.getId());
-                } catch (Exception e) {
-                    log.warn("팔로워 알림 전송 실패: userId={}, postId={}, error={}",
-                            userId, post.getId(), e.getMessage());
-                }
-            }
+            // 팔로워 수만큼 건별 INSERT/전송하지 않도록 일괄 생성 (대규모는 커밋 후 백그라운드 작업)
+            notificationService.createNotifications(
+                    notifyUserIds,
+                    com.example.notification.entity.Notification.NotificationType.FOLLOWING_NEW_POST,
+                    "새 게시글",
+                    authorName + "님이 새 게시글을 작성했습니다.",
+                    post.getId());
             log.info("새 글 알림 전송 완료: postId={}, 알림 대상={}명", post.getId(), notifyUserIds.size());
         } catch (Exception e) {
             log.warn("팔로워 알림 전송 중 오류: postId={}, error={}", post.getId(), e.getMessage());
@@ -623,7 +593,8 @@ public class CheerService {
         boolean liked = isPostLikedByUser(id, me.getId());
         boolean isBookmarked = isPostBookmarkedByUser(id, me.getId());
         boolean repostedByMe = isPostRepostedByUser(id, me.getId());
-        return postDtoMapper.toPostDetailRes(post, liked, isBookmarked, true, repostedByMe);
+        return postDtoMapper.toPostDetailRes(post, liked, isBookmarked, true, repostedByMe,
+                postFeedEnricher.prefetch(List.of(post)));
     }
 
     /**
@@ -631,6 +602,7 @@ public class CheerService {
      */
     private void updatePostContent(CheerPost post, UpdatePostReq req) {
         post.setContent(req.content());
+        postSearchService.indexAfterCommit(post);
     }
 
     @Transactional
@@ -642,6 +614,8 @@ public class CheerService {
         // 1. Soft Delete (안전장치 - 트랜잭션 도중 실패 대비)
         post.setDeleted(true);
         postRepo.save(post);
+        hotRankingService.remove(post);
+        postSearchService.removeAfterCommit(post.getId());
 
         // 2. 스토리지 삭제 시도
         boolean storageClean = imageService.deleteImagesByPostId(post.getId());
@@ -672,16 +646,11 @@ public class CheerService {
         if (likeRepo.existsById(likeId)) {
             // 좋아요 취소
             likeRepo.deleteById(likeId);
-            likes = Math.max(0, post.getLikeCount() - 1);
-            post.setLikeCount(likes);
             liked = false;
 
-            // 작성자 포인트 차감 (Entity Update)
-            UserEntity author = userRepo.findById(Objects.requireNonNull(post.getAuthor().getId()))
-                    .orElseThrow(() -> new UserNotFoundException(post.getAuthor().getId()));
-            author.deductCheerPoints(1); // Entity method
-            userRepo.save(author);
-            log.info("Points deducted for user {}: -1 (Entity Update)", author.getId());
+            // 작성자 포인트 차감
+            cheerPointLedger.spend(post.getAuthor().getId(), 1, Reason.POST_LIKE_CANCELED, post.getId());
+            likes = postCounterService.adjust(post, PostCounterService.Counter.LIKES, -1);
 
         } else {
             // 좋아요 추가
@@ -690,16 +659,12 @@ public class CheerService {
             like.setPost(post);
             like.setUser(me);
             likeRepo.save(like);
-            likes = post.getLikeCount() + 1;
-            post.setLikeCount(likes);
             liked = true;
 
-            // 작성자 포인트 증가 (Entity Update)
-            UserEntity author = userRepo.findById(Objects.requireNonNull(post.getAuthor().getId()))
-                    .orElseThrow(() -> new UserNotFoundException(post.getAuthor().getId()));
-            author.addCheerPoints(1); // Entity method
-            userRepo.save(author);
-            log.info("Points awarded to user {}: +1 (Entity Update)", author.getId());
+            // 작성자 포인트 증가
+            UserEntity author = post.getAuthor();
+            cheerPointLedger.apply(author.getId(), 1, Reason.POST_LIKE_RECEIVED, post.getId());
+            likes = postCounterService.adjust(post, PostCounterService.Counter.LIKES, 1);
 
             // 게시글 작성자에게 알림 (본인이 아닐 때만)
             if (!author.getId().equals(me.getId())) {
@@ -723,8 +688,8 @@ public class CheerService {
             }
         }
 
-        postRepo.save(Objects.requireNonNull(post));
-        updateHotScore(post);
+        hotRankingService.onEngagement(post);
+        postInteractionService.evictAfterCommit(me.getId());
         return new LikeToggleResponse(liked, likes);
     }
 
@@ -746,6 +711,7 @@ public class CheerService {
             bookmarkRepo.save(Objects.requireNonNull(bookmark));
             bookmarked = true;
         }
+        postInteractionService.evictAfterCommit(me.getId());
         return new BookmarkResponse(bookmarked);
     }
 
@@ -784,8 +750,7 @@ public class CheerService {
         if (existing.isPresent()) {
             // 취소: 리포스트 게시글 삭제
             postRepo.delete(Objects.requireNonNull(existing.get()));
-            count = Math.max(0, original.getRepostCount() - 1);
-            original.setRepostCount(count);
+            count = postCounterService.adjust(original, PostCounterService.Counter.REPOSTS, -1);
             reposted = false;
 
             // 기존 CheerPostRepost 테이블에서도 삭제 (호환성 유지)
@@ -805,9 +770,9 @@ public class CheerService {
                     .postType(PostType.NORMAL)
                     .build();
             postRepo.save(Objects.requireNonNull(repost));
+            followingTimelineService.fanOutAfterCommit(repost);
 
-            count = original.getRepostCount() + 1;
-            original.setRepostCount(count);
+            count = postCounterService.adjust(original, PostCounterService.Counter.REPOSTS, 1);
             reposted = true;
 
             // 기존 CheerPostRepost 테이블에도 추가 (호환성 유지 - repostedByMe 조회용)
@@ -839,8 +804,8 @@ public class CheerService {
             }
         }
 
-        postRepo.save(Objects.requireNonNull(original));
-        updateHotScore(original);
+        hotRankingService.onEngagement(original);
+        postInteractionService.evictAfterCommit(me.getId());
 
         return new RepostToggleResponse(reposted, count);
     }
@@ -887,11 +852,11 @@ public class CheerService {
                 .postType(PostType.NORMAL)
                 .build();
         postRepo.save(Objects.requireNonNull(quoteRepost));
+        followingTimelineService.fanOutAfterCommit(quoteRepost);
+        postSearchService.indexAfterCommit(quoteRepost);
 
-        original.setRepostCount(original.getRepostCount() + 1);
-        postRepo.save(original);
-
-        updateHotScore(original);
+        postCounterService.adjust(original, PostCounterService.Counter.REPOSTS, 1);
+        hotRankingService.onEngagement(original);
 
         // 알림 (본인 글 제외)
         if (!original.getAuthor().getId().equals(me.getId())) {
@@ -911,7 +876,7 @@ public class CheerService {
             }
         }
 
-        return postDtoMapper.toNewPostDetailRes(quoteRepost, me);
+        return postDtoMapper.toNewPostDetailRes(quoteRepost, me, postFeedEnricher.prefetch(List.of(quoteRepost)));
     }
 
     @Transactional
@@ -954,8 +919,7 @@ public class CheerService {
             throw new IllegalStateException("원본 게시글을 찾을 수 없습니다.");
         }
 
-        original.setRepostCount(Math.max(0, original.getRepostCount() - 1));
-        postRepo.save(Objects.requireNonNull(original));
+        int count = postCounterService.adjust(original, PostCounterService.Counter.REPOSTS, -1);
 
         postRepo.delete(repost);
 
@@ -963,8 +927,9 @@ public class CheerService {
         if (repostRepo.existsById(repostTrackingId)) {
             repostRepo.deleteById(repostTrackingId);
         }
+        postInteractionService.evictAfterCommit(me.getId());
 
-        return new RepostToggleResponse(false, original.getRepostCount());
+        return new RepostToggleResponse(false, count);
     }
 
     @Transactional(readOnly = true)
@@ -972,55 +937,64 @@ public class CheerService {
         UserEntity me = current.get();
         Page<CheerPostBookmark> bookmarks = bookmarkRepo.findByUserIdOrderByCreatedAtDesc(me.getId(), pageable);
 
-        List<Long> postIds = bookmarks.hasContent()
-                ? bookmarks.getContent().stream().map(b -> b.getPost().getId()).toList()
-                : Collections.emptyList();
-        Map<Long, List<String>> imageUrlsByPostId = postIds.isEmpty()
-                ? Collections.emptyMap()
-                : imageService.getPostImageUrlsByPostIds(postIds);
-
         List<CheerPost> bookmarkedPosts = bookmarks.getContent().stream()
                 .map(CheerPostBookmark::getPost).toList();
-        Map<Long, List<String>> repostImageUrls = prefetchRepostOriginalImages(bookmarkedPosts);
-        Map<Long, Integer> viewCountMap = redisPostService.getViewCounts(postIds);
-        Map<Long, Boolean> hotStatusMap = redisPostService.getCachedHotStatuses(postIds);
-
-        final Map<Long, List<String>> finalImageUrls = imageUrlsByPostId;
+        return toSummaryPage(bookmarks, bookmarkedPosts, me);
+    }
 
-        Set<Long> likedPostIds = new HashSet<>();
-        Set<Long> repostedPostIds = new HashSet<>();
-        if (!postIds.isEmpty()) {
-            List<CheerPostLike> likes = likeRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            likedPostIds = likes.stream().map(l -> l.getId().getPostId()).collect(Collectors.toSet());
+    /**
+     * 커서 기반 북마크 목록 (북마크 시각 기준)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageRes<PostSummaryRes> getBookmarkedPostsByCursor(String cursor, int size) {
+        UserEntity me = current.get();
+        FeedCursor position = FeedCursor.decode(cursor);
+        Slice<CheerPostBookmark> slice = bookmarkRepo.findByUserIdAfterCursor(me.getId(), position.createdAt(),
+                position.id(), PageRequest.of(0, clampCursorPageSize(size)));
 
-            List<CheerPostRepost> reposts = repostRepo.findByUserIdAndPostIdIn(me.getId(), postIds);
-            repostedPostIds = reposts.stream().map(r -> r.getId().getPostId()).collect(Collectors.toSet());
-        }
-        final Set<Long> finalLikes = likedPostIds;
-        final Set<Long> finalReposts = repostedPostIds;
-
-        return bookmarks.map(b -> {
-            boolean isOwner = permissionValidator.isOwnerOrAdmin(me, b.getPost().getAuthor());
-            List<String> imageUrls = finalImageUrls.getOrDefault(b.getPost().getId(), Collections.emptyList());
-            return postDtoMapper.toPostSummaryRes(b.getPost(), finalLikes.contains(b.getPost().getId()), true, isOwner,
-                    finalReposts.contains(b.getPost().getId()), imageUrls,
-                    viewCountMap, hotStatusMap, repostImageUrls);
-        });
+        List<CheerPost> bookmarkedPosts = slice.getContent().stream()
+                .map(CheerPostBookmark::getPost).toList();
+        return CursorPageRes.of(postFeedEnricher.enrich(bookmarkedPosts, me),
+                nextCursor(slice, CheerPostBookmark::getCreatedAt, bookmark -> bookmark.getId().getPostId()));
     }
 
     @Transactional(readOnly = true)
     public Page<CommentRes> listComments(Long postId, Pageable pageable) {
-        // Use the optimized query to fetch comments and replies in one go
-        List<CheerComment> allComments = commentRepo.findCommentsWithRepliesByPostId(Objects.requireNonNull(postId));
+        // 1단계: 최상위 댓글 ID만 SQL에서 페이징
+        Page<Long> idPage = commentRepo.findTopLevelIdsByPostId(Objects.requireNonNull(postId),
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
 
-        int start = (int) pageable.getOffset();
-        int end = Math.min((start + pageable.getPageSize()), allComments.size());
+        return new PageImpl<>(loadCommentTrees(idPage.getContent()), pageable, idPage.getTotalElements());
+    }
 
-        if (start > allComments.size()) {
-            return new PageImpl<>(List.of(), pageable, allComments.size());
+    /**
+     * 커서 기반 댓글 목록 (최상위 댓글 기준, COUNT 없음)
+     */
+    @Transactional(readOnly = true)
+    public CursorPageRes<CommentRes> listCommentsByCursor(Long postId, String cursor, int size) {
+        FeedCursor position = FeedCursor.decode(cursor);
+        Slice<Long> idSlice = commentRepo.findTopLevelIdsByPostIdAfterCursor(Objects.requireNonNull(postId),
+                position.createdAt(), position.id(), PageRequest.of(0, clampCursorPageSize(size)));
+
+        List<CommentRes> content = loadCommentTrees(idSlice.getContent());
+        return CursorPageRes.of(content, nextCursor(new SliceImpl<>(content, idSlice.getPageable(), idSlice.hasNext()),
+                CommentRes::createdAt, CommentRes::id));
+    }
+
+    /**
+     * 2단계: 해당 페이지 최상위 댓글의 트리만 일괄 로딩하고 좋아요 여부를 한 번에 조회
+     */
+    private List<CommentRes> loadCommentTrees(List<Long> topLevelIds) {
+        if (topLevelIds.isEmpty()) {
+            return List.of();
         }
 
-        List<CheerComment> pagedComments = allComments.subList(start, end);
+        Map<Long, CheerComment> commentMap = commentRepo.findWithRepliesByIdIn(topLevelIds).stream()
+                .collect(Collectors.toMap(CheerComment::getId, Function.identity(), (a, b) -> a));
+        List<CheerComment> pagedComments = topLevelIds.stream()
+                .map(commentMap::get)
+                .filter(Objects::nonNull)
+                .toList();
 
         UserEntity me = current.getOrNull();
         Set<Long> likedCommentIds = new HashSet<>();
@@ -1037,10 +1011,9 @@ public class CheerService {
         }
 
         final Set<Long> finalLikedIds = likedCommentIds;
-        List<CommentRes> mapped = pagedComments.stream()
+        return pagedComments.stream()
                 .map(comment -> toCommentResWithLikedSet(comment, finalLikedIds))
                 .toList();
-        return new PageImpl<>(mapped, pageable, allComments.size());
     }
 
     /**
@@ -1079,7 +1052,7 @@ public class CheerService {
 
         CheerComment comment = saveNewComment(post, me, req);
         incrementCommentCount(post);
-        updateHotScore(post);
+        hotRankingService.onEngagement(post);
 
         // 게시글 작성자에게 알림 (본인이 아닐 때만)
         if (!post.getAuthor().getId().equals(me.getId())) {
@@ -1112,12 +1085,21 @@ public class CheerService {
         permissionValidator.validateOwnerOrAdmin(me, comment.getAuthor(), "댓글 삭제");
 
         CheerPost post = comment.getPost();
-        commentRepo.delete(comment);
+        CheerComment parentComment = comment.getParentComment();
+        if (parentComment != null) {
+            commentRepo.incrementReplyCount(parentComment.getId(), -1);
+        }
 
-        // 실제 DB에서 댓글 수 재계산 (댓글 + 대댓글 모두 포함)
+        // 삭제 전후 실제 댓글 수 차이만큼 감소 (함께 삭제되는 대댓글 포함)
         // Null type safety 해결을 위해 primitive type 변환 후 전달
-        Long actualCount = commentRepo.countByPostId(Objects.requireNonNull(post.getId()).longValue());
-        post.setCommentCount(actualCount != null ? actualCount.intValue() : 0);
+        long postId = Objects.requireNonNull(post.getId()).longValue();
+        Long before = commentRepo.countByPostId(postId);
+        commentRepo.delete(comment);
+        Long after = commentRepo.countByPostId(postId);
+        int removed = (before != null ? before.intValue() : 0) - (after != null ? after.intValue() : 0);
+        if (removed > 0) {
+            postCounterService.adjust(post, PostCounterService.Counter.COMMENTS, -removed);
+        }
     }
 
     /**
@@ -1141,12 +1123,13 @@ public class CheerService {
     }
 
     /**
-     * 게시글 댓글 수 증가
+     * 게시글 댓글 수 증가 (Redis 카운터에 누적, DB는 배치 반영)
      */
     private void incrementCommentCount(CheerPost post) {
-        post.setCommentCount(post.getCommentCount() + 1);
+        postCounterService.adjust(post, PostCounterService.Counter.COMMENTS, 1);
     }
 
+
     /**
      * CheerComment를 CommentRes로 변환 (단일 댓글용 - 새 댓글 작성 시 사용)
      */
@@ -1170,6 +1153,7 @@ public class CheerService {
                 comment.getCreatedAt(),
                 comment.getLikeCount(),
                 likedByMe,
+                comment.getReplyCount(),
                 replies);
     }
 
@@ -1196,6 +1180,7 @@ public class CheerService {
                 comment.getCreatedAt(),
                 comment.getLikeCount(),
                 likedByMe,
+                comment.getReplyCount(),
                 replies);
     }
 
@@ -1232,16 +1217,12 @@ public class CheerService {
         if (commentLikeRepo.existsById(likeId)) {
             // 좋아요 취소
             commentLikeRepo.deleteById(likeId);
+            commentRepo.incrementLikeCount(comment.getId(), -1);
             likes = Math.max(0, comment.getLikeCount() - 1);
-            comment.setLikeCount(likes);
             liked = false;
 
-            // 댓글 작성자 포인트 차감 (Entity Update)
-            UserEntity author = userRepo.findById(Objects.requireNonNull(comment.getAuthor().getId()))
-                    .orElseThrow(() -> new UserNotFoundException(comment.getAuthor().getId()));
-            author.deductCheerPoints(1);
-            userRepo.save(author);
-            log.info("Points deducted for comment author {}: -1 (Entity Update)", author.getId());
+            // 댓글 작성자 포인트 차감
+            cheerPointLedger.spend(comment.getAuthor().getId(), 1, Reason.COMMENT_LIKE_CANCELED, comment.getId());
 
         } else {
             // 좋아요 추가
@@ -1250,19 +1231,14 @@ public class CheerService {
             like.setComment(comment);
             like.setUser(me);
             commentLikeRepo.save(like);
+            commentRepo.incrementLikeCount(comment.getId(), 1);
             likes = comment.getLikeCount() + 1;
-            comment.setLikeCount(likes);
             liked = true;
 
-            // 댓글 작성자 포인트 증가 (Entity Update)
-            UserEntity author = userRepo.findById(Objects.requireNonNull(comment.getAuthor().getId()))
-                    .orElseThrow(() -> new UserNotFoundException(comment.getAuthor().getId()));
-            author.addCheerPoints(1);
-            userRepo.save(author);
-            log.info("Points awarded to comment author {}: +1 (Entity Update)", author.getId());
+            // 댓글 작성자 포인트 증가
+            cheerPointLedger.apply(comment.getAuthor().getId(), 1, Reason.COMMENT_LIKE_RECEIVED, comment.getId());
         }
 
-        commentRepo.save(Objects.requireNonNull(comment));
         return new LikeToggleResponse(liked, likes);
     }
 
@@ -1296,8 +1272,9 @@ public class CheerService {
         checkDuplicateComment(post.getId(), me.getId(), req.content(), parentCommentId);
 
         CheerComment reply = saveNewReply(post, parentComment, me, req);
+        commentRepo.incrementReplyCount(parentComment.getId(), 1);
         incrementCommentCount(post);
-        updateHotScore(post);
+        hotRankingService.onEngagement(post);
 
         // 원댓글 작성자에게 알림 (본인이 아닐 때만)
         if (!parentComment.getAuthor().getId().equals(me.getId())) {
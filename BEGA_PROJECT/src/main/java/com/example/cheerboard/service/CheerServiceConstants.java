@@ -21,6 +21,10 @@ public final class CheerServiceConstants {
     public static final String NOTICE_ADMIN_ONLY_ERROR = "공지사항은 관리자만 작성할 수 있습니다.";
     
     public static final String GLOBAL_TEAM_ID = "ALLSTAR1";
+
+    // 커서 기반 페이지네이션
+    public static final int MAX_CURSOR_PAGE_SIZE = 50;
+    public static final int PINNED_NOTICE_LIMIT = 10;
     
     private CheerServiceConstants() {
         // 유틸리티 클래스이므로 인스턴스화 방지
@@ -0,0 +1,31 @@
+package com.example.cheerboard.service;
+
+import java.time.Instant;
+
+/**
+ * 시간 감쇠(gravity) 점수
+ * - score = log10(max(참여도, 1)) + (작성 시각 - 기준 시각) / decaySeconds
+ * - 작성 시각 오프셋이 점수에 고정되어 있어 시간이 지나도 기존 점수를 재계산할 필요가 없음
+ * - decaySeconds만큼 늦게 작성된 글을 앞서려면 참여도가 10배 필요
+ */
+public class DecayHotScoreStrategy implements HotScoreStrategy {
+
+    // 점수 기준 시각 (2024-01-01T00:00:00Z)
+    private static final long EPOCH_SECONDS = 1_704_067_200L;
+
+    private final double decaySeconds;
+
+    public DecayHotScoreStrategy(double decaySeconds) {
+        if (decaySeconds <= 0) {
+            throw new IllegalArgumentException("decaySeconds must be positive");
+        }
+        this.decaySeconds = decaySeconds;
+    }
+
+    @Override
+    public double score(int likeCount, int commentCount, int views, Instant createdAt) {
+        double order = Math.log10(Math.max(HotScoreStrategy.engagement(likeCount, commentCount, views), 1.0));
+        long createdSeconds = (createdAt != null ? createdAt : Instant.now()).getEpochSecond();
+        return order + (createdSeconds - EPOCH_SECONDS) / decaySeconds;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.cheerboard.service;
+
+import com.example.auth.repository.UserFollowRepository;
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.repo.CheerPostRepo;
+import com.example.common.redis.PipelinedScript;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.example.common.redis.PipelinedScript.bytes;
+import static com.example.common.transaction.TransactionHooks.runAfterCommit;
+
+/**
+ * 팔로우 피드 타임라인 (fan-out-on-write + 하이브리드 pull)
+ * - 새 글 커밋 시 팔로워별 Redis 타임라인(ZSET, score=게시글 ID)에 게시글 ID를 push
+ * - 팔로워가 많은 작성자는 push하지 않고 pull 대상 작성자로 등록, 조회 시 DB에서 최근 글만 가져와 병합
+ *   (마지막 글 이후 PULL_AUTHOR_TTL이 지나면 목록에서 정리)
+ * - 타임라인이 없으면(최초 조회, 만료, 팔로우 변경) DB에서 최근 글로 재구성
+ */
+@Slf4j
+@Service
+public class FollowingTimelineService {
+
+    private static final String TIMELINE_KEY = "timeline:following:%d";
+    // score = 작성자의 마지막 글 시각(epoch ms)
+    private static final String PULL_AUTHORS_KEY = "timeline:pull-authors:recent";
+    private static final Duration TIMELINE_TTL = Duration.ofDays(3);
+    private static final Duration PULL_AUTHOR_TTL = Duration.ofDays(7);
+
+    /**
+     * 이미 구성된 타임라인에만 추가하고 최근 maxSize개로 자름
+     * - 타임라인이 없는 팔로워는 다음 조회 시 DB에서 재구성되므로 부분 타임라인을 만들지 않음
+     * - KEYS[1]: 타임라인, ARGV[1]: 게시글 ID(score), ARGV[2]: 직렬화된 게시글 ID(member), ARGV[3]: 최대 크기
+     */
+    private static final PipelinedScript PUSH_SCRIPT = new PipelinedScript(
+            "if redis.call('exists', KEYS[1]) == 1 then " +
+                    "redis.call('zadd', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('zremrangebyrank', KEYS[1], 0, -tonumber(ARGV[3]) - 1) " +
+                    "return 1 " +
+                    "end " +
+                    "return 0",
+            ReturnType.INTEGER);
+
+    /**
+     * 타임라인 조회 결과
+     *
+     * @param postIds 요청 구간의 게시글 ID (최신순)
+     * @param total   타임라인 전체 크기 (push 목록 + pull 병합분, 근사값)
+     */
+    public record TimelinePage(List<Long> postIds, long total) {
+    }
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final UserFollowRepository followRepo;
+    private final CheerPostRepo postRepo;
+    private final int maxSize;
+    private final long fanOutThreshold;
+
+    public FollowingTimelineService(RedisTemplate<String, Object> redisTemplate,
+            UserFollowRepository followRepo,
+            CheerPostRepo postRepo,
+            @Value("${cheerboard.timeline.max-size:800}") int maxSize,
+            @Value("${cheerboard.timeline.fan-out-threshold:5000}") long fanOutThreshold) {
+        this.redisTemplate = redisTemplate;
+        this.followRepo = followRepo;
+        this.postRepo = postRepo;
+        this.maxSize = maxSize;
+        this.fanOutThreshold = fanOutThreshold;
+    }
+
+    /**
+     * 새 게시글을 트랜잭션 커밋 후 팔로워 타임라인에 반영
+     */
+    public void fanOutAfterCommit(CheerPost post) {
+        Long postId = post.getId();
+        Long authorId = post.getAuthor().getId();
+        runAfterCommit(() -> fanOut(postId, authorId));
+    }
+
+    void fanOut(Long postId, Long authorId) {
+        try {
+            long followerCount = followRepo.countByFollowingId(authorId);
+            if (followerCount > fanOutThreshold) {
+                // 쓰기 증폭 방지: 팔로워가 많은 작성자는 조회 시 pull
+                registerPullAuthor(authorId);
+                return;
+            }
+
+            List<Long> followerIds = followRepo.findFollowerIdsByFollowingId(authorId);
+            if (followerIds.isEmpty()) {
+                return;
+            }
+
+            // rebuild()와 같은 직렬화로 member를 저장해야 조회/중복 제거가 맞음
+            @SuppressWarnings("unchecked")
+            RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+            byte[] score = bytes(String.valueOf(postId));
+            byte[] member = valueSerializer.serialize(postId);
+            byte[] max = bytes(String.valueOf(maxSize));
+
+            PUSH_SCRIPT.executePipelined(redisTemplate, (connection, script) -> {
+                for (Long followerId : followerIds) {
+                    script.eval(bytes(timelineKey(followerId)), score, member, max);
+                }
+            });
+            log.debug("타임라인 fan-out 완료: postId={}, 팔로워={}명", postId, followerIds.size());
+        } catch (Exception e) {
+            log.warn("Redis error in timeline fanOut: postId={}, error={}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 팔로우 피드 게시글 ID 조회
+     *
+     * @param userId       조회자 ID
+     * @param followingIds 조회자가 팔로우하는 유저 ID 목록
+     * @return 요청 구간의 게시글 ID, Redis 오류 시 null (호출 측에서 DB 조회로 대체)
+     */
+    public TimelinePage getPostIds(Long userId, List<Long> followingIds, int offset, int limit) {
+        try {
+            return read(userId, followingIds, Long.MAX_VALUE, offset, limit);
+        } catch (Exception e) {
+            log.warn("Redis error in timeline getPostIds: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 커서 기반 팔로우 피드 게시글 ID 조회
+     *
+     * @param beforeId 이전 페이지 마지막 게시글 ID (이 ID 미만만 조회)
+     * @return beforeId 미만 최근 게시글 ID 최대 limit개, Redis 오류 시 null (호출 측에서 DB 조회로 대체)
+     */
+    public List<Long> getPostIdsBefore(Long userId, List<Long> followingIds, long beforeId, int limit) {
+        try {
+            return read(userId, followingIds, beforeId, 0, limit).postIds();
+        } catch (Exception e) {
+            log.warn("Redis error in timeline getPostIdsBefore: userId={}, error={}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private TimelinePage read(Long userId, List<Long> followingIds, long beforeId, int offset, int limit) {
+        Set<Long> pullAuthorIds = getPullAuthorIds();
+        String key = timelineKey(userId);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+            rebuild(key, followingIds.stream().filter(id -> !pullAuthorIds.contains(id)).toList());
+        }
+
+        double maxScore = beforeId == Long.MAX_VALUE ? Double.POSITIVE_INFINITY : beforeId - 1;
+        Set<Object> pushed = redisTemplate.opsForZSet()
+                .reverseRangeByScore(key, Double.NEGATIVE_INFINITY, maxScore, 0, offset + limit);
+        Long pushedCount = redisTemplate.opsForZSet().zCard(key);
+
+        List<Long> pullFollowingIds = followingIds.stream().filter(pullAuthorIds::contains).toList();
+        List<Long> pulled = pullFollowingIds.isEmpty()
+                ? List.of()
+                : postRepo.findRecentIdsByAuthorIdIn(pullFollowingIds, beforeId, PageRequest.of(0, offset + limit));
+
+        TreeSet<Long> merged = Stream.concat(
+                pushed == null ? Stream.<Long>empty() : pushed.stream().map(obj -> Long.parseLong(obj.toString())),
+                pulled.stream())
+                .collect(Collectors.toCollection(() -> new TreeSet<Long>(Comparator.reverseOrder())));
+
+        List<Long> page = merged.stream().skip(offset).limit(limit).toList();
+        return new TimelinePage(page, (pushedCount != null ? pushedCount : 0L) + pulled.size());
+    }
+
+    /**
+     * 팔로우 관계 변경 시 커밋 후 타임라인 폐기 (다음 조회 시 재구성)
+     */
+    public void invalidateAfterCommit(Long... userIds) {
+        List<String> keys = Stream.of(userIds).filter(Objects::nonNull).map(this::timelineKey).toList();
+        runAfterCommit(() -> {
+            try {
+                redisTemplate.delete(keys);
+            } catch (Exception e) {
+                log.warn("Redis error in timeline invalidate: {}", e.getMessage());
+            }
+        });
+    }
+
+    private void rebuild(String key, Collection<Long> authorIds) {
+        if (authorIds.isEmpty()) {
+            return;
+        }
+        List<Long> postIds = postRepo.findRecentIdsByAuthorIdIn(authorIds, Long.MAX_VALUE, PageRequest.of(0, maxSize));
+        if (postIds.isEmpty()) {
+            return;
+        }
+        Set<ZSetOperations.TypedTuple<Object>> tuples = postIds.stream()
+                .map(id -> ZSetOperations.TypedTuple.<Object>of(id, id.doubleValue()))
+                .collect(Collectors.toSet());
+        redisTemplate.opsForZSet().add(key, tuples);
+        redisTemplate.expire(key, TIMELINE_TTL);
+    }
+
+    /**
+     * pull 대상 작성자 등록 (마지막 글 시각 갱신) 및 PULL_AUTHOR_TTL 동안 글이 없는 작성자 정리
+     * - 정리된 작성자는 팔로워 수가 줄었으면 fan-out 대상, 아니면 다음 글에서 다시 등록됨
+     */
+    private void registerPullAuthor(Long authorId) {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(PULL_AUTHORS_KEY, String.valueOf(authorId), now);
+        redisTemplate.opsForZSet().removeRangeByScore(PULL_AUTHORS_KEY, 0, now - PULL_AUTHOR_TTL.toMillis());
+        redisTemplate.expire(PULL_AUTHORS_KEY, PULL_AUTHOR_TTL);
+    }
+
+    private Set<Long> getPullAuthorIds() {
+        long cutoff = System.currentTimeMillis() - PULL_AUTHOR_TTL.toMillis();
+        Set<Object> members = redisTemplate.opsForZSet().rangeByScore(PULL_AUTHORS_KEY, cutoff, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) {
+            return Set.of();
+        }
+        return members.stream()
+                .map(obj -> Long.parseLong(obj.toString()))
+                .collect(Collectors.toCollection(HashSet::new));
+    }
+
+    private String timelineKey(Long userId) {
+        return String.format(TIMELINE_KEY, userId);
+    }
+}
@@ -27,23 +27,30 @@ public class HotPostChecker {
     }
 
     public boolean isHotPost(CheerPost post, int views) {
-        return hasHighLikes(post) ||
+        return isHotPost(post.getLikeCount(), post.getCommentCount(), views);
+    }
+
+    /**
+     * 미반영 카운터 델타를 합산한 값으로 판정
+     */
+    public boolean isHotPost(int likes, int comments, int views) {
+        return hasHighLikes(likes) ||
                 views >= HOT_VIEW_THRESHOLD ||
-                hasModerateEngagement(post);
+                hasModerateEngagement(likes, comments);
     }
 
     /**
      * 높은 좋아요 수를 가지는지 확인
      */
-    private boolean hasHighLikes(CheerPost post) {
-        return post.getLikeCount() >= HOT_LIKE_THRESHOLD;
+    private boolean hasHighLikes(int likes) {
+        return likes >= HOT_LIKE_THRESHOLD;
     }
 
     /**
      * 적당한 참여도(좋아요 + 댓글)를 가지는지 확인
      */
-    private boolean hasModerateEngagement(CheerPost post) {
-        return post.getLikeCount() >= HOT_LIKE_WITH_COMMENT_THRESHOLD &&
-                post.getCommentCount() >= HOT_COMMENT_THRESHOLD;
+    private boolean hasModerateEngagement(int likes, int comments) {
+        return likes >= HOT_LIKE_WITH_COMMENT_THRESHOLD &&
+                comments >= HOT_COMMENT_THRESHOLD;
     }
 }
\ No newline at end of file
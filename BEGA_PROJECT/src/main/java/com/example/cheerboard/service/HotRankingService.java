@@ -0,0 +1,154 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.repo.CheerPostRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * HOT 게시글 랭킹 엔진
+ * - 좋아요/댓글/리포스트/조회 이벤트 발생 시 해당 게시글 점수만 갱신
+ * - 전체 목록(posts:hot:list)과 팀별 목록(posts:hot:{teamId})에 함께 반영
+ * - 점수 계산 전략은 cheerboard.hot-ranking.strategy로 선택 (decay: 시간 감쇠, linear: 기존 합산)
+ * - 좋아요/댓글/조회 수는 DB 값에 아직 반영되지 않은 Redis 델타를 합산해 계산
+ * - 전략이 바뀌면(기존 선형 점수 포함) 목록을 최근 게시글로 재구축해 척도가 다른 점수가 섞이지 않게 함
+ */
+@Slf4j
+@Service
+public class HotRankingService {
+
+    // 재구축 대상: 최근 7일 이내 작성된 게시글 중 최신 5000개
+    private static final Duration REBUILD_WINDOW = Duration.ofDays(7);
+    private static final int REBUILD_LIMIT = 5000;
+
+    private final RedisPostService redisPostService;
+    private final CheerPostRepo postRepo;
+    private final PostCounterService postCounterService;
+    private final String strategyName;
+    private final HotScoreStrategy strategy;
+
+    public HotRankingService(RedisPostService redisPostService, CheerPostRepo postRepo,
+            PostCounterService postCounterService,
+            @Value("${cheerboard.hot-ranking.strategy:decay}") String strategy,
+            @Value("${cheerboard.hot-ranking.decay-seconds:45000}") double decaySeconds) {
+        this.redisPostService = redisPostService;
+        this.postRepo = postRepo;
+        this.postCounterService = postCounterService;
+        this.strategyName = "linear".equalsIgnoreCase(strategy) ? "linear" : "decay";
+        this.strategy = createStrategy(strategyName, decaySeconds);
+    }
+
+    private static HotScoreStrategy createStrategy(String strategyName, double decaySeconds) {
+        if ("linear".equals(strategyName)) {
+            log.info("HOT 랭킹: LinearHotScoreStrategy 사용");
+            return new LinearHotScoreStrategy();
+        }
+        log.info("HOT 랭킹: DecayHotScoreStrategy 사용 (decaySeconds={})", decaySeconds);
+        return new DecayHotScoreStrategy(decaySeconds);
+    }
+
+    /**
+     * 참여 이벤트(좋아요, 댓글, 리포스트, 조회) 발생 시 게시글 점수 갱신
+     */
+    public void onEngagement(CheerPost post) {
+        Integer redisViews = redisPostService.getViewCount(post.getId());
+        int combinedViews = post.getViews() + (redisViews != null ? redisViews : 0);
+        PostCounterService.CounterDelta pending = postCounterService.getPendingDelta(post.getId());
+        double score = strategy.score(post.getLikeCount() + pending.likes(), post.getCommentCount() + pending.comments(),
+                combinedViews, post.getCreatedAt());
+        redisPostService.updateHotScore(new RedisPostService.HotScore(post.getId(), post.getTeamId(), score));
+    }
+
+    /**
+     * 여러 게시글 점수 일괄 갱신 (조회수 동기화 후 호출)
+     * - 엔티티 대신 점수 계산용 컬럼만 조회하고 한 번의 파이프라인으로 반영
+     * - 동기화 후에도 남아 있는(작업 중 새로 들어온) 조회/카운터 델타를 합산
+     */
+    public void refreshScores(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        redisPostService.updateHotScores(toHotScores(postRepo.findHotScoreInputsByIdIn(postIds)));
+    }
+
+    /**
+     * HOT 목록이 현재 전략으로 계산된 것이 아니면 최근 게시글로 전체 재구축
+     * - 배포 직후처럼 기존 척도의 점수가 남아 있는 목록에 새 점수를 섞지 않기 위함
+     *
+     * @return 재구축 여부
+     */
+    public boolean rebuildIfStrategyChanged() {
+        String current = redisPostService.getHotListStrategy();
+        if (strategyName.equals(current)) {
+            return false;
+        }
+        List<Object[]> rows = postRepo.findHotScoreInputsCreatedAfter(Instant.now().minus(REBUILD_WINDOW),
+                PageRequest.of(0, REBUILD_LIMIT));
+        redisPostService.replaceHotList(toHotScores(rows), strategyName);
+        log.info("HOT 목록 재구축: {} -> {}, posts={}", current, strategyName, rows.size());
+        return true;
+    }
+
+    // 점수 계산 컬럼(id, likeCount, commentCount, views, createdAt, teamId)에 Redis 델타를 합산해 점수 계산
+    private List<RedisPostService.HotScore> toHotScores(List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = rows.stream().map(row -> ((Number) row[0]).longValue()).toList();
+        Map<Long, PostCounterService.CounterDelta> pending = postCounterService.getPendingDeltas(postIds);
+        Map<Long, Integer> pendingViews = redisPostService.getViewCounts(postIds);
+        return rows.stream()
+                .map(row -> {
+                    long postId = ((Number) row[0]).longValue();
+                    PostCounterService.CounterDelta delta = pending.getOrDefault(postId,
+                            PostCounterService.CounterDelta.NONE);
+                    return new RedisPostService.HotScore(postId, (String) row[5],
+                            strategy.score(((Number) row[1]).intValue() + delta.likes(),
+                                    ((Number) row[2]).intValue() + delta.comments(),
+                                    ((Number) row[3]).intValue() + pendingViews.getOrDefault(postId, 0),
+                                    (Instant) row[4]));
+                })
+                .toList();
+    }
+
+    /**
+     * 게시글 삭제 시 HOT 목록에서 제거
+     */
+    public void remove(CheerPost post) {
+        redisPostService.removeFromHotList(post.getId(), post.getTeamId());
+    }
+
+    /**
+     * HOT 게시글 ID 목록 (점수 높은 순)
+     *
+     * @param teamId 팀 ID (null이면 전체)
+     */
+    public Set<Long> getHotPostIds(String teamId, int start, int end) {
+        return redisPostService.getHotPostIds(teamId, start, end);
+    }
+
+    /**
+     * HOT 목록 전체 크기
+     *
+     * @param teamId 팀 ID (null이면 전체)
+     */
+    public long countHotPosts(String teamId) {
+        return redisPostService.countHotPosts(teamId);
+    }
+
+    /**
+     * 각 HOT 목록을 상위 limit개로 정리
+     */
+    public void prune(int limit) {
+        redisPostService.pruneHotList(limit);
+    }
+}
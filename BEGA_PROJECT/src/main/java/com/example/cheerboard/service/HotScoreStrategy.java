@@ -0,0 +1,19 @@
+package com.example.cheerboard.service;
+
+import java.time.Instant;
+
+/**
+ * HOT 랭킹 점수 계산 전략
+ * - 점수가 높을수록 posts:hot:list 상위에 노출
+ */
+public interface HotScoreStrategy {
+
+    /**
+     * 참여도 가중치 (좋아요 3점, 댓글 2점, 조회 1점)
+     */
+    static double engagement(int likeCount, int commentCount, int views) {
+        return (likeCount * 3.0) + (commentCount * 2.0) + views;
+    }
+
+    double score(int likeCount, int commentCount, int views, Instant createdAt);
+}
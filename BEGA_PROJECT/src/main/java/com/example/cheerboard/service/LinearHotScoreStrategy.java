@@ -0,0 +1,14 @@
+package com.example.cheerboard.service;
+
+import java.time.Instant;
+
+/**
+ * 시간 감쇠 없는 참여도 합산 점수 (기존 방식)
+ */
+public class LinearHotScoreStrategy implements HotScoreStrategy {
+
+    @Override
+    public double score(int likeCount, int commentCount, int views, Instant createdAt) {
+        return HotScoreStrategy.engagement(likeCount, commentCount, views);
+    }
+}
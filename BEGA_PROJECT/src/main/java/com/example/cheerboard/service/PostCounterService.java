@@ -0,0 +1,265 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.repo.PostCounterSyncRepo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.common.transaction.TransactionHooks.runOnRollback;
+
+/**
+ * 게시글 비정규화 카운터(좋아요/댓글/리포스트) write-behind
+ * - 증감분은 Redis 해시(post:counters:{id})에 HINCRBY로 누적하고 동기화 대상으로 등록 (Lua 한 번)
+ * - PostSyncScheduler가 주기적으로 JDBC 배치 UPDATE로 DB에 반영하므로 요청마다 cheer_post 행을 잠그지 않음
+ * - 조회 시에는 DB 값에 아직 반영되지 않은 델타를 합산 (PostMappingContext)
+ * - 트랜잭션이 롤백되면 누적한 델타를 되돌리고, Redis 장애 시에는 DB에 바로 원자적으로 반영
+ * - 재집계 중(pauseDeltas~resumeDeltas)에는 누적하지 않고 DB에 바로 반영 (재집계 결과에 델타가 이중 합산되지 않도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterService {
+
+    public enum Counter {
+        LIKES("likes"), COMMENTS("comments"), REPOSTS("reposts");
+
+        private final String field;
+
+        Counter(String field) {
+            this.field = field;
+        }
+
+        int read(CheerPost post) {
+            return switch (this) {
+                case LIKES -> post.getLikeCount();
+                case COMMENTS -> post.getCommentCount();
+                case REPOSTS -> post.getRepostCount();
+            };
+        }
+    }
+
+    /**
+     * DB에 아직 반영되지 않은 카운터 증감분
+     */
+    public record CounterDelta(int likes, int comments, int reposts) {
+
+        public static final CounterDelta NONE = new CounterDelta(0, 0, 0);
+
+        public static CounterDelta of(Counter counter, int delta) {
+            return switch (counter) {
+                case LIKES -> new CounterDelta(delta, 0, 0);
+                case COMMENTS -> new CounterDelta(0, delta, 0);
+                case REPOSTS -> new CounterDelta(0, 0, delta);
+            };
+        }
+
+        public boolean isZero() {
+            return likes == 0 && comments == 0 && reposts == 0;
+        }
+    }
+
+    private static final String COUNTER_KEY = "post:counters:%d";
+    private static final String DIRTY_POSTS_KEY = "posts:dirty:counters";
+    private static final String PAUSED_KEY = "posts:counters:paused";
+    // 동기화 후 0으로 남은 해시 유지 기간 (동기화 주기보다 충분히 길게)
+    private static final Duration COUNTER_TTL = Duration.ofDays(1);
+
+    // KEYS: 카운터 해시, 동기화 대상 Set, (선택) 일시 중지 키 / ARGV: 필드, 증감량, 게시글 ID, 해시 TTL(초)
+    // 일시 중지 키가 있으면 누적하지 않고 nil 반환 → 호출 측이 DB에 바로 반영
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>(
+            "if #KEYS > 2 and redis.call('exists', KEYS[3]) == 1 then return false end " +
+                    "local value = redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2]) " +
+                    "redis.call('expire', KEYS[1], tonumber(ARGV[4])) " +
+                    "redis.call('sadd', KEYS[2], ARGV[3]) " +
+                    "return value",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final PostCounterSyncRepo postCounterSyncRepo;
+
+    /**
+     * 카운터 증감 후 화면에 보여줄 값 반환 (DB 값 + 미반영 델타)
+     *
+     * @param post    대상 게시글 (현재 트랜잭션에서 조회한 엔티티, 카운터 필드는 수정하지 않음)
+     * @param counter 카운터 종류
+     * @param delta   증감량
+     */
+    public int adjust(CheerPost post, Counter counter, int delta) {
+        Long pending = increment(post.getId(), counter, delta, true);
+        if (pending == null) {
+            // Redis 장애 또는 재집계 중에는 현재 트랜잭션 안에서 DB에 바로 반영
+            postCounterSyncRepo.applyDeltas(Map.of(post.getId(), CounterDelta.of(counter, delta)));
+            return Math.max(0, counter.read(post) + delta);
+        }
+        // 이미 누적한 델타는 재집계 중이어도 되돌림
+        runOnRollback(() -> increment(post.getId(), counter, -delta, false));
+        return Math.max(0, counter.read(post) + pending.intValue());
+    }
+
+    private Long increment(Long postId, Counter counter, int delta, boolean pausable) {
+        List<String> keys = pausable
+                ? List.of(String.format(COUNTER_KEY, postId), DIRTY_POSTS_KEY, PAUSED_KEY)
+                : List.of(String.format(COUNTER_KEY, postId), DIRTY_POSTS_KEY);
+        try {
+            return redisTemplate.execute(INCREMENT_SCRIPT, keys,
+                    counter.field, String.valueOf(delta), postId.toString(),
+                    String.valueOf(COUNTER_TTL.toSeconds()));
+        } catch (Exception e) {
+            log.warn("Redis error in PostCounterService.increment: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 여러 게시글의 미반영 델타를 한 번에 조회 (HGETALL 파이프라인)
+     */
+    public Map<Long, CounterDelta> getPendingDeltas(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        try {
+            List<Long> idList = new ArrayList<>(postIds);
+            List<Object> values = redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    idList.forEach(id -> ops.opsForHash().entries(String.format(COUNTER_KEY, id)));
+                    return null;
+                }
+            });
+
+            Map<Long, CounterDelta> result = new HashMap<>();
+            for (int i = 0; i < idList.size() && i < values.size(); i++) {
+                if (values.get(i) instanceof Map<?, ?> fields && !fields.isEmpty()) {
+                    CounterDelta delta = new CounterDelta(
+                            parse(fields.get(Counter.LIKES.field)),
+                            parse(fields.get(Counter.COMMENTS.field)),
+                            parse(fields.get(Counter.REPOSTS.field)));
+                    if (!delta.isZero()) {
+                        result.put(idList.get(i), delta);
+                    }
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("Redis error in getPendingDeltas: {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    public CounterDelta getPendingDelta(Long postId) {
+        return getPendingDeltas(List.of(postId)).getOrDefault(postId, CounterDelta.NONE);
+    }
+
+    private static int parse(Object value) {
+        return value != null ? Integer.parseInt(value.toString()) : 0;
+    }
+
+    /**
+     * 동기화가 필요한 게시글 수
+     */
+    public long countDirtyPosts() {
+        try {
+            Long size = redisTemplate.opsForSet().size(DIRTY_POSTS_KEY);
+            return size != null ? size : 0L;
+        } catch (Exception e) {
+            log.warn("Redis error in PostCounterService.countDirtyPosts: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 동기화 대상 게시글 ID를 최대 count개 꺼냄 (SPOP)
+     * - 꺼낸 뒤 들어온 증감은 스크립트가 다시 동기화 대상으로 등록
+     */
+    public List<Long> popDirtyPostIds(int count) {
+        try {
+            List<String> members = redisTemplate.opsForSet().pop(DIRTY_POSTS_KEY, count);
+            if (members == null) {
+                return Collections.emptyList();
+            }
+            return members.stream().map(Long::parseLong).toList();
+        } catch (Exception e) {
+            log.warn("Redis error in PostCounterService.popDirtyPostIds: {}", e.getMessage());
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * DB 반영 실패 시 꺼낸 게시글 ID를 동기화 대상으로 되돌림
+     */
+    public void restoreDirtyPosts(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.opsForSet().add(DIRTY_POSTS_KEY, postIds.stream().map(String::valueOf).toArray(String[]::new));
+        } catch (Exception e) {
+            log.warn("Redis error in PostCounterService.restoreDirtyPosts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에 반영된 만큼 Redis 델타 차감 (파이프라인으로 한 번의 왕복)
+     * - 반영 이후 들어온 증감분은 그대로 남아 다음 동기화에서 처리됨
+     */
+    public void acknowledgeSynced(Map<Long, CounterDelta> appliedDeltas) {
+        if (appliedDeltas == null || appliedDeltas.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    appliedDeltas.forEach((postId, delta) -> {
+                        String key = String.format(COUNTER_KEY, postId);
+                        ops.opsForHash().increment(key, Counter.LIKES.field, -delta.likes());
+                        ops.opsForHash().increment(key, Counter.COMMENTS.field, -delta.comments());
+                        ops.opsForHash().increment(key, Counter.REPOSTS.field, -delta.reposts());
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis error in acknowledgeSynced: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 델타 누적 일시 중지 (재집계 동안 새 증감은 DB에 바로 반영)
+     *
+     * @param timeout 재집계가 비정상 종료되어도 자동으로 풀리는 시간
+     */
+    public void pauseDeltas(Duration timeout) {
+        try {
+            redisTemplate.opsForValue().set(PAUSED_KEY, "1", timeout);
+        } catch (Exception e) {
+            log.warn("Redis error in PostCounterService.pauseDeltas: {}", e.getMessage());
+        }
+    }
+
+    public void resumeDeltas() {
+        try {
+            redisTemplate.delete(PAUSED_KEY);
+        } catch (Exception e) {
+            log.warn("Redis error in PostCounterService.resumeDeltas: {}", e.getMessage());
+        }
+    }
+}
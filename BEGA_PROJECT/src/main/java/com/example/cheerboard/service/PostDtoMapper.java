@@ -5,73 +5,49 @@ import com.example.cheerboard.dto.EmbeddedPostDto;
 import com.example.cheerboard.dto.PostDetailRes;
 import com.example.cheerboard.dto.PostSummaryRes;
 import com.example.cheerboard.dto.PostLightweightSummaryRes;
-import com.example.cheerboard.storage.service.ImageService;
 import com.example.kbo.entity.TeamEntity;
 import com.example.auth.entity.UserEntity;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Component;
 
-import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 
 /**
  * CheerPost 엔티티를 DTO로 변환하는 매퍼 클래스
+ * - 이미지 URL/조회수/카운터/HOT 상태는 PostMappingContext로 미리 일괄 조회된 값만 사용
+ * - 게시글 단위로 Redis나 스토리지를 호출하지 않음
  */
 @Slf4j
 @Component
 public class PostDtoMapper {
 
+    // 작성자 아바타 표시 크기(40px) x 3배 밀도 화면 → 이보다 큰 가장 작은 파생 이미지 사용
+    private static final int AVATAR_MIN_SIZE = 120;
+
     private final HotPostChecker hotPostChecker;
-    private final ImageService imageService;
-    private final RedisPostService redisPostService;
     private final com.example.profile.storage.service.ProfileImageService profileImageService;
 
-    public PostDtoMapper(HotPostChecker hotPostChecker, @Lazy ImageService imageService,
-            RedisPostService redisPostService,
+    public PostDtoMapper(HotPostChecker hotPostChecker,
             com.example.profile.storage.service.ProfileImageService profileImageService) {
         this.hotPostChecker = hotPostChecker;
-        this.imageService = imageService;
-        this.redisPostService = redisPostService;
         this.profileImageService = profileImageService;
     }
 
     /**
      * CheerPost를 PostSummaryRes로 변환
+     * - HOT 상태 캐시 미스는 계산 후 context에 기록 (호출 측에서 일괄 캐싱)
      */
     public PostSummaryRes toPostSummaryRes(CheerPost post, boolean liked, boolean isBookmarked, boolean isOwner,
-            boolean repostedByMe) {
-        List<String> imageUrls = Collections.emptyList();
-        try {
-            imageUrls = imageService.getPostImageUrls(post.getId());
-        } catch (Exception e) {
-            log.warn("이미지 URL 조회 실패: postId={}, error={}", post.getId(), e.getMessage());
-        }
-
-        return toPostSummaryRes(post, liked, isBookmarked, isOwner, repostedByMe, imageUrls);
-    }
-
-    /**
-     * CheerPost를 PostSummaryRes로 변환 (이미지 URL 미리 로딩된 경우)
-     */
-    public PostSummaryRes toPostSummaryRes(CheerPost post, boolean liked, boolean isBookmarked, boolean isOwner,
-            boolean repostedByMe, List<String> imageUrls) {
-        List<String> resolvedUrls = imageUrls != null ? imageUrls : Collections.emptyList();
-
-        // Redis와 DB 조회수 합산
-        Integer redisViews = redisPostService.getViewCount(post.getId());
-        int combinedViews = post.getViews() + (redisViews != null ? redisViews : 0);
+            boolean repostedByMe, PostMappingContext context) {
+        int combinedViews = context.combinedViews(post);
 
-        // HOT 게시글 상태 캐싱 활용
-        Boolean cachedHot = redisPostService.getCachedHotStatus(post.getId());
+        Boolean cachedHot = context.cachedHotStatus(post.getId());
         boolean isHot;
         if (cachedHot != null) {
             isHot = cachedHot;
         } else {
-            // 캐시 없으면 계산 후 캐싱 (계산 시 combinedViews 사용)
-            isHot = hotPostChecker.isHotPost(post, combinedViews);
-            redisPostService.cacheHotStatus(post.getId(), isHot);
+            isHot = hotPostChecker.isHotPost(context.likeCount(post), context.commentCount(post), combinedViews);
+            context.recordComputedHotStatus(post.getId(), isHot);
         }
 
         // 리포스트 관련 정보 처리
@@ -86,7 +62,7 @@ public class PostDtoMapper {
 
             if (original != null) {
                 repostOfId = original.getId();
-                originalPost = toEmbeddedPostDto(original);
+                originalPost = toEmbeddedPostDto(original, context);
                 originalDeleted = false;
             } else {
                 // 원본이 삭제된 경우 (repostOf가 null로 설정됨 - ON DELETE SET NULL)
@@ -104,20 +80,20 @@ public class PostDtoMapper {
                 resolveDisplayName(post.getAuthor()),
                 post.getAuthor().getId(),
                 post.getAuthor().getHandle(),
-                profileImageService.getProfileImageUrl(post.getAuthor().getProfileImageUrl()),
+                profileImageService.getProfileImageUrl(post.getAuthor().getProfileImageUrl(), AVATAR_MIN_SIZE),
                 post.getAuthor().getFavoriteTeamId(),
                 post.getCreatedAt(),
-                post.getCommentCount(),
-                post.getLikeCount(),
+                context.commentCount(post),
+                context.likeCount(post),
                 liked,
                 combinedViews,
                 isHot,
                 isBookmarked,
                 isOwner,
-                post.getRepostCount(),
+                context.repostCount(post),
                 repostedByMe,
                 post.getPostType().name(),
-                resolvedUrls,
+                context.imageUrls(post.getId()),
                 repostOfId,
                 repostType,
                 originalPost,
@@ -128,17 +104,9 @@ public class PostDtoMapper {
      * CheerPost를 PostDetailRes로 변환
      */
     public PostDetailRes toPostDetailRes(CheerPost post, boolean liked, boolean isBookmarked, boolean isOwner,
-            boolean repostedByMe) {
-        List<String> imageUrls = Collections.emptyList();
-        try {
-            imageUrls = imageService.getPostImageUrls(post.getId());
-        } catch (Exception e) {
-            log.warn("이미지 URL 조회 실패: postId={}, error={}", post.getId(), e.getMessage());
-        }
-
+            boolean repostedByMe, PostMappingContext context) {
         // Redis와 DB 조회수 합산
-        Integer redisViews = redisPostService.getViewCount(post.getId());
-        int combinedViews = post.getViews() + (redisViews != null ? redisViews : 0);
+        int combinedViews = context.combinedViews(post);
 
         // 리포스트 관련 정보 처리
         Long repostOfId = null;
@@ -152,7 +120,7 @@ public class PostDtoMapper {
 
             if (original != null) {
                 repostOfId = original.getId();
-                originalPost = toEmbeddedPostDto(original);
+                originalPost = toEmbeddedPostDto(original, context);
                 originalDeleted = false;
             } else {
                 // 원본이 삭제된 경우
@@ -172,16 +140,16 @@ public class PostDtoMapper {
                 post.getAuthor().getId(),
                 post.getAuthor().getHandle(),
                 post.getAuthor().getEmail(),
-                profileImageService.getProfileImageUrl(post.getAuthor().getProfileImageUrl()),
+                profileImageService.getProfileImageUrl(post.getAuthor().getProfileImageUrl(), AVATAR_MIN_SIZE),
                 post.getCreatedAt(),
-                post.getCommentCount(),
-                post.getLikeCount(),
+                context.commentCount(post),
+                context.likeCount(post),
                 liked,
                 isBookmarked,
                 isOwner,
-                imageUrls,
+                context.imageUrls(post.getId()),
                 combinedViews, // 합산된 조회수
-                post.getRepostCount(),
+                context.repostCount(post),
                 repostedByMe,
                 post.getPostType().name(),
                 // 리포스트 관련 필드
@@ -194,14 +162,7 @@ public class PostDtoMapper {
     /**
      * 새로 생성된 게시글을 PostDetailRes로 변환 (좋아요/소유권 기본값 설정)
      */
-    public PostDetailRes toNewPostDetailRes(CheerPost post, UserEntity author) {
-        List<String> imageUrls = Collections.emptyList();
-        try {
-            imageUrls = imageService.getPostImageUrls(post.getId());
-        } catch (Exception e) {
-            log.warn("이미지 URL 조회 실패: postId={}, error={}", post.getId(), e.getMessage());
-        }
-
+    public PostDetailRes toNewPostDetailRes(CheerPost post, UserEntity author, PostMappingContext context) {
         // 리포스트 관련 정보 처리 (새 게시글이 리포스트인 경우)
         Long repostOfId = null;
         String repostType = null;
@@ -211,7 +172,7 @@ public class PostDtoMapper {
         if (post.isRepost() && post.getRepostOf() != null) {
             repostOfId = post.getRepostOf().getId();
             repostType = post.getRepostType().name();
-            originalPost = toEmbeddedPostDto(post.getRepostOf());
+            originalPost = toEmbeddedPostDto(post.getRepostOf(), context);
         }
 
         return new PostDetailRes(
@@ -226,14 +187,14 @@ public class PostDtoMapper {
                 author.getId(),
                 author.getHandle(),
                 author.getEmail(),
-                profileImageService.getProfileImageUrl(author.getProfileImageUrl()),
+                profileImageService.getProfileImageUrl(author.getProfileImageUrl(), AVATAR_MIN_SIZE),
                 post.getCreatedAt(),
                 0, // 새 게시글이므로 댓글 수 0
                 0, // 새 게시글이므로 좋아요 수 0
                 false, // 새 게시글이므로 좋아요 안함
                 false, // 새 게시글이므로 북마크 안함
                 true, // 작성자이므로 소유권 있음
-                imageUrls,
+                context.imageUrls(post.getId()),
                 0, // 새 게시글이므로 조회수 0
                 0, // 새 게시글이므로 리포스트 수 0
                 false, // 새 게시글이므로 리포스트 안함
@@ -245,121 +206,14 @@ public class PostDtoMapper {
                 originalDeleted);
     }
 
-    /**
-     * CheerPost를 PostSummaryRes로 변환 (모든 데이터 프리페치 버전)
-     * - Redis 조회수/HOT 상태, 리포스트 원본 이미지 모두 미리 로딩된 경우
-     */
-    public PostSummaryRes toPostSummaryRes(CheerPost post, boolean liked, boolean isBookmarked, boolean isOwner,
-            boolean repostedByMe, List<String> imageUrls,
-            Map<Long, Integer> viewCountMap, Map<Long, Boolean> hotStatusMap,
-            Map<Long, List<String>> repostOriginalImageUrls) {
-        List<String> resolvedUrls = imageUrls != null ? imageUrls : Collections.emptyList();
-
-        // 프리페치된 Redis 조회수 사용
-        Integer redisViews = viewCountMap.getOrDefault(post.getId(), null);
-        int combinedViews = post.getViews() + (redisViews != null ? redisViews : 0);
-
-        // 프리페치된 HOT 상태 사용
-        Boolean cachedHot = hotStatusMap.get(post.getId());
-        boolean isHot;
-        if (cachedHot != null) {
-            isHot = cachedHot;
-        } else {
-            isHot = hotPostChecker.isHotPost(post, combinedViews);
-            redisPostService.cacheHotStatus(post.getId(), isHot);
-        }
-
-        // 리포스트 관련 정보 처리
-        Long repostOfId = null;
-        String repostType = null;
-        EmbeddedPostDto originalPost = null;
-        boolean originalDeleted = false;
-
-        if (post.isRepost()) {
-            repostType = post.getRepostType().name();
-            CheerPost original = post.getRepostOf();
-
-            if (original != null) {
-                repostOfId = original.getId();
-                originalPost = toEmbeddedPostDto(original, repostOriginalImageUrls);
-                originalDeleted = false;
-            } else {
-                originalDeleted = true;
-            }
-        }
-
-        return new PostSummaryRes(
-                post.getId(),
-                post.getTeamId(),
-                resolveTeamName(post.getTeam()),
-                resolveTeamShortName(post.getTeam()),
-                resolveTeamColor(post.getTeam()),
-                post.getContent(),
-                resolveDisplayName(post.getAuthor()),
-                post.getAuthor().getId(),
-                post.getAuthor().getHandle(),
-                profileImageService.getProfileImageUrl(post.getAuthor().getProfileImageUrl()),
-                post.getAuthor().getFavoriteTeamId(),
-                post.getCreatedAt(),
-                post.getCommentCount(),
-                post.getLikeCount(),
-                liked,
-                combinedViews,
-                isHot,
-                isBookmarked,
-                isOwner,
-                post.getRepostCount(),
-                repostedByMe,
-                post.getPostType().name(),
-                resolvedUrls,
-                repostOfId,
-                repostType,
-                originalPost,
-                originalDeleted);
-    }
-
     /**
      * 원본 게시글을 EmbeddedPostDto로 변환 (리포스트 표시용)
      */
-    private EmbeddedPostDto toEmbeddedPostDto(CheerPost original) {
+    private EmbeddedPostDto toEmbeddedPostDto(CheerPost original, PostMappingContext context) {
         if (original == null) {
             return null;
         }
 
-        List<String> originalImageUrls = Collections.emptyList();
-        try {
-            originalImageUrls = imageService.getPostImageUrls(original.getId());
-        } catch (Exception e) {
-            log.warn("원본 게시글 이미지 URL 조회 실패: postId={}, error={}", original.getId(), e.getMessage());
-        }
-
-        return EmbeddedPostDto.of(
-                original.getId(),
-                original.getTeamId(),
-                resolveTeamColor(original.getTeam()),
-                original.getContent(),
-                resolveDisplayName(original.getAuthor()),
-                original.getAuthor().getHandle(),
-                profileImageService.getProfileImageUrl(original.getAuthor().getProfileImageUrl()),
-                original.getCreatedAt(),
-                originalImageUrls,
-                original.getLikeCount(),
-                original.getCommentCount(),
-                original.getRepostCount());
-    }
-
-    /**
-     * 원본 게시글을 EmbeddedPostDto로 변환 (프리페치된 이미지 URL 사용)
-     */
-    private EmbeddedPostDto toEmbeddedPostDto(CheerPost original, Map<Long, List<String>> preloadedImageUrls) {
-        if (original == null) {
-            return null;
-        }
-
-        List<String> originalImageUrls = preloadedImageUrls != null
-                ? preloadedImageUrls.getOrDefault(original.getId(), Collections.emptyList())
-                : Collections.emptyList();
-
         return EmbeddedPostDto.of(
                 original.getId(),
                 original.getTeamId(),
@@ -367,12 +221,12 @@ public class PostDtoMapper {
                 original.getContent(),
                 resolveDisplayName(original.getAuthor()),
                 original.getAuthor().getHandle(),
-                profileImageService.getProfileImageUrl(original.getAuthor().getProfileImageUrl()),
+                profileImageService.getProfileImageUrl(original.getAuthor().getProfileImageUrl(), AVATAR_MIN_SIZE),
                 original.getCreatedAt(),
-                originalImageUrls,
-                original.getLikeCount(),
-                original.getCommentCount(),
-                original.getRepostCount());
+                context.imageUrls(original.getId()),
+                context.likeCount(original),
+                context.commentCount(original),
+                context.repostCount(original));
     }
 
     private String resolveDisplayName(UserEntity author) {
@@ -411,6 +265,6 @@ public class PostDtoMapper {
                 post.getCreatedAt(),
                 post.getAuthor().getId(),
                 resolveDisplayName(post.getAuthor()),
-                profileImageService.getProfileImageUrl(post.getAuthor().getProfileImageUrl()));
+                profileImageService.getProfileImageUrl(post.getAuthor().getProfileImageUrl(), AVATAR_MIN_SIZE));
     }
 }
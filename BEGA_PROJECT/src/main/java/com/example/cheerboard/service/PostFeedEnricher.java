@@ -0,0 +1,173 @@
+package com.example.cheerboard.service;
+
+import com.example.auth.entity.UserEntity;
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.dto.PostSummaryRes;
+import com.example.cheerboard.storage.service.ImageService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 피드 페이지 보강(Enrichment) 엔진
+ * - 게시글 목록에 필요한 부가 데이터(이미지 URL, 리포스트 원본 이미지, Redis 조회수/HOT 상태/카운터 델타,
+ * 뷰어의 좋아요/북마크/리포스트 여부)를 서로 독립적인 단계로 나누어 조회
+ * - Redis 단계는 병렬 실행, DB 단계(이미지, 상호작용)는 호출 스레드에서 실행
+ *   (호출 측 트랜잭션의 커넥션을 그대로 사용해 피드 요청 하나가 커넥션을 하나만 점유)
+ * - 모든 단계가 끝나면 PostSummaryRes로 병합 (입력 순서 유지)
+ * - 새로 계산된 HOT 상태는 변환 후 파이프라인으로 한 번에 캐싱
+ * - 단계별 소요 시간은 cheer.feed.enrichment 타이머(stage 태그)로 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostFeedEnricher {
+
+    static final String METRIC_NAME = "cheer.feed.enrichment";
+
+    private final ImageService imageService;
+    private final RedisPostService redisPostService;
+    private final PostCounterService postCounterService;
+    private final PostInteractionService postInteractionService;
+    private final PostDtoMapper postDtoMapper;
+    private final PermissionValidator permissionValidator;
+    private final MeterRegistry meterRegistry;
+
+    // Redis 단계 전용 (I/O 대기이므로 가상 스레드), DB 단계는 여기서 실행하지 않음
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * 게시글 목록을 PostSummaryRes 목록으로 변환
+     *
+     * @param posts  피드 페이지의 게시글 (순서 유지)
+     * @param viewer 현재 사용자 (비로그인 시 null)
+     */
+    public List<PostSummaryRes> enrich(List<CheerPost> posts, UserEntity viewer) {
+        if (posts == null || posts.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        long startedAt = System.nanoTime();
+        List<Long> postIds = posts.stream().map(CheerPost::getId).toList();
+        Long viewerId = viewer != null ? viewer.getId() : null;
+
+        PostMappingContext context = prefetch(posts);
+        PostInteractionService.Interactions viewerInteractions = callerStage("interactions",
+                () -> postInteractionService.lookup(viewerId, postIds));
+
+        List<PostSummaryRes> result = posts.stream()
+                .map(post -> {
+                    boolean isOwner = viewer != null && permissionValidator.isOwnerOrAdmin(viewer, post.getAuthor());
+                    return postDtoMapper.toPostSummaryRes(post, viewerInteractions.isLiked(post.getId()),
+                            viewerInteractions.isBookmarked(post.getId()), isOwner,
+                            viewerInteractions.isReposted(post.getId()), context);
+                })
+                .toList();
+        writeBack(context);
+
+        long elapsed = System.nanoTime() - startedAt;
+        timer("total").record(elapsed, TimeUnit.NANOSECONDS);
+        log.debug("Feed enrichment completed: posts={}, elapsedMs={}", posts.size(), elapsed / 1_000_000);
+        return result;
+    }
+
+    /**
+     * DTO 변환용 컨텍스트 일괄 조회 (이미지 URL, 리포스트 원본 이미지, Redis 조회수/HOT 상태/카운터 델타)
+     * - 상세 조회 등 단건 변환도 이 메서드를 통해 조회
+     */
+    public PostMappingContext prefetch(List<CheerPost> posts) {
+        if (posts == null || posts.isEmpty()) {
+            return PostMappingContext.empty();
+        }
+
+        List<Long> postIds = posts.stream().map(CheerPost::getId).toList();
+        List<Long> repostOriginalIds = posts.stream()
+                .filter(CheerPost::isRepost)
+                .map(CheerPost::getRepostOf)
+                .filter(Objects::nonNull)
+                .map(CheerPost::getId)
+                .filter(id -> !postIds.contains(id))
+                .distinct()
+                .toList();
+        List<Long> imagePostIds = new ArrayList<>(postIds);
+        imagePostIds.addAll(repostOriginalIds);
+
+        CompletableFuture<Map<Long, Integer>> viewCounts = stage("view_counts",
+                () -> redisPostService.getViewCounts(postIds));
+        CompletableFuture<Map<Long, Boolean>> hotStatuses = stage("hot_statuses",
+                () -> redisPostService.getCachedHotStatuses(postIds));
+        CompletableFuture<Map<Long, PostCounterService.CounterDelta>> counterDeltas = stage("counter_deltas",
+                () -> postCounterService.getPendingDeltas(imagePostIds));
+        // Redis 단계가 도는 동안 DB 단계 실행
+        Map<Long, List<String>> imageUrls = callerStage("images",
+                () -> imageService.getPostImageUrlsByPostIds(imagePostIds));
+
+        return new PostMappingContext(imageUrls, await(viewCounts), await(hotStatuses), await(counterDeltas));
+    }
+
+    /**
+     * 변환 중 새로 계산된 HOT 상태를 한 번에 캐싱
+     */
+    public void writeBack(PostMappingContext context) {
+        redisPostService.cacheHotStatuses(context.computedHotStatuses());
+    }
+
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * DB 보강 단계를 호출 스레드에서 실행하고 소요 시간을 기록
+     */
+    private <T> T callerStage(String name, Supplier<T> task) {
+        return timer(name).record(task);
+    }
+
+    /**
+     * Redis 보강 단계를 비동기로 실행하고 소요 시간을 기록
+     */
+    private <T> CompletableFuture<T> stage(String name, Supplier<T> task) {
+        Timer timer = timer(name);
+        return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+    }
+
+    private Timer timer(String stage) {
+        return Timer.builder(METRIC_NAME)
+                .description("Feed enrichment latency per stage")
+                .tag("stage", stage)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
+
+    private RuntimeException unwrap(CompletionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof RuntimeException runtime) {
+            return runtime;
+        }
+        return e;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.repo.PostInteractionRepo;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.example.common.transaction.TransactionHooks.runAfterCommit;
+import static com.example.cheerboard.repo.PostInteractionRepo.BOOKMARKED;
+import static com.example.cheerboard.repo.PostInteractionRepo.LIKED;
+import static com.example.cheerboard.repo.PostInteractionRepo.REPOSTED;
+
+/**
+ * 뷰어의 게시글 상호작용 상태(좋아요/북마크/리포스트) 일괄 조회 서비스
+ * - DB는 PostInteractionRepo의 UNION 프로젝션 쿼리 한 번으로 조회
+ * - 선택적으로 사용자별 Redis Hash(post:interactions:{userId})에 비트 플래그를 짧게 캐싱
+ * - 토글 시 evictAfterCommit(userId)로 커밋 후 해당 사용자 캐시 전체 무효화
+ */
+@Slf4j
+@Service
+public class PostInteractionService {
+
+    private static final String INTERACTIONS_KEY = "post:interactions:%d";
+
+    private final PostInteractionRepo interactionRepo;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final boolean cacheEnabled;
+    private final Duration cacheTtl;
+
+    public PostInteractionService(PostInteractionRepo interactionRepo,
+            RedisTemplate<String, Object> redisTemplate,
+            @Value("${cheerboard.interaction-cache.enabled:false}") boolean cacheEnabled,
+            @Value("${cheerboard.interaction-cache.ttl-seconds:30}") long cacheTtlSeconds) {
+        this.interactionRepo = interactionRepo;
+        this.redisTemplate = redisTemplate;
+        this.cacheEnabled = cacheEnabled;
+        this.cacheTtl = Duration.ofSeconds(cacheTtlSeconds);
+    }
+
+    /**
+     * 게시글별 상호작용 비트 플래그
+     */
+    public record Interactions(Map<Long, Integer> flags) {
+
+        public static final Interactions NONE = new Interactions(Collections.emptyMap());
+
+        public boolean isLiked(Long postId) {
+            return (flags.getOrDefault(postId, 0) & LIKED) != 0;
+        }
+
+        public boolean isBookmarked(Long postId) {
+            return (flags.getOrDefault(postId, 0) & BOOKMARKED) != 0;
+        }
+
+        public boolean isReposted(Long postId) {
+            return (flags.getOrDefault(postId, 0) & REPOSTED) != 0;
+        }
+    }
+
+    /**
+     * 사용자의 게시글 상호작용 상태 일괄 조회
+     *
+     * @param userId  뷰어 ID (null이면 빈 결과)
+     * @param postIds 조회할 게시글 ID 목록
+     */
+    public Interactions lookup(Long userId, Collection<Long> postIds) {
+        if (userId == null || postIds == null || postIds.isEmpty()) {
+            return Interactions.NONE;
+        }
+
+        Map<Long, Integer> flags = new HashMap<>();
+        List<Long> missingIds = cacheEnabled ? readCache(userId, postIds, flags) : new ArrayList<>(postIds);
+        if (missingIds.isEmpty()) {
+            return new Interactions(flags);
+        }
+
+        Map<Long, Integer> loaded = new HashMap<>();
+        for (Long postId : missingIds) {
+            loaded.put(postId, 0);
+        }
+        for (Object[] row : interactionRepo.findInteractionFlags(userId, missingIds)) {
+            Long postId = ((Number) row[0]).longValue();
+            int flag = ((Number) row[1]).intValue();
+            loaded.merge(postId, flag, (a, b) -> a | b);
+        }
+        flags.putAll(loaded);
+
+        if (cacheEnabled) {
+            writeCache(userId, loaded);
+        }
+        return new Interactions(flags);
+    }
+
+    /**
+     * 사용자 상호작용 캐시 무효화 (좋아요/북마크/리포스트 토글 시 호출)
+     * - 커밋 전에 지우면 그 사이 조회가 커밋 전 상태를 다시 캐싱하므로 커밋 후 실행
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!cacheEnabled || userId == null) {
+            return;
+        }
+        String key = Objects.requireNonNull(String.format(INTERACTIONS_KEY, userId));
+        runAfterCommit(() -> {
+            try {
+                redisTemplate.delete(key);
+            } catch (Exception e) {
+                log.warn("Redis error in evict interactions: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 캐시에서 조회하고 캐시에 없는 게시글 ID 목록 반환
+     */
+    private List<Long> readCache(Long userId, Collection<Long> postIds, Map<Long, Integer> flags) {
+        List<Long> idList = new ArrayList<>(postIds);
+        try {
+            List<Object> fields = idList.stream().map(id -> (Object) id.toString()).toList();
+            List<Object> values = redisTemplate.opsForHash()
+                    .multiGet(Objects.requireNonNull(String.format(INTERACTIONS_KEY, userId)), fields);
+
+            List<Long> missing = new ArrayList<>();
+            for (int i = 0; i < idList.size(); i++) {
+                Object val = values != null ? values.get(i) : null;
+                if (val instanceof Number number) {
+                    flags.put(idList.get(i), number.intValue());
+                } else {
+                    missing.add(idList.get(i));
+                }
+            }
+            return missing;
+        } catch (Exception e) {
+            log.warn("Redis error in readCache interactions: {}", e.getMessage());
+            return idList;
+        }
+    }
+
+    private void writeCache(Long userId, Map<Long, Integer> loaded) {
+        try {
+            String key = Objects.requireNonNull(String.format(INTERACTIONS_KEY, userId));
+            Map<String, Object> entries = new HashMap<>();
+            loaded.forEach((postId, flag) -> entries.put(postId.toString(), flag));
+            redisTemplate.opsForHash().putAll(key, entries);
+            redisTemplate.expire(key, Objects.requireNonNull(cacheTtl));
+        } catch (Exception e) {
+            log.warn("Redis error in writeCache interactions: {}", e.getMessage());
+        }
+    }
+}
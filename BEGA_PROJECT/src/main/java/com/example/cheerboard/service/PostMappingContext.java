@@ -0,0 +1,84 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.domain.CheerPost;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO 변환에 필요한 부가 데이터를 미리 일괄 조회해 담아두는 컨텍스트
+ * - 이미지 URL(리포스트 원본 포함), Redis 조회수, 캐시된 HOT 상태, 미반영 카운터 델타
+ * - PostDtoMapper는 이 컨텍스트만 참조하며 게시글마다 Redis/스토리지를 호출하지 않음
+ * - 캐시 미스로 새로 계산된 HOT 상태는 모아두었다가 변환 후 한 번에 Redis에 기록
+ */
+public final class PostMappingContext {
+
+    private final Map<Long, List<String>> imageUrls;
+    private final Map<Long, Integer> viewCounts;
+    private final Map<Long, Boolean> hotStatuses;
+    private final Map<Long, PostCounterService.CounterDelta> counterDeltas;
+    private final Map<Long, Boolean> computedHotStatuses = new LinkedHashMap<>();
+
+    public PostMappingContext(Map<Long, List<String>> imageUrls, Map<Long, Integer> viewCounts,
+            Map<Long, Boolean> hotStatuses, Map<Long, PostCounterService.CounterDelta> counterDeltas) {
+        this.imageUrls = imageUrls != null ? imageUrls : Collections.emptyMap();
+        this.viewCounts = viewCounts != null ? viewCounts : Collections.emptyMap();
+        this.hotStatuses = hotStatuses != null ? hotStatuses : Collections.emptyMap();
+        this.counterDeltas = counterDeltas != null ? counterDeltas : Collections.emptyMap();
+    }
+
+    /**
+     * 부가 데이터가 없는 컨텍스트 (새로 작성된 게시글 등)
+     */
+    public static PostMappingContext empty() {
+        return new PostMappingContext(null, null, null, null);
+    }
+
+    public List<String> imageUrls(Long postId) {
+        return imageUrls.getOrDefault(postId, Collections.emptyList());
+    }
+
+    /**
+     * DB 조회수와 Redis에 누적된 조회수 합산
+     */
+    public int combinedViews(CheerPost post) {
+        Integer redisViews = viewCounts.get(post.getId());
+        return post.getViews() + (redisViews != null ? redisViews : 0);
+    }
+
+    /**
+     * DB 카운터와 Redis에 누적된 미반영 델타 합산
+     */
+    public int likeCount(CheerPost post) {
+        return Math.max(0, post.getLikeCount() + counterDelta(post).likes());
+    }
+
+    public int commentCount(CheerPost post) {
+        return Math.max(0, post.getCommentCount() + counterDelta(post).comments());
+    }
+
+    public int repostCount(CheerPost post) {
+        return Math.max(0, post.getRepostCount() + counterDelta(post).reposts());
+    }
+
+    private PostCounterService.CounterDelta counterDelta(CheerPost post) {
+        return counterDeltas.getOrDefault(post.getId(), PostCounterService.CounterDelta.NONE);
+    }
+
+    public Boolean cachedHotStatus(Long postId) {
+        return hotStatuses.get(postId);
+    }
+
+    void recordComputedHotStatus(Long postId, boolean isHot) {
+        computedHotStatuses.put(postId, isHot);
+    }
+
+    /**
+     * 변환 중 새로 계산된 HOT 상태 (Redis 일괄 기록 대상)
+     */
+    public Map<Long, Boolean> computedHotStatuses() {
+        return Collections.unmodifiableMap(computedHotStatuses);
+    }
+}
@@ -1,79 +1,192 @@
 package com.example.cheerboard.service;
 
-import com.example.cheerboard.repo.CheerPostRepo;
+import com.example.cheerboard.repo.PostCounterSyncRepo;
+import com.example.cheerboard.repo.PostViewSyncRepo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jobrunr.jobs.annotations.Job;
 import org.jobrunr.scheduling.JobScheduler;
 import org.jobrunr.scheduling.cron.Cron;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Objects;
-import java.util.Set;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PostSyncScheduler implements ApplicationRunner {
 
+    // 재집계 중 델타 누적 중지 상한 (작업이 비정상 종료되어도 자동 해제)
+    private static final Duration RECONCILE_PAUSE_TIMEOUT = Duration.ofMinutes(10);
+
     private final RedisPostService redisPostService;
-    private final CheerPostRepo postRepo;
-    private final CheerService cheerService;
+    private final PostViewSyncRepo postViewSyncRepo;
+    private final HotRankingService hotRankingService;
+    private final PostCounterService postCounterService;
+    private final PostCounterSyncRepo postCounterSyncRepo;
     private final JobScheduler jobScheduler;
 
+    // 한 번에 꺼내 반영할 게시글 수 (Oracle IN 절 제한 1000 이하)
+    @Value("${cheerboard.view-sync.batch-size:1000}")
+    private int syncBatchSize;
+
+    // 카운터(좋아요/댓글/리포스트) 델타 배치 크기
+    @Value("${cheerboard.counter-sync.batch-size:1000}")
+    private int counterSyncBatchSize;
+
     @Override
     public void run(ApplicationArguments args) {
         // 앱 시작 시 Persistent Recurrent Job 등록
         // 5분마다 실행 (Views Sync)
         jobScheduler.scheduleRecurrently("sync-view-counts", Cron.every5minutes(), this::syncViewCounts);
 
+        // 1분마다 실행 (좋아요/댓글/리포스트 카운터 Sync)
+        jobScheduler.scheduleRecurrently("sync-post-counters", Cron.minutely(), this::syncPostCounters);
+
+        // 매일 새벽 4시 30분 실행 (카운터 재집계)
+        jobScheduler.scheduleRecurrently("reconcile-post-counters", Cron.daily(4, 30), this::reconcilePostCounters);
+
         // 매일 새벽 4시 실행 (Hot Post Prune)
         jobScheduler.scheduleRecurrently("prune-hot-posts", Cron.daily(4, 0), this::pruneHotPosts);
+
+        // 1회성: HOT 점수 전략이 바뀌었으면 목록 재구축
+        jobScheduler.enqueue(this::rebuildHotPosts);
     }
 
     /**
      * JobRunr에 의해 실행될 백그라운드 작업
      * Job 어노테이션을 통해 대시보드에서 식별 가능
+     * - 동기화 대상 ID를 배치 단위로 SPOP → 조회수 델타 MGET → JDBC 배치 UPDATE → 델타 차감 → HOT 점수 갱신
+     * - 작업 중 새로 들어온 조회는 다시 동기화 대상으로 등록되어 다음 실행에서 처리
      */
     @Job(name = "Sync Redis View Counts to DB")
-    @Transactional
     public void syncViewCounts() {
-        Set<Long> dirtyPostIds = redisPostService.getDirtyPostIds();
-        if (dirtyPostIds.isEmpty()) {
+        long pending = redisPostService.countDirtyPosts();
+        if (pending == 0) {
             return;
         }
 
-        log.info("Starting persistent sync job for {} posts", dirtyPostIds.size());
+        long startedAt = System.nanoTime();
+        log.info("Starting persistent sync job for {} posts", pending);
 
-        for (Long postId : dirtyPostIds) {
+        // 작업 중 유입되는 ID로 끝없이 반복하지 않도록 시작 시점 기준 배치 수로 제한
+        long maxBatches = (pending + syncBatchSize - 1) / syncBatchSize;
+        int synced = 0;
+        for (long i = 0; i < maxBatches; i++) {
+            List<Long> postIds = redisPostService.popDirtyPostIds(syncBatchSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
             try {
-                processPostSync(postId);
+                synced += flushBatch(postIds);
             } catch (Exception e) {
-                log.error("Failed to sync post {}: {}", postId, e.getMessage());
+                log.error("Failed to sync view counts for {} posts: {}", postIds.size(), e.getMessage());
+                redisPostService.restoreDirtyPosts(postIds);
+                break;
             }
         }
-        log.info("Post sync job completed");
+        log.info("Post sync job completed: synced={}, elapsedMs={}", synced,
+                (System.nanoTime() - startedAt) / 1_000_000);
     }
 
-    @Transactional
-    public void processPostSync(Long postId) {
-        postRepo.findById(Objects.requireNonNull(postId)).ifPresent(post -> {
-            Integer viewsInRedis = redisPostService.getViewCount(postId);
-            if (viewsInRedis != null && viewsInRedis > 0) {
-                postRepo.incrementViewCountByDelta(postId, viewsInRedis);
-                redisPostService.clearDirtyPost(postId, viewsInRedis);
-                post.setViews(post.getViews() + viewsInRedis);
-                cheerService.updateHotScore(post);
+    /**
+     * 배치 하나를 DB에 반영하고 Redis 델타 차감 및 HOT 점수 갱신
+     *
+     * @return DB에 반영된 게시글 수
+     */
+    private int flushBatch(List<Long> postIds) {
+        Map<Long, Integer> deltas = new HashMap<>();
+        redisPostService.getViewCounts(postIds).forEach((postId, delta) -> {
+            if (delta > 0) {
+                deltas.put(postId, delta);
             }
         });
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        postViewSyncRepo.incrementViews(deltas);
+        redisPostService.acknowledgeSyncedViews(deltas);
+
+        hotRankingService.refreshScores(deltas.keySet());
+        return deltas.size();
+    }
+
+    /**
+     * Redis에 누적된 좋아요/댓글/리포스트 델타를 DB에 반영
+     * - 조회수 동기화와 같은 방식: SPOP → HGETALL 파이프라인 → JDBC 배치 UPDATE → 델타 차감 → HOT 점수 갱신
+     */
+    @Job(name = "Sync Redis Post Counters to DB")
+    public void syncPostCounters() {
+        long pending = postCounterService.countDirtyPosts();
+        if (pending == 0) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        long maxBatches = (pending + counterSyncBatchSize - 1) / counterSyncBatchSize;
+        int synced = 0;
+        for (long i = 0; i < maxBatches; i++) {
+            List<Long> postIds = postCounterService.popDirtyPostIds(counterSyncBatchSize);
+            if (postIds.isEmpty()) {
+                break;
+            }
+            try {
+                synced += flushCounterBatch(postIds);
+            } catch (Exception e) {
+                log.error("Failed to sync post counters for {} posts: {}", postIds.size(), e.getMessage());
+                postCounterService.restoreDirtyPosts(postIds);
+                break;
+            }
+        }
+        log.info("Post counter sync completed: synced={}, elapsedMs={}", synced,
+                (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private int flushCounterBatch(List<Long> postIds) {
+        Map<Long, PostCounterService.CounterDelta> deltas = postCounterService.getPendingDeltas(postIds);
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+
+        postCounterSyncRepo.applyDeltas(deltas);
+        postCounterService.acknowledgeSynced(deltas);
+
+        hotRankingService.refreshScores(deltas.keySet());
+        return deltas.size();
+    }
+
+    /**
+     * 좋아요/댓글/리포스트 테이블 기준으로 카운터 재집계
+     * - 델타 누적을 멈추고(새 증감은 DB에 바로 반영) 대기 중인 델타를 모두 반영한 뒤 재집계
+     * - 누적을 멈추지 않으면 동기화와 재집계 사이에 커밋된 증감이 COUNT와 Redis 델타에 이중 합산됨
+     */
+    @Job(name = "Reconcile Post Counters")
+    public void reconcilePostCounters() {
+        postCounterService.pauseDeltas(RECONCILE_PAUSE_TIMEOUT);
+        try {
+            syncPostCounters();
+            int corrected = postCounterSyncRepo.reconcile();
+            log.info("Post counter reconciliation completed: corrected={}", corrected);
+        } finally {
+            postCounterService.resumeDeltas();
+        }
+    }
+
+    @Job(name = "Rebuild Hot Post List")
+    public void rebuildHotPosts() {
+        hotRankingService.rebuildIfStrategyChanged();
     }
 
     @Job(name = "Prune Hot Post List")
     public void pruneHotPosts() {
         log.info("Pruning HOT post list in Redis...");
-        redisPostService.pruneHotList(1000);
+        hotRankingService.prune(1000);
     }
 }
@@ -1,8 +1,13 @@
 package com.example.cheerboard.service;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import java.time.Duration;
@@ -10,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -19,55 +25,143 @@ import java.util.stream.Collectors;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class RedisPostService {
 
+    /**
+     * 중복 조회 판별 방식
+     * - SET: 조회자 ID를 Set에 정확히 저장 (게시글당 메모리가 조회자 수에 비례)
+     * - HLL: HyperLogLog로 근사 집계 (게시글당 최대 약 12KB)
+     *   PFADD 전후 PFCOUNT 차이만큼 조회수를 올리므로 조회수 합계가 고유 조회자 추정치(표준 오차 약 0.81%)를 따라감
+     *   개별 조회가 새 조회자인지는 판별하지 못함 (새 조회자가 0, 드물게 2 이상으로 집계될 수 있음)
+     */
+    public enum ViewDedupMode {
+        SET, HLL;
+
+        static ViewDedupMode from(String value) {
+            return value != null && value.trim().equalsIgnoreCase("hll") ? HLL : SET;
+        }
+    }
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final ViewDedupMode viewDedupMode;
+
+    public RedisPostService(RedisTemplate<String, Object> redisTemplate,
+            @Value("${cheerboard.view-dedup.mode:set}") String viewDedupMode) {
+        this.redisTemplate = redisTemplate;
+        this.viewDedupMode = ViewDedupMode.from(viewDedupMode);
+    }
 
     private static final String VIEW_COUNT_KEY = "post:views:%d";
     private static final String VIEWED_USERS_KEY = "post:viewed:%d";
+    private static final String VIEWERS_HLL_KEY = "post:viewers:hll:%d";
     private static final String DIRTY_POSTS_KEY = "posts:dirty:views";
     private static final String HOT_STATUS_KEY = "post:hot:%d";
     private static final String HOT_POSTS_ZSET_KEY = "posts:hot:list";
+    private static final String TEAM_HOT_POSTS_ZSET_KEY = "posts:hot:%s";
+    private static final String HOT_TEAMS_KEY = "posts:hot:teams";
+    // HOT 목록 점수를 계산한 전략 이름 (전략이 바뀌면 목록 재구축)
+    private static final String HOT_STRATEGY_KEY = "posts:hot:strategy";
+    private static final String HOT_REBUILD_SUFFIX = ":rebuild";
+    private static final String ANONYMOUS_VIEWER = "anonymous";
+    private static final Duration HOT_STATUS_TTL = Duration.ofMinutes(10);
+    // 동기화 후 남은 조회수 델타 유지 기간
+    private static final Duration VIEW_COUNT_TTL = Duration.ofHours(6);
+    // 중복 조회 방지 세션 유지 기간
+    private static final Duration VIEWED_USERS_TTL = Duration.ofDays(1);
+
+    // KEYS: 조회자 Set(또는 HLL), 조회수, 동기화 대상 Set / ARGV: 조회자 식별자, 조회자 키 TTL(초), 게시글 ID
+    // SADD가 1을 반환할 때만 새 조회로 집계
+    private static final RedisScript<Long> VIEW_SET_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('sadd', KEYS[1], ARGV[1]) == 1 then " +
+                    "  redis.call('expire', KEYS[1], tonumber(ARGV[2])) " +
+                    "  redis.call('incr', KEYS[2]) " +
+                    "  redis.call('sadd', KEYS[3], ARGV[3]) " +
+                    "  return 1 " +
+                    "end " +
+                    "return 0",
+            Long.class);
+
+    // PFADD의 1은 "레지스터가 바뀜"일 뿐 새 조회자라는 뜻이 아님 → PFCOUNT 증가분만큼 집계
+    private static final RedisScript<Long> VIEW_HLL_SCRIPT = new DefaultRedisScript<>(
+            "local before = redis.call('pfcount', KEYS[1]) " +
+                    "if redis.call('pfadd', KEYS[1], ARGV[1]) == 0 then return 0 end " +
+                    "local added = redis.call('pfcount', KEYS[1]) - before " +
+                    "if added <= 0 then return 0 end " +
+                    "redis.call('expire', KEYS[1], tonumber(ARGV[2])) " +
+                    "redis.call('incrby', KEYS[2], added) " +
+                    "redis.call('sadd', KEYS[3], ARGV[3]) " +
+                    "return added",
+            Long.class);
 
     /**
      * 조회수 증가 로직 (Redis에서 관리)
-     * 
+     *
      * @param postId 게시글 ID
      * @param userId 사용자 ID (null일 경우 익명)
-     * @return 증가 후 조회수
+     * @return 새 조회로 집계되었는지 여부
      */
+    public boolean incrementViewCount(Long postId, Long userId) {
+        return incrementViewCount(postId, userId, null);
+    }
+
     /**
      * 조회수 증가 로직 (Redis에서 관리)
-     * 
-     * @param postId 게시글 ID
-     * @param userId 사용자 ID (null일 경우 익명)
-     * @return 증가 후 조회수
+     * - 중복 확인, 조회수 증가, 동기화 대상 등록을 Lua 스크립트 한 번으로 원자적으로 처리
+     *
+     * @param postId               게시글 ID
+     * @param userId               사용자 ID (null일 경우 익명)
+     * @param anonymousFingerprint 익명 사용자 식별값 (IP/세션 등, 없으면 모든 익명 사용자를 하나로 취급)
+     * @return 새 조회로 집계되었는지 여부
      */
-    public void incrementViewCount(Long postId, Long userId) {
+    public boolean incrementViewCount(Long postId, Long userId, String anonymousFingerprint) {
         try {
-            String viewedKey = String.format(VIEWED_USERS_KEY, postId);
-            String identifier = (userId != null) ? userId.toString() : "anonymous";
-
-            // 중복 조회 방지 (Set 활용)
-            Boolean alreadyViewed = redisTemplate.opsForSet().isMember(Objects.requireNonNull(viewedKey),
-                    Objects.requireNonNull(identifier));
-            if (Boolean.FALSE.equals(alreadyViewed)) {
-                redisTemplate.opsForSet().add(Objects.requireNonNull(viewedKey), Objects.requireNonNull(identifier));
-                // 하루 동안 유지 (중복 방지 세션)
-                redisTemplate.expire(Objects.requireNonNull(viewedKey), Objects.requireNonNull(Duration.ofDays(1)));
-
-                String viewKey = String.format(VIEW_COUNT_KEY, postId);
-                redisTemplate.opsForValue().increment(Objects.requireNonNull(viewKey));
-
-                // 동기화 대상 목록에 추가
-                redisTemplate.opsForSet().add(DIRTY_POSTS_KEY, Objects.requireNonNull(postId.toString()));
-            }
+            String identifier = resolveViewerIdentifier(userId, anonymousFingerprint);
+            List<String> keys = List.of(
+                    viewersKey(postId),
+                    String.format(VIEW_COUNT_KEY, postId),
+                    DIRTY_POSTS_KEY);
+            RedisScript<Long> script = viewDedupMode == ViewDedupMode.HLL ? VIEW_HLL_SCRIPT : VIEW_SET_SCRIPT;
+
+            // 인자는 값 직렬화기(JSON)로 직렬화되므로 기존 Set 멤버 형식과 동일하게 저장됨
+            Long counted = redisTemplate.execute(script, keys,
+                    identifier, VIEWED_USERS_TTL.toSeconds(), postId.toString());
+            return counted != null && counted > 0L;
         } catch (Exception e) {
             log.warn("Redis error in incrementViewCount: {}", e.getMessage());
+            return false;
         }
     }
 
+    /**
+     * 최근 하루 동안의 고유 조회자 수 (HLL 모드는 PFCOUNT 근사값)
+     */
+    public long getUniqueViewerCount(Long postId) {
+        try {
+            Long count = viewDedupMode == ViewDedupMode.HLL
+                    ? redisTemplate.opsForHyperLogLog().size(viewersKey(postId))
+                    : redisTemplate.opsForSet().size(viewersKey(postId));
+            return count != null ? count : 0L;
+        } catch (Exception e) {
+            log.warn("Redis error in getUniqueViewerCount: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    private String viewersKey(Long postId) {
+        String pattern = viewDedupMode == ViewDedupMode.HLL ? VIEWERS_HLL_KEY : VIEWED_USERS_KEY;
+        return Objects.requireNonNull(String.format(pattern, postId));
+    }
+
+    private String resolveViewerIdentifier(Long userId, String anonymousFingerprint) {
+        if (userId != null) {
+            return userId.toString();
+        }
+        if (anonymousFingerprint != null && !anonymousFingerprint.isBlank()) {
+            return ANONYMOUS_VIEWER + ":" + anonymousFingerprint;
+        }
+        return ANONYMOUS_VIEWER;
+    }
+
     /**
      * Redis에 저장된 현재 조회수 조회
      * Redis에 없으면 DB 값을 기준으로 해야 하므로 null 반환 가능
@@ -84,34 +178,76 @@ public class RedisPostService {
     }
 
     /**
-     * 동기화가 필요한 게시글 ID 목록 조회
+     * 동기화가 필요한 게시글 수
      */
-    public Set<Long> getDirtyPostIds() {
+    public long countDirtyPosts() {
         try {
-            Set<Object> members = redisTemplate.opsForSet().members(DIRTY_POSTS_KEY);
-            if (members == null)
-                return Set.of();
+            Long size = redisTemplate.opsForSet().size(DIRTY_POSTS_KEY);
+            return size != null ? size : 0L;
+        } catch (Exception e) {
+            log.warn("Redis error in countDirtyPosts: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * 동기화 대상 게시글 ID를 최대 count개 꺼냄 (SPOP - 꺼낸 ID는 Set에서 원자적으로 제거)
+     * - 꺼낸 뒤 새 조회가 들어오면 조회 스크립트가 다시 동기화 대상으로 등록
+     */
+    public List<Long> popDirtyPostIds(int count) {
+        try {
+            List<Object> members = redisTemplate.opsForSet().pop(DIRTY_POSTS_KEY, count);
+            if (members == null) {
+                return Collections.emptyList();
+            }
             return members.stream()
                     .map(obj -> Long.parseLong(obj.toString()))
-                    .collect(Collectors.toSet());
+                    .toList();
         } catch (Exception e) {
-            log.warn("Redis error in getDirtyPostIds: {}", e.getMessage());
-            return Set.of();
+            log.warn("Redis error in popDirtyPostIds: {}", e.getMessage());
+            return Collections.emptyList();
         }
     }
 
     /**
-     * 동기화 완료 후 Redis 데이터 정리 및 델타 차감
+     * DB 반영 실패 시 꺼낸 게시글 ID를 동기화 대상으로 되돌림
      */
-    public void clearDirtyPost(Long postId, int delta) {
+    public void restoreDirtyPosts(Collection<Long> postIds) {
+        if (postIds == null || postIds.isEmpty()) {
+            return;
+        }
         try {
-            redisTemplate.opsForSet().remove(DIRTY_POSTS_KEY, postId.toString());
-            // 반영된 만큼 차감
-            String key = String.format(VIEW_COUNT_KEY, postId);
-            redisTemplate.opsForValue().increment(Objects.requireNonNull(key), -delta);
-            redisTemplate.expire(Objects.requireNonNull(key), Objects.requireNonNull(Duration.ofHours(6)));
+            Object[] members = postIds.stream().map(Object::toString).toArray();
+            redisTemplate.opsForSet().add(DIRTY_POSTS_KEY, members);
         } catch (Exception e) {
-            log.warn("Redis error in clearDirtyPost: {}", e.getMessage());
+            log.warn("Redis error in restoreDirtyPosts: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에 반영된 만큼 Redis 조회수 델타 차감 (파이프라인으로 한 번의 왕복)
+     * - 반영 이후 증가분은 그대로 남아 다음 동기화에서 처리됨
+     */
+    public void acknowledgeSyncedViews(Map<Long, Integer> appliedDeltas) {
+        if (appliedDeltas == null || appliedDeltas.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    appliedDeltas.forEach((postId, delta) -> {
+                        String key = Objects.requireNonNull(String.format(VIEW_COUNT_KEY, postId));
+                        ops.opsForValue().decrement(key, delta);
+                        ops.expire(key, VIEW_COUNT_TTL);
+                    });
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis error in acknowledgeSyncedViews: {}", e.getMessage());
         }
     }
 
@@ -121,7 +257,7 @@ public class RedisPostService {
     public void cacheHotStatus(Long postId, boolean isHot) {
         try {
             redisTemplate.opsForValue().set(Objects.requireNonNull(String.format(HOT_STATUS_KEY, postId)), isHot,
-                    Objects.requireNonNull(Duration.ofMinutes(10)));
+                    HOT_STATUS_TTL);
         } catch (Exception e) {
             log.warn("Redis error in cacheHotStatus: {}", e.getMessage());
         }
@@ -140,24 +276,135 @@ public class RedisPostService {
         }
     }
 
+    /**
+     * HOT 점수 (전체 목록과 팀별 목록에 함께 반영)
+     */
+    public record HotScore(Long postId, String teamId, double score) {
+    }
+
     /**
      * HOT 게시글 점수 업데이트 (Sorted Set)
      */
-    public void updateHotScore(Long postId, double score) {
+    public void updateHotScore(HotScore hotScore) {
+        updateHotScores(List.of(hotScore));
+    }
+
+    /**
+     * HOT 게시글 점수 일괄 업데이트 (파이프라인으로 한 번의 왕복)
+     * - 전체 목록은 단일 ZADD, 팀별 목록은 팀마다 ZADD, 팀 인덱스는 SADD
+     */
+    public void updateHotScores(Collection<HotScore> scores) {
+        if (scores == null || scores.isEmpty()) {
+            return;
+        }
+        try {
+            Map<String, Set<ZSetOperations.TypedTuple<Object>>> tuplesByKey = groupByHotListKey(scores);
+            Object[] teamIds = teamIdsOf(scores);
+
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    tuplesByKey.forEach((key, tuples) -> ops.opsForZSet().add(key, tuples));
+                    if (teamIds.length > 0) {
+                        ops.opsForSet().add(HOT_TEAMS_KEY, teamIds);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis error in updateHotScores: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * HOT 목록 전체 교체 (점수 전략이 바뀌었을 때 재구축)
+     * - 임시 키에 새 점수를 채운 뒤 MULTI/EXEC 안에서 RENAME으로 교체해 기존 척도의 점수와 섞이지 않음
+     * - 새 점수에 없는 팀 목록은 삭제하고, 사용한 전략 이름을 함께 기록
+     */
+    public void replaceHotList(Collection<HotScore> scores, String strategy) {
+        try {
+            Map<String, Set<ZSetOperations.TypedTuple<Object>>> tuplesByKey = groupByHotListKey(scores);
+            Object[] teamIds = teamIdsOf(scores);
+            Set<String> staleKeys = new HashSet<>();
+            staleKeys.add(HOT_POSTS_ZSET_KEY);
+            Set<Object> previousTeamIds = redisTemplate.opsForSet().members(HOT_TEAMS_KEY);
+            if (previousTeamIds != null) {
+                previousTeamIds.forEach(teamId -> staleKeys.add(hotListKey(teamId.toString())));
+            }
+            staleKeys.removeAll(tuplesByKey.keySet());
+
+            redisTemplate.execute(new SessionCallback<List<Object>>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    tuplesByKey.forEach((key, tuples) -> {
+                        ops.delete(key + HOT_REBUILD_SUFFIX);
+                        ops.opsForZSet().add(key + HOT_REBUILD_SUFFIX, tuples);
+                    });
+                    ops.multi();
+                    tuplesByKey.keySet().forEach(key -> ops.rename(key + HOT_REBUILD_SUFFIX, key));
+                    if (!staleKeys.isEmpty()) {
+                        ops.delete(staleKeys);
+                    }
+                    ops.delete(HOT_TEAMS_KEY);
+                    if (teamIds.length > 0) {
+                        ops.opsForSet().add(HOT_TEAMS_KEY, teamIds);
+                    }
+                    ops.opsForValue().set(HOT_STRATEGY_KEY, strategy);
+                    return ops.exec();
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis error in replaceHotList: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * HOT 목록 점수를 계산한 전략 이름 (기록이 없으면 null)
+     */
+    public String getHotListStrategy() {
         try {
-            redisTemplate.opsForZSet().add(Objects.requireNonNull(HOT_POSTS_ZSET_KEY),
-                    Objects.requireNonNull(postId.toString()), score);
+            Object strategy = redisTemplate.opsForValue().get(HOT_STRATEGY_KEY);
+            return strategy != null ? strategy.toString() : null;
         } catch (Exception e) {
-            log.warn("Redis error in updateHotScore: {}", e.getMessage());
+            log.warn("Redis error in getHotListStrategy: {}", e.getMessage());
+            return null;
         }
     }
 
+    // 전체 목록과 팀별 목록에 넣을 (게시글 ID, 점수) 튜플
+    private Map<String, Set<ZSetOperations.TypedTuple<Object>>> groupByHotListKey(Collection<HotScore> scores) {
+        Map<String, Set<ZSetOperations.TypedTuple<Object>>> tuplesByKey = new HashMap<>();
+        for (HotScore hotScore : scores) {
+            ZSetOperations.TypedTuple<Object> tuple = ZSetOperations.TypedTuple
+                    .<Object>of(hotScore.postId().toString(), hotScore.score());
+            tuplesByKey.computeIfAbsent(HOT_POSTS_ZSET_KEY, k -> new HashSet<>()).add(tuple);
+            if (hotScore.teamId() != null) {
+                tuplesByKey.computeIfAbsent(hotListKey(hotScore.teamId()), k -> new HashSet<>()).add(tuple);
+            }
+        }
+        return tuplesByKey;
+    }
+
+    private static Object[] teamIdsOf(Collection<HotScore> scores) {
+        return scores.stream()
+                .map(HotScore::teamId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toArray();
+    }
+
     /**
      * HOT 게시글 ID 목록 조회 (점수 높은 순)
+     *
+     * @param teamId 팀 ID (null이면 전체 목록)
      */
-    public Set<Long> getHotPostIds(int start, int end) {
+    public Set<Long> getHotPostIds(String teamId, int start, int end) {
         try {
-            Set<Object> ids = redisTemplate.opsForZSet().reverseRange(HOT_POSTS_ZSET_KEY, start, end);
+            Set<Object> ids = redisTemplate.opsForZSet().reverseRange(hotListKey(teamId), start, end);
             if (ids == null)
                 return Set.of();
             return ids.stream()
@@ -170,17 +417,39 @@ public class RedisPostService {
     }
 
     /**
-     * HOT 목록에서 특정 게시글 제거
+     * HOT 목록 전체 크기 (ZCARD)
+     *
+     * @param teamId 팀 ID (null이면 전체 목록)
      */
-    public void removeFromHotList(Long postId) {
+    public long countHotPosts(String teamId) {
         try {
-            redisTemplate.opsForZSet().remove(Objects.requireNonNull(HOT_POSTS_ZSET_KEY),
-                    Objects.requireNonNull(postId.toString()));
+            Long size = redisTemplate.opsForZSet().zCard(hotListKey(teamId));
+            return size != null ? size : 0L;
+        } catch (Exception e) {
+            log.warn("Redis error in countHotPosts: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    /**
+     * HOT 목록에서 특정 게시글 제거 (전체 목록과 팀별 목록)
+     */
+    public void removeFromHotList(Long postId, String teamId) {
+        try {
+            String member = Objects.requireNonNull(postId.toString());
+            redisTemplate.opsForZSet().remove(HOT_POSTS_ZSET_KEY, member);
+            if (teamId != null) {
+                redisTemplate.opsForZSet().remove(hotListKey(teamId), member);
+            }
         } catch (Exception e) {
             log.warn("Redis error in removeFromHotList: {}", e.getMessage());
         }
     }
 
+    private String hotListKey(String teamId) {
+        return teamId != null ? String.format(TEAM_HOT_POSTS_ZSET_KEY, teamId) : HOT_POSTS_ZSET_KEY;
+    }
+
     /**
      * 여러 게시글의 조회수를 한 번에 조회 (Redis MGET)
      */
@@ -250,14 +519,43 @@ public class RedisPostService {
     }
 
     /**
-     * HOT 목록 상위 N개만 남기고 정리
+     * HOT 게시글 상태 일괄 캐싱 (파이프라인으로 한 번의 왕복)
+     * - MSET은 TTL을 지정할 수 없으므로 SET EX 명령을 파이프라인으로 묶어 전송
+     */
+    public void cacheHotStatuses(Map<Long, Boolean> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    statuses.forEach((postId, isHot) -> ops.opsForValue().set(
+                            Objects.requireNonNull(String.format(HOT_STATUS_KEY, postId)), isHot, HOT_STATUS_TTL));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis error in cacheHotStatuses: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * HOT 목록 상위 N개만 남기고 정리 (전체 목록과 팀별 목록)
      */
     public void pruneHotList(int limit) {
         try {
-            Long size = redisTemplate.opsForZSet().size(HOT_POSTS_ZSET_KEY);
-            if (size != null && size > limit) {
-                // 점수가 낮은 순(0부터)으로 (전체크기 - 리밋 - 1) 만큼 제거
-                redisTemplate.opsForZSet().removeRange(HOT_POSTS_ZSET_KEY, 0, size - limit - 1);
+            List<String> keys = new ArrayList<>();
+            keys.add(HOT_POSTS_ZSET_KEY);
+            Set<Object> teamIds = redisTemplate.opsForSet().members(HOT_TEAMS_KEY);
+            if (teamIds != null) {
+                teamIds.forEach(teamId -> keys.add(hotListKey(teamId.toString())));
+            }
+            for (String key : keys) {
+                // 점수가 낮은 순(0부터)으로 상위 limit개를 제외하고 제거
+                redisTemplate.opsForZSet().removeRange(key, 0, -limit - 1);
             }
         } catch (Exception e) {
             log.warn("Redis error in pruneHotList: {}", e.getMessage());
@@ -1,6 +1,8 @@
 package com.example.cheerboard.storage.client;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -38,6 +40,23 @@ public class SupabaseStorageClient {
                                 .doOnError(e -> log.error("Supabase upload failed: {}", e.getMessage()));
         }
 
+        public Mono<byte[]> download(String bucket, String path) {
+                // WebClient 기본 코덱 메모리 제한(256KB)을 피하기 위해 DataBuffer를 직접 합침
+                return DataBufferUtils.join(webClient.get()
+                                .uri(uriBuilder -> uriBuilder
+                                                .path("/storage/v1/object/{bucket}/{path}")
+                                                .build(bucket, path))
+                                .retrieve()
+                                .bodyToFlux(DataBuffer.class))
+                                .map(buffer -> {
+                                        byte[] bytes = new byte[buffer.readableByteCount()];
+                                        buffer.read(bytes);
+                                        DataBufferUtils.release(buffer);
+                                        return bytes;
+                                })
+                                .doOnError(e -> log.error("Supabase download failed: {}", e.getMessage()));
+        }
+
         public Mono<Void> delete(String bucket, String path) {
                 return webClient.delete()
                                 .uri(uriBuilder -> uriBuilder
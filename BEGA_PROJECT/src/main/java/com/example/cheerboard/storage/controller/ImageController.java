@@ -2,7 +2,9 @@ package com.example.cheerboard.storage.controller;
 
 import com.example.cheerboard.storage.dto.PostImageDto;
 import com.example.cheerboard.storage.dto.SignedUrlDto;
+import com.example.cheerboard.storage.entity.PostImage;
 import com.example.cheerboard.storage.service.ImageService;
+import com.example.common.exception.ImageProcessingBusyException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -39,12 +41,19 @@ public class ImageController {
         try {
             log.info("이미지 업로드 요청: postId={}, fileCount={}", postId, files.size());
             List<PostImageDto> uploaded = imageService.uploadPostImages(postId, files);
-            return ResponseEntity.status(HttpStatus.CREATED).body(uploaded);
+            // 비동기 처리 모드: 압축 작업 대기 중인 이미지가 있으면 202
+            boolean processing = uploaded.stream()
+                    .anyMatch(image -> PostImage.Status.PROCESSING.name().equals(image.status()));
+            return ResponseEntity.status(processing ? HttpStatus.ACCEPTED : HttpStatus.CREATED).body(uploaded);
 
         } catch (IllegalArgumentException e) {
             log.warn("이미지 업로드 검증 실패: postId={}, error={}", postId, e.getMessage());
             return ResponseEntity.badRequest().build();
 
+        } catch (ImageProcessingBusyException e) {
+            // 503 + Retry-After는 GlobalExceptionHandler에서 응답
+            throw e;
+
         } catch (Exception e) {
             log.error("이미지 업로드 실패: postId={}", postId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -1,7 +1,11 @@
 package com.example.cheerboard.storage.dto;
 
+import java.util.Map;
+
 /**
  * 게시글 이미지 응답 DTO
+ * - url: 원본(최대 1024px), variantUrls: 긴 변 크기별 파생 이미지 URL (목록/썸네일에서는 필요한 가장 작은 크기 사용)
+ * - status: PROCESSING(비동기 처리 중, URL 없음) / READY / FAILED
  */
 public record PostImageDto(
         Long id,
@@ -9,5 +13,7 @@ public record PostImageDto(
         String mimeType,
         Long bytes,
         Boolean isThumbnail,
-        String url) {
+        String url,
+        Map<Integer, String> variantUrls,
+        String status) {
 }
@@ -1,10 +1,12 @@
 package com.example.cheerboard.storage.entity;
 
 import com.example.cheerboard.domain.CheerPost;
+import com.example.common.image.ImageVariants;
 import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.Instant;
+import java.util.Map;
 
 /**
  * 게시글 이미지 엔티티
@@ -29,6 +31,7 @@ public class PostImage {
 
     /**
      * Supabase Storage 경로: posts/{postId}/{uuid}.{ext}
+     * 파생 이미지가 있으면 posts/{postId}/{uuid}_v160-480.{ext} (ImageVariants 참고)
      */
     @Column(name = "storage_path", nullable = false)
     private String storagePath;
@@ -46,6 +49,14 @@ public class PostImage {
     @Builder.Default
     private Boolean isThumbnail = false;
 
+    /**
+     * 처리 상태 (비동기 업로드 시 원본을 staging/에 올린 뒤 PROCESSING → 압축 작업 완료 후 READY)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.READY;
+
     @Column(name = "created_at", nullable = false)
     private Instant createdAt;
 
@@ -53,4 +64,21 @@ public class PostImage {
     void onCreate() {
         createdAt = Instant.now();
     }
+
+    public boolean isReady() {
+        return status == Status.READY;
+    }
+
+    /**
+     * 파생 이미지 스토리지 경로 (긴 변 크기 → 경로, 기존 업로드는 비어 있음)
+     */
+    public Map<Integer, String> getVariantPaths() {
+        return ImageVariants.paths(storagePath);
+    }
+
+    public enum Status {
+        PROCESSING, // 원본이 staging 경로에 있고 압축 작업 대기 중
+        READY,
+        FAILED // 압축할 수 없거나 재시도를 모두 소진한 파일 (staging 원본은 삭제됨)
+    }
 }
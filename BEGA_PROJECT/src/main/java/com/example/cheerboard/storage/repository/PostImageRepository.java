@@ -1,8 +1,14 @@
 package com.example.cheerboard.storage.repository;
 
 import com.example.cheerboard.storage.entity.PostImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +24,11 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
      */
     List<PostImage> findByPostIdInOrderByPostIdAscCreatedAtAsc(List<Long> postIds);
 
+    /**
+     * createdAt 이전에 만들어지고 아직 status인 이미지 (처리되지 못한 비동기 업로드 정리용)
+     */
+    List<PostImage> findByStatusAndCreatedAtBefore(PostImage.Status status, Instant createdAt, Pageable pageable);
+
     /**
      * 게시글의 이미지 개수 카운트
      */
@@ -32,4 +43,23 @@ public interface PostImageRepository extends JpaRepository<PostImage, Long> {
      * 게시글 삭제 시 모든 이미지 삭제 (CASCADE로 자동 처리됨)
      */
     void deleteByPostId(Long postId);
+
+    /**
+     * 압축 작업 결과로 경로 교체 후 READY (PROCESSING인 경우만, 그사이 삭제되었으면 0)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostImage i SET i.storagePath = :storagePath, i.mimeType = :mimeType, i.bytes = :bytes, "
+            + "i.status = :ready WHERE i.id = :id AND i.status = :processing")
+    int completeProcessing(@Param("id") Long id, @Param("storagePath") String storagePath,
+            @Param("mimeType") String mimeType, @Param("bytes") Long bytes,
+            @Param("ready") PostImage.Status ready, @Param("processing") PostImage.Status processing);
+
+    /**
+     * 상태 변경 (현재 상태가 from인 경우만)
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE PostImage i SET i.status = :to WHERE i.id = :id AND i.status = :from")
+    int updateStatus(@Param("id") Long id, @Param("from") PostImage.Status from, @Param("to") PostImage.Status to);
 }
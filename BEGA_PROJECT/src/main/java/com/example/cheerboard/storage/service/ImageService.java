@@ -1,23 +1,32 @@
 package com.example.cheerboard.storage.service;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.scheduling.JobScheduler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import static com.example.common.config.CacheConfig.POST_IMAGE_URLS;
 import static com.example.common.config.CacheConfig.SIGNED_URLS;
+import static com.example.common.transaction.TransactionHooks.runAfterCommit;
 
 import org.springframework.cache.CacheManager;
 
@@ -33,10 +42,15 @@ import com.example.cheerboard.storage.strategy.StorageStrategy;
 import com.example.cheerboard.storage.validator.ImageValidator;
 import com.example.cheerboard.storage.config.StorageConfig;
 import com.example.auth.entity.UserEntity;
+import com.example.common.image.ImageUtil;
+import com.example.common.image.ImageVariants;
+import com.example.common.image.StoredImageFile;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * 이미지 업로드/삭제/조회 서비스
@@ -48,6 +62,12 @@ import reactor.core.publisher.Mono;
 @Slf4j
 public class ImageService {
 
+    // 비동기 처리 전 원본을 두는 경로 접두사
+    private static final String STAGING_PREFIX = "staging";
+    // 재시도(최대 3회, 지수 백오프)가 모두 끝났다고 볼 시간 → 이후에도 PROCESSING이면 실패 처리
+    private static final Duration STALE_PROCESSING_TIMEOUT = Duration.ofHours(1);
+    private static final int STALE_PROCESSING_BATCH_SIZE = 100;
+
     private final PostImageRepository postImageRepo;
     private final CheerPostRepo postRepo;
     private final StorageStrategy storageStrategy; // OCI Object Storage Strategy
@@ -57,7 +77,13 @@ public class ImageService {
     // 리팩토링된 컴포넌트들
     private final PermissionValidator permissionValidator;
     private final CacheManager cacheManager;
-    private final com.example.common.image.ImageUtil imageUtil;
+    private final com.example.common.image.ImageProcessingExecutor imageProcessingExecutor;
+    private final ImageUtil imageUtil;
+    private final JobScheduler jobScheduler;
+
+    // true면 원본만 staging 경로에 올리고 응답, 압축/파생 이미지 생성은 JobRunr 작업에서 처리
+    @Value("${app.image.async-processing:false}")
+    private boolean asyncProcessing;
 
     /**
      * 게시글 이미지 업로드 (여러 파일)
@@ -77,46 +103,29 @@ public class ImageService {
         log.debug("현재 저장된 이미지 수: {}", currentCount);
         validator.validateFiles(files, (int) currentCount);
 
+        if (asyncProcessing) {
+            return stagePostImages(post, files);
+        }
+
         List<PostImageDto> uploadedImages = new ArrayList<>();
 
         // Async Result Helper
-        record UploadResult(String path, com.example.common.image.ImageUtil.ProcessedImage info) {
+        record UploadResult(String path, ImageUtil.ProcessedImage info) {
         }
 
-        // 1. Parallel Process & Upload
-        List<CompletableFuture<UploadResult>> futures = files.stream()
-                .map(file -> CompletableFuture.supplyAsync(() -> {
-                    try {
-                        // 1. 서버 사이드 이미지 압축 및 WebP 변환
-                        var processed = imageUtil.process(file);
-                        log.debug("이미지 처리 완료: 원본={}bytes -> 처리후={}bytes ({})",
-                                file.getSize(), processed.getSize(), processed.getExtension());
+        // 1. Parallel Process & Upload (압축은 CPU 전용 풀, 업로드는 I/O 스레드 / 포화 시 503)
+        List<CompletableFuture<UploadResult>> futures = imageProcessingExecutor.processAll(files, true,
+                (file, processed) -> {
+                    log.debug("이미지 처리 완료: 원본={}bytes -> 처리후={}bytes ({}), 파생={}",
+                            file.getSize(), processed.getSize(), processed.getExtension(),
+                            processed.getVariants().keySet());
 
-                        // 스토리지 경로 생성
-                        String storagePath = generateStoragePath("posts", postId, processed.getExtension());
+                    // 2. 스토리지 업로드 (Blocking IO in Async Thread)
+                    String uploadedPath = uploadProcessed(postId, processed, file.getOriginalFilename());
 
-                        // 2. 스토리지 업로드 (Blocking IO in Async Thread)
-                        log.debug("Parallel Upload Start: path={}", storagePath);
-
-                        // StorageStrategy.uploadBytes returns Mono<String> (path)
-                        String uploadedPath = storageStrategy.uploadBytes(
-                                processed.getBytes(),
-                                processed.getContentType(),
-                                config.getCheerBucket(),
-                                storagePath)
-                                .block();
-
-                        if (uploadedPath == null) {
-                            throw new RuntimeException("스토리지 업로드 결과가 null입니다.");
-                        }
-
-                        log.debug("Parallel Upload Success: path={}", uploadedPath);
-                        return new UploadResult(uploadedPath, processed);
-                    } catch (Exception e) {
-                        throw new RuntimeException("Async Upload Failed: " + file.getOriginalFilename(), e);
-                    }
-                }))
-                .toList();
+                    log.debug("Parallel Upload Success: path={}", uploadedPath);
+                    return new UploadResult(uploadedPath, processed);
+                });
 
         // 2. Wait for All & Handle Failures
         try {
@@ -148,19 +157,178 @@ public class ImageService {
             postImageRepo.save(Objects.requireNonNull(image));
             log.info("DB 저장 성공: imageId={}, path={}", image.getId(), res.path());
 
-            uploadedImages.add(new PostImageDto(
-                    image.getId(),
-                    image.getStoragePath(),
-                    image.getMimeType(),
-                    image.getBytes(),
-                    image.getIsThumbnail(),
-                    generateSignedUrl(image.getStoragePath())));
+            uploadedImages.add(toDto(image));
         }
 
         log.info("이미지 업로드 완료: postId={}, 성공 {}개", postId, uploadedImages.size());
         return uploadedImages;
     }
 
+    /**
+     * 비동기 업로드 1단계: 원본을 그대로 staging 경로에 올리고 PROCESSING 상태로 저장
+     * - 압축/파생 이미지 생성은 커밋 후 등록되는 processStagedImage 작업에서 처리
+     * - 원본 업로드는 파일별로 병렬 실행 (요청 스레드에서는 디코딩/인코딩 없음)
+     */
+    private List<PostImageDto> stagePostImages(CheerPost post, List<MultipartFile> files) {
+        Long postId = post.getId();
+        List<String> stagingPaths = files.stream()
+                .map(file -> generateStoragePath(STAGING_PREFIX + "/posts", postId,
+                        validator.getFileExtension(file.getOriginalFilename()).toLowerCase()))
+                .toList();
+
+        try {
+            Flux.range(0, files.size())
+                    .flatMapSequential(i -> storageStrategy.uploadStream(
+                            files.get(i),
+                            files.get(i).getSize(),
+                            files.get(i).getContentType(),
+                            config.getCheerBucket(),
+                            stagingPaths.get(i))
+                            .subscribeOn(Schedulers.boundedElastic()))
+                    .then()
+                    .block();
+        } catch (Exception e) {
+            log.error("staging 업로드 중 오류 발생. 보상 삭제 수행.", e);
+            compensateUploadFailure(stagingPaths);
+            throw new RuntimeException("이미지 업로드 중 오류가 발생했습니다.", e);
+        }
+
+        List<PostImageDto> stagedImages = new ArrayList<>();
+        List<Long> imageIds = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            // 작업에서 다시 읽고 지울 수 있도록 실제 키(stagingPath)를 저장
+            PostImage image = postImageRepo.save(Objects.requireNonNull(PostImage.builder()
+                    .post(post)
+                    .storagePath(stagingPaths.get(i))
+                    .mimeType(files.get(i).getContentType())
+                    .bytes(files.get(i).getSize())
+                    .isThumbnail(false)
+                    .status(PostImage.Status.PROCESSING)
+                    .build()));
+            imageIds.add(image.getId());
+            stagedImages.add(toDto(image));
+        }
+
+        runAfterCommit(() -> imageIds.forEach(imageId -> jobScheduler.enqueue(() -> processStagedImage(imageId))));
+        log.info("이미지 staging 완료, 처리 작업 등록: postId={}, {}개", postId, stagedImages.size());
+        return stagedImages;
+    }
+
+    /**
+     * 비동기 업로드 2단계: staging 원본 압축 + 파생 이미지 생성 → 경로 교체 → 목록 캐시 무효화
+     * - PROCESSING이 아니면(이미 처리됨/삭제됨) 아무것도 하지 않음 (재시도 안전)
+     * - 압축할 수 없는 파일(해상도 초과 등)은 FAILED로 표시하고 재시도하지 않음
+     * - 일시 오류로 재시도를 모두 소진한 이미지는 failStaleProcessingImages가 FAILED로 정리
+     */
+    @Job(name = "Process Staged Post Image", retries = 3)
+    public void processStagedImage(Long imageId) {
+        PostImage image = postImageRepo.findById(Objects.requireNonNull(imageId)).orElse(null);
+        if (image == null || image.getStatus() != PostImage.Status.PROCESSING) {
+            return;
+        }
+        Long postId = image.getPost().getId();
+        String stagingPath = image.getStoragePath();
+
+        byte[] original = storageStrategy.download(config.getCheerBucket(), stagingPath).block();
+        if (original == null) {
+            throw new IllegalStateException("staging 원본을 읽을 수 없습니다: " + stagingPath);
+        }
+
+        ImageUtil.ProcessedImage processed;
+        try {
+            processed = imageUtil.processWithVariants(new StoredImageFile(
+                    stagingPath.substring(stagingPath.lastIndexOf('/') + 1), image.getMimeType(), original));
+        } catch (IllegalArgumentException e) {
+            log.warn("이미지 처리 불가, FAILED로 표시: imageId={}, error={}", imageId, e.getMessage());
+            failProcessing(imageId, postId, stagingPath);
+            return;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String uploadedPath = uploadProcessed(postId, processed, stagingPath);
+        int updated = postImageRepo.completeProcessing(imageId, uploadedPath, processed.getContentType(),
+                processed.getSize(), PostImage.Status.READY, PostImage.Status.PROCESSING);
+        if (updated == 0) {
+            // 처리 중 이미지/게시글이 삭제됨 → 방금 올린 결과 정리
+            log.info("처리 중 삭제된 이미지, 결과 정리: imageId={}", imageId);
+            compensateUploadFailure(List.of(uploadedPath));
+            return;
+        }
+
+        try {
+            storageStrategy.delete(config.getCheerBucket(), stagingPath).block();
+        } catch (Exception e) {
+            log.warn("staging 원본 삭제 실패: path={}, error={}", stagingPath, e.getMessage());
+        }
+        evictPostImageCache(postId);
+        log.info("이미지 비동기 처리 완료: imageId={}, path={}, variants={}",
+                imageId, uploadedPath, processed.getVariants().keySet());
+    }
+
+    /**
+     * 재시도를 모두 소진해 PROCESSING으로 남은 이미지를 FAILED로 표시하고 staging 원본 삭제
+     *
+     * @return 실패 처리한 이미지 수
+     */
+    public int failStaleProcessingImages() {
+        Instant cutoff = Instant.now().minus(STALE_PROCESSING_TIMEOUT);
+        List<PostImage> stale = postImageRepo.findByStatusAndCreatedAtBefore(PostImage.Status.PROCESSING, cutoff,
+                PageRequest.of(0, STALE_PROCESSING_BATCH_SIZE));
+        int failed = 0;
+        for (PostImage image : stale) {
+            if (failProcessing(image.getId(), image.getPost().getId(), image.getStoragePath())) {
+                failed++;
+            }
+        }
+        if (failed > 0) {
+            log.warn("처리되지 못한 이미지 FAILED 처리: {}개", failed);
+        }
+        return failed;
+    }
+
+    /**
+     * PROCESSING → FAILED 후 staging 원본 삭제 (이미 다른 상태면 아무것도 하지 않음)
+     */
+    private boolean failProcessing(Long imageId, Long postId, String stagingPath) {
+        if (postImageRepo.updateStatus(imageId, PostImage.Status.PROCESSING, PostImage.Status.FAILED) == 0) {
+            return false;
+        }
+        try {
+            storageStrategy.delete(config.getCheerBucket(), stagingPath).block();
+        } catch (Exception e) {
+            log.warn("staging 원본 삭제 실패: path={}, error={}", stagingPath, e.getMessage());
+        }
+        evictPostImageCache(postId);
+        return true;
+    }
+
+    /**
+     * 처리 결과(본 이미지 + 파생 이미지) 업로드 후 저장 경로 반환
+     */
+    private String uploadProcessed(Long postId, ImageUtil.ProcessedImage processed, String source) {
+        // 스토리지 경로 생성 (파생 이미지 크기 목록 포함)
+        String storagePath = ImageVariants.withSizes(
+                generateStoragePath("posts", postId, processed.getExtension()),
+                processed.getVariants().keySet());
+        log.debug("Upload Start: path={}", storagePath);
+
+        // 처리 결과 버퍼/원본 파일을 복사 없이 스트림으로 업로드 (Mono<String> path)
+        String uploadedPath = storageStrategy.uploadStream(
+                processed,
+                processed.getSize(),
+                processed.getContentType(),
+                config.getCheerBucket(),
+                storagePath)
+                .block();
+
+        if (uploadedPath == null) {
+            throw new RuntimeException("스토리지 업로드 결과가 null입니다: " + source);
+        }
+        uploadVariants(processed, uploadedPath);
+        return uploadedPath;
+    }
+
     /**
      * 게시글 이미지 목록 조회
      */
@@ -169,13 +337,7 @@ public class ImageService {
         List<PostImage> images = postImageRepo.findByPostIdOrderByCreatedAtAsc(postId);
 
         return images.stream()
-                .map(image -> new PostImageDto(
-                        image.getId(),
-                        image.getStoragePath(),
-                        image.getMimeType(),
-                        image.getBytes(),
-                        image.getIsThumbnail(),
-                        generateSignedUrl(image.getStoragePath())))
+                .map(this::toDto)
                 .toList();
     }
 
@@ -209,6 +371,7 @@ public class ImageService {
         log.debug("DB에서 조회된 이미지 수: {}", images.size());
 
         List<String> urls = images.stream()
+                .filter(PostImage::isReady)
                 .map(image -> {
                     String url = generateSignedUrl(image.getStoragePath());
                     log.debug("이미지 URL 생성: path={}, url={}", image.getStoragePath(), url != null ? "성공" : "실패");
@@ -260,6 +423,10 @@ public class ImageService {
         Map<Long, List<String>> groupedUrls = new HashMap<>();
 
         for (PostImage image : images) {
+            if (!image.isReady()) {
+                // 처리 중인 이미지는 작업 완료 후 캐시 무효화 시점에 포함됨
+                continue;
+            }
             Long postId = image.getPost().getId();
             String url = generateSignedUrl(image.getStoragePath());
             if (url == null || url.isEmpty()) {
@@ -297,17 +464,19 @@ public class ImageService {
         // 1. DB 삭제
         postImageRepo.delete(image);
 
-        // 2. 스토리지 삭제
-        try {
-            storageStrategy.delete(config.getCheerBucket(), image.getStoragePath()).block();
-        } catch (Exception e) {
-            log.error("스토리지 삭제 실패 (DB는 이미 삭제됨): path={}", image.getStoragePath(), e);
-            // DB는 이미 삭제되었으므로 스토리지 삭제 실패는 로그만 남김
+        // 2. 스토리지 삭제 (파생 이미지 포함)
+        for (String path : withVariantPaths(image.getStoragePath())) {
+            try {
+                storageStrategy.delete(config.getCheerBucket(), path).block();
+            } catch (Exception e) {
+                log.error("스토리지 삭제 실패 (DB는 이미 삭제됨): path={}", path, e);
+                // DB는 이미 삭제되었으므로 스토리지 삭제 실패는 로그만 남김
+            }
+            evictSignedUrlCache(path);
         }
 
         // 3. 이미지 URL 캐시 무효화
         evictPostImageCache(postId);
-        evictSignedUrlCache(image.getStoragePath());
     }
 
     /**
@@ -337,15 +506,17 @@ public class ImageService {
 
         boolean allSuccess = true;
 
-        // 스토리지 삭제
+        // 스토리지 삭제 (파생 이미지 포함)
         for (PostImage image : images) {
-            try {
-                storageStrategy.delete(config.getCheerBucket(), image.getStoragePath()).block();
-                // 개별 Signed URL 캐시 무효화
-                evictSignedUrlCache(image.getStoragePath());
-            } catch (Exception e) {
-                log.error("스토리지 이미지 삭제 실패: path={}, error={}", image.getStoragePath(), e.getMessage());
-                allSuccess = false;
+            for (String path : withVariantPaths(image.getStoragePath())) {
+                try {
+                    storageStrategy.delete(config.getCheerBucket(), path).block();
+                    // 개별 Signed URL 캐시 무효화
+                    evictSignedUrlCache(path);
+                } catch (Exception e) {
+                    log.error("스토리지 이미지 삭제 실패: path={}, error={}", path, e.getMessage());
+                    allSuccess = false;
+                }
             }
         }
 
@@ -405,13 +576,7 @@ public class ImageService {
         image.setIsThumbnail(true);
         postImageRepo.save(image);
 
-        return new PostImageDto(
-                image.getId(),
-                image.getStoragePath(),
-                image.getMimeType(),
-                image.getBytes(),
-                image.getIsThumbnail(),
-                generateSignedUrl(image.getStoragePath()));
+        return toDto(image);
     }
 
     /**
@@ -453,11 +618,69 @@ public class ImageService {
         }
     }
 
+    /**
+     * 응답 DTO (처리 중인 이미지는 URL 없이 상태만)
+     */
+    private PostImageDto toDto(PostImage image) {
+        return new PostImageDto(
+                image.getId(),
+                image.getStoragePath(),
+                image.getMimeType(),
+                image.getBytes(),
+                image.getIsThumbnail(),
+                image.isReady() ? generateSignedUrl(image.getStoragePath()) : null,
+                image.isReady() ? generateVariantUrls(image) : Map.of(),
+                image.getStatus().name());
+    }
+
+    /**
+     * 파생 이미지 서명 URL (긴 변 크기 → URL)
+     */
+    private Map<Integer, String> generateVariantUrls(PostImage image) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        image.getVariantPaths().forEach((size, path) -> {
+            String url = generateSignedUrl(path);
+            if (url != null && !url.isBlank()) {
+                urls.put(size, url);
+            }
+        });
+        return urls;
+    }
+
+    /**
+     * 파생 이미지 업로드 (storagePath에서 정해진 키로)
+     * - 하나라도 실패하면 이 파일의 원본/파생 이미지를 지우고 실패 처리
+     */
+    private void uploadVariants(ImageUtil.ProcessedImage processed, String storagePath) {
+        try {
+            processed.getVariants().forEach((size, variant) -> storageStrategy.uploadStream(
+                    variant,
+                    variant.getSize(),
+                    variant.getContentType(),
+                    config.getCheerBucket(),
+                    ImageVariants.pathFor(storagePath, size))
+                    .block());
+        } catch (RuntimeException e) {
+            compensateUploadFailure(List.of(storagePath));
+            throw e;
+        }
+    }
+
+    /**
+     * 원본 경로 + 파생 이미지 경로
+     */
+    private static List<String> withVariantPaths(String storagePath) {
+        List<String> paths = new ArrayList<>();
+        paths.add(storagePath);
+        paths.addAll(ImageVariants.paths(storagePath).values());
+        return paths;
+    }
+
     /**
      * 업로드 실패 시 보상 트랜잭션: 이미 업로드된 파일들 삭제
      */
     private void compensateUploadFailure(List<String> uploadedPaths) {
-        for (String path : uploadedPaths) {
+        for (String path : uploadedPaths.stream().flatMap(p -> withVariantPaths(p).stream()).toList()) {
             try {
                 storageStrategy.delete(config.getCheerBucket(), path).block();
                 log.info("보상 삭제 성공: path={}", path);
@@ -496,37 +719,27 @@ public class ImageService {
                             config.getMaxImagesPerDiary())));
         }
 
-        // 1. Process and Upload in Parallel using CompletableFuture (matching
-        // uploadPostImages style for consistency)
+        // 1. Process and Upload in Parallel (uploadPostImages와 같은 전용 실행기 사용)
         return Mono.fromCallable(() -> {
-            List<CompletableFuture<String>> futures = files.stream()
-                    .map(file -> CompletableFuture.supplyAsync(() -> {
-                        try {
-                            // 이미지 압축 및 WebP 변환
-                            var processed = imageUtil.process(file);
-
-                            String fileName = UUID.randomUUID() + "." + processed.getExtension();
-                            String storagePath = String.format("diary/%d/%d/%s",
-                                    Objects.requireNonNull(userId).longValue(),
-                                    Objects.requireNonNull(diaryId).longValue(),
-                                    fileName);
-
-                            log.debug("다이어리 이미지 처리 완료: {}, {}bytes", storagePath, processed.getSize());
-
-                            // 스토리지 업로드
-                            String uploadedPath = storageStrategy.uploadBytes(
-                                    processed.getBytes(),
-                                    processed.getContentType(),
-                                    config.getDiaryBucket(),
-                                    storagePath)
-                                    .block();
-
-                            return uploadedPath;
-                        } catch (Exception e) {
-                            throw new RuntimeException("다이어리 이미지 업로드 실패: " + file.getOriginalFilename(), e);
-                        }
-                    }))
-                    .toList();
+            List<CompletableFuture<String>> futures = imageProcessingExecutor.processAll(files,
+                    (file, processed) -> {
+                        String fileName = UUID.randomUUID() + "." + processed.getExtension();
+                        String storagePath = String.format("diary/%d/%d/%s",
+                                Objects.requireNonNull(userId).longValue(),
+                                Objects.requireNonNull(diaryId).longValue(),
+                                fileName);
+
+                        log.debug("다이어리 이미지 처리 완료: {}, {}bytes", storagePath, processed.getSize());
+
+                        // 스토리지 업로드
+                        return storageStrategy.uploadStream(
+                                processed,
+                                processed.getSize(),
+                                processed.getContentType(),
+                                config.getDiaryBucket(),
+                                storagePath)
+                                .block();
+                    });
 
             try {
                 CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
@@ -598,5 +811,4 @@ public class ImageService {
             return urls;
         });
     }
-
 }
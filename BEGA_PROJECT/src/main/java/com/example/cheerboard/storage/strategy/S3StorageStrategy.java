@@ -1,15 +1,19 @@
 package com.example.cheerboard.storage.strategy;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.InputStreamSource;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.Duration;
 
 /**
@@ -69,6 +73,55 @@ public class S3StorageStrategy implements StorageStrategy {
         });
     }
 
+    /**
+     * SDK가 요청마다(재시도 포함) source에서 새 스트림을 열어 읽음
+     * - RequestBody.fromBytes/fromByteBuffer는 방어적 복사를 하므로 사용하지 않음
+     */
+    @Override
+    public Mono<String> uploadStream(InputStreamSource source, long contentLength, String contentType,
+            String bucket, String path) {
+        return Mono.fromCallable(() -> {
+            try {
+                String fullPath = bucket + "/" + path;
+
+                PutObjectRequest putOb = PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(fullPath)
+                        .contentType(contentType)
+                        .build();
+
+                s3Client.putObject(putOb, RequestBody.fromContentProvider(() -> {
+                    try {
+                        return source.getInputStream();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, contentLength, contentType));
+                return fullPath;
+            } catch (Exception e) {
+                throw new RuntimeException("S3 업로드 실패", e);
+            }
+        });
+    }
+
+    @Override
+    public Mono<byte[]> download(String bucket, String path) {
+        return Mono.fromCallable(() -> {
+            try {
+                String fullPath = bucket + "/" + path;
+                GetObjectRequest getOb = GetObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(fullPath)
+                        .build();
+
+                // 응답 버퍼를 그대로 사용 (asByteArray는 복사)
+                return s3Client.getObjectAsBytes(getOb).asByteArrayUnsafe();
+            } catch (Exception e) {
+                throw new RuntimeException("S3 다운로드 실패", e);
+            }
+        });
+    }
+
     @Override
     public Mono<Void> delete(String bucket, String path) {
         return Mono.fromRunnable(() -> {
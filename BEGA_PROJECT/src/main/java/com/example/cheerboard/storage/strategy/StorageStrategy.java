@@ -1,8 +1,11 @@
 package com.example.cheerboard.storage.strategy;
 
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.web.multipart.MultipartFile;
 import reactor.core.publisher.Mono;
 
+import java.io.InputStream;
+
 /**
  * 스토리지 전략 인터페이스 (OCI vs Local)
  */
@@ -29,6 +32,35 @@ public interface StorageStrategy {
      */
     Mono<String> uploadBytes(byte[] bytes, String contentType, String bucket, String path);
 
+    /**
+     * 스트림 업로드 (재시도 시 source에서 스트림을 다시 엶)
+     * - 기본 구현은 전체를 읽어 uploadBytes로 위임, 스트리밍을 지원하는 스토리지는 복사 없이 재정의
+     *
+     * @param source        업로드할 데이터
+     * @param contentLength 데이터 크기 (bytes)
+     * @param contentType   MIME 타입
+     * @param bucket        버킷명
+     * @param path          저장 경로
+     * @return 저장된 경로
+     */
+    default Mono<String> uploadStream(InputStreamSource source, long contentLength, String contentType,
+            String bucket, String path) {
+        return Mono.fromCallable(() -> {
+            try (InputStream in = source.getInputStream()) {
+                return in.readAllBytes();
+            }
+        }).flatMap(bytes -> uploadBytes(bytes, contentType, bucket, path));
+    }
+
+    /**
+     * 파일 다운로드 (비동기 이미지 처리에서 staging 원본을 읽을 때 사용)
+     *
+     * @param bucket 버킷명
+     * @param path   파일 경로
+     * @return 파일 내용
+     */
+    Mono<byte[]> download(String bucket, String path);
+
     /**
      * 파일 삭제
      * 
@@ -32,6 +32,12 @@ public class SupabaseStorageStrategy implements StorageStrategy {
         return client.upload(bytes, targetBucket, path, contentType);
     }
 
+    @Override
+    public Mono<byte[]> download(String bucket, String path) {
+        String targetBucket = bucket != null ? bucket : defaultBucket;
+        return client.download(targetBucket, path);
+    }
+
     @Override
     public Mono<Void> delete(String bucket, String path) {
         String targetBucket = bucket != null ? bucket : defaultBucket;
@@ -1,10 +1,12 @@
 package com.example.cheerboard.storage.validator;
 
 import com.example.cheerboard.storage.config.StorageConfig;
+import com.example.common.image.ImageUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Set;
 
@@ -17,6 +19,7 @@ import java.util.Set;
 public class ImageValidator {
 
     private final StorageConfig config;
+    private final ImageUtil imageUtil;
 
     /**
      * 허용된 확장자
@@ -70,6 +73,17 @@ public class ImageValidator {
         }
     }
 
+    /**
+     * 해상도 검증 (헤더만 읽음, 압축 폭탄은 처리 대기열에 넣기 전에 거절)
+     */
+    public void validateDimensions(MultipartFile file) {
+        try {
+            imageUtil.checkDimensions(file);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다.");
+        }
+    }
+
     /**
      * 업로드 파일 개수 검증
      */
@@ -99,6 +113,7 @@ public class ImageValidator {
         validateExtension(originalFilename);
         validateMimeType(file.getContentType());
         validateSize(file.getSize());
+        validateDimensions(file);
     }
 
     /**
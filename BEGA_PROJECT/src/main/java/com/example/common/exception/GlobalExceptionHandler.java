@@ -20,6 +20,7 @@ import com.example.notification.exception.NotificationNotFoundException;
 import com.example.stadium.exception.StadiumNotFoundException;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -143,6 +144,18 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error("파일 크기가 제한을 초과했습니다. (최대 10MB)"));
     }
 
+    /**
+     * 503 Service Unavailable - 이미지 처리 대기열 포화
+     */
+    @ExceptionHandler(ImageProcessingBusyException.class)
+    public ResponseEntity<ApiResponse> handleImageProcessingBusyException(ImageProcessingBusyException e) {
+        log.warn("ImageProcessingBusyException: {}", e.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
     /**
      * 500 Internal Server Error - 예상하지 못한 모든 예외
      */
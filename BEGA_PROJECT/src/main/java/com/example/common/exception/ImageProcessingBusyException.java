@@ -0,0 +1,17 @@
+package com.example.common.exception;
+
+import lombok.Getter;
+
+/**
+ * 이미지 처리 대기열이 가득 차 요청을 받을 수 없음 (503 + Retry-After)
+ */
+@Getter
+public class ImageProcessingBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ImageProcessingBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.common.image;
+
+import com.example.common.exception.ImageProcessingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이미지 압축/업로드 전용 실행기
+ * - 압축(WebP 인코딩)은 CPU 코어 수만큼의 전용 스레드 풀, 스토리지 업로드(blocking)는 가상 스레드에서 실행
+ *   → 공용 ForkJoinPool을 점유하지 않음
+ * - 요청 단위로 파일 수만큼(최대 max-pending-files) 허용량을 한 번에 확보하고, 부족하면 처리 전에 ImageProcessingBusyException(503)
+ *   (일부 파일만 업로드된 뒤 거절되어 보상 삭제가 필요한 상황을 만들지 않음)
+ * - 대기열 깊이/처리 중 파일 수 게이지와 압축/업로드 소요 시간 타이머 노출
+ */
+@Slf4j
+@Component
+public class ImageProcessingExecutor {
+
+    /**
+     * 압축된 이미지를 스토리지에 올리고 결과를 반환
+     */
+    @FunctionalInterface
+    public interface Uploader<T> {
+        T upload(MultipartFile file, ImageUtil.ProcessedImage processed) throws Exception;
+    }
+
+    private final ImageUtil imageUtil;
+    private final ThreadPoolExecutor cpuExecutor;
+    private final ExecutorService ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore admission;
+    private final int maxPendingFiles;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer uploadTimer;
+    private final Counter rejectedRequests;
+
+    public ImageProcessingExecutor(ImageUtil imageUtil, MeterRegistry meterRegistry,
+            @Value("${app.image.cpu-threads:0}") int cpuThreads,
+            @Value("${app.image.max-pending-files:0}") int maxPendingFiles,
+            @Value("${app.image.retry-after-seconds:5}") long retryAfterSeconds) {
+        int threads = cpuThreads > 0 ? cpuThreads : Runtime.getRuntime().availableProcessors();
+        this.imageUtil = imageUtil;
+        // 대기열 길이는 admission이 제한하므로 큐 자체는 무제한
+        this.cpuExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), Thread.ofPlatform().name("image-cpu-", 0).daemon().factory());
+        this.maxPendingFiles = maxPendingFiles > 0 ? maxPendingFiles : threads * 4;
+        this.admission = new Semaphore(this.maxPendingFiles);
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        this.encodeTimer = Timer.builder("image.processing.encode")
+                .description("Image compression/WebP encoding time")
+                .register(meterRegistry);
+        this.uploadTimer = Timer.builder("image.processing.upload")
+                .description("Processed image storage upload time")
+                .register(meterRegistry);
+        this.rejectedRequests = Counter.builder("image.processing.rejected")
+                .description("Image upload requests rejected because the processing queue was full")
+                .register(meterRegistry);
+        Gauge.builder("image.processing.queue.depth", cpuExecutor, executor -> executor.getQueue().size())
+                .description("Images waiting for an encoding thread")
+                .register(meterRegistry);
+        Gauge.builder("image.processing.in.flight", admission,
+                        semaphore -> this.maxPendingFiles - semaphore.availablePermits())
+                .description("Images admitted and not yet uploaded")
+                .register(meterRegistry);
+        log.info("Image processing executor: cpuThreads={}, maxPendingFiles={}", threads, this.maxPendingFiles);
+    }
+
+    /**
+     * 파일마다 압축 → 업로드를 비동기로 실행 (입력 순서대로 future 반환)
+     *
+     * @throws ImageProcessingBusyException 대기 중인 파일이 max-pending-files를 넘는 경우
+     */
+    public <T> List<CompletableFuture<T>> processAll(List<MultipartFile> files, Uploader<T> uploader) {
+        return processAll(files, false, uploader);
+    }
+
+    /**
+     * processAll + withVariants이면 파생 이미지(ImageUtil.processWithVariants)까지 생성
+     */
+    public <T> List<CompletableFuture<T>> processAll(List<MultipartFile> files, boolean withVariants,
+            Uploader<T> uploader) {
+        if (files.isEmpty()) {
+            return List.of();
+        }
+        // 허용량보다 파일이 많은 요청(게시글 최대 10장)도 유휴 상태에서는 받도록 허용량 전체까지만 확보
+        int permits = Math.min(files.size(), maxPendingFiles);
+        if (!admission.tryAcquire(permits)) {
+            rejectedRequests.increment();
+            throw new ImageProcessingBusyException(
+                    "이미지 처리 요청이 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+        List<CompletableFuture<T>> futures = new ArrayList<>(files.size());
+        try {
+            for (MultipartFile file : files) {
+                futures.add(submit(file, withVariants, uploader, futures.size() < permits));
+            }
+        } catch (RuntimeException e) {
+            // 제출하지 못한 파일 몫의 허용량 반환
+            admission.release(Math.max(0, permits - futures.size()));
+            throw e;
+        }
+        return futures;
+    }
+
+    private <T> CompletableFuture<T> submit(MultipartFile file, boolean withVariants, Uploader<T> uploader,
+            boolean holdsPermit) {
+        CompletableFuture<T> future = CompletableFuture
+                .supplyAsync(() -> encodeTimer.record(() -> encode(file, withVariants)), cpuExecutor)
+                .thenApplyAsync(processed -> uploadTimer.record(() -> upload(file, processed, uploader)), ioExecutor);
+        return holdsPermit ? future.whenComplete((result, error) -> admission.release()) : future;
+    }
+
+    private ImageUtil.ProcessedImage encode(MultipartFile file, boolean withVariants) {
+        try {
+            return withVariants ? imageUtil.processWithVariants(file) : imageUtil.process(file);
+        } catch (Exception e) {
+            throw new CompletionException(new RuntimeException("이미지 처리 실패: " + file.getOriginalFilename(), e));
+        }
+    }
+
+    private static <T> T upload(MultipartFile file, ImageUtil.ProcessedImage processed, Uploader<T> uploader) {
+        try {
+            return uploader.upload(file, processed);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        cpuExecutor.shutdown();
+        ioExecutor.shutdown();
+    }
+}
@@ -2,13 +2,32 @@ package com.example.common.image;
 
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.resizers.configurations.Antialiasing;
+import net.coobird.thumbnailator.resizers.configurations.Rendering;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * Common Image Processing Utility
@@ -23,6 +42,16 @@ public class ImageUtil {
     private static final int MAX_HEIGHT = 1024;
     private static final double COMPRESSION_QUALITY = 0.70;
     private static final long COMPRESSION_THRESHOLD_BYTES = 1024 * 1024; // 1MB
+    private static final int ENCODE_BUFFER_INITIAL_BYTES = 256 * 1024; // 1024px WebP 결과가 대부분 들어가는 크기
+    private static final long DEFAULT_MAX_PIXELS = 100_000_000L; // 1억 화소 (ARGB 전체 디코딩 시 약 400MB)
+
+    // 허용 최대 화소 수 (가로x세로, 압축 폭탄 방지)
+    @Value("${app.image.max-pixels:100000000}")
+    private long maxPixels = DEFAULT_MAX_PIXELS;
+
+    // 게시글/프로필 이미지와 함께 생성할 파생 이미지 크기 (긴 변 px)
+    @Value("${app.image.variant-sizes:160,480}")
+    private List<Integer> variantSizes = List.of(160, 480);
 
     @jakarta.annotation.PostConstruct
     public void init() {
@@ -45,19 +74,59 @@ public class ImageUtil {
                 java.util.Arrays.toString(javax.imageio.ImageIO.getWriterFormatNames()));
     }
 
-    public static class ProcessedImage {
-        private final byte[] bytes;
+    /**
+     * 처리 결과
+     * - 압축한 경우 인코딩 버퍼를 복사하지 않고 앞 size 바이트만 사용
+     * - 압축하지 않은 경우 원본 파일을 스트림으로만 읽음 (byte[]로 올리지 않음)
+     * - 업로드는 getInputStream()으로 (재시도 시 매번 새 스트림)
+     */
+    public static class ProcessedImage implements InputStreamSource {
+        private final byte[] buffer;
+        private final int length;
+        private final MultipartFile original;
         private final String contentType;
         private final String extension;
+        private final Map<Integer, ProcessedImage> variants;
 
         public ProcessedImage(byte[] bytes, String contentType, String extension) {
-            this.bytes = bytes;
+            this(bytes, bytes.length, null, contentType, extension, Map.of());
+        }
+
+        private ProcessedImage(byte[] buffer, int length, MultipartFile original, String contentType,
+                String extension, Map<Integer, ProcessedImage> variants) {
+            this.buffer = buffer;
+            this.length = length;
+            this.original = original;
             this.contentType = contentType;
             this.extension = extension;
+            this.variants = variants;
+        }
+
+        static ProcessedImage encoded(byte[] buffer, int length, String contentType, String extension) {
+            return new ProcessedImage(buffer, length, null, contentType, extension, Map.of());
         }
 
-        public byte[] getBytes() {
-            return bytes;
+        static ProcessedImage original(MultipartFile file, String contentType, String extension) {
+            return new ProcessedImage(null, (int) file.getSize(), file, contentType, extension, Map.of());
+        }
+
+        ProcessedImage withVariants(Map<Integer, ProcessedImage> variants) {
+            return new ProcessedImage(buffer, length, original, contentType, extension, Map.copyOf(variants));
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return original != null ? original.getInputStream() : new ByteArrayInputStream(buffer, 0, length);
+        }
+
+        /**
+         * 전체 바이트 (복사가 생길 수 있으므로 업로드에는 getInputStream 사용)
+         */
+        public byte[] getBytes() throws IOException {
+            if (original != null) {
+                return original.getBytes();
+            }
+            return length == buffer.length ? buffer : Arrays.copyOf(buffer, length);
         }
 
         public String getContentType() {
@@ -69,27 +138,86 @@ public class ImageUtil {
         }
 
         public long getSize() {
-            return bytes.length;
+            return original != null ? original.getSize() : length;
+        }
+
+        /**
+         * 함께 생성된 파생 이미지 (긴 변 크기 → 이미지, 압축하지 않은 경우 비어 있음)
+         */
+        public Map<Integer, ProcessedImage> getVariants() {
+            return variants;
         }
     }
 
     /**
      * Compress and optionally convert to WebP
+     * - 멀티파트 스트림에서 바로 디코딩하고, 큰 이미지는 ImageIO 서브샘플링으로 목표 크기 근처까지만 읽음
+     *
+     * @throws IllegalArgumentException 해상도가 max-pixels를 넘는 경우 (원본으로 대체하지 않음)
      */
     public ProcessedImage process(MultipartFile file) throws IOException {
+        return process(file, List.of());
+    }
+
+    /**
+     * process + variant-sizes 크기의 파생 이미지를 같은 디코딩 결과에서 생성
+     * - 파생 이미지는 한 단계 큰 이미지에서 차례로 축소 (원본 디코딩은 한 번)
+     * - 압축을 건너뛰는 파일(GIF, 작은 WebP 등)은 파생 이미지 없이 원본만 반환
+     */
+    public ProcessedImage processWithVariants(MultipartFile file) throws IOException {
+        return process(file, variantSizes);
+    }
+
+    private ProcessedImage process(MultipartFile file, List<Integer> sizes) throws IOException {
         String originalContentType = file.getContentType();
-        byte[] originalBytes = file.getBytes();
         String originalExtension = getExtension(file.getOriginalFilename());
 
-        if (shouldSkip(originalContentType, originalBytes.length)) {
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+        if (shouldSkip(originalContentType, file.getSize())) {
+            if (originalContentType != null && originalContentType.startsWith("image/")) {
+                checkDimensions(file);
+            }
+            return ProcessedImage.original(file, originalContentType, originalExtension);
         }
 
         try {
-            return compressAndConvertToWebP(originalBytes);
+            return compressAndConvertToWebP(file, sizes);
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Image optimization failed, using original: {}", e.getMessage());
-            return new ProcessedImage(originalBytes, originalContentType, originalExtension);
+            return ProcessedImage.original(file, originalContentType, originalExtension);
+        }
+    }
+
+    /**
+     * 헤더만 읽어 해상도 검증 (픽셀은 디코딩하지 않음)
+     * - 읽을 수 없는 형식은 통과 (MIME/확장자 검증은 각 Validator 담당)
+     *
+     * @throws IllegalArgumentException 가로x세로가 max-pixels를 넘는 경우
+     */
+    public void checkDimensions(MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream();
+                ImageInputStream imageInput = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInput != null ? ImageIO.getImageReaders(imageInput)
+                    : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, true);
+                checkDimensions(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private void checkDimensions(int width, int height) {
+        long limit = maxPixels > 0 ? maxPixels : DEFAULT_MAX_PIXELS;
+        if (width <= 0 || height <= 0 || (long) width * height > limit) {
+            throw new IllegalArgumentException(String.format(
+                    "이미지 해상도가 너무 큽니다. (%dx%d, 최대 %d만 화소)", width, height, limit / 10_000));
         }
     }
 
@@ -100,33 +228,148 @@ public class ImageUtil {
         if ("image/gif".equals(contentType)) {
             return true;
         }
+        if (!ImageIO.getImageWritersByFormatName("webp").hasNext()) {
+            // 인코딩 단계에서 실패할 것이므로 디코딩 전에 원본 사용
+            return true;
+        }
         if (size <= COMPRESSION_THRESHOLD_BYTES && "image/webp".equals(contentType)) {
             return true;
         }
         return false;
     }
 
-    private ProcessedImage compressAndConvertToWebP(byte[] originalBytes) throws IOException {
-        long originalSize = originalBytes.length;
+    private ProcessedImage compressAndConvertToWebP(MultipartFile file, List<Integer> sizes) throws IOException {
+        long originalSize = file.getSize();
+        ProcessedImage processed;
+        if (sizes.isEmpty()) {
+            processed = encode(resizer(decode(file)), ENCODE_BUFFER_INITIAL_BYTES);
+        } else {
+            BufferedImage resized = resizer(decode(file)).asBufferedImage();
+            processed = encode(Thumbnails.of(resized).scale(1.0), ENCODE_BUFFER_INITIAL_BYTES)
+                    .withVariants(encodeVariants(resized, sizes));
+        }
+
+        double ratio = (1 - (double) processed.getSize() / originalSize) * 100;
+        log.info("Image processed (WebP): {} -> {} ({}% reduction, variants={})",
+                formatSize(originalSize), formatSize(processed.getSize()), String.format("%.1f", ratio),
+                processed.getVariants().keySet());
+        return processed;
+    }
 
-        try (InputStream inputStream = new ByteArrayInputStream(originalBytes);
-                ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+    /**
+     * 큰 크기부터 차례로 축소하며 인코딩 (본 이미지보다 작은 크기만 생성)
+     */
+    private Map<Integer, ProcessedImage> encodeVariants(BufferedImage resized, List<Integer> sizes)
+            throws IOException {
+        int longSide = Math.max(resized.getWidth(), resized.getHeight());
+        List<Integer> descending = sizes.stream()
+                .filter(size -> size > 0 && size < longSide)
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .toList();
 
-            Thumbnails.of(inputStream)
-                    .size(MAX_WIDTH, MAX_HEIGHT)
+        Map<Integer, ProcessedImage> variants = new TreeMap<>();
+        BufferedImage source = resized;
+        for (int size : descending) {
+            source = Thumbnails.of(source)
+                    .size(size, size)
                     .keepAspectRatio(true)
-                    .outputQuality(COMPRESSION_QUALITY)
-                    .outputFormat("webp")
-                    .toOutputStream(outputStream);
+                    .rendering(Rendering.QUALITY)
+                    .antialiasing(Antialiasing.ON)
+                    .asBufferedImage();
+            // 파생 이미지 버퍼는 크기에 비례해 작게 시작
+            variants.put(size, encode(Thumbnails.of(source).scale(1.0),
+                    Math.max(16 * 1024, ENCODE_BUFFER_INITIAL_BYTES * size / MAX_WIDTH)));
+        }
+        return variants;
+    }
+
+    private ProcessedImage encode(Thumbnails.Builder<BufferedImage> builder, int initialCapacity)
+            throws IOException {
+        EncodeBuffer outputStream = new EncodeBuffer(initialCapacity);
+        builder.outputQuality(COMPRESSION_QUALITY)
+                .outputFormat("webp")
+                .toOutputStream(outputStream);
+        return ProcessedImage.encoded(outputStream.buffer(), outputStream.size(), "image/webp", "webp");
+    }
+
+    /**
+     * 디코딩 결과 (EXIF 회전은 아직 적용 전)
+     */
+    record Decoded(BufferedImage image, Orientation orientation) {
+    }
+
+    /**
+     * 디코딩 단계
+     * 1. 헤더만 읽어 해상도 검증 (압축 폭탄은 픽셀을 읽기 전에 거절)
+     * 2. 목표 크기의 정수배 이상 큰 이미지는 서브샘플링으로 픽셀을 건너뛰어 읽음
+     *    → 12MP 사진도 전체 해상도 래스터(약 48MB)를 만들지 않고 목표 크기 이상으로만 디코딩
+     */
+    Decoded decode(MultipartFile file) throws IOException {
+        try (InputStream inputStream = file.getInputStream();
+                ImageInputStream imageInput = ImageIO.createImageInputStream(inputStream)) {
+            Iterator<ImageReader> readers = imageInput != null ? ImageIO.getImageReaders(imageInput)
+                    : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                throw new IOException("No ImageReader for " + file.getContentType());
+            }
 
-            byte[] compressedBytes = outputStream.toByteArray();
-            long compressedSize = compressedBytes.length;
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(imageInput, true, false);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                checkDimensions(width, height);
+                Orientation orientation = readOrientation(reader);
 
-            double ratio = (1 - (double) compressedSize / originalSize) * 100;
-            log.info("Image processed (WebP): {} -> {} ({}% reduction)",
-                    formatSize(originalSize), formatSize(compressedSize), String.format("%.1f", ratio));
+                // 긴 쪽 기준으로 나눠 떨어지는 배수만큼 건너뜀 (결과는 항상 목표 크기 이상 → 최종 리사이즈는 축소만)
+                int factor = Math.max(width / MAX_WIDTH, height / MAX_HEIGHT);
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (factor > 1) {
+                    param.setSourceSubsampling(factor, factor, 0, 0);
+                }
+                return new Decoded(reader.read(0, param), orientation);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * 최종 리사이즈 설정 (고품질 보간 + EXIF 회전)
+     */
+    Thumbnails.Builder<BufferedImage> resizer(Decoded decoded) {
+        Thumbnails.Builder<BufferedImage> builder = Thumbnails.of(decoded.image())
+                .size(MAX_WIDTH, MAX_HEIGHT)
+                .keepAspectRatio(true)
+                .rendering(Rendering.QUALITY)
+                .antialiasing(Antialiasing.ON);
+        if (decoded.orientation() != null) {
+            // 스트림 대신 BufferedImage를 넘기므로 EXIF 회전을 직접 적용
+            builder.addFilter(ExifFilterUtils.getFilterForOrientation(decoded.orientation()));
+        }
+        return builder;
+    }
+
+    private Orientation readOrientation(ImageReader reader) {
+        try {
+            Orientation orientation = ExifUtils.getExifOrientation(reader, 0);
+            return orientation == Orientation.TOP_LEFT ? null : orientation;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 내부 버퍼를 그대로 넘길 수 있는 출력 스트림 (toByteArray 복사 생략)
+     */
+    private static final class EncodeBuffer extends ByteArrayOutputStream {
+        EncodeBuffer(int initialCapacity) {
+            super(initialCapacity);
+        }
 
-            return new ProcessedImage(compressedBytes, "image/webp", "webp");
+        byte[] buffer() {
+            return buf;
         }
     }
 
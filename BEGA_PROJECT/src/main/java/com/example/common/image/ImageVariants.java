@@ -0,0 +1,87 @@
+package com.example.common.image;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * 파생 이미지(작은 크기) 스토리지 키 규칙
+ * - 원본 키에 생성된 크기 목록을 붙여 별도 컬럼 없이 파생 이미지 존재 여부를 알 수 있음
+ *   원본: posts/1/{uuid}_v160-480.webp → 파생: posts/1/{uuid}_v160-480_160.webp, posts/1/{uuid}_v160-480_480.webp
+ * - 크기 목록이 없는 키(기존 업로드)는 파생 이미지 없음 → 항상 원본 사용
+ * - 크기는 긴 변 기준 픽셀
+ */
+public final class ImageVariants {
+
+    private static final Pattern SIZES_SUFFIX = Pattern.compile("_v(\\d+(?:-\\d+)*)(\\.[A-Za-z0-9]+)?$");
+
+    private ImageVariants() {
+    }
+
+    /**
+     * 원본 키에 파생 이미지 크기 목록을 붙임 (크기가 없으면 그대로)
+     */
+    public static String withSizes(String path, Collection<Integer> sizes) {
+        if (sizes.isEmpty()) {
+            return path;
+        }
+        String suffix = "_v" + sizes.stream().sorted().map(String::valueOf).collect(Collectors.joining("-"));
+        int dot = extensionIndex(path);
+        return dot < 0 ? path + suffix : path.substring(0, dot) + suffix + path.substring(dot);
+    }
+
+    /**
+     * 원본 키에 기록된 파생 이미지 크기 (오름차순)
+     */
+    public static List<Integer> sizesOf(String path) {
+        if (path == null) {
+            return List.of();
+        }
+        Matcher matcher = SIZES_SUFFIX.matcher(path);
+        if (!matcher.find()) {
+            return List.of();
+        }
+        return Arrays.stream(matcher.group(1).split("-")).map(Integer::valueOf).sorted().toList();
+    }
+
+    /**
+     * 파생 이미지 키
+     */
+    public static String pathFor(String path, int size) {
+        int dot = extensionIndex(path);
+        return dot < 0 ? path + "_" + size : path.substring(0, dot) + "_" + size + path.substring(dot);
+    }
+
+    /**
+     * 파생 이미지 키 전체 (크기 → 키, 원본 제외)
+     */
+    public static Map<Integer, String> paths(String path) {
+        Map<Integer, String> paths = new LinkedHashMap<>();
+        for (Integer size : sizesOf(path)) {
+            paths.put(size, pathFor(path, size));
+        }
+        return paths;
+    }
+
+    /**
+     * 긴 변이 minSize 이상인 가장 작은 파생 이미지 키 (없으면 원본 키)
+     */
+    public static String smallestAtLeast(String path, int minSize) {
+        for (Integer size : sizesOf(path)) {
+            if (size >= minSize) {
+                return pathFor(path, size);
+            }
+        }
+        return path;
+    }
+
+    private static int extensionIndex(String path) {
+        int dot = path.lastIndexOf('.');
+        return dot > path.lastIndexOf('/') ? dot : -1;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.common.redis;
+
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 파이프라인 안에서 여러 키에 실행하는 단일 키 Lua 스크립트
+ * - 파이프라인 안에서는 EVALSHA의 NOSCRIPT 대체(EVAL 재전송)가 동작하지 않으므로
+ *   실행마다 SCRIPT LOAD(멱등)로 SHA를 받은 뒤 EVALSHA만 파이프라인으로 전송
+ */
+public final class PipelinedScript {
+
+    /**
+     * 파이프라인 안에서 스크립트 실행 (KEYS[1] = key, ARGV = args)
+     */
+    @FunctionalInterface
+    public interface Evaluator {
+        void eval(byte[] key, byte[]... args);
+    }
+
+    /**
+     * 파이프라인에 보낼 명령 (스크립트 실행과 다른 명령을 함께 보낼 수 있음)
+     */
+    @FunctionalInterface
+    public interface PipelineCallback {
+        void doInPipeline(RedisConnection connection, Evaluator script);
+    }
+
+    private final byte[] script;
+    private final ReturnType returnType;
+
+    public PipelinedScript(String script, ReturnType returnType) {
+        this.script = bytes(script);
+        this.returnType = returnType;
+    }
+
+    /**
+     * @return 파이프라인 명령 결과 (보낸 순서대로)
+     */
+    public List<Object> executePipelined(RedisOperations<?, ?> redisOperations, PipelineCallback callback) {
+        String sha = redisOperations.execute(
+                (RedisCallback<String>) connection -> connection.scriptingCommands().scriptLoad(script));
+        return redisOperations.executePipelined((RedisCallback<Object>) connection -> {
+            callback.doInPipeline(connection, (key, args) -> {
+                byte[][] keysAndArgs = new byte[args.length + 1][];
+                keysAndArgs[0] = key;
+                System.arraycopy(args, 0, keysAndArgs, 1, args.length);
+                connection.scriptingCommands().evalSha(sha, returnType, 1, keysAndArgs);
+            });
+            return null;
+        });
+    }
+
+    public static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.common.transaction;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 현재 트랜잭션 결과에 맞춰 실행할 작업 등록
+ * - 트랜잭션 동기화가 없으면(트랜잭션 밖) 커밋된 것으로 보고 바로 실행
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    /**
+     * 커밋 후 실행 (캐시 무효화, 브로드캐스트, 비동기 작업 등록 등 롤백되면 안 되는 외부 반영)
+     */
+    public static void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    /**
+     * 롤백 시에만 실행 (트랜잭션 밖에서 미리 반영한 값의 보상)
+     */
+    public static void runOnRollback(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    task.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * 트랜잭션마다 key별 버퍼에 모았다가 커밋 직전 flush로 한 번에 처리 (같은 트랜잭션 안에서 실패하면 함께 롤백)
+     */
+    public static <T> void bufferUntilCommit(Object key, T item, Consumer<List<T>> flush) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush.accept(List.of(item));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<T> pending = (List<T>) TransactionSynchronizationManager.getResource(key);
+        if (pending == null) {
+            List<T> buffer = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(key, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    flush.accept(buffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(key);
+                }
+            });
+            pending = buffer;
+        }
+        pending.add(item);
+    }
+}
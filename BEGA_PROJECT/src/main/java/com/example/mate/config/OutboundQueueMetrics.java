@@ -0,0 +1,126 @@
+package com.example.mate.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * clientOutboundChannel 세션별 대기 메시지 수 집계
+ * - 실행기에 넘긴 시점에 증가, 실제 전송 처리 후 감소 (0이 되면 세션 항목 제거)
+ * - 세션 ID를 태그로 쓰면 시계열이 폭증하므로 전체 합계/세션 최대값/대기 세션 수와 적재 시점 깊이 분포만 노출
+ * - 세션이 닫힐 때 남은 대기 메시지는 유실로 집계하고, 전송 한도 초과(SESSION_NOT_RELIABLE)로 닫힌 세션은 느린 소비자 퇴출로 집계
+ */
+@Component
+public class OutboundQueueMetrics implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    private final Map<String, Integer> queuedBySession = new ConcurrentHashMap<>();
+    private final DistributionSummary queueDepth;
+    private final Counter droppedMessages;
+    private final Counter evictedSessions;
+
+    public OutboundQueueMetrics(MeterRegistry meterRegistry) {
+        this.queueDepth = DistributionSummary.builder("websocket.outbound.queue.depth")
+                .description("Per-session outbound queue depth when a message is enqueued")
+                .register(meterRegistry);
+        this.droppedMessages = Counter.builder("websocket.outbound.dropped.messages")
+                .description("Outbound messages still queued when their session closed")
+                .register(meterRegistry);
+        this.evictedSessions = Counter.builder("websocket.sessions.evicted.slow")
+                .description("Sessions closed for exceeding the send time or buffer limit")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.queued.messages", this, OutboundQueueMetrics::totalQueued)
+                .description("WebSocket outbound messages waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.queued.messages.max.per.session", this, OutboundQueueMetrics::maxQueuedPerSession)
+                .description("Largest number of outbound messages waiting for a single session")
+                .register(meterRegistry);
+        Gauge.builder("websocket.outbound.queued.sessions", queuedBySession, Map::size)
+                .description("WebSocket sessions with outbound messages waiting")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            queueDepth.record(queuedBySession.merge(sessionId, 1, Integer::sum));
+        }
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(@NonNull Message<?> message, @NonNull MessageChannel channel, boolean sent,
+            @Nullable Exception ex) {
+        // 실행기에 넘기지 못한 경우 (거부 등)
+        if (!sent || ex != null) {
+            release(message);
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(@NonNull Message<?> message, @NonNull MessageChannel channel,
+            @NonNull MessageHandler handler, @Nullable Exception ex) {
+        release(message);
+    }
+
+    /**
+     * 세션 종료 감지용 핸들러 데코레이터 (WebSocketConfig에서 전송 설정에 등록)
+     */
+    @Override
+    public WebSocketHandler decorate(@NonNull WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus closeStatus)
+                    throws Exception {
+                sessionClosed(session.getId(), closeStatus);
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    void sessionClosed(String sessionId, CloseStatus closeStatus) {
+        Integer remaining = queuedBySession.remove(sessionId);
+        if (remaining != null) {
+            droppedMessages.increment(remaining);
+        }
+        if (CloseStatus.SESSION_NOT_RELIABLE.equalsCode(closeStatus)) {
+            evictedSessions.increment();
+        }
+    }
+
+    int queued(String sessionId) {
+        return queuedBySession.getOrDefault(sessionId, 0);
+    }
+
+    private void release(Message<?> message) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (sessionId != null) {
+            queuedBySession.computeIfPresent(sessionId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    private double totalQueued() {
+        return queuedBySession.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private double maxQueuedPerSession() {
+        return queuedBySession.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+}
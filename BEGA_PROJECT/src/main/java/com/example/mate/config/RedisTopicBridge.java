@@ -0,0 +1,129 @@
+package com.example.mate.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeType;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 인스턴스 간 /topic 메시지 중계 (app.websocket.broker.mode=redis)
+ * - 이 노드에서 브로커로 보낸 /topic 메시지를 Redis pub/sub으로 발행하고, 다른 노드가 받아 자기 simple broker로 전달
+ * - 각 노드가 이미 Redis에서 읽어 직접 보내는 목적지(local-destinations)는 중계하지 않음 (중복 전송 방지)
+ * - Redis 장애 시에도 로컬 구독자에게는 그대로 전달됨
+ * - 구독 컨테이너는 RedisTopicBridgeConfig의 빈으로 Spring이 시작/종료
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "redis")
+public class RedisTopicBridge implements ChannelInterceptor, MessageListener {
+
+    static final String CHANNEL = "ws:topic";
+    private static final String RELAYED_HEADER = "redisRelayed";
+
+    /**
+     * Redis로 주고받는 메시지 (payload는 브로커로 보낸 직렬화 결과 그대로)
+     */
+    record Envelope(String origin, String destination, String contentType, byte[] payload) {
+    }
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ObjectProvider<SimpMessagingTemplate> brokerMessagingTemplate;
+    private final List<String> localDestinations;
+
+    public RedisTopicBridge(StringRedisTemplate redisTemplate,
+            ObjectMapper objectMapper,
+            @Qualifier("brokerMessagingTemplate") ObjectProvider<SimpMessagingTemplate> brokerMessagingTemplate,
+            @Value("${app.websocket.broker.local-destinations:/topic/battle/}") String localDestinations) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.brokerMessagingTemplate = brokerMessagingTemplate;
+        this.localDestinations = Arrays.stream(localDestinations.split(","))
+                .map(String::trim)
+                .filter(prefix -> !prefix.isEmpty())
+                .toList();
+        log.info("WebSocket /topic Redis 중계 활성화: node={}", nodeId);
+    }
+
+    /**
+     * brokerChannel 인터셉터: 이 노드에서 발생한 /topic 메시지를 다른 노드로 발행
+     */
+    @Override
+    public org.springframework.messaging.Message<?> preSend(@NonNull org.springframework.messaging.Message<?> message,
+            @NonNull MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, SimpMessageHeaderAccessor.class);
+        if (accessor == null || accessor.getMessageType() != SimpMessageType.MESSAGE
+                || accessor.getHeader(RELAYED_HEADER) != null
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith("/topic/") || isLocalOnly(destination)) {
+            return message;
+        }
+
+        try {
+            MimeType contentType = accessor.getContentType();
+            Envelope envelope = new Envelope(nodeId, destination,
+                    contentType != null ? contentType.toString() : null, payload);
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            log.warn("Redis error in RedisTopicBridge.preSend: {}", e.getMessage());
+        }
+        return message;
+    }
+
+    /**
+     * 다른 노드에서 발행한 메시지를 로컬 구독자에게 전달
+     */
+    @Override
+    public void onMessage(@NonNull Message message, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(message.getBody(), Envelope.class);
+            if (nodeId.equals(envelope.origin())) {
+                return;
+            }
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setHeader(RELAYED_HEADER, Boolean.TRUE);
+            if (envelope.contentType() != null) {
+                accessor.setContentType(MimeType.valueOf(envelope.contentType()));
+            }
+            accessor.setLeaveMutable(true);
+            MessageHeaders headers = accessor.getMessageHeaders();
+            brokerMessagingTemplate.getObject()
+                    .send(envelope.destination(), MessageBuilder.createMessage(envelope.payload(), headers));
+        } catch (Exception e) {
+            log.warn("Failed to relay WebSocket message from Redis: {}", e.getMessage());
+        }
+    }
+
+    private boolean isLocalOnly(String destination) {
+        for (String prefix : localDestinations) {
+            if (destination.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.mate.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * /topic Redis 중계 구독 컨테이너 (app.websocket.broker.mode=redis)
+ * - 컨테이너를 빈으로 등록해 시작/종료 순서를 Spring 라이프사이클에 맡김
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.websocket.broker.mode", havingValue = "redis")
+public class RedisTopicBridgeConfig {
+
+    @Bean
+    public RedisMessageListenerContainer redisTopicListenerContainer(RedisConnectionFactory connectionFactory,
+            RedisTopicBridge redisTopicBridge) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(redisTopicBridge, new ChannelTopic(RedisTopicBridge.CHANNEL));
+        return container;
+    }
+}
@@ -1,12 +1,20 @@
 package com.example.mate.config;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.lang.NonNull;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
@@ -14,12 +22,103 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @org.springframework.beans.factory.annotation.Value("${app.allowed-origins:http://localhost:3000,http://localhost:8080}")
     private String allowedOriginsStr;
 
+    @org.springframework.beans.factory.annotation.Value("${app.websocket.executor-type:platform}")
+    private String executorType;
+
+    @org.springframework.beans.factory.annotation.Value("${app.websocket.virtual-concurrency-limit:256}")
+    private int virtualConcurrencyLimit;
+
+    @org.springframework.beans.factory.annotation.Value("${app.websocket.inbound.core-pool-size:4}")
+    private int inboundCorePoolSize;
+
+    @org.springframework.beans.factory.annotation.Value("${app.websocket.inbound.max-pool-size:16}")
+    private int inboundMaxPoolSize;
+
+    @org.springframework.beans.factory.annotation.Value("${app.websocket.inbound.queue-capacity:10000}")
+    private int inboundQueueCapacity;
+
+    @org.springframework.beans.factory.annotation.Value("${app.websocket.outbound.core-pool-size:4}")
+    private int outboundCorePoolSize;
+
+    @org.springframework.beans.factory.annotation.Value("${app.websocket.outbound.max-pool-size:16}")
+    private int outboundMaxPoolSize;
+
+    @org.springframework.beans.factory.annotation.Value("${app.websocket.outbound.queue-capacity:10000}")
+    private int outboundQueueCapacity;
+
+    @org.springframework.beans.factory.annotation.Value("${app.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
+    @org.springframework.beans.factory.annotation.Value("${app.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    private final ObjectProvider<RedisTopicBridge> redisTopicBridge;
+    private final OutboundQueueMetrics outboundQueueMetrics;
+
+    public WebSocketConfig(ObjectProvider<RedisTopicBridge> redisTopicBridge,
+            OutboundQueueMetrics outboundQueueMetrics) {
+        this.redisTopicBridge = redisTopicBridge;
+        this.outboundQueueMetrics = outboundQueueMetrics;
+    }
+
     @Override
     public void configureMessageBroker(@NonNull MessageBrokerRegistry config) {
         // 클라이언트로 메시지를 보낼 때 prefix
         config.enableSimpleBroker("/topic");
         // 클라이언트에서 메시지를 보낼 때 prefix
         config.setApplicationDestinationPrefixes("/app");
+        // app.websocket.broker.mode=redis: 다른 인스턴스의 구독자에게도 /topic 메시지 중계
+        redisTopicBridge.ifAvailable(bridge -> config.configureBrokerChannel().interceptors(bridge));
+    }
+
+    /**
+     * 클라이언트 수신 채널 (STOMP SEND/SUBSCRIBE 처리)
+     */
+    @Override
+    public void configureClientInboundChannel(@NonNull ChannelRegistration registration) {
+        registration.executor(channelExecutor("ws-inbound-", inboundCorePoolSize, inboundMaxPoolSize,
+                inboundQueueCapacity));
+    }
+
+    /**
+     * 클라이언트 전송 채널: 대기 메시지 수 집계
+     */
+    @Override
+    public void configureClientOutboundChannel(@NonNull ChannelRegistration registration) {
+        registration.executor(channelExecutor("ws-outbound-", outboundCorePoolSize, outboundMaxPoolSize,
+                outboundQueueCapacity));
+        registration.interceptors(outboundQueueMetrics);
+    }
+
+    /**
+     * 채널 실행기 (app.websocket.executor-type)
+     * - platform: 큐가 가득 차면 보내는 쪽 스레드가 직접 처리해 발행 속도를 늦춤 (메시지 유실 대신 backpressure)
+     * - virtual: 메시지마다 가상 스레드, 동시 실행 수 한도에 도달하면 보내는 쪽이 대기
+     */
+    private Executor channelExecutor(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        if ("virtual".equalsIgnoreCase(executorType)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(virtualConcurrencyLimit);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 느린 클라이언트: 전송 시간/버퍼 한도를 넘으면 세션을 닫아(SESSION_NOT_RELIABLE) 전송 스레드와 서버 메모리를 보호
+     */
+    @Override
+    public void configureWebSocketTransport(@NonNull WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMs)
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .addDecoratorFactory(outboundQueueMetrics);
     }
 
     @Override
@@ -30,4 +129,4 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns(allowedOrigins);
 
     }
-}
\ No newline at end of file
+}
@@ -8,6 +8,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/chat")
@@ -27,13 +28,28 @@ public class ChatMessageController {
         }
     }
 
-    // 파티별 채팅 메시지 조회
+    // 파티별 채팅 메시지 전체 조회 (기존 클라이언트 호환용, 새 화면은 /history 사용)
     @GetMapping("/party/{partyId}")
     public ResponseEntity<List<ChatMessageDTO.Response>> getMessagesByPartyId(@PathVariable Long partyId) {
         List<ChatMessageDTO.Response> messages = chatMessageService.getMessagesByPartyId(partyId);
         return ResponseEntity.ok(messages);
     }
 
+    // 파티별 채팅 기록 커서 조회 (before: 이전 응답의 nextCursor)
+    @GetMapping("/party/{partyId}/history")
+    public ResponseEntity<ChatMessageDTO.HistoryPage> getHistory(
+            @PathVariable Long partyId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(chatMessageService.getHistory(partyId, before, limit));
+    }
+
+    // 여러 파티의 최근 메시지 일괄 조회
+    @GetMapping("/latest")
+    public ResponseEntity<Map<Long, ChatMessageDTO.Response>> getLatestMessages(@RequestParam List<Long> partyIds) {
+        return ResponseEntity.ok(chatMessageService.getLatestMessages(partyIds));
+    }
+
     // 파티별 최근 메시지 조회
     @GetMapping("/party/{partyId}/latest")
     public ResponseEntity<ChatMessageDTO.Response> getLatestMessage(@PathVariable Long partyId) {
@@ -5,7 +5,6 @@ import com.example.mate.service.ChatMessageService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 
 import org.springframework.stereotype.Controller;
@@ -20,14 +19,13 @@ public class WebSocketChatController {
 
     /**
      * 클라이언트가 /app/chat/{partyId} 로 메시지를 보내면
-     * 서버가 처리 후 /topic/party/{partyId} 로 브로드캐스트
+     * 서버가 ID를 발급해 바로 /topic/party/{partyId} 로 브로드캐스트 (DB 저장은 배치로 나중에)
      * 
      * WebSocket에서는 @AuthenticationPrincipal이 작동하지 않으므로
      * 메시지에 senderId를 포함해서 전송해야 함
      */
     @MessageMapping("/chat/{partyId}")
-    @SendTo("/topic/party/{partyId}")
-    public ChatMessageDTO.Response sendMessage(
+    public void sendMessage(
             @DestinationVariable Long partyId,
             ChatMessageDTO.Request request,
             SimpMessageHeaderAccessor headerAccessor) {
@@ -35,10 +33,7 @@ public class WebSocketChatController {
         // 헤더에서 사용자 정보 가져오기 (선택사항)
         // Principal principal = headerAccessor.getUser();
 
-        // DB에 메시지 저장
-        ChatMessageDTO.Response savedMessage = chatMessageService.sendMessage(request);
-
-        // 저장된 메시지를 구독자들에게 브로드캐스트
-        return savedMessage;
+        // 저장 버퍼에 넣고 구독자들에게 브로드캐스트
+        chatMessageService.sendAndBroadcast(partyId, request);
     }
 }
\ No newline at end of file
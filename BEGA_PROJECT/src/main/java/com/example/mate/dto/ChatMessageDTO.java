@@ -7,6 +7,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 
 import java.time.Instant;
+import java.util.List;
 
 public class ChatMessageDTO {
 
@@ -44,4 +45,17 @@ public class ChatMessageDTO {
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 커서 기반 채팅 기록 페이지 (messages는 오래된 순, nextCursor는 다음 요청의 before 값)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class HistoryPage {
+        private List<Response> messages;
+        private Long nextCursor;
+        private boolean hasMore;
+    }
+}
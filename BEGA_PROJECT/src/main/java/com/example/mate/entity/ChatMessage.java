@@ -9,7 +9,9 @@ import lombok.Builder;
 import java.time.Instant;
 
 @Entity
-@Table(name = "chat_messages")
+@Table(name = "chat_messages", indexes = {
+        @Index(name = "idx_chat_messages_party_id", columnList = "partyId, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -17,8 +19,7 @@ import java.time.Instant;
 public class ChatMessage {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
+    private Long id; // ChatMessageIdGenerator가 발급한 Snowflake ID
 
     @Column(nullable = false)
     private Long partyId; // 파티 ID
@@ -37,6 +38,8 @@ public class ChatMessage {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = Instant.now();
+        if (createdAt == null) {
+            createdAt = Instant.now();
+        }
     }
 }
\ No newline at end of file
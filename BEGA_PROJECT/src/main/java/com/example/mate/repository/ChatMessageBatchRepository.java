@@ -0,0 +1,37 @@
+package com.example.mate.repository;
+
+import com.example.mate.entity.ChatMessage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * 채팅 메시지 일괄 INSERT 저장소 (ChatMessageWriteBuffer의 배치 저장용)
+ * - ID는 ChatMessageIdGenerator가 미리 발급하므로 IDENTITY와 달리 Hibernate JDBC 배치 INSERT가 가능
+ * - persist만 사용 (ID가 있는 엔티티를 saveAll로 저장하면 merge가 건별 SELECT를 실행)
+ * - 프로필마다 컬럼 명명 전략이 달라 JdbcTemplate 대신 엔티티 매핑을 사용
+ */
+@Repository
+public class ChatMessageBatchRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * 메시지를 하나의 트랜잭션/JDBC 배치로 INSERT (전부 성공하거나 전부 실패)
+     */
+    @Transactional
+    public void insertAll(Collection<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        entityManager.unwrap(Session.class).setJdbcBatchSize(messages.size());
+        messages.forEach(entityManager::persist);
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
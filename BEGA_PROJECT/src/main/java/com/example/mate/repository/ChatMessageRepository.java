@@ -2,17 +2,29 @@ package com.example.mate.repository;
 
 
 import com.example.mate.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
 
-    // 파티별 채팅 메시지 조회 (생성일 기준 오름차순)
-    List<ChatMessage> findByPartyIdOrderByCreatedAtAsc(Long partyId);
+    // 파티별 채팅 메시지 조회 (생성일 기준 오름차순, 같은 시각은 ID 순)
+    List<ChatMessage> findByPartyIdOrderByCreatedAtAscIdAsc(Long partyId);
 
-    // 파티별 최근 메시지 조회
-    ChatMessage findTopByPartyIdOrderByCreatedAtDesc(Long partyId);
-}
\ No newline at end of file
+    // 파티별 최신 메시지부터 (커서 첫 페이지, idx_chat_messages_party_id)
+    List<ChatMessage> findByPartyIdOrderByIdDesc(Long partyId, Pageable pageable);
+
+    // 커서(메시지 ID) 이전 메시지를 최신순으로
+    List<ChatMessage> findByPartyIdAndIdLessThanOrderByIdDesc(Long partyId, Long beforeId, Pageable pageable);
+
+    // 여러 파티의 최근 메시지를 한 번에 조회 (파티 목록 화면용)
+    @Query("SELECT m FROM ChatMessage m WHERE m.id IN "
+            + "(SELECT MAX(l.id) FROM ChatMessage l WHERE l.partyId IN :partyIds GROUP BY l.partyId)")
+    List<ChatMessage> findLatestByPartyIdIn(@Param("partyIds") Collection<Long> partyIds);
+}
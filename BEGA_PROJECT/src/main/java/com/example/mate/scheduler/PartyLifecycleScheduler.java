@@ -20,6 +20,7 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
 
 @Slf4j
@@ -94,47 +95,7 @@ public class PartyLifecycleScheduler implements ApplicationRunner {
             party.setStatus(Party.PartyStatus.COMPLETED);
             partyRepository.save(party);
 
-            // 승인된 참여자들 조회
-            List<PartyApplication> approvedApplicants = applicationRepository
-                    .findByPartyIdAndIsApprovedTrue(party.getId());
-
-            // 호스트에게 알림
-            notificationService.createNotification(
-                    party.getHostId(),
-                    Notification.NotificationType.PARTY_AUTO_COMPLETED,
-                    "파티 자동 완료",
-                    "체크인 없이 경기가 종료되어 파티가 자동 완료 처리되었습니다.",
-                    party.getId()
-            );
-
-            // 호스트에게 리뷰 요청 알림
-            notificationService.createNotification(
-                    party.getHostId(),
-                    Notification.NotificationType.REVIEW_REQUEST,
-                    "리뷰 요청",
-                    "파티가 완료되었습니다. 참여자들에 대한 리뷰를 작성해주세요.",
-                    party.getId()
-            );
-
-            // 승인된 참여자들에게도 알림
-            for (PartyApplication app : approvedApplicants) {
-                notificationService.createNotification(
-                        app.getApplicantId(),
-                        Notification.NotificationType.PARTY_AUTO_COMPLETED,
-                        "파티 자동 완료",
-                        "체크인 없이 경기가 종료되어 파티가 자동 완료 처리되었습니다.",
-                        party.getId()
-                );
-
-                // 참여자에게 리뷰 요청 알림
-                notificationService.createNotification(
-                        app.getApplicantId(),
-                        Notification.NotificationType.REVIEW_REQUEST,
-                        "리뷰 요청",
-                        "파티가 완료되었습니다. 호스트와 다른 참여자들에 대한 리뷰를 작성해주세요.",
-                        party.getId()
-                );
-            }
+            notifyPartyCompleted(party, "파티 자동 완료", "체크인 없이 경기가 종료되어 파티가 자동 완료 처리되었습니다.");
 
             autoCompletedCount++;
         }
@@ -152,47 +113,7 @@ public class PartyLifecycleScheduler implements ApplicationRunner {
                 party.setStatus(Party.PartyStatus.COMPLETED);
                 partyRepository.save(party);
 
-                // 승인된 참여자들 조회
-                List<PartyApplication> approvedApplicants = applicationRepository
-                        .findByPartyIdAndIsApprovedTrue(party.getId());
-
-                // 호스트에게 알림
-                notificationService.createNotification(
-                        party.getHostId(),
-                        Notification.NotificationType.PARTY_AUTO_COMPLETED,
-                        "파티 완료",
-                        "경기가 종료되어 파티가 완료 처리되었습니다.",
-                        party.getId()
-                );
-
-                // 호스트에게 리뷰 요청 알림
-                notificationService.createNotification(
-                        party.getHostId(),
-                        Notification.NotificationType.REVIEW_REQUEST,
-                        "리뷰 요청",
-                        "파티가 완료되었습니다. 참여자들에 대한 리뷰를 작성해주세요.",
-                        party.getId()
-                );
-
-                // 승인된 참여자들에게도 알림
-                for (PartyApplication app : approvedApplicants) {
-                    notificationService.createNotification(
-                            app.getApplicantId(),
-                            Notification.NotificationType.PARTY_AUTO_COMPLETED,
-                            "파티 완료",
-                            "경기가 종료되어 파티가 완료 처리되었습니다.",
-                            party.getId()
-                    );
-
-                    // 참여자에게 리뷰 요청 알림
-                    notificationService.createNotification(
-                            app.getApplicantId(),
-                            Notification.NotificationType.REVIEW_REQUEST,
-                            "리뷰 요청",
-                            "파티가 완료되었습니다. 호스트와 다른 참여자들에 대한 리뷰를 작성해주세요.",
-                            party.getId()
-                    );
-                }
+                notifyPartyCompleted(party, "파티 완료", "경기가 종료되어 파티가 완료 처리되었습니다.");
 
                 autoCompletedCount++;
             }
@@ -314,30 +235,53 @@ public class PartyLifecycleScheduler implements ApplicationRunner {
     }
 
     /**
-     * 파티의 호스트와 승인된 참여자들에게 알림 전송
+     * 파티의 호스트와 승인된 참여자들에게 알림 일괄 전송
      */
     private void sendGameReminder(Party party, String title, String message, Notification.NotificationType type) {
-        // 호스트에게 알림
-        notificationService.createNotification(
-                party.getHostId(),
-                type,
+        List<Long> recipients = new ArrayList<>();
+        recipients.add(party.getHostId());
+        recipients.addAll(approvedApplicantIds(party));
+        notificationService.createNotifications(recipients, type, title, message, party.getId());
+    }
+
+    /**
+     * 파티 완료 알림 (호스트+참여자 완료 알림은 한 번에, 리뷰 요청은 호스트/참여자 문구가 달라 나눠 일괄 전송)
+     */
+    private void notifyPartyCompleted(Party party, String title, String message) {
+        List<Long> applicantIds = approvedApplicantIds(party);
+
+        List<Long> recipients = new ArrayList<>();
+        recipients.add(party.getHostId());
+        recipients.addAll(applicantIds);
+        notificationService.createNotifications(
+                recipients,
+                Notification.NotificationType.PARTY_AUTO_COMPLETED,
                 title,
                 message,
+                party.getId());
+
+        // 호스트에게 리뷰 요청 알림
+        notificationService.createNotification(
+                party.getHostId(),
+                Notification.NotificationType.REVIEW_REQUEST,
+                "리뷰 요청",
+                "파티가 완료되었습니다. 참여자들에 대한 리뷰를 작성해주세요.",
                 party.getId()
         );
 
-        // 승인된 참여자들에게 알림
-        List<PartyApplication> approvedApplicants = applicationRepository
-                .findByPartyIdAndIsApprovedTrue(party.getId());
-        for (PartyApplication app : approvedApplicants) {
-            notificationService.createNotification(
-                    app.getApplicantId(),
-                    type,
-                    title,
-                    message,
-                    party.getId()
-            );
-        }
+        // 참여자에게 리뷰 요청 알림
+        notificationService.createNotifications(
+                applicantIds,
+                Notification.NotificationType.REVIEW_REQUEST,
+                "리뷰 요청",
+                "파티가 완료되었습니다. 호스트와 다른 참여자들에 대한 리뷰를 작성해주세요.",
+                party.getId());
+    }
+
+    private List<Long> approvedApplicantIds(Party party) {
+        return applicationRepository.findByPartyIdAndIsApprovedTrue(party.getId()).stream()
+                .map(PartyApplication::getApplicantId)
+                .toList();
     }
 
     /**
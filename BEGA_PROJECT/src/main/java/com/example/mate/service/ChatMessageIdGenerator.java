@@ -0,0 +1,63 @@
+package com.example.mate.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * 채팅 메시지 ID 발급 (Snowflake 방식: 41비트 ms 시각 | 10비트 노드 | 12비트 순번)
+ * - DB 왕복 없이 저장 전에 ID를 정하므로 바로 브로드캐스트 가능
+ * - 같은 노드에서는 항상 증가하며, ID의 시각 부분을 createdAt으로 사용해 (createdAt, id) 정렬과 ID 정렬이 일치
+ * - 시계가 뒤로 가거나 1ms 안에 순번을 다 쓰면 마지막 시각을 1ms씩 앞당겨 발급 (대기 없음)
+ * - 노드 번호가 겹치면 PK가 중복되므로 임의 선택 없이 설정값이 없으면 기동 실패
+ */
+@Slf4j
+@Component
+public class ChatMessageIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_MILLIS = 1735689600000L;
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeId;
+    private long lastMillis = -1L;
+    private long sequence;
+
+    /**
+     * @param nodeId 인스턴스별 노드 번호 (0~1023, 인스턴스마다 달라야 함)
+     */
+    public ChatMessageIdGenerator(@Value("${app.chat.node-id:-1}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalStateException(
+                    "app.chat.node-id(APP_CHAT_NODE_ID)를 인스턴스마다 다른 0~" + MAX_NODE_ID + " 값으로 설정해야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        log.info("Chat message ID generator node id: {}", this.nodeId);
+    }
+
+    public synchronized long nextId() {
+        long now = Math.max(System.currentTimeMillis(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now = lastMillis + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    /**
+     * ID에 담긴 발급 시각
+     */
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+}
@@ -4,44 +4,201 @@ import com.example.mate.dto.ChatMessageDTO;
 import com.example.mate.entity.ChatMessage;
 import com.example.mate.repository.ChatMessageRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
+/**
+ * 채팅 메시지 전송/조회
+ * - 전송 시 ID(Snowflake)를 먼저 발급하고 ChatMessageWriteBuffer에 넘긴 뒤 바로 응답/브로드캐스트 (DB 저장은 배치로 나중에)
+ * - 조회는 DB와 아직 저장되지 않은 버퍼 메시지를 합쳐 (createdAt, id) 순으로 반환
+ * - 기록은 메시지 ID 커서로 페이지 조회하고, 최근 ChatTailCache.TAIL_SIZE개는 Redis tail 캐시에서 바로 응답
+ */
 @Service
 @RequiredArgsConstructor
 public class ChatMessageService {
 
+    private static final int PARTY_LOCK_STRIPES = 64;
+    private static final int MAX_HISTORY_LIMIT = 100;
+    // chat_messages 컬럼 길이와 동일 (버퍼 저장 단계에서 거부되지 않도록 발급 전에 검증)
+    private static final int MAX_SENDER_NAME_LENGTH = 50;
+    private static final int MAX_MESSAGE_LENGTH = 1000;
+    private static final Comparator<ChatMessage> MESSAGE_ORDER = Comparator
+            .comparing(ChatMessage::getCreatedAt)
+            .thenComparing(ChatMessage::getId);
+
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriteBuffer chatMessageWriteBuffer;
+    private final ChatMessageIdGenerator chatMessageIdGenerator;
+    private final ChatTailCache chatTailCache;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    // 파티별 ID 발급~브로드캐스트 순서 보장용 (가상 스레드 고정을 피하려고 synchronized 대신 ReentrantLock)
+    private final ReentrantLock[] partyLocks = createLocks();
 
     // 메시지 전송
-    @Transactional
     public ChatMessageDTO.Response sendMessage(ChatMessageDTO.Request request) {
+        validate(request);
+        long id = chatMessageIdGenerator.nextId();
         ChatMessage chatMessage = ChatMessage.builder()
+                .id(id)
                 .partyId(request.getPartyId())
                 .senderId(request.getSenderId())
                 .senderName(request.getSenderName())
                 .message(request.getMessage())
+                .createdAt(ChatMessageIdGenerator.timestampOf(id))
                 .build();
 
-        ChatMessage savedMessage = chatMessageRepository.save(chatMessage);
-        return ChatMessageDTO.Response.from(savedMessage);
+        chatMessageWriteBuffer.enqueue(chatMessage);
+        ChatMessageDTO.Response response = ChatMessageDTO.Response.from(chatMessage);
+        chatTailCache.append(response);
+        return response;
+    }
+
+    /**
+     * 저장 시 거부될 메시지는 ID 발급/브로드캐스트 전에 거절 (저장은 응답 이후라 실패를 알릴 수 없음)
+     */
+    private static void validate(ChatMessageDTO.Request request) {
+        if (request.getPartyId() == null || request.getSenderId() == null) {
+            throw new IllegalArgumentException("파티와 발신자 정보가 필요합니다.");
+        }
+        if (request.getSenderName() == null || request.getSenderName().isBlank()
+                || request.getSenderName().length() > MAX_SENDER_NAME_LENGTH) {
+            throw new IllegalArgumentException("발신자 이름은 1~" + MAX_SENDER_NAME_LENGTH + "자여야 합니다.");
+        }
+        if (request.getMessage() == null || request.getMessage().isBlank()
+                || request.getMessage().length() > MAX_MESSAGE_LENGTH) {
+            throw new IllegalArgumentException("메시지는 1~" + MAX_MESSAGE_LENGTH + "자여야 합니다.");
+        }
+    }
+
+    /**
+     * 메시지 전송 후 /topic/party/{partyId}로 브로드캐스트
+     * - 같은 파티의 메시지는 ID 발급 순서대로 브로드캐스트
+     */
+    public ChatMessageDTO.Response sendAndBroadcast(Long partyId, ChatMessageDTO.Request request) {
+        ReentrantLock lock = partyLocks[Math.floorMod(Long.hashCode(partyId), PARTY_LOCK_STRIPES)];
+        lock.lock();
+        try {
+            ChatMessageDTO.Response response = sendMessage(request);
+            messagingTemplate.convertAndSend("/topic/party/" + partyId, (Object) response);
+            return response;
+        } finally {
+            lock.unlock();
+        }
     }
 
-    // 파티별 채팅 메시지 조회
+    // 파티별 채팅 메시지 전체 조회 (기존 API 호환용, 새 화면은 getHistory 사용)
     @Transactional(readOnly = true)
     public List<ChatMessageDTO.Response> getMessagesByPartyId(Long partyId) {
-        return chatMessageRepository.findByPartyIdOrderByCreatedAtAsc(partyId).stream()
+        Map<Long, ChatMessage> messages = new HashMap<>();
+        chatMessageRepository.findByPartyIdOrderByCreatedAtAscIdAsc(partyId)
+                .forEach(message -> messages.put(message.getId(), message));
+        chatMessageWriteBuffer.pending(partyId)
+                .forEach(message -> messages.putIfAbsent(message.getId(), message));
+
+        return messages.values().stream()
+                .sorted(MESSAGE_ORDER)
                 .map(ChatMessageDTO.Response::from)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 커서 기반 채팅 기록 조회
+     * - beforeId가 없으면 최신 페이지, 있으면 그 ID보다 오래된 메시지
+     * - tail 캐시가 한 페이지를 채우거나 파티 기록 전체를 담고 있으면 캐시에서, 아니면 DB(+미저장 버퍼)에서 조회
+     */
+    @Transactional(readOnly = true)
+    public ChatMessageDTO.HistoryPage getHistory(Long partyId, Long beforeId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_HISTORY_LIMIT));
+
+        // 다음 페이지 유무 확인을 위해 하나 더 조회
+        ChatTailCache.Tail tail = chatTailCache.read(partyId, beforeId, size + 1);
+        if (tail != null && (tail.newestFirst().size() > size || tail.size() < ChatTailCache.TAIL_SIZE)) {
+            return toPage(tail.newestFirst(), size);
+        }
+
+        PageRequest page = PageRequest.of(0, Math.max(size + 1, beforeId == null ? ChatTailCache.TAIL_SIZE : 0));
+        List<ChatMessage> stored = beforeId == null
+                ? chatMessageRepository.findByPartyIdOrderByIdDesc(partyId, page)
+                : chatMessageRepository.findByPartyIdAndIdLessThanOrderByIdDesc(partyId, beforeId, page);
+
+        TreeMap<Long, ChatMessageDTO.Response> merged = new TreeMap<>();
+        stored.forEach(message -> merged.put(message.getId(), ChatMessageDTO.Response.from(message)));
+        chatMessageWriteBuffer.pending(partyId).stream()
+                .filter(message -> beforeId == null || message.getId() < beforeId)
+                .forEach(message -> merged.putIfAbsent(message.getId(), ChatMessageDTO.Response.from(message)));
+        List<ChatMessageDTO.Response> newestFirst = new ArrayList<>(merged.descendingMap().values());
+
+        // 첫 페이지 미스면 최근 TAIL_SIZE개로 tail 캐시 채우기
+        if (beforeId == null && tail == null) {
+            chatTailCache.fill(partyId, newestFirst.subList(0, Math.min(newestFirst.size(), ChatTailCache.TAIL_SIZE)));
+        }
+        return toPage(newestFirst, size);
+    }
+
     // 파티별 최근 메시지 조회
     @Transactional(readOnly = true)
     public ChatMessageDTO.Response getLatestMessage(Long partyId) {
-        ChatMessage message = chatMessageRepository.findTopByPartyIdOrderByCreatedAtDesc(partyId);
-        return message != null ? ChatMessageDTO.Response.from(message) : null;
+        return getLatestMessages(List.of(partyId)).get(partyId);
+    }
+
+    /**
+     * 여러 파티의 최근 메시지 일괄 조회 (tail 캐시 → 나머지는 DB 한 번)
+     *
+     * @return 파티 ID → 최근 메시지 (메시지가 없는 파티는 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, ChatMessageDTO.Response> getLatestMessages(Collection<Long> partyIds) {
+        Set<Long> ids = new LinkedHashSet<>(partyIds);
+        Map<Long, ChatMessageDTO.Response> result = new HashMap<>(chatTailCache.latest(ids));
+
+        List<Long> misses = ids.stream().filter(id -> !result.containsKey(id)).toList();
+        if (!misses.isEmpty()) {
+            chatMessageRepository.findLatestByPartyIdIn(misses)
+                    .forEach(message -> result.put(message.getPartyId(), ChatMessageDTO.Response.from(message)));
+            for (Long partyId : misses) {
+                for (ChatMessage pending : chatMessageWriteBuffer.pending(partyId)) {
+                    ChatMessageDTO.Response current = result.get(partyId);
+                    if (current == null || pending.getId() > current.getId()) {
+                        result.put(partyId, ChatMessageDTO.Response.from(pending));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static ChatMessageDTO.HistoryPage toPage(List<ChatMessageDTO.Response> newestFirst, int size) {
+        boolean hasMore = newestFirst.size() > size;
+        List<ChatMessageDTO.Response> messages = new ArrayList<>(newestFirst.subList(0, Math.min(size, newestFirst.size())));
+        Collections.reverse(messages);
+        return ChatMessageDTO.HistoryPage.builder()
+                .messages(messages)
+                .nextCursor(hasMore ? messages.get(0).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    private static ReentrantLock[] createLocks() {
+        ReentrantLock[] locks = new ReentrantLock[PARTY_LOCK_STRIPES];
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        return locks;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,193 @@
+package com.example.mate.service;
+
+import com.example.mate.entity.ChatMessage;
+import com.example.mate.repository.ChatMessageBatchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지 write-behind 버퍼
+ * - 고정 크기 큐(FIFO)에 쌓고 전용 스레드 하나가 batch-size개 또는 flush-interval-ms마다 한 번의 배치로 저장
+ * - 단일 큐/단일 저장 스레드이므로 저장 순서는 발급 순서와 같음
+ * - 큐가 가득 찼거나 종료 중이면 호출 스레드에서 바로 저장 (유실 대신 backpressure)
+ * - 일시적 저장 실패는 같은 배치를 재시도하고, 종료 시에는 남은 메시지를 모두 저장한 뒤 끝남
+ * - 제약 조건 위반(재시도해도 같은 결과)은 건별로 나눠 저장하고 거부된 메시지만 로그로 남기고 버림
+ * - 아직 저장되지 않은 메시지는 pending()으로 조회에 합쳐 보여줌
+ */
+@Slf4j
+@Component
+public class ChatMessageWriteBuffer {
+
+    private static final long MAX_RETRY_BACKOFF_MS = 5000L;
+    private static final int SHUTDOWN_RETRY_ATTEMPTS = 3;
+
+    private final ChatMessageBatchRepository chatMessageBatchRepository;
+    private final BlockingQueue<ChatMessage> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final long shutdownTimeoutMs;
+
+    // 큐 또는 저장 중인 배치에 있는 메시지 (ID 순, 저장 완료 시 제거)
+    private final ConcurrentNavigableMap<Long, ChatMessage> unsaved = new ConcurrentSkipListMap<>();
+    private volatile boolean running;
+    private Thread writer;
+
+    public ChatMessageWriteBuffer(ChatMessageBatchRepository chatMessageBatchRepository,
+            @Value("${app.chat.write-buffer.capacity:10000}") int capacity,
+            @Value("${app.chat.write-buffer.batch-size:200}") int batchSize,
+            @Value("${app.chat.write-buffer.flush-interval-ms:50}") long flushIntervalMs,
+            @Value("${app.chat.write-buffer.shutdown-timeout-ms:10000}") long shutdownTimeoutMs) {
+        this.chatMessageBatchRepository = chatMessageBatchRepository;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        writer = Thread.ofPlatform().name("chat-message-writer").daemon().start(this::runWriter);
+    }
+
+    /**
+     * 종료 시 남은 메시지를 모두 저장 (저장소 빈보다 먼저 정리됨)
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (writer != null) {
+            writer.join(shutdownTimeoutMs);
+        }
+        // 종료 직전 큐에 들어온 메시지까지 호출 스레드에서 저장
+        List<ChatMessage> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+        log.info("Chat message write buffer drained");
+    }
+
+    public void enqueue(ChatMessage message) {
+        unsaved.put(message.getId(), message);
+        if (running && queue.offer(message)) {
+            return;
+        }
+        unsaved.remove(message.getId());
+        chatMessageBatchRepository.insertAll(List.of(message));
+    }
+
+    /**
+     * 파티의 아직 저장되지 않은 메시지
+     */
+    public List<ChatMessage> pending(Long partyId) {
+        List<ChatMessage> result = new ArrayList<>();
+        for (ChatMessage message : unsaved.values()) {
+            if (Objects.equals(partyId, message.getPartyId())) {
+                result.add(message);
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return unsaved.size();
+    }
+
+    private void runWriter() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessage first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                fill(batch);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * batch-size개가 모이거나 첫 메시지 이후 flush-interval-ms가 지날 때까지 채움
+     */
+    private void fill(List<ChatMessage> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0 || !running) {
+                return;
+            }
+            ChatMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<ChatMessage> batch) {
+        try {
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    chatMessageBatchRepository.insertAll(batch);
+                    return;
+                } catch (DataIntegrityViolationException e) {
+                    rejectOrSplit(batch, e);
+                    return;
+                } catch (Exception e) {
+                    log.error("Failed to save {} chat messages (attempt {}): {}", batch.size(), attempt, e.getMessage());
+                    if (!running && attempt >= SHUTDOWN_RETRY_ATTEMPTS) {
+                        log.error("Dropping {} unsaved chat messages on shutdown", batch.size());
+                        return;
+                    }
+                    sleepQuietly(Math.min(MAX_RETRY_BACKOFF_MS, 200L * attempt));
+                }
+            }
+        } finally {
+            batch.forEach(message -> unsaved.remove(message.getId()));
+        }
+    }
+
+    /**
+     * 배치 중 문제 메시지만 격리: 여러 건이면 건별로 다시 저장, 한 건이면 버림 (dead letter)
+     */
+    private void rejectOrSplit(List<ChatMessage> batch, DataIntegrityViolationException e) {
+        if (batch.size() > 1) {
+            log.warn("Chat message batch of {} rejected, saving one by one: {}", batch.size(), e.getMessage());
+            batch.forEach(message -> write(List.of(message)));
+            return;
+        }
+        ChatMessage message = batch.get(0);
+        log.error("Dropping chat message rejected by database: id={}, partyId={}, senderId={}, error={}",
+                message.getId(), message.getPartyId(), message.getSenderId(), e.getMessage());
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
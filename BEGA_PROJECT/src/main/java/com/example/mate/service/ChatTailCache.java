@@ -0,0 +1,189 @@
+package com.example.mate.service;
+
+import com.example.mate.dto.ChatMessageDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 파티별 최근 채팅 메시지 tail 캐시 (Redis, 최대 TAIL_SIZE개)
+ * - ZSET 점수를 모두 0으로 두고 멤버를 "19자리 ID:JSON"으로 저장해 사전순 = ID순 (Snowflake ID는 double 점수로 정확히 표현되지 않음)
+ * - 전송 시 항상 추가하고, DB에서 채운 뒤에만 complete 표시 → complete인 tail만 조회에 사용
+ *   (채우기 전에 추가된 메시지도 ZADD 병합으로 남으므로 다른 노드의 미저장 메시지가 빠지지 않음)
+ * - Redis 장애 시 조회는 null/빈 결과로 DB 경로를 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatTailCache {
+
+    public static final int TAIL_SIZE = 100;
+
+    private static final String TAIL_KEY = "chat:tail:%d";
+    private static final String COMPLETE_KEY = "chat:tail:%d:complete";
+    private static final Duration TAIL_TTL = Duration.ofDays(1);
+
+    // KEYS: tail, complete / ARGV: 사전순 상한, 개수 → [tail 크기, 최신순 멤버...] 또는 nil
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> READ_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 0 then return false end " +
+                    "local result = { redis.call('zcard', KEYS[1]) } " +
+                    "local members = redis.call('zrevrangebylex', KEYS[1], ARGV[1], '-', 'LIMIT', 0, tonumber(ARGV[2])) " +
+                    "for i = 1, #members do result[#result + 1] = members[i] end " +
+                    "return result",
+            List.class);
+
+    // KEYS: (tail, complete) 쌍 → 파티별 최신 멤버 (complete가 아니면 빈 문자열)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LATEST_SCRIPT = new DefaultRedisScript<>(
+            "local result = {} " +
+                    "for i = 1, #KEYS, 2 do " +
+                    "  local latest = '' " +
+                    "  if redis.call('exists', KEYS[i + 1]) == 1 then " +
+                    "    local members = redis.call('zrevrange', KEYS[i], 0, 0) " +
+                    "    if #members > 0 then latest = members[1] end " +
+                    "  end " +
+                    "  result[#result + 1] = latest " +
+                    "end " +
+                    "return result",
+            List.class);
+
+    /**
+     * 조회 결과 (최신순 메시지와 tail 전체 크기)
+     */
+    public record Tail(List<ChatMessageDTO.Response> newestFirst, long size) {
+    }
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void append(ChatMessageDTO.Response message) {
+        if (message.getPartyId() == null) {
+            return;
+        }
+        try {
+            String member = toMember(message);
+            Long partyId = message.getPartyId();
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    String key = String.format(TAIL_KEY, partyId);
+                    ops.opsForZSet().add(key, member, 0);
+                    ops.opsForZSet().removeRange(key, 0, -(TAIL_SIZE + 1));
+                    ops.expire(key, TAIL_TTL);
+                    ops.expire(String.format(COMPLETE_KEY, partyId), TAIL_TTL);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis error in ChatTailCache.append: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에서 읽은 최근 메시지로 tail을 채우고 complete 표시 (기존 멤버와 병합)
+     */
+    public void fill(Long partyId, Collection<ChatMessageDTO.Response> latest) {
+        try {
+            List<String> members = new ArrayList<>(latest.size());
+            for (ChatMessageDTO.Response message : latest) {
+                members.add(toMember(message));
+            }
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    String key = String.format(TAIL_KEY, partyId);
+                    members.forEach(member -> ops.opsForZSet().add(key, member, 0));
+                    ops.opsForZSet().removeRange(key, 0, -(TAIL_SIZE + 1));
+                    ops.expire(key, TAIL_TTL);
+                    ops.opsForValue().set(String.format(COMPLETE_KEY, partyId), "1", TAIL_TTL);
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis error in ChatTailCache.fill: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * beforeId 이전(없으면 최신) 메시지를 최신순으로 최대 limit개
+     *
+     * @return complete가 아니거나 Redis 장애 시 null
+     */
+    public Tail read(Long partyId, Long beforeId, int limit) {
+        try {
+            String max = beforeId != null ? "(" + pad(beforeId) : "+";
+            List<?> result = redisTemplate.execute(READ_SCRIPT,
+                    List.of(String.format(TAIL_KEY, partyId), String.format(COMPLETE_KEY, partyId)),
+                    max, String.valueOf(limit));
+            if (result == null || result.isEmpty()) {
+                return null;
+            }
+            List<ChatMessageDTO.Response> messages = new ArrayList<>(result.size() - 1);
+            for (int i = 1; i < result.size(); i++) {
+                messages.add(fromMember(result.get(i).toString()));
+            }
+            return new Tail(messages, ((Number) result.get(0)).longValue());
+        } catch (Exception e) {
+            log.warn("Redis error in ChatTailCache.read: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * complete tail이 있는 파티의 최신 메시지 (없는 파티는 결과에서 제외)
+     */
+    public Map<Long, ChatMessageDTO.Response> latest(Collection<Long> partyIds) {
+        Map<Long, ChatMessageDTO.Response> result = new HashMap<>();
+        if (partyIds.isEmpty()) {
+            return result;
+        }
+        try {
+            List<Long> ids = new ArrayList<>(partyIds);
+            List<String> keys = new ArrayList<>(ids.size() * 2);
+            ids.forEach(id -> {
+                keys.add(String.format(TAIL_KEY, id));
+                keys.add(String.format(COMPLETE_KEY, id));
+            });
+            List<?> members = redisTemplate.execute(LATEST_SCRIPT, keys);
+            for (int i = 0; members != null && i < members.size() && i < ids.size(); i++) {
+                String member = members.get(i).toString();
+                if (!member.isEmpty()) {
+                    result.put(ids.get(i), fromMember(member));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Redis error in ChatTailCache.latest: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    private String toMember(ChatMessageDTO.Response message) throws Exception {
+        return pad(message.getId()) + ":" + objectMapper.writeValueAsString(message);
+    }
+
+    private ChatMessageDTO.Response fromMember(String member) throws Exception {
+        return objectMapper.readValue(member.substring(member.indexOf(':') + 1), ChatMessageDTO.Response.class);
+    }
+
+    private static String pad(long id) {
+        return String.format("%019d", id);
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.notification.controller;
 
+import com.example.mate.exception.UnauthorizedAccessException;
 import com.example.notification.dto.NotificationDTO;
 import com.example.notification.service.NotificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -15,13 +17,24 @@ public class NotificationController {
 
     private final NotificationService notificationService;
 
-    // 알림 목록 조회
+    // 알림 목록 전체 조회 (기존 클라이언트 호환용, 새 화면은 /inbox 사용)
     @GetMapping("/user/{userId}")
     public ResponseEntity<List<NotificationDTO.Response>> getNotifications(@PathVariable Long userId) {
         List<NotificationDTO.Response> notifications = notificationService.getNotifications(userId);
         return ResponseEntity.ok(notifications);
     }
 
+    // 알림함 커서 조회 (before: 이전 응답의 nextCursor)
+    @GetMapping("/user/{userId}/inbox")
+    public ResponseEntity<NotificationDTO.InboxPage> getInbox(
+            @PathVariable Long userId,
+            @AuthenticationPrincipal Long currentUserId,
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int limit) {
+        validateOwner(userId, currentUserId);
+        return ResponseEntity.ok(notificationService.getInbox(userId, before, limit));
+    }
+
     // 읽지 않은 알림 개수
     @GetMapping("/user/{userId}/unread-count")
     public ResponseEntity<Long> getUnreadCount(@PathVariable Long userId) {
@@ -36,10 +49,25 @@ public class NotificationController {
         return ResponseEntity.noContent().build();
     }
 
+    // 모든 알림 읽음 처리
+    @PostMapping("/user/{userId}/read-all")
+    public ResponseEntity<Integer> markAllAsRead(@PathVariable Long userId,
+            @AuthenticationPrincipal Long currentUserId) {
+        validateOwner(userId, currentUserId);
+        return ResponseEntity.ok(notificationService.markAllAsRead(userId));
+    }
+
     // 알림 삭제
     @DeleteMapping("/{notificationId}")
     public ResponseEntity<Void> deleteNotification(@PathVariable Long notificationId) {
         notificationService.deleteNotification(notificationId);
         return ResponseEntity.noContent().build();
     }
+
+    // 본인 알림함만 조회/변경 가능
+    private void validateOwner(Long userId, Long currentUserId) {
+        if (currentUserId == null || !currentUserId.equals(userId)) {
+            throw new UnauthorizedAccessException("본인의 알림만 처리할 수 있습니다.");
+        }
+    }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class NotificationDTO {
 
@@ -35,4 +36,17 @@ public class NotificationDTO {
                     .build();
         }
     }
+
+    /**
+     * 커서 기반 알림함 페이지 (notifications는 최신순, nextCursor는 다음 요청의 before 값)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class InboxPage {
+        private List<Response> notifications;
+        private Long nextCursor;
+        private boolean hasMore;
+    }
 }
@@ -9,7 +9,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_id", columnList = "user_id, id"),
+        @Index(name = "idx_notifications_user_unread", columnList = "user_id, is_read"),
+        @Index(name = "idx_notifications_created_at", columnList = "createdat")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
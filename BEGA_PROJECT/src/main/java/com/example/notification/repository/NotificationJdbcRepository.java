@@ -0,0 +1,92 @@
+package com.example.notification.repository;
+
+import com.example.notification.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 일괄 INSERT 전용 JDBC 저장소
+ * - IDENTITY 키 엔티티는 Hibernate 배치 INSERT가 비활성화되므로 JdbcTemplate 배치 사용
+ * - 배치 INSERT의 생성 키(KeyHolder)로 ID를 채움 (WebSocket으로 보낸 알림도 ID로 읽음 처리할 수 있도록)
+ * - 드라이버가 배치 생성 키를 행 수만큼 돌려주지 않으면 ID 없이 반환 (잘못된 ID를 붙이지 않음)
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO notifications "
+            + "(user_id, type, title, message, related_id, is_read, createdat) "
+            + "VALUES (:userId, :type, :title, :message, :relatedId, :isRead, :createdAt)";
+    private static final String[] KEY_COLUMNS = { "id" };
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 내용의 알림을 사용자별로 하나의 JDBC 배치로 INSERT (호출 측 트랜잭션에 참여)
+     * - 배치 크기는 호출 측에서 1000개 이하로 나눠 호출
+     *
+     * @return ID가 채워진 알림 목록 (userIds 순서)
+     */
+    public List<Notification> insertAll(Collection<Long> userIds, Notification.NotificationType type,
+            String title, String message, Long relatedId) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime createdAt = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+
+        MapSqlParameterSource[] rows = new MapSqlParameterSource[userIds.size()];
+        int i = 0;
+        for (Long userId : userIds) {
+            rows[i++] = new MapSqlParameterSource()
+                    .addValue("userId", userId)
+                    .addValue("type", type.name())
+                    .addValue("title", title)
+                    .addValue("message", message)
+                    .addValue("relatedId", relatedId, Types.BIGINT)
+                    .addValue("isRead", false)
+                    .addValue("createdAt", timestamp);
+        }
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows, keyHolder, KEY_COLUMNS);
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != rows.length) {
+            log.warn("배치 INSERT 생성 키 수가 행 수와 다름, ID 없이 반환: rows={}, keys={}", rows.length, keys.size());
+        }
+
+        List<Notification> saved = new ArrayList<>(userIds.size());
+        i = 0;
+        for (Long userId : userIds) {
+            saved.add(Notification.builder()
+                    .id(keys.size() == rows.length ? generatedId(keys.get(i++)) : null)
+                    .userId(userId)
+                    .type(type)
+                    .title(title)
+                    .message(message)
+                    .relatedId(relatedId)
+                    .isRead(false)
+                    .createdAt(createdAt)
+                    .build());
+        }
+        return saved;
+    }
+
+    // 요청한 키 컬럼은 id 하나 (드라이버마다 키 이름 대소문자가 다름)
+    private static Long generatedId(Map<String, Object> key) {
+        return ((Number) key.values().iterator().next()).longValue();
+    }
+}
@@ -1,9 +1,15 @@
 package com.example.notification.repository;
 
 import com.example.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,7 +17,32 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     
     // 사용자별 알림 목록 (최신순)
     List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
+
+    // 사용자별 최신 알림부터 (커서 첫 페이지, idx_notifications_user_id)
+    List<Notification> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    // 커서(알림 ID) 이전 알림을 최신순으로
+    List<Notification> findByUserIdAndIdLessThanOrderByIdDesc(Long userId, Long beforeId, Pageable pageable);
     
     // 읽지 않은 알림 개수
     Long countByUserIdAndIsReadFalse(Long userId);
-}
\ No newline at end of file
+
+    // 여러 사용자의 읽지 않은 알림 개수 (카운터 재집계용, 0개인 사용자는 결과에 없음)
+    @Query("SELECT n.userId, COUNT(n) FROM Notification n "
+            + "WHERE n.userId IN :userIds AND n.isRead = false GROUP BY n.userId")
+    List<Object[]> countUnreadByUserIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 읽지 않은 알림만 읽음 처리 (동시 요청 시 한 번만 1 반환)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.id = :id AND n.isRead = false")
+    int markAsReadIfUnread(@Param("id") Long id);
+
+    // 사용자의 모든 알림 읽음 처리
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.userId = :userId AND n.isRead = false")
+    int markAllAsRead(@Param("userId") Long userId);
+
+    // 보관 기간이 지난 알림 (오래된 순, 배치 삭제용)
+    @Query("SELECT n FROM Notification n WHERE n.createdAt < :cutoff ORDER BY n.id")
+    List<Notification> findCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+}
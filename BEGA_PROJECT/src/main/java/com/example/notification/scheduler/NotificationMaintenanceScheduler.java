@@ -0,0 +1,71 @@
+package com.example.notification.scheduler;
+
+import com.example.notification.service.NotificationService;
+import com.example.notification.service.NotificationUnreadCounter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.scheduling.JobScheduler;
+import org.jobrunr.scheduling.cron.Cron;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationMaintenanceScheduler implements ApplicationRunner {
+
+    private final NotificationService notificationService;
+    private final NotificationUnreadCounter unreadCounter;
+    private final JobScheduler jobScheduler;
+
+    // 보관 기간 (일)
+    @Value("${app.notification.retention-days:90}")
+    private int retentionDays;
+
+    // 재집계/삭제 배치 크기 (Oracle IN 절 제한 1000 이하)
+    @Value("${app.notification.batch-size:1000}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // 10분마다 실행 (읽지 않은 알림 카운터 재집계)
+        jobScheduler.scheduleRecurrently("reconcile-notification-unread-counts", Cron.every10minutes(),
+                this::reconcileUnreadCounts);
+
+        // 매일 새벽 3시 30분 실행 (보관 기간 지난 알림 삭제)
+        jobScheduler.scheduleRecurrently("purge-old-notifications", Cron.daily(3, 30), this::purgeOldNotifications);
+    }
+
+    /**
+     * 최근 카운터가 바뀐 사용자의 읽지 않은 알림 수를 DB 값으로 보정
+     */
+    @Job(name = "Reconcile Notification Unread Counts")
+    public void reconcileUnreadCounts() {
+        int reconciled = 0;
+        int processed;
+        // 작업 중 새로 등록되는 사용자로 끝없이 반복하지 않도록 배치 수 제한
+        for (int i = 0; i < 100 && (processed = unreadCounter.reconcile(batchSize)) > 0; i++) {
+            reconciled += processed;
+        }
+        if (reconciled > 0) {
+            log.info("Reconciled unread notification counts for {} users", reconciled);
+        }
+    }
+
+    /**
+     * retention-days보다 오래된 알림 삭제
+     */
+    @Job(name = "Purge Old Notifications")
+    public void purgeOldNotifications() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int deleted = notificationService.purgeOlderThan(cutoff, batchSize);
+        if (deleted > 0) {
+            log.info("Purged {} notifications older than {} days", deleted, retentionDays);
+        }
+    }
+}
@@ -3,22 +3,42 @@ package com.example.notification.service;
 import com.example.notification.dto.NotificationDTO;
 import com.example.notification.entity.Notification;
 import com.example.notification.exception.NotificationNotFoundException;
+import com.example.notification.repository.NotificationJdbcRepository;
 import com.example.notification.repository.NotificationRepository;
 import lombok.RequiredArgsConstructor;
+import org.jobrunr.jobs.annotations.Job;
+import org.jobrunr.scheduling.JobScheduler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
+import static com.example.common.transaction.TransactionHooks.runAfterCommit;
+
 @Service
 @RequiredArgsConstructor
 @lombok.extern.slf4j.Slf4j
 public class NotificationService {
 
+    // 한 번의 JDBC 배치/JobRunr 작업으로 처리할 최대 대상 수 (Oracle IN 절 제한 1000 이하)
+    private static final int BULK_CHUNK_SIZE = 1000;
+    private static final int MAX_INBOX_LIMIT = 100;
+
     private final NotificationRepository notificationRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
     private final SimpMessagingTemplate messagingTemplate;
+    private final JobScheduler jobScheduler;
+    private final NotificationUnreadCounter unreadCounter;
+
+    @Value("${app.notification.async-fan-out-threshold:10000}")
+    private int asyncFanOutThreshold;
 
     // 알림 생성
     @Transactional
@@ -43,24 +63,76 @@ public class NotificationService {
         NotificationDTO.Response dto = NotificationDTO.Response.from(saved);
 
         // WebSocket으로 실시간 알림 전송 (트랜잭션 커밋 후 전송)
-        org.springframework.transaction.support.TransactionSynchronizationManager.registerSynchronization(
-                new org.springframework.transaction.support.TransactionSynchronization() {
-                    @Override
-                    public void afterCommit() {
-                        try {
-                            messagingTemplate.convertAndSend(
-                                    "/topic/notifications/" + userId,
-                                    Objects.requireNonNull((Object) dto));
-                            log.info("알림 전송 성공 (After Commit): userId={}, type={}", userId, type);
-                        } catch (Exception e) {
-                            log.error("알림 전송 실패: {}", e.getMessage());
-                        }
-                    }
-                });
+        runAfterCommit(() -> {
+            unreadCounter.increment(List.of(userId));
+            try {
+                messagingTemplate.convertAndSend(
+                        "/topic/notifications/" + userId,
+                        Objects.requireNonNull((Object) dto));
+                log.info("알림 전송 성공 (After Commit): userId={}, type={}", userId, type);
+            } catch (Exception e) {
+                log.error("알림 전송 실패: {}", e.getMessage());
+            }
+        });
+
+    }
+
+    /**
+     * 여러 사용자에게 같은 알림 일괄 생성 (팔로워/파티 참여자 fan-out)
+     * - BULK_CHUNK_SIZE명씩 JDBC 배치 INSERT 후 커밋 시 WebSocket 전송을 한 번에 처리
+     * - 대상이 async-fan-out-threshold명을 넘으면 커밋 후 청크별 JobRunr 작업으로 넘겨 요청 트랜잭션에서 처리하지 않음
+     */
+    @Transactional
+    public void createNotifications(
+            Collection<Long> userIds,
+            Notification.NotificationType type,
+            String title,
+            String message,
+            Long relatedId) {
+        List<Long> targets = userIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < targets.size(); from += BULK_CHUNK_SIZE) {
+            // JobRunr 인자 직렬화를 위해 불변 리스트 대신 ArrayList 사용
+            chunks.add(new ArrayList<>(targets.subList(from, Math.min(from + BULK_CHUNK_SIZE, targets.size()))));
+        }
 
+        if (targets.size() > asyncFanOutThreshold) {
+            runAfterCommit(() -> {
+                for (List<Long> chunk : chunks) {
+                    jobScheduler.enqueue(() -> createNotificationsChunk(chunk, type, title, message, relatedId));
+                }
+                log.info("알림 fan-out 작업 등록: type={}, relatedId={}, 대상={}명, 작업={}개",
+                        type, relatedId, targets.size(), chunks.size());
+            });
+            return;
+        }
+
+        List<Notification> saved = new ArrayList<>(targets.size());
+        for (List<Long> chunk : chunks) {
+            saved.addAll(notificationJdbcRepository.insertAll(chunk, type, title, message, relatedId));
+        }
+        sendAfterCommit(saved);
+    }
+
+    /**
+     * 대규모 fan-out 청크 처리 백그라운드 작업 (public이어야 JobRunr가 호출 가능)
+     */
+    @Job(name = "Create Notifications Chunk")
+    @Transactional
+    public void createNotificationsChunk(
+            List<Long> userIds,
+            Notification.NotificationType type,
+            String title,
+            String message,
+            Long relatedId) {
+        sendAfterCommit(notificationJdbcRepository.insertAll(userIds, type, title, message, relatedId));
     }
 
-    // 사용자 알림 목록 조회
+    // 사용자 알림 목록 전체 조회 (기존 API 호환용, 새 화면은 getInbox 사용)
     @Transactional(readOnly = true)
     public List<NotificationDTO.Response> getNotifications(Long userId) {
         return notificationRepository.findByUserIdOrderByCreatedAtDesc(userId)
@@ -69,10 +141,33 @@ public class NotificationService {
                 .collect(Collectors.toList());
     }
 
-    // 읽지 않은 알림 개수
+    /**
+     * 커서 기반 알림함 조회 (beforeId가 없으면 최신 페이지)
+     */
     @Transactional(readOnly = true)
+    public NotificationDTO.InboxPage getInbox(Long userId, Long beforeId, int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_INBOX_LIMIT));
+        // 다음 페이지 유무 확인을 위해 하나 더 조회
+        PageRequest page = PageRequest.of(0, size + 1);
+        List<Notification> rows = beforeId == null
+                ? notificationRepository.findByUserIdOrderByIdDesc(userId, page)
+                : notificationRepository.findByUserIdAndIdLessThanOrderByIdDesc(userId, beforeId, page);
+
+        boolean hasMore = rows.size() > size;
+        List<NotificationDTO.Response> notifications = rows.stream()
+                .limit(size)
+                .map(NotificationDTO.Response::from)
+                .toList();
+        return NotificationDTO.InboxPage.builder()
+                .notifications(notifications)
+                .nextCursor(hasMore ? notifications.get(notifications.size() - 1).getId() : null)
+                .hasMore(hasMore)
+                .build();
+    }
+
+    // 읽지 않은 알림 개수 (Redis 카운터, 없으면 DB COUNT로 채움)
     public Long getUnreadCount(Long userId) {
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadCounter.get(userId);
     }
 
     // 알림 읽음 처리
@@ -81,13 +176,84 @@ public class NotificationService {
         Notification notification = notificationRepository.findById(Objects.requireNonNull(notificationId))
                 .orElseThrow(() -> new NotificationNotFoundException(notificationId));
 
-        notification.setIsRead(true);
-        notificationRepository.save(Objects.requireNonNull(notification));
+        // 이미 읽은 알림이거나 동시 요청이 먼저 처리한 경우 카운터를 다시 줄이지 않음
+        if (notificationRepository.markAsReadIfUnread(notificationId) > 0) {
+            Long userId = notification.getUserId();
+            runAfterCommit(() -> unreadCounter.decrement(userId));
+        }
+    }
+
+    /**
+     * 사용자의 모든 알림을 UPDATE 한 번으로 읽음 처리
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markAllAsRead(Long userId) {
+        int updated = notificationRepository.markAllAsRead(userId);
+        runAfterCommit(() -> unreadCounter.reset(userId));
+        return updated;
     }
 
     // 알림 삭제
     @Transactional
     public void deleteNotification(Long notificationId) {
-        notificationRepository.deleteById(Objects.requireNonNull(notificationId));
+        notificationRepository.findById(Objects.requireNonNull(notificationId)).ifPresent(notification -> {
+            notificationRepository.delete(notification);
+            if (!Boolean.TRUE.equals(notification.getIsRead())) {
+                Long userId = notification.getUserId();
+                runAfterCommit(() -> unreadCounter.decrement(userId));
+            }
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 알림을 batchSize개씩 삭제 (배치마다 별도 트랜잭션)
+     * - 읽지 않은 알림이 지워진 사용자는 카운터를 비워 다음 조회 시 다시 집계
+     *
+     * @return 삭제한 알림 수
+     */
+    public int purgeOlderThan(LocalDateTime cutoff, int batchSize) {
+        int deleted = 0;
+        while (true) {
+            List<Notification> expired = notificationRepository.findCreatedBefore(cutoff, PageRequest.of(0, batchSize));
+            if (expired.isEmpty()) {
+                return deleted;
+            }
+            notificationRepository.deleteAllByIdInBatch(expired.stream().map(Notification::getId).toList());
+            unreadCounter.evict(expired.stream()
+                    .filter(notification -> !Boolean.TRUE.equals(notification.getIsRead()))
+                    .map(Notification::getUserId)
+                    .distinct()
+                    .toList());
+            deleted += expired.size();
+            if (expired.size() < batchSize) {
+                return deleted;
+            }
+        }
+    }
+
+    /**
+     * 커밋 후 저장된 알림을 사용자별 토픽으로 일괄 전송
+     */
+    private void sendAfterCommit(List<Notification> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        runAfterCommit(() -> {
+            unreadCounter.increment(notifications.stream().map(Notification::getUserId).toList());
+            int failed = 0;
+            for (Notification notification : notifications) {
+                try {
+                    messagingTemplate.convertAndSend(
+                            "/topic/notifications/" + notification.getUserId(),
+                            (Object) NotificationDTO.Response.from(notification));
+                } catch (Exception e) {
+                    failed++;
+                }
+            }
+            log.info("알림 일괄 전송 (After Commit): type={}, 대상={}명, 실패={}건",
+                    notifications.get(0).getType(), notifications.size(), failed);
+        });
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,160 @@
+package com.example.notification.service;
+
+import com.example.common.redis.PipelinedScript;
+import com.example.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.example.common.redis.PipelinedScript.bytes;
+
+/**
+ * 사용자별 읽지 않은 알림 수 Redis 카운터
+ * - 키가 없으면 COUNT로 채우고(SET NX), 생성/읽음/삭제 시에는 키가 있을 때만 증감 (없는 키를 만들면 실제 값과 어긋남)
+ * - 카운터를 채우거나 증감한 사용자는 재집계 대상 Set에 등록 → 주기 작업이 꺼내 DB 값으로 덮어써 경합/유실 오차를 보정
+ * - Redis 장애 시 DB COUNT로 응답하고 증감은 건너뜀 (TTL 만료/재집계로 복구)
+ */
+@Slf4j
+@Component
+public class NotificationUnreadCounter {
+
+    private static final String COUNT_KEY = "notification:unread:%d";
+    private static final String RECONCILE_KEY = "notification:unread:reconcile";
+
+    // KEYS: 카운터 / ARGV: 증감량 → 키가 있을 때만 반영, 0 미만으로 내려가지 않음
+    private static final PipelinedScript ADJUST_SCRIPT = new PipelinedScript(
+            "if redis.call('exists', KEYS[1]) == 0 then return -1 end " +
+                    "local value = redis.call('incrby', KEYS[1], ARGV[1]) " +
+                    "if value < 0 then redis.call('set', KEYS[1], 0, 'KEEPTTL') value = 0 end " +
+                    "return value",
+            ReturnType.INTEGER);
+
+    private final StringRedisTemplate redisTemplate;
+    private final NotificationRepository notificationRepository;
+    private final Duration ttl;
+
+    public NotificationUnreadCounter(StringRedisTemplate redisTemplate,
+            NotificationRepository notificationRepository,
+            @Value("${app.notification.unread-count.ttl-seconds:86400}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.notificationRepository = notificationRepository;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    public long get(Long userId) {
+        try {
+            String key = String.format(COUNT_KEY, userId);
+            String cached = redisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return Long.parseLong(cached);
+            }
+            long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+            redisTemplate.opsForValue().setIfAbsent(key, String.valueOf(count), ttl);
+            redisTemplate.opsForSet().add(RECONCILE_KEY, String.valueOf(userId));
+            return count;
+        } catch (Exception e) {
+            log.warn("Redis error in NotificationUnreadCounter.get: {}", e.getMessage());
+            return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        }
+    }
+
+    public void increment(Collection<Long> userIds) {
+        adjust(userIds, 1);
+    }
+
+    public void decrement(Long userId) {
+        adjust(List.of(userId), -1);
+    }
+
+    public void reset(Long userId) {
+        try {
+            redisTemplate.opsForValue().set(String.format(COUNT_KEY, userId), "0", ttl);
+        } catch (Exception e) {
+            log.warn("Redis error in NotificationUnreadCounter.reset: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 카운터 삭제 (다음 조회 시 DB에서 다시 채움)
+     */
+    public void evict(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisTemplate.delete(userIds.stream().map(id -> String.format(COUNT_KEY, id)).toList());
+        } catch (Exception e) {
+            log.warn("Redis error in NotificationUnreadCounter.evict: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재집계 대상 사용자 batchSize명을 꺼내 DB 값으로 덮어씀
+     *
+     * @return 처리한 사용자 수 (0이면 대상 없음)
+     */
+    public int reconcile(int batchSize) {
+        List<Long> userIds;
+        try {
+            List<String> popped = redisTemplate.opsForSet().pop(RECONCILE_KEY, batchSize);
+            if (popped == null || popped.isEmpty()) {
+                return 0;
+            }
+            userIds = popped.stream().map(Long::valueOf).toList();
+        } catch (Exception e) {
+            log.warn("Redis error in NotificationUnreadCounter.reconcile: {}", e.getMessage());
+            return 0;
+        }
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Object[] row : notificationRepository.countUnreadByUserIdIn(userIds)) {
+            counts.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    for (Long userId : userIds) {
+                        // 만료된 카운터는 다시 만들지 않음 (다음 조회 시 채움)
+                        ops.opsForValue().setIfPresent(String.format(COUNT_KEY, userId),
+                                String.valueOf(counts.getOrDefault(userId, 0L)), ttl);
+                    }
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis error in NotificationUnreadCounter.reconcile: {}", e.getMessage());
+        }
+        return userIds.size();
+    }
+
+    private void adjust(Collection<Long> userIds, long delta) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] deltaArg = bytes(String.valueOf(delta));
+            byte[] reconcileKey = bytes(RECONCILE_KEY);
+            ADJUST_SCRIPT.executePipelined(redisTemplate, (connection, script) -> {
+                for (Long userId : userIds) {
+                    script.eval(bytes(String.format(COUNT_KEY, userId)), deltaArg);
+                    connection.setCommands().sAdd(reconcileKey, bytes(String.valueOf(userId)));
+                }
+            });
+        } catch (Exception e) {
+            log.warn("Redis error in NotificationUnreadCounter.adjust: {}", e.getMessage());
+        }
+    }
+}
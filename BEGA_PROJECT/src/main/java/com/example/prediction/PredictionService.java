@@ -1,5 +1,7 @@
 package com.example.prediction;
 
+import com.example.auth.entity.CheerPointLedgerEntry;
+import com.example.auth.service.CheerPointLedger;
 import com.example.kbo.entity.GameEntity;
 import com.example.kbo.entity.GameInningScoreEntity;
 import com.example.kbo.entity.GameMetadataEntity;
@@ -31,6 +33,7 @@ public class PredictionService {
     private final GameSummaryRepository gameSummaryRepository;
     private final VoteFinalResultRepository voteFinalResultRepository;
     private final com.example.auth.repository.UserRepository userRepository;
+    private final CheerPointLedger cheerPointLedger;
     private static final Set<String> BLOCKED_VOTE_STATUSES = Set.of(
             "COMPLETED",
             "CANCELLED",
@@ -132,19 +135,16 @@ public class PredictionService {
             prediction.updateVotedTeam(request.getVotedTeam());
 
         } else {
-            // 포인트 차감 (Entity Update)
-            com.example.auth.entity.UserEntity user = userRepository.findById(userId)
-                    .orElseThrow(() -> new IllegalStateException("사용자를 찾을 수 없습니다."));
-
-            // 포인트 잔액 검증
-            if (user.getCheerPoints() == null || user.getCheerPoints() < 1) {
+            // 포인트 차감 (잔액 검증과 차감을 조건부 UPDATE 한 번으로)
+            if (!cheerPointLedger.apply(userId, -1, CheerPointLedgerEntry.Reason.PREDICTION_VOTE,
+                    request.getGameId())) {
+                if (!userRepository.existsById(userId)) {
+                    throw new IllegalStateException("사용자를 찾을 수 없습니다.");
+                }
                 throw new IllegalArgumentException(
-                        "응원 포인트가 부족합니다. (현재: " + (user.getCheerPoints() == null ? 0 : user.getCheerPoints()) + ")");
+                        "응원 포인트가 부족합니다. (현재: " + cheerPointLedger.balanceOf(userId) + ")");
             }
 
-            user.deductCheerPoints(1);
-            userRepository.save(user);
-
             Prediction prediction = Prediction.builder()
                     .gameId(request.getGameId())
                     .userId(userId)
@@ -1,14 +1,18 @@
 package com.example.profile.storage.dto;
 
+import java.util.Map;
+
 /**
  * 프로필 이미지 응답 DTO
+ * - variantUrls: 긴 변 크기별 파생 이미지 URL (아바타 등 작은 표시용)
  */
 public record ProfileImageDto(
 		Long userId,
 	    String storagePath,
 	    String publicUrl,
 	    String mimeType,
-	    Long bytes
+	    Long bytes,
+	    Map<Integer, String> variantUrls
 	    ) {
 
 }
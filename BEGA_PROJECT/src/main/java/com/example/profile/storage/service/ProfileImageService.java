@@ -4,6 +4,7 @@ import com.example.cheerboard.storage.config.StorageConfig;
 import com.example.cheerboard.storage.strategy.StorageStrategy;
 import com.example.auth.entity.UserEntity;
 import com.example.auth.repository.UserRepository;
+import com.example.common.image.ImageVariants;
 import com.example.profile.storage.dto.ProfileImageDto;
 import com.example.profile.storage.validator.ProfileImageValidator;
 import lombok.RequiredArgsConstructor;
@@ -12,6 +13,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 /**
@@ -50,17 +53,19 @@ public class ProfileImageService {
 
         // 2. 이미지 처리 및 업로드 (DB 트랜잭션 외부)
         String uploadedPath = null;
+        String storagePath = null;
         try {
-            // 이미지 압축 및 WebP 변환
-            var processed = imageUtil.process(file);
+            // 이미지 압축 및 WebP 변환 (아바타용 파생 이미지 포함)
+            var processed = imageUtil.processWithVariants(file);
 
             String filename = UUID.randomUUID() + "." + processed.getExtension();
-            String storagePath = "profiles/" + userId + "/" + filename;
+            storagePath = ImageVariants.withSizes("profiles/" + userId + "/" + filename,
+                    processed.getVariants().keySet());
 
             // 스토리지에 업로드
             uploadedPath = storageStrategy
-                    .uploadBytes(processed.getBytes(), processed.getContentType(), config.getProfileBucket(),
-                            storagePath)
+                    .uploadStream(processed, processed.getSize(), processed.getContentType(),
+                            config.getProfileBucket(), storagePath)
                     .map(path -> {
                         log.info("스토리지 업로드 성공: path={}", path);
                         return path;
@@ -71,6 +76,14 @@ public class ProfileImageService {
                 throw new RuntimeException("파일 업로드에 실패했습니다.");
             }
 
+            // 파생 이미지 업로드 (정해진 키로, 원본 경로만 DB에 저장)
+            for (var variant : processed.getVariants().entrySet()) {
+                storageStrategy.uploadStream(variant.getValue(), variant.getValue().getSize(),
+                        variant.getValue().getContentType(), config.getProfileBucket(),
+                        ImageVariants.pathFor(storagePath, variant.getKey()))
+                        .block();
+            }
+
             // 주의: uploadedPath는 버킷명이 포함될 수 있음. getUrl에는 storagePath를 넘겨야 함 (이전 버그 수정 반영)
 
             // URL 생성
@@ -96,7 +109,8 @@ public class ProfileImageService {
                     uploadedPath,
                     profileUrl,
                     processed.getContentType(),
-                    processed.getSize());
+                    processed.getSize(),
+                    getProfileImageVariantUrls(storagePath));
 
         } catch (Exception e) {
             log.error("프로필 이미지 업로드 실패. 롤백 처리 진행. Error: {}", e.getMessage(), e);
@@ -110,6 +124,13 @@ public class ProfileImageService {
                 } catch (Exception ex) {
                     log.warn("롤백 이미지 삭제 실패: {}", uploadedPath);
                 }
+                for (String variantPath : ImageVariants.paths(storagePath).values()) {
+                    try {
+                        storageStrategy.delete(config.getProfileBucket(), variantPath).block();
+                    } catch (Exception ex) {
+                        log.warn("롤백 파생 이미지 삭제 실패: {}", variantPath);
+                    }
+                }
             }
             throw new RuntimeException("프로필 이미지 업로드 중 오류가 발생했습니다: " + e.getMessage(), e);
         }
@@ -130,6 +151,14 @@ public class ProfileImageService {
      * 저장된 경로(path) 또는 URL을 기반으로 실제 접근 가능한 URL 반환
      */
     public String getProfileImageUrl(String pathOrUrl) {
+        return getProfileImageUrl(pathOrUrl, 0);
+    }
+
+    /**
+     * getProfileImageUrl + 긴 변이 minSize 이상인 가장 작은 파생 이미지 URL (없으면 원본)
+     * - 40px 아바타처럼 작게 표시하는 곳에서 원본 대신 사용
+     */
+    public String getProfileImageUrl(String pathOrUrl, int minSize) {
         if (pathOrUrl == null || pathOrUrl.isEmpty()) {
             return null;
         }
@@ -139,27 +168,51 @@ public class ProfileImageService {
             // 만약 우리 버킷의 Signed URL이라면, Path를 추출하여 재서명 시도 (Auto-healing)
             String extracted = extractStoragePathFromUrl(pathOrUrl);
             if (extracted != null) {
-                return getProfileImageUrl(extracted);
+                return getProfileImageUrl(extracted, minSize);
             }
             return pathOrUrl;
         }
 
         // 2. 경로(Path)인 경우 -> Signed URL 생성
+        String path = minSize > 0 ? ImageVariants.smallestAtLeast(pathOrUrl, minSize) : pathOrUrl;
         try {
-            String url = storageStrategy.getUrl(config.getProfileBucket(), pathOrUrl, config.getSignedUrlTtlSeconds())
+            String url = storageStrategy.getUrl(config.getProfileBucket(), path, config.getSignedUrlTtlSeconds())
                     .block();
             return url;
         } catch (Exception e) {
-            log.warn("프로필 이미지 URL 생성 실패: path={}, error={}", pathOrUrl, e.getMessage());
+            log.warn("프로필 이미지 URL 생성 실패: path={}, error={}", path, e.getMessage());
             return null;
         }
     }
 
+    /**
+     * 파생 이미지 URL 전체 (긴 변 크기 → URL, 기존 업로드/외부 URL은 비어 있음)
+     */
+    public Map<Integer, String> getProfileImageVariantUrls(String pathOrUrl) {
+        Map<Integer, String> urls = new LinkedHashMap<>();
+        if (pathOrUrl == null || pathOrUrl.isEmpty()) {
+            return urls;
+        }
+        String path = pathOrUrl.startsWith("http://") || pathOrUrl.startsWith("https://")
+                ? extractStoragePathFromUrl(pathOrUrl)
+                : pathOrUrl;
+        for (Integer size : ImageVariants.sizesOf(path)) {
+            String url = getProfileImageUrl(path, size);
+            if (url != null) {
+                urls.put(size, url);
+            }
+        }
+        return urls;
+    }
+
     private void deleteImageByUrl(String url) {
         try {
             String storagePath = extractStoragePathFromUrl(url);
             if (storagePath != null) {
                 storageStrategy.delete(config.getProfileBucket(), storagePath).block();
+                for (String variantPath : ImageVariants.paths(storagePath).values()) {
+                    storageStrategy.delete(config.getProfileBucket(), variantPath).block();
+                }
                 log.info("기존 프로필 이미지 삭제 완료: path={}", storagePath);
             }
         } catch (Exception e) {
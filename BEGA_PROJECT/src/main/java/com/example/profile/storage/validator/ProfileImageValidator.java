@@ -1,10 +1,12 @@
 package com.example.profile.storage.validator;
 
 import com.example.cheerboard.storage.config.StorageConfig;
+import com.example.common.image.ImageUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.util.Set;
 
 /**
@@ -15,6 +17,7 @@ import java.util.Set;
 public class ProfileImageValidator {
 
     private final StorageConfig config;
+    private final ImageUtil imageUtil;
 
     private static final Set<String> ALLOWED_EXTENSIONS = Set.of(
         "jpg", "jpeg", "png", "webp"
@@ -40,6 +43,7 @@ public class ProfileImageValidator {
         validateExtension(originalFilename);
         validateMimeType(file.getContentType());
         validateSize(file.getSize());
+        validateDimensions(file);
     }
 
     private void validateExtension(String filename) {
@@ -71,6 +75,14 @@ public class ProfileImageValidator {
         }
     }
 
+    private void validateDimensions(MultipartFile file) {
+        try {
+            imageUtil.checkDimensions(file);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("이미지 파일을 읽을 수 없습니다.");
+        }
+    }
+
     private String getFileExtension(String filename) {
         int lastDotIndex = filename.lastIndexOf('.');
         if (lastDotIndex == -1 || lastDotIndex == filename.length() - 1) {
@@ -0,0 +1,32 @@
+-- 커서(keyset) 페이지네이션용 인덱스: (createdat, id) 내림차순
+DECLARE
+  index_exists EXCEPTION;
+  PRAGMA EXCEPTION_INIT(index_exists, -955); -- ORA-00955: name is already used by an existing object
+  col_indexed EXCEPTION;
+  PRAGMA EXCEPTION_INIT(col_indexed, -1408); -- ORA-01408: such column list already indexed
+BEGIN
+  BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX idx_cheer_post_created_id ON cheer_post (createdat DESC, id DESC)';
+  EXCEPTION
+    WHEN index_exists OR col_indexed THEN NULL;
+  END;
+
+  BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX idx_cheer_post_team_created_id ON cheer_post (team_id, createdat DESC, id DESC)';
+  EXCEPTION
+    WHEN index_exists OR col_indexed THEN NULL;
+  END;
+
+  BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX idx_cheer_post_author_created_id ON cheer_post (author_id, createdat DESC, id DESC)';
+  EXCEPTION
+    WHEN index_exists OR col_indexed THEN NULL;
+  END;
+
+  BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX idx_cheer_bookmark_user_created ON cheer_post_bookmark (user_id, created_at DESC, post_id DESC)';
+  EXCEPTION
+    WHEN index_exists OR col_indexed THEN NULL;
+  END;
+END;
+/
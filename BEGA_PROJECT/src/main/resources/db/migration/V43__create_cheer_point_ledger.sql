@@ -0,0 +1,15 @@
+-- 응원 포인트 변경 이력 (append-only 원장)
+CREATE TABLE cheer_point_ledger (
+    id NUMBER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id NUMBER NOT NULL,
+    delta NUMBER(10) NOT NULL,
+    reason VARCHAR2(30) NOT NULL,
+    reference_id VARCHAR2(100),
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_cheer_point_ledger_user_created ON cheer_point_ledger(user_id, created_at);
+
+COMMENT ON TABLE cheer_point_ledger IS 'Cheer point ledger - one row per change of users.cheer_points';
+COMMENT ON COLUMN cheer_point_ledger.delta IS 'Signed point change';
+COMMENT ON COLUMN cheer_point_ledger.reference_id IS 'Related post/comment/game ID';
@@ -0,0 +1,18 @@
+-- V44: chat_messages ID를 애플리케이션에서 발급 (Snowflake, ChatMessageIdGenerator)
+-- Hibernate가 생성한 GENERATED ALWAYS 식별 컬럼은 명시적 ID INSERT를 거부하므로 BY DEFAULT로 변경
+-- 기존 행의 ID는 Snowflake ID보다 훨씬 작아 충돌하지 않음
+
+DECLARE
+    v_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_count
+    FROM user_tab_identity_cols
+    WHERE table_name = 'CHAT_MESSAGES'
+      AND column_name = 'ID'
+      AND generation_type = 'ALWAYS';
+
+    IF v_count > 0 THEN
+        EXECUTE IMMEDIATE 'ALTER TABLE chat_messages MODIFY (id GENERATED BY DEFAULT AS IDENTITY)';
+    END IF;
+END;
+/
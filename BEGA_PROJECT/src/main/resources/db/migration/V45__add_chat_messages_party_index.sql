@@ -0,0 +1,23 @@
+-- V45: 채팅 커서 페이지네이션 (party, id DESC) / 파티별 최신 메시지 조회용 복합 인덱스
+-- chat_messages는 엔티티 매핑으로 생성되어 명명 전략에 따라 컬럼명이 PARTY_ID 또는 PARTYID이므로 확인 후 생성
+
+DECLARE
+    v_column VARCHAR2(30);
+    v_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_count
+    FROM user_indexes
+    WHERE index_name = 'IDX_CHAT_MESSAGES_PARTY_ID';
+
+    IF v_count = 0 THEN
+        SELECT MAX(column_name) INTO v_column
+        FROM user_tab_columns
+        WHERE table_name = 'CHAT_MESSAGES'
+          AND column_name IN ('PARTY_ID', 'PARTYID');
+
+        IF v_column IS NOT NULL THEN
+            EXECUTE IMMEDIATE 'CREATE INDEX idx_chat_messages_party_id ON chat_messages (' || v_column || ', id)';
+        END IF;
+    END IF;
+END;
+/
@@ -0,0 +1,27 @@
+-- V46: 알림함 커서 페이지네이션 (user_id, id DESC) / 읽지 않은 알림 집계 / 보관 기간 정리용 인덱스
+-- notifications는 엔티티 매핑으로 생성되므로 테이블이 있을 때만 생성
+
+DECLARE
+    v_table NUMBER;
+    v_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_table FROM user_tables WHERE table_name = 'NOTIFICATIONS';
+
+    IF v_table > 0 THEN
+        SELECT COUNT(*) INTO v_count FROM user_indexes WHERE index_name = 'IDX_NOTIFICATIONS_USER_ID';
+        IF v_count = 0 THEN
+            EXECUTE IMMEDIATE 'CREATE INDEX idx_notifications_user_id ON notifications (user_id, id)';
+        END IF;
+
+        SELECT COUNT(*) INTO v_count FROM user_indexes WHERE index_name = 'IDX_NOTIFICATIONS_USER_UNREAD';
+        IF v_count = 0 THEN
+            EXECUTE IMMEDIATE 'CREATE INDEX idx_notifications_user_unread ON notifications (user_id, is_read)';
+        END IF;
+
+        SELECT COUNT(*) INTO v_count FROM user_indexes WHERE index_name = 'IDX_NOTIFICATIONS_CREATED_AT';
+        IF v_count = 0 THEN
+            EXECUTE IMMEDIATE 'CREATE INDEX idx_notifications_created_at ON notifications (createdat)';
+        END IF;
+    END IF;
+END;
+/
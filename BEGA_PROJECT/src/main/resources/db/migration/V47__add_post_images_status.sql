@@ -0,0 +1,18 @@
+-- V47: 비동기 이미지 처리 상태 (PROCESSING → READY / FAILED), 기존 이미지는 READY
+-- post_images는 엔티티 매핑으로 생성되므로 테이블이 있을 때만 추가
+
+DECLARE
+    v_table NUMBER;
+    v_count NUMBER;
+BEGIN
+    SELECT COUNT(*) INTO v_table FROM user_tables WHERE table_name = 'POST_IMAGES';
+
+    IF v_table > 0 THEN
+        SELECT COUNT(*) INTO v_count FROM user_tab_columns
+        WHERE table_name = 'POST_IMAGES' AND column_name = 'STATUS';
+        IF v_count = 0 THEN
+            EXECUTE IMMEDIATE 'ALTER TABLE post_images ADD (status VARCHAR2(20) DEFAULT ''READY'' NOT NULL)';
+        END IF;
+    END IF;
+END;
+/
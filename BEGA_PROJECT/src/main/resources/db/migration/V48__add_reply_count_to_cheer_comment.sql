@@ -0,0 +1,36 @@
+-- 댓글 목록 페이지네이션: 대댓글 수 카운터 컬럼 + 최상위 댓글 keyset 인덱스
+-- Oracle compatible version with existence check
+
+BEGIN
+  EXECUTE IMMEDIATE 'ALTER TABLE cheer_comment ADD (reply_count NUMBER(10,0) DEFAULT 0 NOT NULL)';
+EXCEPTION
+  WHEN OTHERS THEN
+    IF SQLCODE != -1430 THEN -- ORA-01430: column being added already exists in table
+      RAISE;
+    END IF;
+END;
+/
+
+-- 기존 댓글의 직계 대댓글 수 채우기
+UPDATE cheer_comment c
+SET reply_count = (SELECT COUNT(*) FROM cheer_comment r WHERE r.parent_comment_id = c.id);
+
+DECLARE
+  index_exists EXCEPTION;
+  PRAGMA EXCEPTION_INIT(index_exists, -955); -- ORA-00955: name is already used by an existing object
+  col_indexed EXCEPTION;
+  PRAGMA EXCEPTION_INIT(col_indexed, -1408); -- ORA-01408: such column list already indexed
+BEGIN
+  BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX idx_cheer_comment_post_parent ON cheer_comment (post_id, parent_comment_id, created_at DESC, id DESC)';
+  EXCEPTION
+    WHEN index_exists OR col_indexed THEN NULL;
+  END;
+
+  BEGIN
+    EXECUTE IMMEDIATE 'CREATE INDEX idx_cheer_comment_parent ON cheer_comment (parent_comment_id)';
+  EXCEPTION
+    WHEN index_exists OR col_indexed THEN NULL;
+  END;
+END;
+/
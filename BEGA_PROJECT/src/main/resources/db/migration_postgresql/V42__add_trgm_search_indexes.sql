@@ -0,0 +1,16 @@
+-- 게시글/파티 부분 일치 검색용 pg_trgm GIN 인덱스
+-- LOWER(col) LIKE '%q%' 및 word similarity(<%) 조건이 인덱스를 사용하도록 lower() 표현식으로 생성
+-- 한글은 음절 단위 trigram으로 분해되므로 별도 형태소 분석기 없이 부분 일치가 가능
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_cheer_post_content_trgm
+    ON cheer_post USING gin (lower(content) gin_trgm_ops)
+    WHERE deleted = false;
+
+-- PartyRepository.searchParties (구장, 팀, 섹션, 호스트명)
+CREATE INDEX IF NOT EXISTS idx_parties_stadium_trgm ON parties USING gin (lower(stadium) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_parties_home_team_trgm ON parties USING gin (lower(home_team) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_parties_away_team_trgm ON parties USING gin (lower(away_team) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_parties_section_trgm ON parties USING gin (lower(section) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_parties_host_name_trgm ON parties USING gin (lower(host_name) gin_trgm_ops);
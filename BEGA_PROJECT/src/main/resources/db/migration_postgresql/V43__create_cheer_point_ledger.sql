@@ -0,0 +1,11 @@
+-- 응원 포인트 변경 이력 (append-only 원장)
+CREATE TABLE IF NOT EXISTS cheer_point_ledger (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    delta INTEGER NOT NULL,
+    reason VARCHAR(30) NOT NULL,
+    reference_id VARCHAR(100),
+    created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_cheer_point_ledger_user_created ON cheer_point_ledger (user_id, created_at);
@@ -0,0 +1,2 @@
+-- 채팅 커서 페이지네이션 (party, id DESC) / 파티별 최신 메시지 조회용 복합 인덱스
+CREATE INDEX IF NOT EXISTS idx_chat_messages_party_id ON chat_messages (party_id, id);
@@ -0,0 +1,9 @@
+-- 알림함 커서 페이지네이션 (user_id, id DESC) / 읽지 않은 알림 집계 / 보관 기간 정리용 인덱스
+DO $$
+BEGIN
+    IF to_regclass('notifications') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_notifications_user_id ON notifications (user_id, id);
+        CREATE INDEX IF NOT EXISTS idx_notifications_user_unread ON notifications (user_id, is_read);
+        CREATE INDEX IF NOT EXISTS idx_notifications_created_at ON notifications (createdat);
+    END IF;
+END $$;
@@ -0,0 +1,7 @@
+-- 비동기 이미지 처리 상태 (PROCESSING → READY / FAILED), 기존 이미지는 READY
+DO $$
+BEGIN
+    IF to_regclass('post_images') IS NOT NULL THEN
+        ALTER TABLE post_images ADD COLUMN IF NOT EXISTS status VARCHAR(20) NOT NULL DEFAULT 'READY';
+    END IF;
+END $$;
@@ -0,0 +1,15 @@
+-- 댓글 목록 페이지네이션: 대댓글 수 카운터 컬럼 + 최상위 댓글 keyset 인덱스
+DO $$
+BEGIN
+    IF to_regclass('cheer_comment') IS NOT NULL THEN
+        ALTER TABLE cheer_comment ADD COLUMN IF NOT EXISTS reply_count INTEGER NOT NULL DEFAULT 0;
+
+        -- 기존 댓글의 직계 대댓글 수 채우기
+        UPDATE cheer_comment c
+        SET reply_count = (SELECT COUNT(*) FROM cheer_comment r WHERE r.parent_comment_id = c.id);
+
+        CREATE INDEX IF NOT EXISTS idx_cheer_comment_post_parent
+            ON cheer_comment (post_id, parent_comment_id, created_at DESC, id DESC);
+        CREATE INDEX IF NOT EXISTS idx_cheer_comment_parent ON cheer_comment (parent_comment_id);
+    END IF;
+END $$;
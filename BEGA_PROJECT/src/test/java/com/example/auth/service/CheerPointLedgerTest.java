@@ -0,0 +1,84 @@
+package com.example.auth.service;
+
+import com.example.auth.entity.CheerPointLedgerEntry;
+import com.example.auth.repository.CheerPointLedgerJdbcRepository;
+import com.example.auth.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheerPointLedgerTest {
+
+    @InjectMocks
+    private CheerPointLedger cheerPointLedger;
+
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private CheerPointLedgerJdbcRepository ledgerRepository;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(cheerPointLedger);
+    }
+
+    @Test
+    @DisplayName("잔액이 부족해 UPDATE가 0건이면 예외, 원장은 기록하지 않음")
+    void spend_insufficient() {
+        // Given
+        when(userRepository.applyCheerPointDelta(1L, -1)).thenReturn(0);
+
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> cheerPointLedger.spend(1L, 1, CheerPointLedgerEntry.Reason.CHEER_BATTLE_VOTE, "game1"));
+        verify(ledgerRepository, never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안의 변경은 모아두었다가 커밋 직전 한 번의 배치로 INSERT")
+    @SuppressWarnings("unchecked")
+    void apply_batchesLedgerRowsPerTransaction() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+        when(userRepository.applyCheerPointDelta(any(), anyInt())).thenReturn(1);
+
+        // When
+        cheerPointLedger.apply(1L, 1, CheerPointLedgerEntry.Reason.POST_LIKE_RECEIVED, 10L);
+        cheerPointLedger.apply(2L, -1, CheerPointLedgerEntry.Reason.PREDICTION_VOTE, "game1");
+        verify(ledgerRepository, never()).insertAll(any());
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(sync -> sync.beforeCommit(false));
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        ArgumentCaptor<Collection<CheerPointLedgerEntry>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(ledgerRepository, times(1)).insertAll(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(CheerPointLedgerEntry::getUserId, CheerPointLedgerEntry::getDelta,
+                        CheerPointLedgerEntry::getReferenceId)
+                .containsExactly(
+                        tuple(1L, 1, "10"),
+                        tuple(2L, -1, "game1"));
+        assertThat(TransactionSynchronizationManager.hasResource(cheerPointLedger)).isFalse();
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.cheerboard.repo;
+
+import com.example.auth.entity.UserEntity;
+import com.example.auth.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * OFFSET 페이지네이션 vs 커서(keyset) 페이지네이션 1페이지/500페이지 응답 시간 비교
+ * - BENCHMARK_TESTS=true 일 때만 실행 (H2 기준 수치이므로 절대값보다 페이지 깊이에 따른 증가폭을 비교)
+ * - H2는 리포지토리의 COALESCE(:ids, NULL) 조건을 해석하지 못하므로 동일한 정렬/조건의 SQL로 측정
+ */
+@SpringBootTest
+@Transactional
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_TESTS", matches = "true")
+class FeedPaginationBenchmarkTest {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int DEEP_PAGE = 499; // 500번째 페이지 (0부터 시작)
+    private static final int POST_COUNT = PAGE_SIZE * 1000;
+    private static final int ITERATIONS = 50;
+    private static final int WARMUP = 20;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // H2는 동일 SQL/파라미터 재실행 시 결과를 재사용하므로 매 호출마다 다른 no-op 파라미터를 전달
+    private long nonce;
+
+    private final String teamId = "BM" + UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+    private final Instant base = Instant.now().minus(1, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO teams (team_id, team_name, team_short_name, city, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", teamId, "Benchmark", "BM", "Seoul");
+
+        String uniqueIdStr = UUID.randomUUID().toString().substring(0, 8);
+        UserEntity author = new UserEntity();
+        author.setUniqueId(UUID.randomUUID());
+        author.setEmail("bench_" + uniqueIdStr + "@test.com");
+        author.setName("Bench " + uniqueIdStr);
+        author.setHandle("bench_" + uniqueIdStr);
+        author.setRole("ROLE_USER");
+        author = userRepository.save(author);
+
+        List<Object[]> rows = new ArrayList<>(POST_COUNT);
+        for (int i = 0; i < POST_COUNT; i++) {
+            Timestamp createdAt = Timestamp.from(base.minusSeconds(i));
+            rows.add(new Object[] { teamId, author.getId(), "post " + i, createdAt, createdAt });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO cheer_post (team_id, posttype, author_id, content, likecount, "
+                + "commentcount, views, repostcount, createdat, updatedat, deleted) "
+                + "VALUES (?, 'NORMAL', ?, ?, 0, 0, 0, 0, ?, ?, false)", rows);
+    }
+
+    @Test
+    @DisplayName("OFFSET vs 커서 페이지네이션: 1페이지 / 500페이지 응답 시간")
+    void compareFirstAndDeepPage() {
+        double offsetFirst = measure(() -> offsetPage(0));
+        double offsetDeep = measure(() -> offsetPage(DEEP_PAGE));
+
+        // 500페이지 직전 항목을 커서로 사용
+        Object[] beforeDeepPage = jdbcTemplate.queryForObject(
+                "SELECT createdat, id FROM cheer_post WHERE team_id = ? AND deleted = false "
+                        + "ORDER BY createdat DESC, id DESC OFFSET ? ROWS FETCH NEXT 1 ROWS ONLY",
+                (rs, rowNum) -> new Object[] { rs.getTimestamp("createdat"), rs.getLong("id") },
+                teamId, DEEP_PAGE * PAGE_SIZE - 1);
+        Timestamp cursorCreatedAt = (Timestamp) beforeDeepPage[0];
+        long cursorId = (Long) beforeDeepPage[1];
+
+        Timestamp firstCursor = Timestamp.from(Instant.now().plus(1, ChronoUnit.DAYS));
+        double keysetFirst = measure(() -> keysetPage(firstCursor, Long.MAX_VALUE));
+        double keysetDeep = measure(() -> keysetPage(cursorCreatedAt, cursorId));
+
+        System.out.printf("[feed-pagination] posts=%d offset(+count): page1=%.2fms page500=%.2fms | "
+                + "keyset: page1=%.2fms page500=%.2fms%n",
+                POST_COUNT, offsetFirst, offsetDeep, keysetFirst, keysetDeep);
+
+        assertThat(keysetPage(cursorCreatedAt, cursorId)).containsExactlyElementsOf(offsetPage(DEEP_PAGE));
+    }
+
+    /**
+     * 기존 Page 방식: OFFSET 조회 + 전체 COUNT
+     */
+    private List<Long> offsetPage(int page) {
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM cheer_post WHERE team_id = ? AND deleted = false "
+                + "AND id <> ?", Long.class, teamId, --nonce);
+        return jdbcTemplate.queryForList("SELECT id FROM cheer_post WHERE team_id = ? AND deleted = false "
+                + "AND id <> ? ORDER BY createdat DESC, id DESC OFFSET ? ROWS FETCH NEXT ? ROWS ONLY",
+                Long.class, teamId, --nonce, page * PAGE_SIZE, PAGE_SIZE);
+    }
+
+    /**
+     * 커서 방식: (createdAt, id) 기준 다음 구간만 조회, COUNT 없음
+     */
+    private List<Long> keysetPage(Timestamp cursorCreatedAt, long cursorId) {
+        return jdbcTemplate.queryForList("SELECT id FROM cheer_post WHERE team_id = ? AND deleted = false "
+                + "AND id <> ? AND (createdat < ? OR (createdat = ? AND id < ?)) "
+                + "ORDER BY createdat DESC, id DESC FETCH FIRST ? ROWS ONLY",
+                Long.class, teamId, --nonce, cursorCreatedAt, cursorCreatedAt, cursorId, PAGE_SIZE);
+    }
+
+    private double measure(Supplier<List<Long>> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            assertThat(query.get()).hasSize(PAGE_SIZE);
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS;
+    }
+}
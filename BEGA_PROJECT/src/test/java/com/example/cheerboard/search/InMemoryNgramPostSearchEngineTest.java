@@ -0,0 +1,73 @@
+package com.example.cheerboard.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryNgramPostSearchEngineTest {
+
+    private InMemoryNgramPostSearchEngine engine;
+    private long now;
+
+    @BeforeEach
+    void setUp() {
+        engine = new InMemoryNgramPostSearchEngine(null, 72, 0.7);
+        engine.markLoaded();
+        now = Instant.now().getEpochSecond();
+    }
+
+    @Test
+    @DisplayName("한글 부분 일치 검색, 검색어 비중이 높은 글이 먼저")
+    void search_koreanPartialMatchRankedByRelevance() {
+        // Given
+        engine.add(1L, "오늘 두산베어스 경기 직관 다녀왔어요 날씨도 좋고 응원도 재밌었어요", "OB", 10L, now);
+        engine.add(2L, "두산베어스 두산베어스!", "OB", 11L, now);
+        engine.add(3L, "LG 트윈스 승리", "LG", 12L, now);
+
+        // When
+        PostSearchEngine.SearchHits hits = engine.search("베어스", null, Set.of(), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(hits.postIds()).containsExactly(2L, 1L);
+        assertThat(hits.total()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("관련도가 같으면 최신 글이 먼저, 팀/차단 작성자 필터 적용")
+    void search_recencyAndFilters() {
+        // Given
+        engine.add(1L, "직관 후기", "OB", 10L, now - 7 * 24 * 3600);
+        engine.add(2L, "직관 후기", "OB", 11L, now);
+        engine.add(3L, "직관 후기", "LG", 12L, now);
+        engine.add(4L, "직관 후기", "OB", 13L, now);
+
+        // When
+        PostSearchEngine.SearchHits hits = engine.search("직관", "OB", Set.of(13L), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(hits.postIds()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("삭제된 글과 수정으로 더 이상 일치하지 않는 글은 제외")
+    void search_removedAndUpdated() {
+        // Given
+        engine.add(1L, "홈런 축하", "OB", 10L, now);
+        engine.add(2L, "홈런 두 방", "OB", 11L, now);
+        engine.add(2L, "안타 두 개", "OB", 11L, now);
+        engine.remove(1L);
+
+        // When
+        PostSearchEngine.SearchHits hits = engine.search("홈런", null, List.of(), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(hits.postIds()).isEmpty();
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.cheerboard.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 게시글 검색 부하 테스트 (합성 게시글 기본 100만 건, SEARCH_BENCH_DOCS로 조정)
+ * - inMemory: BENCHMARK_TESTS=true 일 때 실행
+ * - postgres: SEARCH_BENCH_PG_URL(jdbc:postgresql://...), SEARCH_BENCH_PG_USER, SEARCH_BENCH_PG_PASSWORD 지정 시 실행
+ * (임시 스키마에 cheer_post를 만들고 V42와 같은 trigram 인덱스로 측정 후 삭제)
+ */
+class PostSearchLoadTest {
+
+    private static final String[] WORDS = { "두산", "베어스", "엘지", "트윈스", "기아", "타이거즈", "롯데", "자이언츠",
+            "삼성", "라이온즈", "한화", "이글스", "직관", "후기", "홈런", "안타", "응원", "승리", "역전", "선발", "불펜",
+            "잠실", "사직", "오늘", "내일", "경기", "최고", "아쉽", "끝내기", "만루" };
+    private static final List<String> QUERIES = List.of("베어스", "끝내기 만루", "직관 후기", "자이언츠", "역전");
+    private static final int ITERATIONS = 20;
+
+    private final int docCount = Integer.parseInt(System.getenv().getOrDefault("SEARCH_BENCH_DOCS", "1000000"));
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "BENCHMARK_TESTS", matches = "true")
+    @DisplayName("프로세스 내 bigram 색인: 100만 건 검색 지연")
+    void inMemory() {
+        InMemoryNgramPostSearchEngine engine = new InMemoryNgramPostSearchEngine(null, 72, 0.7);
+        Random random = new Random(42);
+        long now = Instant.now().getEpochSecond();
+
+        long startedAt = System.nanoTime();
+        for (int i = 1; i <= docCount; i++) {
+            engine.add(i, syntheticContent(random), i % 2 == 0 ? "OB" : "LG", (long) (i % 5000),
+                    now - random.nextInt(90 * 24 * 3600));
+        }
+        engine.markLoaded();
+        System.out.printf("[post-search] memory index: docs=%d build=%.0fms%n", engine.size(),
+                (System.nanoTime() - startedAt) / 1_000_000.0);
+
+        for (String query : QUERIES) {
+            PostSearchEngine.SearchHits hits = engine.search(query, null, Set.of(), PageRequest.of(0, 20));
+            double avg = measure(() -> engine.search(query, null, Set.of(), PageRequest.of(0, 20)));
+            System.out.printf("[post-search] memory q='%s' hits=%d avg=%.2fms%n", query, hits.total(), avg);
+            assertThat(hits.postIds()).isNotEmpty();
+        }
+    }
+
+    @Test
+    @EnabledIfEnvironmentVariable(named = "SEARCH_BENCH_PG_URL", matches = ".+")
+    @DisplayName("PostgreSQL pg_trgm: 100만 건 검색 지연")
+    void postgres() {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(System.getenv("SEARCH_BENCH_PG_URL"),
+                System.getenv("SEARCH_BENCH_PG_USER"), System.getenv("SEARCH_BENCH_PG_PASSWORD"), true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS search_bench CASCADE");
+            jdbcTemplate.execute("CREATE SCHEMA search_bench");
+            jdbcTemplate.execute("SET search_path TO search_bench, public");
+            jdbcTemplate.execute("CREATE TABLE cheer_post (id BIGINT PRIMARY KEY, team_id VARCHAR(10), "
+                    + "author_id BIGINT, content TEXT, createdat TIMESTAMPTZ, deleted BOOLEAN, repost_type VARCHAR(10))");
+
+            // 단어 배열에서 임의로 고른 6~12개 단어로 합성 본문 생성
+            String words = "ARRAY['" + String.join("','", WORDS) + "']";
+            jdbcTemplate.update("INSERT INTO cheer_post SELECT g, CASE WHEN g % 2 = 0 THEN 'OB' ELSE 'LG' END, g % 5000, "
+                    + "(SELECT string_agg((" + words + ")[1 + floor(random() * " + WORDS.length + ")::int], ' ') "
+                    + "FROM generate_series(1, 6 + (g % 7))), "
+                    + "now() - random() * interval '90 days', false, NULL FROM generate_series(1, ?) g", docCount);
+            long startedAt = System.nanoTime();
+            jdbcTemplate.execute("CREATE INDEX idx_bench_content_trgm ON cheer_post "
+                    + "USING gin (lower(content) gin_trgm_ops) WHERE deleted = false");
+            jdbcTemplate.execute("ANALYZE cheer_post");
+            System.out.printf("[post-search] pg index: docs=%d build=%.0fms%n", docCount,
+                    (System.nanoTime() - startedAt) / 1_000_000.0);
+
+            PostgresTrigramPostSearchEngine engine = new PostgresTrigramPostSearchEngine(
+                    new NamedParameterJdbcTemplate(jdbcTemplate), 72, 0.7);
+            for (String query : QUERIES) {
+                PostSearchEngine.SearchHits hits = engine.search(query, null, Set.of(), PageRequest.of(0, 20));
+                double avg = measure(() -> engine.search(query, null, Set.of(), PageRequest.of(0, 20)));
+                // 인덱스를 타지 않는 표현식으로 기존 LIKE 전체 스캔과 비교
+                double likeAvg = measure(() -> jdbcTemplate.queryForList("SELECT id FROM cheer_post "
+                        + "WHERE deleted = false AND lower(content || '') LIKE ? "
+                        + "ORDER BY createdat DESC LIMIT 20", Long.class, "%" + query + "%"));
+                System.out.printf("[post-search] pg q='%s' hits=%d trgm avg=%.2fms | unindexed like avg=%.2fms%n",
+                        query, hits.total(), avg, likeAvg);
+            }
+        } finally {
+            jdbcTemplate.execute("DROP SCHEMA IF EXISTS search_bench CASCADE");
+            dataSource.destroy();
+        }
+    }
+
+    private String syntheticContent(Random random) {
+        int length = 6 + random.nextInt(7);
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                content.append(' ');
+            }
+            content.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return content.toString();
+    }
+
+    private static double measure(Runnable query) {
+        for (int i = 0; i < 3; i++) {
+            query.run();
+        }
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+        }
+        return (System.nanoTime() - startedAt) / 1_000_000.0 / ITERATIONS;
+    }
+}
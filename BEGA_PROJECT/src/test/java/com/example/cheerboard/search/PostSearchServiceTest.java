@@ -0,0 +1,77 @@
+package com.example.cheerboard.search;
+
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.repo.CheerPostRepo;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class PostSearchServiceTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final CheerPostRepo postRepo = mock(CheerPostRepo.class);
+
+    @Test
+    @DisplayName("pg_trgm 확장이 없으면 postgres 대신 LIKE 검색 사용")
+    void fallsBackToLikeWithoutTrigramExtension() {
+        // Given
+        when(jdbcTemplate.queryForList(contains("pg_extension"), eq(Integer.class))).thenReturn(List.of());
+        when(postRepo.searchIds(anyString(), any(), any(), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(1L)));
+        PostSearchService service = new PostSearchService(jdbcTemplate, namedParameterJdbcTemplate, postRepo,
+                "postgres", 72, 0.7);
+
+        // When
+        PostSearchEngine.SearchHits hits = service.search("직관", null, Set.of(), PageRequest.of(0, 10));
+
+        // Then
+        assertThat(hits.postIds()).containsExactly(1L);
+        verifyNoInteractions(namedParameterJdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("색인 변경은 커밋 후에만 반영되고 롤백되면 남지 않음")
+    void indexesOnlyAfterCommit() {
+        // Given: 빈 DB로 프로세스 내 색인 구성
+        PostSearchService service = new PostSearchService(jdbcTemplate, namedParameterJdbcTemplate, postRepo,
+                "memory", 72, 0.7);
+        service.search("직관", null, Set.of(), PageRequest.of(0, 10));
+        CheerPost committed = CheerPost.builder().id(1L).content("오늘 직관 갑니다").build();
+        CheerPost rolledBack = CheerPost.builder().id(2L).content("직관 취소").build();
+
+        try {
+            // When
+            TransactionSynchronizationManager.initSynchronization();
+            service.indexAfterCommit(committed);
+            service.indexAfterCommit(rolledBack);
+            long beforeCommit = service.search("직관", null, Set.of(), PageRequest.of(0, 10)).total();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            synchronizations.get(0).afterCommit();
+            synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Then
+            assertThat(beforeCommit).isZero();
+            PostSearchEngine.SearchHits hits = service.search("직관", null, Set.of(), PageRequest.of(0, 10));
+            assertThat(hits.postIds()).containsExactly(1L);
+            assertThat(hits.total()).isEqualTo(1L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
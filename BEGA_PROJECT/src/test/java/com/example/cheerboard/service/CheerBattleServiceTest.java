@@ -1,9 +1,10 @@
 package com.example.cheerboard.service;
 
-import com.example.auth.entity.UserEntity;
+import com.example.auth.entity.CheerPointLedgerEntry;
 import com.example.auth.repository.UserRepository;
+import com.example.auth.service.CheerPointLedger;
+import com.example.cheerboard.entity.CheerBattleLog;
 import com.example.cheerboard.entity.CheerVoteEntity;
-import com.example.cheerboard.entity.CheerVoteId;
 import com.example.cheerboard.repository.CheerVoteRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -11,13 +12,16 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 
-import java.util.Objects;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,40 +39,75 @@ class CheerBattleServiceTest {
     @Mock
     private com.example.cheerboard.repository.CheerBattleLogRepository cheerBattleLogRepository;
 
+    @Mock
+    private CheerPointLedger cheerPointLedger;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @SuppressWarnings("unchecked")
+    private void givenVoteScriptReturns(Long first, Long... rest) {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any(), any()))
+                .thenReturn(first, (Object[]) rest);
+    }
+
     @Test
-    @DisplayName("Normally vote - deduct points and increment count")
+    @DisplayName("Normally vote - deduct points and increment count in Redis")
     void vote_success() {
         // Given
         String gameId = "game1";
         String rawTeamId = "teamA";
-        String normalizedTeamId = "TEAMA";
         String email = "user@test.com";
 
-        UserEntity user = UserEntity.builder()
-                .email(email)
-                .cheerPoints(10)
-                .build();
+        when(userRepository.findIdByEmail(email)).thenReturn(Optional.of(1L));
+        givenVoteScriptReturns(6L);
+
+        // When
+        int result = cheerBattleService.vote(gameId, rawTeamId, email);
+
+        // Then
+        assertThat(result).isEqualTo(6); // Redis HINCRBY result
+
+        // Points are deducted through the ledger, not by saving the user row
+        verify(cheerPointLedger).spend(1L, 1, CheerPointLedgerEntry.Reason.CHEER_BATTLE_VOTE, gameId);
+        verify(userRepository, never()).save(any());
+        verify(cheerBattleLogRepository).save(any(CheerBattleLog.class));
+        // Vote counts are written behind by the scheduler, not per vote
+        verify(cheerVoteRepository, never()).save(any(CheerVoteEntity.class));
+    }
 
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+    @Test
+    @DisplayName("Vote failed - already voted (Redis voter set)")
+    void vote_duplicate() {
+        // Given
+        when(userRepository.findIdByEmail("user@test.com")).thenReturn(Optional.of(1L));
+        givenVoteScriptReturns(-1L);
 
-        CheerVoteId voteId = CheerVoteId.builder().gameId(gameId).teamId(normalizedTeamId).build();
-        CheerVoteEntity voteEntity = CheerVoteEntity.builder()
-                .gameId(gameId)
-                .teamId(normalizedTeamId)
-                .voteCount(5)
-                .build();
+        // When & Then
+        assertThrows(IllegalStateException.class,
+                () -> cheerBattleService.vote("game1", "teamA", "user@test.com"));
+        verify(cheerPointLedger, never()).spend(any(), anyInt(), any(), any());
+        verify(cheerBattleLogRepository, never()).save(any());
+    }
 
-        when(cheerVoteRepository.findById(Objects.requireNonNull(voteId))).thenReturn(Optional.of(voteEntity));
+    @Test
+    @DisplayName("Missing Redis tally is seeded from DB before voting")
+    void vote_seedsFromDb() {
+        // Given
+        String gameId = "game1";
+        when(userRepository.findIdByEmail("user@test.com")).thenReturn(Optional.of(1L));
+        when(cheerVoteRepository.findByGameId(gameId)).thenReturn(List.of(
+                CheerVoteEntity.builder().gameId(gameId).teamId("TEAMA").voteCount(5).build()));
+        when(cheerBattleLogRepository.findUserEmailsByGameId(gameId)).thenReturn(List.of("other@test.com"));
+        givenVoteScriptReturns(-2L, 6L);
 
         // When
-        int result = cheerBattleService.vote(gameId, rawTeamId, email);
+        int result = cheerBattleService.vote(gameId, "teamA", "user@test.com");
 
         // Then
-        assertThat(result).isEqualTo(6); // 5 + 1
-        assertThat(user.getCheerPoints()).isEqualTo(9); // 10 - 1
-
-        verify(userRepository).save(user); // Points must be saved
-        verify(cheerVoteRepository).save(any(CheerVoteEntity.class)); // Votes must be saved
+        assertThat(result).isEqualTo(6);
+        verify(cheerVoteRepository).findByGameId(gameId);
+        verify(cheerBattleLogRepository).findUserEmailsByGameId(gameId);
     }
 
     @Test
@@ -79,12 +118,10 @@ class CheerBattleServiceTest {
         String teamId = "teamA";
         String email = "poor@test.com";
 
-        UserEntity user = UserEntity.builder()
-                .email(email)
-                .cheerPoints(0)
-                .build();
-
-        when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
+        when(userRepository.findIdByEmail(email)).thenReturn(Optional.of(2L));
+        givenVoteScriptReturns(1L);
+        doThrow(new IllegalStateException("응원 포인트가 부족합니다.")).when(cheerPointLedger)
+                .spend(2L, 1, CheerPointLedgerEntry.Reason.CHEER_BATTLE_VOTE, gameId);
 
         // When & Then
         assertThrows(IllegalStateException.class, () -> {
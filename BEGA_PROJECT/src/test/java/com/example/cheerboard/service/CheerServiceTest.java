@@ -1,17 +1,21 @@
 package com.example.cheerboard.service;
 
 import com.example.auth.entity.UserEntity;
-import com.example.auth.repository.UserRepository;
+import com.example.auth.entity.CheerPointLedgerEntry;
+import com.example.auth.service.CheerPointLedger;
 import com.example.auth.service.BlockService;
 import com.example.auth.service.FollowService;
 import com.example.cheerboard.config.CurrentUser;
+import com.example.cheerboard.domain.CheerComment;
 import com.example.cheerboard.domain.CheerPost;
 import com.example.cheerboard.domain.PostType;
+import com.example.cheerboard.dto.CommentRes;
 import com.example.cheerboard.dto.RepostToggleResponse;
 import com.example.cheerboard.domain.CheerPostLike;
 import com.example.cheerboard.dto.CreatePostReq;
 import com.example.cheerboard.dto.LikeToggleResponse;
 import com.example.cheerboard.dto.PostDetailRes;
+import com.example.cheerboard.dto.QuoteRepostReq;
 import com.example.cheerboard.dto.UpdatePostReq;
 import com.example.cheerboard.repo.CheerPostRepo;
 import com.example.cheerboard.repo.CheerPostRepostRepo;
@@ -24,6 +28,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -54,7 +64,7 @@ class CheerServiceTest {
         private NotificationService notificationService;
 
         @Mock
-        private UserRepository userRepo;
+        private CheerPointLedger cheerPointLedger;
 
         @Mock
         private com.example.cheerboard.repo.CheerCommentRepo commentRepo;
@@ -79,6 +89,18 @@ class CheerServiceTest {
         @Mock
         private RedisPostService redisPostService;
         @Mock
+        private PostInteractionService postInteractionService;
+        @Mock
+        private PostFeedEnricher postFeedEnricher;
+        @Mock
+        private HotRankingService hotRankingService;
+        @Mock
+        private PostCounterService postCounterService;
+        @Mock
+        private FollowingTimelineService followingTimelineService;
+        @Mock
+        private com.example.cheerboard.search.PostSearchService postSearchService;
+        @Mock
         private com.example.common.service.AIModerationService moderationService;
 
         @Test
@@ -103,6 +125,7 @@ class CheerServiceTest {
                                 .thenReturn(Optional.empty()); // No existing repost
 
                 when(postRepo.save(any(CheerPost.class))).thenAnswer(invocation -> invocation.getArgument(0));
+                when(postCounterService.adjust(original, PostCounterService.Counter.REPOSTS, 1)).thenReturn(1);
 
                 // When
                 RepostToggleResponse response = cheerService.toggleRepost(postId);
@@ -111,7 +134,11 @@ class CheerServiceTest {
                 assertThat(response.reposted()).isTrue(); // Corrected accessor
                 assertThat(response.count()).isEqualTo(1); // Original count 0 -> 1
 
-                verify(postRepo, times(2)).save(any(CheerPost.class));
+                // 원본 게시글은 저장하지 않고 카운터 델타로만 증가
+                verify(postRepo, times(1)).save(any(CheerPost.class));
+                verify(postCounterService).adjust(original, PostCounterService.Counter.REPOSTS, 1);
+                // 리포스트도 팔로워 타임라인에 반영
+                verify(followingTimelineService).fanOutAfterCommit(argThat(post -> post.getRepostOf() == original));
                 // Verify notification with correct args: targetUserId, type, title, message,
                 // relatedId
                 verify(notificationService).createNotification(
@@ -122,6 +149,33 @@ class CheerServiceTest {
                                 eq(postId));
         }
 
+        @Test
+        @DisplayName("Quote Repost Success - 팔로워 타임라인에 반영")
+        void createQuoteRepost_fansOutToFollowers() {
+                // Given
+                UserEntity me = UserEntity.builder().id(100L).name("Me").build();
+                UserEntity author = UserEntity.builder().id(200L).name("Author").build();
+                CheerPost original = CheerPost.builder()
+                                .id(1L)
+                                .author(author)
+                                .content("Original Post")
+                                .postType(PostType.NORMAL)
+                                .build();
+
+                when(current.get()).thenReturn(me);
+                when(postRepo.findById(1L)).thenReturn(Optional.of(original));
+                when(blockService.hasBidirectionalBlock(me.getId(), author.getId())).thenReturn(false);
+                when(moderationService.checkContent("Quote"))
+                                .thenReturn(com.example.common.service.AIModerationService.ModerationResult.allow());
+
+                // When
+                cheerService.createQuoteRepost(1L, new QuoteRepostReq("Quote"));
+
+                // Then
+                verify(followingTimelineService).fanOutAfterCommit(argThat(post -> post.getRepostOf() == original
+                                && post.getRepostType() == CheerPost.RepostType.QUOTE));
+        }
+
         @Test
         @DisplayName("Repost Failed - Toggle Blocked User")
         void toggleRepost_failed_blocked() {
@@ -184,7 +238,7 @@ class CheerServiceTest {
                                 .build();
 
                 when(postRepo.save(any(CheerPost.class))).thenReturn(savedPost);
-                when(postDtoMapper.toNewPostDetailRes(any(CheerPost.class), any(UserEntity.class)))
+                when(postDtoMapper.toNewPostDetailRes(any(CheerPost.class), any(UserEntity.class), any()))
                                 .thenReturn(PostDetailRes.of(
                                                 1L, "LG", "LG", "LG", "#C30452", "My Content", "Me", 100L,
                                                 "me", "me@example.com", "http://example.com/me.jpg", null,
@@ -222,7 +276,7 @@ class CheerServiceTest {
                                 .thenReturn(com.example.common.service.AIModerationService.ModerationResult.allow());
 
                 when(postDtoMapper.toPostDetailRes(any(CheerPost.class), anyBoolean(), anyBoolean(), anyBoolean(),
-                                anyBoolean())).thenAnswer(inv -> {
+                                anyBoolean(), any())).thenAnswer(inv -> {
                                         CheerPost p = inv.getArgument(0);
                                         return PostDetailRes.of(
                                                         p.getId(), "LG", "LG", "LG", "#000",
@@ -250,7 +304,8 @@ class CheerServiceTest {
 
                 when(current.get()).thenReturn(me);
                 when(postRepo.findById(postId)).thenReturn(Optional.of(post));
-                when(userRepo.findById(userId)).thenReturn(Optional.of(me));
+                when(postCounterService.adjust(post, PostCounterService.Counter.LIKES, 1)).thenReturn(1);
+                when(postCounterService.adjust(post, PostCounterService.Counter.LIKES, -1)).thenReturn(0);
 
                 // Case: Not liked yet -> Like
                 when(likeRepo.existsById(any(CheerPostLike.Id.class))).thenReturn(false);
@@ -276,5 +331,32 @@ class CheerServiceTest {
                 assertThat(res.liked()).isFalse();
                 assertThat(res.likes()).isEqualTo(0);
                 verify(likeRepo).deleteById(any(CheerPostLike.Id.class));
+
+                // 게시글/작성자 엔티티를 저장하지 않고 원자적 UPDATE로만 반영
+                verify(cheerPointLedger).apply(userId, 1, CheerPointLedgerEntry.Reason.POST_LIKE_RECEIVED, postId);
+                verify(cheerPointLedger).spend(userId, 1, CheerPointLedgerEntry.Reason.POST_LIKE_CANCELED, postId);
+                verify(postRepo, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("댓글 목록 - 최상위 댓글 ID만 페이징하고 해당 ID의 트리만 로딩")
+        void listComments_pagesTopLevelIdsThenLoadsTrees() {
+                // Given
+                Long postId = 1L;
+                UserEntity author = UserEntity.builder().id(200L).name("Author").build();
+                CheerComment newer = CheerComment.builder().id(11L).author(author).content("newer").replyCount(3).build();
+                CheerComment older = CheerComment.builder().id(10L).author(author).content("older").build();
+
+                when(commentRepo.findTopLevelIdsByPostId(eq(postId), any(Pageable.class)))
+                                .thenReturn(new PageImpl<>(List.of(11L, 10L), PageRequest.of(0, 2), 5));
+                when(commentRepo.findWithRepliesByIdIn(List.of(11L, 10L))).thenReturn(List.of(older, newer));
+
+                // When
+                Page<CommentRes> page = cheerService.listComments(postId, PageRequest.of(0, 2));
+
+                // Then
+                assertThat(page.getContent()).extracting(CommentRes::id).containsExactly(11L, 10L);
+                assertThat(page.getContent().get(0).replyCount()).isEqualTo(3);
+                assertThat(page.getTotalElements()).isEqualTo(5);
         }
 }
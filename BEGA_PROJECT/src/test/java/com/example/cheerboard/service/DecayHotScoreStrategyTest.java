@@ -0,0 +1,33 @@
+package com.example.cheerboard.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DecayHotScoreStrategyTest {
+
+    private final DecayHotScoreStrategy strategy = new DecayHotScoreStrategy(45000);
+
+    @Test
+    @DisplayName("며칠 지난 인기 게시글보다 최근 게시글이 상위에 노출")
+    void olderViralPostDecays() {
+        Instant now = Instant.parse("2026-05-01T12:00:00Z");
+        double oldViral = strategy.score(500, 200, 5000, now.minus(Duration.ofDays(3)));
+        double freshModerate = strategy.score(10, 5, 50, now);
+
+        assertThat(freshModerate).isGreaterThan(oldViral);
+    }
+
+    @Test
+    @DisplayName("같은 시각에 작성된 게시글은 참여도가 높을수록 상위")
+    void sameAgeOrderedByEngagement() {
+        Instant createdAt = Instant.parse("2026-05-01T12:00:00Z");
+
+        assertThat(strategy.score(10, 0, 0, createdAt)).isGreaterThan(strategy.score(1, 0, 0, createdAt));
+        assertThat(strategy.score(0, 0, 0, createdAt)).isEqualTo(strategy.score(0, 0, 1, createdAt));
+    }
+}
@@ -0,0 +1,100 @@
+package com.example.cheerboard.service;
+
+import com.example.auth.repository.UserFollowRepository;
+import com.example.cheerboard.repo.CheerPostRepo;
+import com.example.common.redis.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 Redis(embedded)에서 타임라인 fan-out/조회 검증
+ * - 파이프라인 안의 스크립트 실행처럼 mock RedisTemplate으로는 드러나지 않는 동작 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class FollowingTimelineServiceRedisTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private UserFollowRepository followRepo;
+    @Mock
+    private CheerPostRepo postRepo;
+
+    private FollowingTimelineService timelineService;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = redis.redisTemplate();
+        timelineService = new FollowingTimelineService(redisTemplate, followRepo, postRepo, 3, 5);
+    }
+
+    @Test
+    @DisplayName("fan-out은 구성된 타임라인에만 추가되고 최대 크기로 잘림")
+    void fanOut_pushesToBuiltTimelinesOnly() {
+        // Given: 팔로워 1의 타임라인은 DB에서 구성, 팔로워 2는 타임라인 없음
+        when(postRepo.findRecentIdsByAuthorIdIn(eq(List.of(7L)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(10L, 9L, 8L));
+        timelineService.getPostIds(1L, List.of(7L), 0, 10);
+        when(followRepo.countByFollowingId(7L)).thenReturn(2L);
+        when(followRepo.findFollowerIdsByFollowingId(7L)).thenReturn(List.of(1L, 2L));
+
+        // When
+        timelineService.fanOut(11L, 7L);
+
+        // Then
+        assertThat(timelineService.getPostIds(1L, List.of(7L), 0, 10).postIds()).containsExactly(11L, 10L, 9L);
+        assertThat(redisTemplate.hasKey("timeline:following:2")).isFalse();
+    }
+
+    @Test
+    @DisplayName("팔로워가 많은 작성자의 글은 조회 시 pull 해서 병합")
+    void fanOut_highFollowerAuthorIsMergedOnRead() {
+        // Given
+        when(postRepo.findRecentIdsByAuthorIdIn(eq(List.of(2L)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(20L, 10L));
+        when(followRepo.countByFollowingId(7L)).thenReturn(6L);
+        when(postRepo.findRecentIdsByAuthorIdIn(eq(List.of(7L)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(15L));
+
+        // When
+        timelineService.fanOut(15L, 7L);
+        FollowingTimelineService.TimelinePage page = timelineService.getPostIds(1L, List.of(2L, 7L), 0, 10);
+
+        // Then
+        assertThat(page.postIds()).containsExactly(20L, 15L, 10L);
+        assertThat(page.total()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("커서 조회는 이전 페이지 마지막 ID 미만만 반환")
+    void getPostIdsBefore_returnsOlderPosts() {
+        // Given
+        when(postRepo.findRecentIdsByAuthorIdIn(eq(List.of(7L)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(10L, 9L, 8L));
+
+        // When
+        List<Long> firstPage = timelineService.getPostIdsBefore(1L, List.of(7L), Long.MAX_VALUE, 2);
+        List<Long> nextPage = timelineService.getPostIdsBefore(1L, List.of(7L), 9L, 2);
+
+        // Then
+        assertThat(firstPage).containsExactly(10L, 9L);
+        assertThat(nextPage).containsExactly(8L);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.cheerboard.service;
+
+import com.example.auth.repository.UserFollowRepository;
+import com.example.cheerboard.repo.CheerPostRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FollowingTimelineServiceTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+    @Mock
+    private UserFollowRepository followRepo;
+    @Mock
+    private CheerPostRepo postRepo;
+    @Mock
+    private ZSetOperations<String, Object> zSetOperations;
+
+    private FollowingTimelineService timelineService;
+
+    @BeforeEach
+    void setUp() {
+        timelineService = new FollowingTimelineService(redisTemplate, followRepo, postRepo, 800, 100);
+    }
+
+    @Test
+    @DisplayName("팔로워가 임계값을 넘는 작성자는 fan-out 하지 않고 pull 대상으로 등록")
+    void fanOut_highFollowerAuthorIsPulled() {
+        // Given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(followRepo.countByFollowingId(7L)).thenReturn(101L);
+
+        // When
+        timelineService.fanOut(1L, 7L);
+
+        // Then
+        verify(zSetOperations).add(eq("timeline:pull-authors:recent"), eq("7"), anyDouble());
+        verify(zSetOperations).removeRangeByScore(eq("timeline:pull-authors:recent"), eq(0.0), anyDouble());
+        verify(followRepo, never()).findFollowerIdsByFollowingId(any());
+        verify(redisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("push된 타임라인과 pull 작성자 최근 글을 최신순으로 병합")
+    void getPostIds_mergesPushedAndPulled() {
+        // Given
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.rangeByScore(eq("timeline:pull-authors:recent"), anyDouble(), anyDouble()))
+                .thenReturn(Set.of("7"));
+        when(redisTemplate.hasKey("timeline:following:1")).thenReturn(true);
+        when(zSetOperations.reverseRangeByScore("timeline:following:1", Double.NEGATIVE_INFINITY,
+                Double.POSITIVE_INFINITY, 0, 3))
+                .thenReturn(new LinkedHashSet<>(List.of(30, 20, 10)));
+        when(zSetOperations.zCard("timeline:following:1")).thenReturn(3L);
+        when(postRepo.findRecentIdsByAuthorIdIn(eq(List.of(7L)), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(25L, 5L));
+
+        // When
+        FollowingTimelineService.TimelinePage page = timelineService.getPostIds(1L, List.of(2L, 7L), 0, 3);
+
+        // Then
+        assertThat(page.postIds()).containsExactly(30L, 25L, 20L);
+        assertThat(page.total()).isEqualTo(5L);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.repo.CheerPostRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HotRankingServiceTest {
+
+    private static final Instant CREATED_AT = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private RedisPostService redisPostService;
+    @Mock
+    private CheerPostRepo postRepo;
+    @Mock
+    private PostCounterService postCounterService;
+
+    private HotRankingService hotRankingService;
+
+    @BeforeEach
+    void setUp() {
+        hotRankingService = new HotRankingService(redisPostService, postRepo, postCounterService, "linear", 45000);
+    }
+
+    @Test
+    @DisplayName("점수 일괄 갱신은 아직 동기화되지 않은 조회/카운터 델타를 합산")
+    @SuppressWarnings("unchecked")
+    void refreshScores_includesPendingRedisDeltas() {
+        // Given: DB 좋아요 1, 댓글 1, 조회 10 / Redis 좋아요 +1, 조회 +5
+        when(postRepo.findHotScoreInputsByIdIn(List.of(1L)))
+                .thenReturn(List.<Object[]>of(new Object[] { 1L, 1, 1, 10, CREATED_AT, "LG" }));
+        when(postCounterService.getPendingDeltas(List.of(1L)))
+                .thenReturn(Map.of(1L, new PostCounterService.CounterDelta(1, 0, 0)));
+        when(redisPostService.getViewCounts(List.of(1L))).thenReturn(Map.of(1L, 5));
+
+        // When
+        hotRankingService.refreshScores(List.of(1L));
+
+        // Then: 선형 점수 = 2*3 + 1*2 + 15
+        ArgumentCaptor<Collection<RedisPostService.HotScore>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(redisPostService).updateHotScores(captor.capture());
+        assertThat(captor.getValue()).containsExactly(new RedisPostService.HotScore(1L, "LG", 23.0));
+    }
+
+    @Test
+    @DisplayName("HOT 목록이 다른 전략으로 계산되어 있으면 최근 게시글로 재구축")
+    void rebuildIfStrategyChanged_replacesListOnlyWhenStrategyDiffers() {
+        // Given
+        when(redisPostService.getHotListStrategy()).thenReturn(null, "linear");
+        when(postRepo.findHotScoreInputsCreatedAfter(any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.<Object[]>of(new Object[] { 2L, 0, 0, 4, CREATED_AT, null }));
+
+        // When
+        boolean first = hotRankingService.rebuildIfStrategyChanged();
+        boolean second = hotRankingService.rebuildIfStrategyChanged();
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        verify(redisPostService).replaceHotList(List.of(new RedisPostService.HotScore(2L, null, 4.0)), "linear");
+        verify(redisPostService, never()).updateHotScores(anyCollection());
+    }
+}
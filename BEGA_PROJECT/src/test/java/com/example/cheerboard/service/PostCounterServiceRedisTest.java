@@ -0,0 +1,73 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.repo.PostCounterSyncRepo;
+import com.example.common.redis.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * 실제 Redis(embedded)에서 카운터 델타 누적/일시 중지 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class PostCounterServiceRedisTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private PostCounterSyncRepo postCounterSyncRepo;
+
+    private PostCounterService postCounterService;
+    private final CheerPost post = CheerPost.builder().id(1L).build();
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = redis.stringRedisTemplate();
+        postCounterService = new PostCounterService(redisTemplate, postCounterSyncRepo);
+    }
+
+    @Test
+    @DisplayName("평소에는 Redis에 델타를 누적하고 DB는 건드리지 않음")
+    void adjust_accumulatesInRedis() {
+        // When
+        postCounterService.adjust(post, PostCounterService.Counter.LIKES, 1);
+        postCounterService.adjust(post, PostCounterService.Counter.LIKES, 1);
+
+        // Then
+        assertThat(postCounterService.getPendingDelta(1L)).isEqualTo(new PostCounterService.CounterDelta(2, 0, 0));
+        assertThat(postCounterService.popDirtyPostIds(10)).containsExactly(1L);
+        verifyNoInteractions(postCounterSyncRepo);
+    }
+
+    @Test
+    @DisplayName("재집계 중에는 델타를 누적하지 않고 DB에 바로 반영, 재개 후 다시 누적")
+    void adjust_appliesToDbWhilePaused() {
+        // When
+        postCounterService.pauseDeltas(Duration.ofMinutes(1));
+        postCounterService.adjust(post, PostCounterService.Counter.LIKES, 1);
+        postCounterService.resumeDeltas();
+        postCounterService.adjust(post, PostCounterService.Counter.COMMENTS, 1);
+
+        // Then
+        verify(postCounterSyncRepo).applyDeltas(Map.of(1L, new PostCounterService.CounterDelta(1, 0, 0)));
+        assertThat(postCounterService.getPendingDeltas(List.of(1L)))
+                .containsExactly(Map.entry(1L, new PostCounterService.CounterDelta(0, 1, 0)));
+    }
+}
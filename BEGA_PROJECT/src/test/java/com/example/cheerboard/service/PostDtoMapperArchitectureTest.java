@@ -0,0 +1,34 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.storage.service.ImageService;
+import com.tngtech.archunit.core.domain.JavaClasses;
+import com.tngtech.archunit.core.importer.ClassFileImporter;
+import com.tngtech.archunit.core.importer.ImportOption;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.tngtech.archunit.lang.syntax.ArchRuleDefinition.noClasses;
+
+class PostDtoMapperArchitectureTest {
+
+        private final JavaClasses classes = new ClassFileImporter()
+                        .withImportOption(ImportOption.Predefined.DO_NOT_INCLUDE_TESTS)
+                        .importPackages("com.example.cheerboard.service");
+
+        @Test
+        @DisplayName("PostDtoMapper는 게시글 단위로 Redis를 호출하지 않는다")
+        void mapperDoesNotDependOnRedis() {
+                noClasses().that().haveSimpleName("PostDtoMapper")
+                                .should().dependOnClassesThat().resideInAPackage("org.springframework.data.redis..")
+                                .orShould().dependOnClassesThat().belongToAnyOf(RedisPostService.class)
+                                .check(classes);
+        }
+
+        @Test
+        @DisplayName("PostDtoMapper는 이미지 URL을 직접 조회하지 않는다")
+        void mapperDoesNotDependOnImageService() {
+                noClasses().that().haveSimpleName("PostDtoMapper")
+                                .should().dependOnClassesThat().belongToAnyOf(ImageService.class)
+                                .check(classes);
+        }
+}
@@ -0,0 +1,67 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.storage.service.ImageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class PostFeedEnricherTest {
+
+    private final ImageService imageService = mock(ImageService.class);
+    private final RedisPostService redisPostService = mock(RedisPostService.class);
+    private final PostCounterService postCounterService = mock(PostCounterService.class);
+    private final PostInteractionService postInteractionService = mock(PostInteractionService.class);
+    private final PostDtoMapper postDtoMapper = mock(PostDtoMapper.class);
+    private final PermissionValidator permissionValidator = mock(PermissionValidator.class);
+
+    private final PostFeedEnricher enricher = new PostFeedEnricher(imageService, redisPostService, postCounterService,
+            postInteractionService, postDtoMapper, permissionValidator, new SimpleMeterRegistry());
+
+    @AfterEach
+    void tearDown() {
+        enricher.shutdown();
+    }
+
+    @Test
+    @DisplayName("DB 단계는 호출 스레드(호출 측 트랜잭션 커넥션)에서, Redis 단계만 다른 스레드에서 실행")
+    void dbStagesRunOnCallerThread() {
+        // Given
+        Map<String, Thread> stageThreads = new ConcurrentHashMap<>();
+        when(imageService.getPostImageUrlsByPostIds(anyList())).thenAnswer(invocation -> {
+            stageThreads.put("images", Thread.currentThread());
+            return Map.of();
+        });
+        when(postInteractionService.lookup(any(), any())).thenAnswer(invocation -> {
+            stageThreads.put("interactions", Thread.currentThread());
+            return PostInteractionService.Interactions.NONE;
+        });
+        when(redisPostService.getViewCounts(anyList())).thenAnswer(invocation -> {
+            stageThreads.put("view_counts", Thread.currentThread());
+            return Map.of();
+        });
+        when(redisPostService.getCachedHotStatuses(anyList())).thenReturn(Map.of());
+        when(postCounterService.getPendingDeltas(anyList())).thenReturn(Map.of());
+
+        // When
+        enricher.enrich(List.of(CheerPost.builder().id(1L).build()), null);
+
+        // Then
+        Thread caller = Thread.currentThread();
+        assertThat(stageThreads.keySet()).isEqualTo(Set.of("images", "interactions", "view_counts"));
+        assertThat(stageThreads.get("images")).isSameAs(caller);
+        assertThat(stageThreads.get("interactions")).isSameAs(caller);
+        assertThat(stageThreads.get("view_counts")).isNotSameAs(caller);
+    }
+}
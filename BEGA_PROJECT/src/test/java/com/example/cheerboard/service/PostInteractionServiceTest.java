@@ -0,0 +1,44 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.repo.PostInteractionRepo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PostInteractionServiceTest {
+
+    @SuppressWarnings("unchecked")
+    private final RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class);
+    private final PostInteractionService service = new PostInteractionService(mock(PostInteractionRepo.class),
+            redisTemplate, true, 60);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 후에만 상호작용 캐시를 무효화")
+    void evictAfterCommit_defersUntilCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        service.evictAfterCommit(1L);
+
+        // Then
+        verify(redisTemplate, never()).delete(anyString());
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).delete("post:interactions:1");
+    }
+}
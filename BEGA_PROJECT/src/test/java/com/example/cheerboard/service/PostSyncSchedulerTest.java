@@ -0,0 +1,127 @@
+package com.example.cheerboard.service;
+
+import com.example.cheerboard.repo.PostCounterSyncRepo;
+import com.example.cheerboard.repo.PostViewSyncRepo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PostSyncSchedulerTest {
+
+    @InjectMocks
+    private PostSyncScheduler postSyncScheduler;
+
+    @Mock
+    private RedisPostService redisPostService;
+    @Mock
+    private HotRankingService hotRankingService;
+    @Mock
+    private PostViewSyncRepo postViewSyncRepo;
+    @Mock
+    private PostCounterService postCounterService;
+    @Mock
+    private PostCounterSyncRepo postCounterSyncRepo;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(postSyncScheduler, "syncBatchSize", 2);
+        ReflectionTestUtils.setField(postSyncScheduler, "counterSyncBatchSize", 2);
+    }
+
+    @Test
+    @DisplayName("배치마다 JDBC 배치 UPDATE 1회, 델타 차감 1회, HOT 점수 갱신 1회")
+    void syncViewCounts_flushesPerBatch() {
+        // Given
+        when(redisPostService.countDirtyPosts()).thenReturn(3L);
+        when(redisPostService.popDirtyPostIds(2)).thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L));
+        when(redisPostService.getViewCounts(List.of(1L, 2L))).thenReturn(Map.of(1L, 5, 2L, 0));
+        when(redisPostService.getViewCounts(List.of(3L))).thenReturn(Map.of(3L, 2));
+
+        // When
+        postSyncScheduler.syncViewCounts();
+
+        // Then
+        verify(postViewSyncRepo).incrementViews(Map.of(1L, 5));
+        verify(postViewSyncRepo).incrementViews(Map.of(3L, 2));
+        verify(redisPostService).acknowledgeSyncedViews(Map.of(1L, 5));
+        verify(redisPostService).acknowledgeSyncedViews(Map.of(3L, 2));
+        verify(hotRankingService).refreshScores(Set.of(1L));
+        verify(hotRankingService).refreshScores(Set.of(3L));
+        verify(redisPostService, never()).restoreDirtyPosts(any());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 시 꺼낸 ID를 동기화 대상으로 되돌리고 델타는 차감하지 않음")
+    void syncViewCounts_restoresOnFailure() {
+        // Given
+        when(redisPostService.countDirtyPosts()).thenReturn(2L);
+        when(redisPostService.popDirtyPostIds(anyInt())).thenReturn(List.of(1L, 2L));
+        when(redisPostService.getViewCounts(List.of(1L, 2L))).thenReturn(Map.of(1L, 5, 2L, 3));
+        doThrow(new IllegalStateException("db down")).when(postViewSyncRepo).incrementViews(any());
+
+        // When
+        postSyncScheduler.syncViewCounts();
+
+        // Then
+        verify(redisPostService).restoreDirtyPosts(List.of(1L, 2L));
+        verify(redisPostService, never()).acknowledgeSyncedViews(any());
+    }
+
+    @Test
+    @DisplayName("카운터 델타: 배치마다 JDBC 배치 UPDATE 후 반영분만 차감, 실패 시 동기화 대상 복구")
+    void syncPostCounters_flushesAndRestores() {
+        // Given
+        PostCounterService.CounterDelta delta = new PostCounterService.CounterDelta(3, 1, 0);
+        when(postCounterService.countDirtyPosts()).thenReturn(3L);
+        when(postCounterService.popDirtyPostIds(2)).thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L));
+        when(postCounterService.getPendingDeltas(List.of(1L, 2L))).thenReturn(Map.of(1L, delta));
+        when(postCounterService.getPendingDeltas(List.of(3L))).thenReturn(Map.of(3L, delta));
+        doNothing().doThrow(new IllegalStateException("db down")).when(postCounterSyncRepo).applyDeltas(any());
+
+        // When
+        postSyncScheduler.syncPostCounters();
+
+        // Then
+        verify(postCounterService).acknowledgeSynced(Map.of(1L, delta));
+        verify(postCounterService, never()).acknowledgeSynced(Map.of(3L, delta));
+        verify(hotRankingService).refreshScores(Set.of(1L));
+        verify(postCounterService).restoreDirtyPosts(List.of(3L));
+    }
+
+    @Test
+    @DisplayName("재집계는 델타 누적을 멈춘 뒤 대기 델타를 반영하고 재집계, 끝나면 누적 재개")
+    void reconcilePostCounters_pausesDeltasAroundReconcile() {
+        // Given
+        when(postCounterService.countDirtyPosts()).thenReturn(0L);
+        doThrow(new IllegalStateException("db down")).when(postCounterSyncRepo).reconcile();
+
+        // When
+        try {
+            postSyncScheduler.reconcilePostCounters();
+        } catch (IllegalStateException ignored) {
+            // 실패해도 누적은 재개되어야 함
+        }
+
+        // Then
+        InOrder inOrder = inOrder(postCounterService, postCounterSyncRepo);
+        inOrder.verify(postCounterService).pauseDeltas(any());
+        inOrder.verify(postCounterService).countDirtyPosts();
+        inOrder.verify(postCounterSyncRepo).reconcile();
+        inOrder.verify(postCounterService).resumeDeltas();
+    }
+}
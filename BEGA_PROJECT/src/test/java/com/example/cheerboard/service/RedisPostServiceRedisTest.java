@@ -0,0 +1,72 @@
+package com.example.cheerboard.service;
+
+import com.example.common.redis.EmbeddedRedisExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.Percentage.withPercentage;
+
+/**
+ * 실제 Redis(embedded)에서 HLL 모드 조회수 집계 검증
+ */
+class RedisPostServiceRedisTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private RedisTemplate<String, Object> redisTemplate;
+
+    private RedisPostService hllService;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = redis.redisTemplate();
+        hllService = new RedisPostService(redisTemplate, "hll");
+    }
+
+    @Test
+    @DisplayName("HLL 모드 조회수는 고유 조회자 추정치와 같고 재조회는 집계되지 않음")
+    void hllViewCountTracksUniqueViewerEstimate() {
+        // Given
+        int viewers = 5000;
+
+        // When
+        for (long userId = 1; userId <= viewers; userId++) {
+            hllService.incrementViewCount(1L, userId);
+        }
+        boolean repeatCounted = hllService.incrementViewCount(1L, 1L);
+
+        // Then
+        long views = Long.parseLong(String.valueOf(redisTemplate.opsForValue().get("post:views:1")));
+        assertThat(repeatCounted).isFalse();
+        assertThat(views).isEqualTo(hllService.getUniqueViewerCount(1L));
+        assertThat((double) views).isCloseTo(viewers, withPercentage(3));
+    }
+
+    @Test
+    @DisplayName("HOT 목록 재구축은 기존 점수와 사라진 팀 목록을 모두 교체하고 전략을 기록")
+    void replaceHotListSwapsAllHotLists() {
+        // Given: 선형 점수로 쌓인 기존 목록
+        hllService.updateHotScores(List.of(
+                new RedisPostService.HotScore(1L, "LG", 500.0),
+                new RedisPostService.HotScore(2L, "KT", 300.0)));
+
+        // When
+        hllService.replaceHotList(List.of(
+                new RedisPostService.HotScore(3L, "LG", 2.5),
+                new RedisPostService.HotScore(1L, "LG", 1.5)), "decay");
+
+        // Then
+        assertThat(hllService.getHotPostIds(null, 0, -1)).containsExactly(3L, 1L);
+        assertThat(hllService.getHotPostIds("LG", 0, -1)).containsExactly(3L, 1L);
+        assertThat(redisTemplate.hasKey("posts:hot:KT")).isFalse();
+        assertThat(redisTemplate.hasKey("posts:hot:list:rebuild")).isFalse();
+        assertThat(hllService.getHotListStrategy()).isEqualTo("decay");
+    }
+}
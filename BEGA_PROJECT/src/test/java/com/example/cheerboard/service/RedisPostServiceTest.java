@@ -0,0 +1,94 @@
+package com.example.cheerboard.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisPostServiceTest {
+
+    @InjectMocks
+    private RedisPostService redisPostService;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Test
+    @DisplayName("조회 1건당 Redis 호출은 스크립트 1회 (기존 SISMEMBER/SADD/EXPIRE/INCR/SADD 5회)")
+    @SuppressWarnings("unchecked")
+    void incrementViewCount_singleRoundTrip() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).thenReturn(1L);
+
+        // When
+        boolean counted = redisPostService.incrementViewCount(1L, 100L);
+
+        // Then
+        assertThat(counted).isTrue();
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("post:viewed:1", "post:views:1", "posts:dirty:views")),
+                eq("100"), eq(86400L), eq("1"));
+        assertThat(mockingDetails(redisTemplate).getInvocations()).hasSize(1);
+        verifyNoMoreInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("이미 조회한 사용자는 집계되지 않음")
+    @SuppressWarnings("unchecked")
+    void incrementViewCount_duplicateView() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).thenReturn(0L);
+
+        // When
+        boolean counted = redisPostService.incrementViewCount(1L, 100L);
+
+        // Then
+        assertThat(counted).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 오류 시 예외 없이 미집계 처리")
+    @SuppressWarnings("unchecked")
+    void incrementViewCount_redisFailure() {
+        // Given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenThrow(new IllegalStateException("connection refused"));
+
+        // When
+        boolean counted = redisPostService.incrementViewCount(1L, null);
+
+        // Then
+        assertThat(counted).isFalse();
+    }
+
+    @Test
+    @DisplayName("HLL 모드는 HyperLogLog 키로 중복 판별하고 익명 식별값을 구분")
+    @SuppressWarnings("unchecked")
+    void incrementViewCount_hllModeWithAnonymousFingerprint() {
+        // Given
+        RedisPostService hllService = new RedisPostService(redisTemplate, "hll");
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any())).thenReturn(1L);
+
+        // When
+        boolean counted = hllService.incrementViewCount(1L, null, "ip:abcd");
+
+        // Then
+        assertThat(counted).isTrue();
+        verify(redisTemplate).execute(any(RedisScript.class),
+                eq(List.of("post:viewers:hll:1", "post:views:1", "posts:dirty:views")),
+                eq("anonymous:ip:abcd"), eq(86400L), eq("1"));
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.cheerboard.storage.service;
+
+import com.example.auth.entity.UserEntity;
+import com.example.cheerboard.config.CurrentUser;
+import com.example.cheerboard.domain.CheerPost;
+import com.example.cheerboard.repo.CheerPostRepo;
+import com.example.cheerboard.service.PermissionValidator;
+import com.example.cheerboard.storage.config.StorageConfig;
+import com.example.cheerboard.storage.dto.PostImageDto;
+import com.example.cheerboard.storage.entity.PostImage;
+import com.example.cheerboard.storage.repository.PostImageRepository;
+import com.example.cheerboard.storage.strategy.StorageStrategy;
+import com.example.cheerboard.storage.validator.ImageValidator;
+import com.example.common.image.ImageProcessingExecutor;
+import com.example.common.image.ImageUtil;
+import org.jobrunr.jobs.lambdas.JobLambda;
+import org.jobrunr.scheduling.JobScheduler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static com.example.common.config.CacheConfig.POST_IMAGE_URLS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ImageServiceAsyncProcessingTest {
+
+    private static final String BUCKET = "cheer";
+
+    @InjectMocks
+    private ImageService imageService;
+
+    @Mock
+    private PostImageRepository postImageRepo;
+    @Mock
+    private CheerPostRepo postRepo;
+    @Mock
+    private StorageStrategy storageStrategy;
+    @Mock
+    private ImageValidator validator;
+    @Mock
+    private StorageConfig config;
+    @Mock
+    private CurrentUser currentUser;
+    @Mock
+    private PermissionValidator permissionValidator;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private ImageProcessingExecutor imageProcessingExecutor;
+    @Spy
+    private ImageUtil imageUtil = new ImageUtil();
+    @Mock
+    private JobScheduler jobScheduler;
+    @Mock
+    private Cache cache;
+
+    private final CheerPost post = CheerPost.builder().id(1L).build();
+
+    @BeforeEach
+    void setUp() {
+        when(config.getCheerBucket()).thenReturn(BUCKET);
+        when(cacheManager.getCache(POST_IMAGE_URLS)).thenReturn(cache);
+        when(storageStrategy.delete(anyString(), anyString())).thenReturn(Mono.empty());
+    }
+
+    @Test
+    @DisplayName("비동기 모드 업로드는 원본만 staging에 올리고 PROCESSING 레코드와 처리 작업을 등록")
+    void stagesRawFilesAndEnqueuesJobs() {
+        // Given
+        ReflectionTestUtils.setField(imageService, "asyncProcessing", true);
+        MultipartFile file = new MockMultipartFile("files", "a.png", "image/png", new byte[] { 1, 2, 3 });
+        when(currentUser.get()).thenReturn(mock(UserEntity.class));
+        when(postRepo.findById(1L)).thenReturn(Optional.of(post));
+        when(validator.getFileExtension("a.png")).thenReturn("png");
+        when(storageStrategy.uploadStream(any(), anyLong(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(4)));
+        when(postImageRepo.save(any(PostImage.class))).thenAnswer(invocation -> {
+            PostImage image = invocation.getArgument(0);
+            image.setId(10L);
+            return image;
+        });
+
+        // When
+        List<PostImageDto> result = imageService.uploadPostImages(1L, List.of(file));
+
+        // Then
+        assertThat(result).singleElement().satisfies(dto -> {
+            assertThat(dto.status()).isEqualTo("PROCESSING");
+            assertThat(dto.storagePath()).startsWith("staging/posts/1/").endsWith(".png");
+            assertThat(dto.url()).isNull();
+        });
+        verify(storageStrategy).uploadStream(eq(file), eq(3L), eq("image/png"), eq(BUCKET), startsWith("staging/"));
+        verify(jobScheduler).enqueue(any(JobLambda.class));
+        verifyNoInteractions(imageProcessingExecutor);
+    }
+
+    @Test
+    @DisplayName("처리 작업은 결과를 올리고 경로를 교체한 뒤 staging 원본 삭제와 목록 캐시 무효화")
+    void processStagedImageSwapsPath() {
+        // Given
+        PostImage image = stagedImage();
+        when(postImageRepo.findById(10L)).thenReturn(Optional.of(image));
+        when(storageStrategy.download(BUCKET, "staging/posts/1/raw.gif")).thenReturn(Mono.just(new byte[] { 7 }));
+        when(storageStrategy.uploadStream(any(), anyLong(), anyString(), anyString(), anyString()))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(4)));
+        when(postImageRepo.completeProcessing(eq(10L), startsWith("posts/1/"), eq("image/gif"), eq(1L),
+                eq(PostImage.Status.READY), eq(PostImage.Status.PROCESSING))).thenReturn(1);
+
+        // When
+        imageService.processStagedImage(10L);
+
+        // Then
+        verify(storageStrategy).delete(BUCKET, "staging/posts/1/raw.gif");
+        verify(cache).evict(1L);
+    }
+
+    @Test
+    @DisplayName("처리 중 이미지가 삭제되었으면 방금 올린 결과를 지우고 staging은 건드리지 않음")
+    void processStagedImageCleansUpWhenDeleted() {
+        // Given
+        when(postImageRepo.findById(10L)).thenReturn(Optional.of(stagedImage()));
+        when(storageStrategy.download(BUCKET, "staging/posts/1/raw.gif")).thenReturn(Mono.just(new byte[] { 7 }));
+        when(storageStrategy.uploadStream(any(), anyLong(), anyString(), anyString(), anyString()))
+                .thenReturn(Mono.just("posts/1/done.gif"));
+        when(postImageRepo.completeProcessing(anyLong(), anyString(), anyString(), anyLong(), any(), any()))
+                .thenReturn(0);
+
+        // When
+        imageService.processStagedImage(10L);
+
+        // Then
+        verify(storageStrategy).delete(BUCKET, "posts/1/done.gif");
+        verify(storageStrategy, never()).delete(BUCKET, "staging/posts/1/raw.gif");
+    }
+
+    @Test
+    @DisplayName("재시도를 소진해 PROCESSING으로 남은 이미지는 FAILED로 표시하고 staging 원본 삭제")
+    void failStaleProcessingImagesMarksFailedAndDeletesStaging() {
+        // Given: 10은 아직 PROCESSING, 11은 그사이 처리 완료됨
+        PostImage stale = stagedImage();
+        PostImage completed = stagedImage();
+        completed.setId(11L);
+        completed.setStoragePath("staging/posts/1/done.gif");
+        when(postImageRepo.findByStatusAndCreatedAtBefore(eq(PostImage.Status.PROCESSING), any(Instant.class),
+                any(Pageable.class))).thenReturn(List.of(stale, completed));
+        when(postImageRepo.updateStatus(10L, PostImage.Status.PROCESSING, PostImage.Status.FAILED)).thenReturn(1);
+        when(postImageRepo.updateStatus(11L, PostImage.Status.PROCESSING, PostImage.Status.FAILED)).thenReturn(0);
+
+        // When
+        int failed = imageService.failStaleProcessingImages();
+
+        // Then
+        assertThat(failed).isEqualTo(1);
+        verify(storageStrategy).delete(BUCKET, "staging/posts/1/raw.gif");
+        verify(storageStrategy, never()).delete(BUCKET, "staging/posts/1/done.gif");
+        verify(cache).evict(1L);
+    }
+
+    // GIF는 압축하지 않으므로 원본이 그대로 결과가 됨
+    private PostImage stagedImage() {
+        return PostImage.builder()
+                .id(10L)
+                .post(post)
+                .storagePath("staging/posts/1/raw.gif")
+                .mimeType("image/gif")
+                .bytes(1L)
+                .status(PostImage.Status.PROCESSING)
+                .build();
+    }
+}
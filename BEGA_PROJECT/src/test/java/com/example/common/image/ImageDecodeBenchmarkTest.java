@@ -0,0 +1,113 @@
+package com.example.common.image;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.mock.web.MockMultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 디코딩 + 1024px 리사이즈 단계의 파일당 힙 할당량 비교
+ * - 기존: Thumbnails.of(stream) (전체 해상도 디코딩 후 축소)
+ * - 변경: ImageUtil.decode (헤더 확인 → 서브샘플링 디코딩) + resizer
+ * - 코퍼스: 휴대폰 사진 크기의 JPEG/PNG 생성 (HEIC는 업로드 전 JPEG로 변환되어 오므로 같은 크기의 4:2:0 JPEG로 대신함)
+ * - BENCHMARK_TESTS=true 일 때만 실행
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_TESTS", matches = "true")
+class ImageDecodeBenchmarkTest {
+
+    private static final int WARMUP = 2;
+    private static final int ITERATIONS = 5;
+
+    private final ImageUtil imageUtil = new ImageUtil();
+
+    private record Sample(String name, MockMultipartFile file) {
+    }
+
+    @Test
+    @DisplayName("코퍼스 파일별 디코딩/리사이즈 할당 바이트")
+    void bytesAllocatedPerDecode() throws Exception {
+        List<Sample> corpus = List.of(
+                new Sample("12MP JPEG (HEIC 변환)", image(4032, 3024, "jpg", "image/jpeg")),
+                new Sample("12MP PNG (스크린샷)", image(4032, 3024, "png", "image/png")),
+                new Sample("48MP JPEG", image(8064, 6048, "jpg", "image/jpeg")),
+                new Sample("세로 JPEG", image(3024, 4032, "jpg", "image/jpeg")),
+                new Sample("2MP PNG", image(1920, 1080, "png", "image/png")));
+
+        for (Sample sample : corpus) {
+            for (int i = 0; i < WARMUP; i++) {
+                legacy(sample.file());
+                subsampled(sample.file());
+            }
+            long legacy = allocatedPerRun(() -> legacy(sample.file()));
+            long subsampled = allocatedPerRun(() -> subsampled(sample.file()));
+            BufferedImage decoded = imageUtil.decode(sample.file()).image();
+
+            System.out.printf("[image-decode] %-22s source=%5.1fMB legacy=%6.1fMB subsampled=%6.1fMB (%.1fx less) "
+                            + "decoded=%dx%d%n",
+                    sample.name(), sample.file().getSize() / 1048576.0, legacy / 1048576.0,
+                    subsampled / 1048576.0, (double) legacy / subsampled, decoded.getWidth(), decoded.getHeight());
+            // 목표 크기의 2배 미만이면 서브샘플링하지 않으므로 비슷한 수준만 확인
+            assertThat(subsampled).isLessThan(legacy + legacy / 10);
+        }
+    }
+
+    private void legacy(MockMultipartFile file) throws IOException {
+        try (InputStream in = new ByteArrayInputStream(file.getBytes())) {
+            Thumbnails.of(in).size(1024, 1024).keepAspectRatio(true).asBufferedImage();
+        }
+    }
+
+    private void subsampled(MockMultipartFile file) throws IOException {
+        imageUtil.resizer(imageUtil.decode(file)).asBufferedImage();
+    }
+
+    private long allocatedPerRun(IoRunnable run) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            run.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+
+    @FunctionalInterface
+    private interface IoRunnable {
+        void run() throws Exception;
+    }
+
+    // 그라데이션 + 노이즈 (사진처럼 압축이 잘 안 되는 이미지)
+    private static MockMultipartFile image(int width, int height, String format, String contentType)
+            throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setPaint(new GradientPaint(0, 0, Color.BLUE, width, height, Color.ORANGE));
+        g.fillRect(0, 0, width, height);
+        g.dispose();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int y = 0; y < height; y += 2) {
+            for (int x = 0; x < width; x += 2) {
+                image.setRGB(x, y, image.getRGB(x, y) ^ random.nextInt(32));
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return new MockMultipartFile("file", "sample." + format, contentType, out.toByteArray());
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.common.image;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.web.multipart.MultipartFile;
+import software.amazon.awssdk.core.sync.RequestBody;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 업로드 1건당 힙 할당량 비교: 기존 byte[] 파이프라인 vs 스트리밍 파이프라인
+ * - 기존: getBytes → ByteArrayInputStream 디코딩(원본 해상도) → toByteArray → RequestBody.fromBytes(복사)
+ * - 스트리밍: 파일 스트림에서 서브샘플링 디코딩 → 인코딩 버퍼 그대로 RequestBody.fromContentProvider
+ * - 요청 본문은 SDK처럼 스트림을 끝까지 읽어 소비, 할당량은 현재 스레드 기준 (ThreadMXBean)
+ * - WebP writer가 없는 환경에서는 두 경로 모두 디코딩 후 원본 업로드로 대체됨 (ImageUtil과 같은 동작)
+ * - BENCHMARK_TESTS=true 일 때만 실행
+ */
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_TESTS", matches = "true")
+class ImagePipelineAllocationBenchmarkTest {
+
+    private static final int WARMUP = 3;
+    private static final int ITERATIONS = 10;
+
+    private static Path source;
+    private static MultipartFile upload;
+    private final ImageUtil imageUtil = new ImageUtil();
+
+    @BeforeAll
+    static void createSource() throws IOException {
+        // 휴대폰 사진 크기(4032x3024)의 노이즈 JPEG (압축이 잘 안 되어 수 MB)
+        BufferedImage image = new BufferedImage(4032, 3024, BufferedImage.TYPE_INT_RGB);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, ((x * 255 / image.getWidth()) << 16) | ((y * 255 / image.getHeight()) << 8)
+                        | random.nextInt(256));
+            }
+        }
+        source = Files.createTempFile("image-benchmark", ".jpg");
+        ImageIO.write(image, "jpg", source.toFile());
+        upload = new FileBackedMultipartFile(source);
+    }
+
+    @AfterAll
+    static void deleteSource() throws IOException {
+        Files.deleteIfExists(source);
+    }
+
+    @Test
+    @DisplayName("업로드 1건당 할당 바이트")
+    void bytesAllocatedPerUpload() throws Exception {
+        imageUtil.init();
+        for (int i = 0; i < WARMUP; i++) {
+            legacyUpload();
+            streamingUpload();
+        }
+
+        long legacy = allocatedPerRun(this::legacyUpload);
+        long streaming = allocatedPerRun(this::streamingUpload);
+
+        System.out.printf("[image-alloc] source=%.1fMB legacy=%.1fMB/upload streaming=%.1fMB/upload (%.1fx less)%n",
+                upload.getSize() / 1048576.0, legacy / 1048576.0, streaming / 1048576.0, (double) legacy / streaming);
+        assertThat(streaming).isLessThan(legacy);
+    }
+
+    private long allocatedPerRun(IoRunnable run) throws Exception {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ITERATIONS; i++) {
+            run.run();
+        }
+        return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+    }
+
+    // 변경 전 ImageUtil.process + S3StorageStrategy.uploadBytes와 같은 경로
+    private void legacyUpload() throws IOException {
+        byte[] originalBytes = upload.getBytes();
+        byte[] encoded;
+        try (InputStream in = new ByteArrayInputStream(originalBytes);
+                ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Thumbnails.of(in).size(1024, 1024).keepAspectRatio(true).outputQuality(0.70).outputFormat("webp")
+                    .toOutputStream(out);
+            encoded = out.toByteArray();
+        } catch (Exception e) {
+            // WebP writer가 없으면 변경 전 코드도 원본 바이트로 대체
+            encoded = originalBytes;
+        }
+        drain(RequestBody.fromBytes(encoded));
+    }
+
+    private void streamingUpload() throws IOException {
+        ImageUtil.ProcessedImage processed = imageUtil.process(upload);
+        drain(RequestBody.fromContentProvider(() -> {
+            try {
+                return processed.getInputStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, processed.getSize(), processed.getContentType()));
+    }
+
+    private static void drain(RequestBody body) throws IOException {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoRunnable {
+        void run() throws Exception;
+    }
+
+    /**
+     * 디스크에 저장된 멀티파트 파트 (Tomcat이 임계값을 넘는 파일을 임시 파일로 두는 경우와 같음)
+     */
+    private record FileBackedMultipartFile(Path path) implements MultipartFile {
+        @Override
+        public String getName() {
+            return "files";
+        }
+
+        @Override
+        public String getOriginalFilename() {
+            return "photo.jpg";
+        }
+
+        @Override
+        public String getContentType() {
+            return "image/jpeg";
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return getSize() == 0;
+        }
+
+        @Override
+        public long getSize() {
+            try {
+                return Files.size(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public byte[] getBytes() throws IOException {
+            return Files.readAllBytes(path);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return Files.newInputStream(path);
+        }
+
+        @Override
+        public void transferTo(File dest) throws IOException {
+            Files.copy(path, dest.toPath());
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.common.image;
+
+import com.example.common.exception.ImageProcessingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageProcessingExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ImageProcessingExecutor executor = new ImageProcessingExecutor(new ImageUtil(), meterRegistry, 1, 2, 7);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("허용량을 넘는 요청은 처리 전에 거절하고, 처리가 끝나면 다시 받음")
+    void rejectsWhenSaturatedAndRecovers() throws Exception {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        List<CompletableFuture<String>> running = executor.processAll(List.of(file("a.txt"), file("b.txt")),
+                (file, processed) -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return file.getOriginalFilename();
+                });
+
+        // When / Then
+        assertThatThrownBy(() -> executor.processAll(List.of(file("c.txt")), (file, processed) -> "c"))
+                .isInstanceOf(ImageProcessingBusyException.class)
+                .extracting(e -> ((ImageProcessingBusyException) e).getRetryAfterSeconds())
+                .isEqualTo(7L);
+        assertThat(meterRegistry.get("image.processing.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.stream().map(CompletableFuture::join).toList()).containsExactly("a.txt", "b.txt");
+        assertThat(executor.processAll(List.of(file("d.txt")), (file, processed) -> "d").get(0).get(5, TimeUnit.SECONDS))
+                .isEqualTo("d");
+        assertThat(meterRegistry.get("image.processing.encode").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("허용량보다 파일이 많은 최대 크기 요청도 유휴 상태에서는 받음")
+    void acceptsMaxSizeUploadWhenIdle() {
+        // Given: 허용량 2, 게시글 최대 이미지 수 10
+        List<MultipartFile> files = IntStream.rangeClosed(1, 10).mapToObj(i -> file(i + ".txt")).toList();
+
+        // When
+        List<CompletableFuture<String>> results = executor.processAll(files, (file, processed) -> file.getOriginalFilename());
+
+        // Then
+        assertThat(results.stream().map(CompletableFuture::join).toList()).hasSize(10).contains("1.txt", "10.txt");
+        assertThat(meterRegistry.get("image.processing.rejected").counter().count()).isZero();
+        assertThat(executor.processAll(List.of(file("a.txt"), file("b.txt")), (file, processed) -> "ok"))
+                .hasSize(2);
+    }
+
+    private MultipartFile file(String name) {
+        // 이미지가 아닌 파일은 압축 없이 그대로 업로드 단계로 넘어감
+        return new MockMultipartFile(name, name, "text/plain", new byte[] { 1, 2, 3 });
+    }
+}
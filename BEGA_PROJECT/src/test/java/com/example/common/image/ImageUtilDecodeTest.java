@@ -0,0 +1,57 @@
+package com.example.common.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageUtilDecodeTest {
+
+    private final ImageUtil imageUtil = new ImageUtil();
+
+    @Test
+    @DisplayName("큰 이미지는 서브샘플링으로 목표 크기 이상까지만 디코딩")
+    void subsamplesOversizedImage() throws Exception {
+        // Given
+        MockMultipartFile file = png(4096, 2048);
+
+        // When
+        ImageUtil.Decoded decoded = imageUtil.decode(file);
+        BufferedImage resized = imageUtil.resizer(decoded).asBufferedImage();
+
+        // Then
+        assertThat(decoded.image().getWidth()).isEqualTo(1024);
+        assertThat(decoded.image().getHeight()).isEqualTo(512);
+        assertThat(resized.getWidth()).isEqualTo(1024);
+        assertThat(resized.getHeight()).isEqualTo(512);
+    }
+
+    @Test
+    @DisplayName("최대 화소 수를 넘으면 픽셀을 읽기 전에 거절하고 원본으로 대체하지 않음")
+    void rejectsDecompressionBomb() throws Exception {
+        // Given
+        ReflectionTestUtils.setField(imageUtil, "maxPixels", 10_000L);
+        MockMultipartFile file = png(200, 100);
+
+        // When / Then
+        assertThatThrownBy(() -> imageUtil.checkDimensions(file))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> imageUtil.process(file))
+                .isInstanceOf(IllegalArgumentException.class);
+        imageUtil.checkDimensions(png(100, 100));
+    }
+
+    private MockMultipartFile png(int width, int height) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", out);
+        return new MockMultipartFile("file", "image.png", "image/png", out.toByteArray());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.common.image;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ImageVariantsTest {
+
+    @Test
+    @DisplayName("원본 키에 크기 목록을 붙이고 크기별 파생 키를 다시 계산")
+    void derivesVariantKeysFromMainKey() {
+        // Given
+        String path = ImageVariants.withSizes("posts/7/abc.webp", List.of(480, 160));
+
+        // When / Then
+        assertThat(path).isEqualTo("posts/7/abc_v160-480.webp");
+        assertThat(ImageVariants.sizesOf(path)).containsExactly(160, 480);
+        assertThat(ImageVariants.paths(path)).containsExactly(
+                entry(160, "posts/7/abc_v160-480_160.webp"),
+                entry(480, "posts/7/abc_v160-480_480.webp"));
+        assertThat(ImageVariants.smallestAtLeast(path, 120)).isEqualTo("posts/7/abc_v160-480_160.webp");
+        assertThat(ImageVariants.smallestAtLeast(path, 600)).isEqualTo(path);
+    }
+
+    @Test
+    @DisplayName("크기 목록이 없는 기존 키는 파생 이미지 없이 원본만 사용")
+    void legacyKeyHasNoVariants() {
+        String path = "profiles/3/3f2c-uuid.jpg";
+
+        assertThat(ImageVariants.withSizes(path, List.of())).isEqualTo(path);
+        assertThat(ImageVariants.sizesOf(path)).isEmpty();
+        assertThat(ImageVariants.paths(path)).isEmpty();
+        assertThat(ImageVariants.smallestAtLeast(path, 120)).isEqualTo(path);
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.common.redis;
+
+import com.example.common.config.RedisConfig;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+
+/**
+ * 테스트 클래스마다 embedded Redis를 빈 포트에 띄우고 테스트마다 비움
+ * - 사용: {@code @RegisterExtension static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();}
+ * - *RedisTest 공용 (빈 포트 선택, 기동/종료, flushAll)
+ */
+public class EmbeddedRedisExtension implements BeforeAllCallback, BeforeEachCallback, AfterAllCallback {
+
+    private RedisServer redisServer;
+    private LettuceConnectionFactory connectionFactory;
+    private RedisTemplate<String, Object> redisTemplate;
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Override
+    public void beforeAll(ExtensionContext context) throws Exception {
+        int port;
+        try (ServerSocket socket = new ServerSocket(0)) {
+            port = socket.getLocalPort();
+        }
+        redisServer = new RedisServer(port);
+        redisServer.start();
+
+        connectionFactory = new LettuceConnectionFactory("localhost", port);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) throws Exception {
+        connectionFactory.destroy();
+        redisServer.stop();
+    }
+
+    /**
+     * 애플리케이션과 같은 직렬화(JSON 값)의 RedisTemplate
+     */
+    public RedisTemplate<String, Object> redisTemplate() {
+        return redisTemplate;
+    }
+
+    public StringRedisTemplate stringRedisTemplate() {
+        return stringRedisTemplate;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.common.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TransactionHooksTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 커밋 후 작업은 바로, 롤백 보상은 실행하지 않음")
+    void outsideTransaction() {
+        List<String> calls = new ArrayList<>();
+
+        TransactionHooks.runAfterCommit(() -> calls.add("commit"));
+        TransactionHooks.runOnRollback(() -> calls.add("rollback"));
+        TransactionHooks.bufferUntilCommit(this, "a", items -> calls.add("flush" + items));
+
+        assertThat(calls).containsExactly("commit", "flush[a]");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 결과에 맞는 작업만 실행하고, 버퍼는 커밋 직전 한 번에 처리")
+    void insideTransaction() {
+        // Given
+        List<String> calls = new ArrayList<>();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        TransactionHooks.runAfterCommit(() -> calls.add("commit"));
+        TransactionHooks.runOnRollback(() -> calls.add("rollback"));
+        TransactionHooks.bufferUntilCommit(this, "a", items -> calls.add("flush" + items));
+        TransactionHooks.bufferUntilCommit(this, "b", items -> calls.add("flush" + items));
+        assertThat(calls).isEmpty();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.beforeCommit(false));
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Then
+        assertThat(calls).containsExactly("flush[a, b]", "commit");
+        assertThat(TransactionSynchronizationManager.hasResource(this)).isFalse();
+    }
+}
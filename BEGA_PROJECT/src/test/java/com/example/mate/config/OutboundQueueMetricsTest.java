@@ -0,0 +1,68 @@
+package com.example.mate.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class OutboundQueueMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final OutboundQueueMetrics metrics = new OutboundQueueMetrics(meterRegistry);
+    private final MessageChannel channel = mock(MessageChannel.class);
+    private final MessageHandler handler = mock(MessageHandler.class);
+
+    @Test
+    @DisplayName("세션별 대기 메시지는 전송 처리 후 감소하고 0이면 항목 제거")
+    void tracksQueuedMessagesPerSession() {
+        Message<byte[]> first = message("s1");
+        Message<byte[]> second = message("s1");
+        Message<byte[]> other = message("s2");
+
+        metrics.preSend(first, channel);
+        metrics.preSend(second, channel);
+        metrics.preSend(other, channel);
+
+        assertThat(metrics.queued("s1")).isEqualTo(2);
+        assertThat(meterRegistry.get("websocket.outbound.queued.messages").gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get("websocket.outbound.queued.messages.max.per.session").gauge().value())
+                .isEqualTo(2);
+
+        metrics.afterMessageHandled(first, channel, handler, null);
+        metrics.afterMessageHandled(second, channel, handler, null);
+        // 실행기에 넘기지 못한 메시지도 대기에서 제외
+        metrics.afterSendCompletion(other, channel, false, new IllegalStateException("rejected"));
+
+        assertThat(metrics.queued("s1")).isZero();
+        assertThat(meterRegistry.get("websocket.outbound.queued.sessions").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("전송 한도 초과로 닫힌 세션은 퇴출로, 남은 대기 메시지는 유실로 집계")
+    void countsEvictedSessionAndDroppedMessages() {
+        metrics.preSend(message("slow"), channel);
+        metrics.preSend(message("slow"), channel);
+
+        metrics.sessionClosed("slow", CloseStatus.SESSION_NOT_RELIABLE);
+
+        assertThat(metrics.queued("slow")).isZero();
+        assertThat(meterRegistry.get("websocket.outbound.dropped.messages").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("websocket.sessions.evicted.slow").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("websocket.outbound.queue.depth").summary().max()).isEqualTo(2);
+    }
+
+    private static Message<byte[]> message(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
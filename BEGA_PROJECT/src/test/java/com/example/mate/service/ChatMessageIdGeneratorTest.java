@@ -0,0 +1,33 @@
+package com.example.mate.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatMessageIdGeneratorTest {
+
+    @Test
+    @DisplayName("노드 번호가 없거나 범위를 벗어나면 임의 선택하지 않고 기동 실패")
+    void rejectsMissingOrOutOfRangeNodeId() {
+        assertThatThrownBy(() -> new ChatMessageIdGenerator(-1)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new ChatMessageIdGenerator(1024)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("노드 번호가 다르면 같은 시각에도 ID가 겹치지 않음")
+    void differentNodesNeverCollide() {
+        // Given
+        ChatMessageIdGenerator node0 = new ChatMessageIdGenerator(0);
+        ChatMessageIdGenerator node1023 = new ChatMessageIdGenerator(1023);
+
+        // When
+        long a = node0.nextId();
+        long b = node1023.nextId();
+
+        // Then
+        assertThat(a).isNotEqualTo(b);
+        assertThat((b >>> 12) & 1023).isEqualTo(1023L);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.mate.service;
+
+import com.example.mate.dto.ChatMessageDTO;
+import com.example.mate.entity.ChatMessage;
+import com.example.mate.repository.ChatMessageBatchRepository;
+import com.example.mate.repository.ChatMessageRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 채팅 메시지 저장 처리량 비교: 메시지마다 단건 트랜잭션 INSERT vs write-behind 배치 파이프라인 (노드 1개 기준)
+ * - BENCHMARK_TESTS=true 일 때만 실행 (H2 기준 수치이므로 절대값보다 두 방식의 배율을 비교)
+ */
+@SpringBootTest
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_TESTS", matches = "true")
+class ChatMessagePipelineBenchmarkTest {
+
+    private static final int MESSAGES = 20_000;
+    private static final int PARTIES = 50;
+
+    @Autowired
+    private ChatMessageService chatMessageService;
+
+    @Autowired
+    private ChatMessageWriteBuffer chatMessageWriteBuffer;
+
+    @Autowired
+    private ChatMessageBatchRepository chatMessageBatchRepository;
+
+    @Autowired
+    private ChatMessageIdGenerator chatMessageIdGenerator;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    private final long basePartyId = 1_000_000L + ThreadLocalRandom.current().nextInt(1_000_000);
+
+    @AfterEach
+    void tearDown() {
+        for (int i = 0; i < PARTIES * 2; i++) {
+            chatMessageRepository.deleteAllInBatch(
+                    chatMessageRepository.findByPartyIdOrderByCreatedAtAscIdAsc(basePartyId + i));
+        }
+    }
+
+    @Test
+    @DisplayName("단건 저장 대비 배치 파이프라인의 초당 메시지 수")
+    void messagesPerSecond() throws InterruptedException {
+        // 단건 트랜잭션 INSERT (기존 방식과 같은 왕복 수)
+        long syncStarted = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            long id = chatMessageIdGenerator.nextId();
+            chatMessageBatchRepository.insertAll(List.of(ChatMessage.builder()
+                    .id(id)
+                    .partyId(basePartyId + PARTIES + i % PARTIES)
+                    .senderId(1L)
+                    .senderName("bench")
+                    .message("message " + i)
+                    .createdAt(ChatMessageIdGenerator.timestampOf(id))
+                    .build()));
+        }
+        double syncSeconds = (System.nanoTime() - syncStarted) / 1e9;
+
+        // write-behind 파이프라인: 전송(브로드캐스트 가능 시점)과 DB 반영 완료까지
+        long pipelineStarted = System.nanoTime();
+        for (int i = 0; i < MESSAGES; i++) {
+            chatMessageService.sendMessage(ChatMessageDTO.Request.builder()
+                    .partyId(basePartyId + i % PARTIES)
+                    .senderId(1L)
+                    .senderName("bench")
+                    .message("message " + i)
+                    .build());
+        }
+        double acceptedSeconds = (System.nanoTime() - pipelineStarted) / 1e9;
+        while (chatMessageWriteBuffer.size() > 0) {
+            Thread.sleep(5);
+        }
+        double persistedSeconds = (System.nanoTime() - pipelineStarted) / 1e9;
+
+        System.out.printf("[chat-pipeline] messages=%d single-insert=%.0f msg/s | pipeline accepted=%.0f msg/s, "
+                + "persisted=%.0f msg/s%n",
+                MESSAGES, MESSAGES / syncSeconds, MESSAGES / acceptedSeconds, MESSAGES / persistedSeconds);
+
+        List<ChatMessage> saved = chatMessageRepository.findByPartyIdOrderByCreatedAtAscIdAsc(basePartyId);
+        assertThat(saved).hasSize(MESSAGES / PARTIES);
+        assertThat(saved).extracting(ChatMessage::getId).isSorted();
+    }
+}
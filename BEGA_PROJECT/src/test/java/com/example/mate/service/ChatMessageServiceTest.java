@@ -0,0 +1,137 @@
+package com.example.mate.service;
+
+import com.example.mate.dto.ChatMessageDTO;
+import com.example.mate.entity.ChatMessage;
+import com.example.mate.repository.ChatMessageRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageServiceTest {
+
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatMessageWriteBuffer chatMessageWriteBuffer;
+
+    @Spy
+    private ChatMessageIdGenerator chatMessageIdGenerator = new ChatMessageIdGenerator(1);
+
+    @Mock
+    private ChatTailCache chatTailCache;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Test
+    @DisplayName("컬럼 길이를 넘는 메시지는 ID 발급/브로드캐스트 전에 거절")
+    void sendAndBroadcast_rejectsInvalidMessage() {
+        // Given
+        ChatMessageDTO.Request tooLong = ChatMessageDTO.Request.builder()
+                .partyId(1L).senderId(1L).senderName("tester").message("a".repeat(1001)).build();
+        ChatMessageDTO.Request noSender = ChatMessageDTO.Request.builder()
+                .partyId(1L).senderId(1L).message("hello").build();
+
+        // When & Then
+        assertThatThrownBy(() -> chatMessageService.sendAndBroadcast(1L, tooLong))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> chatMessageService.sendAndBroadcast(1L, noSender))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(chatMessageIdGenerator, never()).nextId();
+        verifyNoInteractions(chatMessageWriteBuffer, messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("tail 캐시가 한 페이지를 채우면 DB를 조회하지 않고 오래된 순으로 반환")
+    void getHistory_servedFromTail() {
+        // Given
+        List<ChatMessageDTO.Response> newestFirst = List.of(response(30L), response(20L), response(10L));
+        when(chatTailCache.read(1L, null, 3)).thenReturn(new ChatTailCache.Tail(newestFirst, ChatTailCache.TAIL_SIZE));
+
+        // When
+        ChatMessageDTO.HistoryPage page = chatMessageService.getHistory(1L, null, 2);
+
+        // Then
+        assertThat(page.getMessages()).extracting(ChatMessageDTO.Response::getId).containsExactly(20L, 30L);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo(20L);
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    @Test
+    @DisplayName("tail 캐시 미스면 DB와 미저장 메시지를 합쳐 조회하고 tail을 채움")
+    void getHistory_fallsBackToDatabaseAndFillsTail() {
+        // Given
+        when(chatTailCache.read(1L, null, 3)).thenReturn(null);
+        when(chatMessageRepository.findByPartyIdOrderByIdDesc(eq(1L), any(Pageable.class)))
+                .thenReturn(List.of(message(20L), message(10L)));
+        when(chatMessageWriteBuffer.pending(1L)).thenReturn(List.of(message(30L)));
+
+        // When
+        ChatMessageDTO.HistoryPage page = chatMessageService.getHistory(1L, null, 2);
+
+        // Then
+        assertThat(page.getMessages()).extracting(ChatMessageDTO.Response::getId).containsExactly(20L, 30L);
+        assertThat(page.isHasMore()).isTrue();
+        verify(chatTailCache).fill(eq(1L), argThat(messages -> messages.size() == 3));
+    }
+
+    @Test
+    @DisplayName("여러 파티의 최근 메시지는 tail 미스 파티만 DB에서 한 번에 조회")
+    void getLatestMessages_batchesMisses() {
+        // Given
+        when(chatTailCache.latest(anyCollection())).thenReturn(Map.of(1L, response(10L)));
+        when(chatMessageRepository.findLatestByPartyIdIn(List.of(2L, 3L))).thenReturn(List.of(message(2L, 20L)));
+        when(chatMessageWriteBuffer.pending(anyLong())).thenReturn(List.of());
+
+        // When
+        Map<Long, ChatMessageDTO.Response> latest = chatMessageService.getLatestMessages(List.of(1L, 2L, 3L));
+
+        // Then
+        assertThat(latest).containsOnlyKeys(1L, 2L);
+        assertThat(latest.get(2L).getId()).isEqualTo(20L);
+        verify(chatMessageRepository, never()).findByPartyIdOrderByIdDesc(anyLong(), any());
+        verify(chatTailCache, never()).read(anyLong(), any(), anyInt());
+    }
+
+    private ChatMessage message(Long id) {
+        return message(1L, id);
+    }
+
+    private ChatMessage message(Long partyId, Long id) {
+        return ChatMessage.builder()
+                .id(id)
+                .partyId(partyId)
+                .senderId(1L)
+                .senderName("user")
+                .message("m" + id)
+                .createdAt(ChatMessageIdGenerator.timestampOf(id))
+                .build();
+    }
+
+    private ChatMessageDTO.Response response(Long id) {
+        return ChatMessageDTO.Response.from(message(id));
+    }
+}
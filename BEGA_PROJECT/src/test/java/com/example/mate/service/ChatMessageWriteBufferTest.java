@@ -0,0 +1,110 @@
+package com.example.mate.service;
+
+import com.example.mate.entity.ChatMessage;
+import com.example.mate.repository.ChatMessageBatchRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChatMessageWriteBufferTest {
+
+    private final ChatMessageBatchRepository repository = mock(ChatMessageBatchRepository.class);
+    private final ChatMessageIdGenerator idGenerator = new ChatMessageIdGenerator(1);
+
+    @Test
+    @DisplayName("발급 순서대로 배치 저장하고 종료 시 남은 메시지를 모두 저장")
+    @SuppressWarnings("unchecked")
+    void writesInOrderAndDrainsOnShutdown() throws InterruptedException {
+        // Given
+        List<List<Long>> batches = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            batches.add(((Collection<ChatMessage>) invocation.getArgument(0)).stream().map(ChatMessage::getId).toList());
+            return null;
+        }).when(repository).insertAll(any());
+        ChatMessageWriteBuffer buffer = new ChatMessageWriteBuffer(repository, 1000, 100, 20, 5000);
+        buffer.start();
+
+        // When
+        List<Long> sent = new ArrayList<>();
+        for (int i = 0; i < 250; i++) {
+            ChatMessage message = message(i % 3 + 1L);
+            sent.add(message.getId());
+            buffer.enqueue(message);
+        }
+        assertThat(buffer.pending(1L)).isNotEmpty();
+        buffer.shutdown();
+
+        // Then
+        assertThat(batches).allSatisfy(batch -> assertThat(batch.size()).isLessThanOrEqualTo(100));
+        assertThat(batches.stream().flatMap(List::stream).toList()).containsExactlyElementsOf(sent);
+        assertThat(buffer.size()).isZero();
+        assertThat(buffer.pending(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("제약 조건 위반 배치는 건별로 나눠 저장하고 거부된 메시지만 버림")
+    @SuppressWarnings("unchecked")
+    void splitsRejectedBatchAndDropsBadMessage() throws InterruptedException {
+        // Given
+        ChatMessage bad = message(1L);
+        List<Long> saved = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> {
+            Collection<ChatMessage> batch = invocation.getArgument(0);
+            if (batch.contains(bad)) {
+                throw new DataIntegrityViolationException("value too large");
+            }
+            batch.forEach(message -> saved.add(message.getId()));
+            return null;
+        }).when(repository).insertAll(any());
+        ChatMessageWriteBuffer buffer = new ChatMessageWriteBuffer(repository, 1000, 100, 20, 5000);
+        ChatMessage before = message(1L);
+        ChatMessage after = message(1L);
+        buffer.start();
+
+        // When
+        buffer.enqueue(before);
+        buffer.enqueue(bad);
+        buffer.enqueue(after);
+        buffer.shutdown();
+
+        // Then
+        assertThat(saved).containsExactly(before.getId(), after.getId());
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 동작하지 않으면 호출 스레드에서 바로 저장")
+    void writesDirectlyWhenNotRunning() {
+        // Given
+        ChatMessageWriteBuffer buffer = new ChatMessageWriteBuffer(repository, 1, 100, 20, 5000);
+        ChatMessage message = message(1L);
+
+        // When
+        buffer.enqueue(message);
+
+        // Then
+        verify(repository).insertAll(List.of(message));
+        assertThat(buffer.size()).isZero();
+    }
+
+    private ChatMessage message(Long partyId) {
+        long id = idGenerator.nextId();
+        return ChatMessage.builder()
+                .id(id)
+                .partyId(partyId)
+                .senderId(1L)
+                .senderName("tester")
+                .message("hello " + id)
+                .createdAt(ChatMessageIdGenerator.timestampOf(id))
+                .build();
+    }
+}
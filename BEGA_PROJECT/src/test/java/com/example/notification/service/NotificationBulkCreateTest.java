@@ -0,0 +1,83 @@
+package com.example.notification.service;
+
+import com.example.notification.entity.Notification;
+import com.example.notification.repository.NotificationJdbcRepository;
+import com.example.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class NotificationBulkCreateTest {
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Test
+    @DisplayName("일괄 INSERT 후 사용자별로 DB에서 발급된 ID를 채움")
+    void insertAllReturnsGeneratedIds() {
+        // Given
+        List<Long> userIds = List.of(900001L, 900002L, 900003L);
+
+        // When
+        List<Notification> saved = notificationJdbcRepository.insertAll(userIds,
+                Notification.NotificationType.FOLLOWING_NEW_POST, "새 게시글", "작성자님이 새 게시글을 작성했습니다.", 77L);
+
+        // Then
+        assertThat(saved).extracting(Notification::getUserId).containsExactlyElementsOf(userIds);
+        assertThat(saved).allSatisfy(notification -> {
+            assertThat(notification.getId()).isNotNull();
+            assertThat(notificationRepository.findById(notification.getId()))
+                    .hasValueSatisfying(stored -> assertThat(stored.getUserId()).isEqualTo(notification.getUserId()));
+        });
+    }
+
+    @Test
+    @DisplayName("같은 대상·내용으로 연달아 호출해도 호출마다 서로 다른 ID를 채움")
+    void insertAllKeepsIdsDistinctForRepeatedCalls() {
+        // Given
+        List<Long> userIds = List.of(920001L, 920002L);
+
+        // When
+        List<Notification> first = notificationJdbcRepository.insertAll(userIds,
+                Notification.NotificationType.FOLLOWING_NEW_POST, "새 게시글", "작성자님이 새 게시글을 작성했습니다.", 78L);
+        List<Notification> second = notificationJdbcRepository.insertAll(userIds,
+                Notification.NotificationType.FOLLOWING_NEW_POST, "새 게시글", "작성자님이 새 게시글을 작성했습니다.", 78L);
+
+        // Then
+        List<Long> ids = Stream.concat(first.stream(), second.stream()).map(Notification::getId).toList();
+        assertThat(ids).doesNotContainNull().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("청크 크기를 넘는 대상도 중복 없이 모두 생성")
+    void createNotificationsAcrossChunks() {
+        // Given
+        List<Long> userIds = LongStream.rangeClosed(910001L, 911500L).boxed().toList();
+
+        // When
+        notificationService.createNotifications(userIds, Notification.NotificationType.GAME_DAY_REMINDER,
+                "오늘 경기 알림", "오늘 경기가 있습니다!", null);
+        notificationService.createNotifications(List.of(910001L, 910001L), Notification.NotificationType.GAME_DAY_REMINDER,
+                "오늘 경기 알림", "오늘 경기가 있습니다!", 1L);
+
+        // Then
+        assertThat(notificationRepository.countByUserIdAndIsReadFalse(911500L)).isEqualTo(1L);
+        assertThat(notificationRepository.countByUserIdAndIsReadFalse(910001L)).isEqualTo(2L);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.notification.service;
+
+import com.example.notification.dto.NotificationDTO;
+import com.example.notification.entity.Notification;
+import com.example.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+class NotificationInboxTest {
+
+    private static final Long USER_ID = 920001L;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("커서로 최신순 페이지를 끝까지 중복 없이 조회")
+    void pagesThroughInboxWithCursor() {
+        // Given
+        LongStream.range(0, 5).forEach(i -> notificationService.createNotification(USER_ID,
+                Notification.NotificationType.NEW_FOLLOWER, "새 팔로워", "알림 " + i, i));
+
+        // When
+        List<Long> seen = new ArrayList<>();
+        Long cursor = null;
+        NotificationDTO.InboxPage page;
+        do {
+            page = notificationService.getInbox(USER_ID, cursor, 2);
+            page.getNotifications().forEach(notification -> seen.add(notification.getId()));
+            cursor = page.getNextCursor();
+        } while (page.isHasMore());
+
+        // Then
+        assertThat(seen).hasSize(5).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("모두 읽음 처리 후 보관 기간이 지난 알림만 삭제")
+    void marksAllReadAndPurgesExpired() {
+        // Given
+        notificationService.createNotification(USER_ID, Notification.NotificationType.NEW_FOLLOWER, "새 팔로워", "최근", 1L);
+        Notification old = notificationRepository.save(Notification.builder()
+                .userId(USER_ID)
+                .type(Notification.NotificationType.NEW_FOLLOWER)
+                .title("새 팔로워")
+                .message("오래됨")
+                .build());
+        notificationRepository.flush();
+        // createdat은 updatable=false라 직접 UPDATE
+        jdbcTemplate.update("UPDATE notifications SET createdat = ? WHERE id = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(200)), old.getId());
+
+        // When
+        int updated = notificationService.markAllAsRead(USER_ID);
+        int purged = notificationService.purgeOlderThan(LocalDateTime.now().minusDays(90), 1000);
+
+        // Then
+        assertThat(updated).isEqualTo(2);
+        assertThat(notificationRepository.countByUserIdAndIsReadFalse(USER_ID)).isZero();
+        assertThat(purged).isEqualTo(1);
+        assertThat(notificationRepository.findByUserIdOrderByCreatedAtDesc(USER_ID))
+                .extracting(Notification::getMessage)
+                .containsExactly("최근");
+    }
+}
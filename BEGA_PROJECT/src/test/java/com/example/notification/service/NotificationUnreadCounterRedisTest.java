@@ -0,0 +1,62 @@
+package com.example.notification.service;
+
+import com.example.common.redis.EmbeddedRedisExtension;
+import com.example.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * 실제 Redis(embedded)에서 읽지 않은 알림 카운터 증감 검증
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterRedisTest {
+
+    @RegisterExtension
+    static final EmbeddedRedisExtension redis = new EmbeddedRedisExtension();
+
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    private NotificationUnreadCounter counter;
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = redis.stringRedisTemplate();
+        counter = new NotificationUnreadCounter(redisTemplate, notificationRepository, 86400);
+    }
+
+    @Test
+    @DisplayName("채워진 카운터만 증감하고 0 미만으로 내려가지 않음")
+    void adjustsOnlySeededCounters() {
+        // Given: 사용자 1은 DB 값 2로 채움, 사용자 2는 카운터 없음
+        when(notificationRepository.countByUserIdAndIsReadFalse(1L)).thenReturn(2L);
+        counter.get(1L);
+
+        // When
+        counter.increment(List.of(1L, 2L));
+        long afterIncrement = counter.get(1L);
+        counter.decrement(1L);
+        counter.decrement(1L);
+        counter.decrement(1L);
+        counter.decrement(1L);
+
+        // Then
+        assertThat(afterIncrement).isEqualTo(3L);
+        assertThat(redisTemplate.opsForValue().get("notification:unread:1")).isEqualTo("0");
+        assertThat(redisTemplate.hasKey("notification:unread:2")).isFalse();
+        assertThat(redisTemplate.opsForSet().members("notification:unread:reconcile")).contains("1", "2");
+    }
+}